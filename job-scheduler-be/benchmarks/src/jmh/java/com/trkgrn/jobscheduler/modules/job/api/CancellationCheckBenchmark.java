@@ -0,0 +1,80 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cancellation check done by abortable jobs inside their work loops
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CancellationCheckBenchmark {
+
+    @Param({"16", "1024"})
+    public int runningExecutions;
+
+    private JobExecutionContext context;
+    private Long[] executionIds;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        context = new JobExecutionContext(repositoryStub());
+        executionIds = new Long[runningExecutions];
+        for (int i = 0; i < runningExecutions; i++) {
+            executionIds[i] = (long) i + 1;
+            context.initialize(executionIds[i]);
+        }
+        context.markCancelled(executionIds[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Long executionId : executionIds) {
+            context.clear(executionId);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean isCancelled(Cursor cursor) {
+        return context.isCancelled(nextExecutionId(cursor));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean isCancelledContended(Cursor cursor) {
+        return context.isCancelled(nextExecutionId(cursor));
+    }
+
+    private Long nextExecutionId(Cursor cursor) {
+        Long executionId = executionIds[cursor.next];
+        cursor.next = cursor.next + 1 == executionIds.length ? 0 : cursor.next + 1;
+        return executionId;
+    }
+
+    /**
+     * Repository answering the two status lookups the context makes; tracked checks never reach it
+     */
+    private static JobExecutionRepository repositoryStub() {
+        return (JobExecutionRepository) Proxy.newProxyInstance(
+                JobExecutionRepository.class.getClassLoader(),
+                new Class<?>[]{JobExecutionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findStatusById" -> Optional.of(JobExecutionModel.Status.RUNNING);
+                    case "findIdsByIdInAndStatus" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
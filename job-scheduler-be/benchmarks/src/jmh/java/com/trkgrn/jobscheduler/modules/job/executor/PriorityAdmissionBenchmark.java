@@ -0,0 +1,66 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saturated admission: 10 threads compete for 4 permits, each holding it for a short job body.
+ * The per-method average time is the admission latency plus the body, per priority class;
+ * high should stay close to the body time while low absorbs the queueing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+public class PriorityAdmissionBenchmark {
+
+    private static final long BODY_TOKENS = 2_000;
+
+    private PriorityAdmissionController controller;
+
+    @Setup
+    public void setUp() {
+        controller = new PriorityAdmissionController(4, 1, 8, 3, 8, 4, 1,
+                new JobMetricsService(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    @Group("saturated")
+    @GroupThreads(2)
+    public void high() throws InterruptedException {
+        run(9);
+    }
+
+    @Benchmark
+    @Group("saturated")
+    @GroupThreads(4)
+    public void normal() throws InterruptedException {
+        run(5);
+    }
+
+    @Benchmark
+    @Group("saturated")
+    @GroupThreads(4)
+    public void low() throws InterruptedException {
+        run(1);
+    }
+
+    @Benchmark
+    @Group("uncontended")
+    @GroupThreads(1)
+    public void uncontended() throws InterruptedException {
+        run(5);
+    }
+
+    private void run(int priority) throws InterruptedException {
+        controller.acquire(priority);
+        try {
+            Blackhole.consumeCPU(BODY_TOKENS);
+        } finally {
+            controller.release();
+        }
+    }
+}
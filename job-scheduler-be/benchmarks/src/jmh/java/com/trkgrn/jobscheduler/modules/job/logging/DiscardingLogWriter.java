@@ -0,0 +1,26 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Log writer that drops drained batches, so benchmarks measure capture and draining without a database
+ */
+final class DiscardingLogWriter extends JobExecutionLogWriter {
+
+    DiscardingLogWriter() {
+        super(new JdbcTemplate());
+    }
+
+    @Override
+    List<ExecutionLogBuffer.LogEvent> writeBatch(long executionId, List<ExecutionLogBuffer.LogEvent> events) {
+        // Dropped on purpose
+        return List.of();
+    }
+
+    @Override
+    long maxSeq(long executionId) {
+        return 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionLogModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of stored log lines into the API view.
+ * Logs are no longer part of the execution entity, so large log lists go through this path instead of the mapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LogPageMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int lineCount;
+
+    private List<JobExecutionLogModel> rows;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime start = OffsetDateTime.now();
+        rows = new ArrayList<>(lineCount);
+        for (int i = 1; i <= lineCount; i++) {
+            rows.add(new JobExecutionLogModel(null, 1L, i, start.plusNanos(i * 1000L), i % 10 == 0 ? "WARN" : "INFO",
+                    "Processed item " + i + " of " + lineCount));
+        }
+    }
+
+    @Benchmark
+    public List<JobExecutionModel.LogEntry> toLogEntries() {
+        return rows.stream()
+                .map(JobLogCollector::toLogEntry)
+                .toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Log capture path of running executions: appender -> collector -> per-execution buffer.
+ * Every benchmark thread owns one execution, so the thread count is the number of concurrent executions.
+ * The drainer runs as in the application; only the database write is stubbed out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogPipelineBenchmark {
+
+    private static final String FQCN = LogPipelineBenchmark.class.getName();
+
+    @State(Scope.Benchmark)
+    public static class Pipeline {
+
+        private final AtomicLong executionIds = new AtomicLong();
+
+        JobLogCollector collector;
+        JobExecutionLogAppender appender;
+        Logger logger;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            collector = new JobLogCollector(new DiscardingLogWriter(), null, 50, 1000, 100_000);
+            collector.startDrainer();
+
+            // Standalone context; the appender is called directly instead of through the root logger
+            LoggerContext loggerContext = new LoggerContext();
+            logger = loggerContext.getLogger("benchmark");
+            appender = new JobExecutionLogAppender(collector);
+            appender.setContext(loggerContext);
+            appender.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            appender.stop();
+            collector.stopDrainer();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Execution {
+
+        Long executionId;
+        long line;
+
+        @Setup(Level.Trial)
+        public void start(Pipeline pipeline) {
+            executionId = pipeline.executionIds.incrementAndGet();
+            pipeline.collector.startLogCollection(executionId, "benchmark-" + executionId, ch.qos.logback.classic.Level.INFO);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop(Pipeline pipeline) {
+            pipeline.collector.stopLogCollectionAndPersist(executionId);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void append_1(Pipeline pipeline, Execution execution) {
+        append(pipeline, execution);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void append_8(Pipeline pipeline, Execution execution) {
+        append(pipeline, execution);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void append_64(Pipeline pipeline, Execution execution) {
+        append(pipeline, execution);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void addLog_1(Pipeline pipeline, Execution execution) {
+        addLog(pipeline, execution);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void addLog_8(Pipeline pipeline, Execution execution) {
+        addLog(pipeline, execution);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void addLog_64(Pipeline pipeline, Execution execution) {
+        addLog(pipeline, execution);
+    }
+
+    private static void append(Pipeline pipeline, Execution execution) {
+        // doAppend is what the logger calls, including the appender's own guard
+        pipeline.appender.doAppend(new LoggingEvent(FQCN, pipeline.logger, ch.qos.logback.classic.Level.INFO,
+                "Processed item {}", null, new Object[]{++execution.line}));
+    }
+
+    private static void addLog(Pipeline pipeline, Execution execution) {
+        pipeline.collector.addLog(execution.executionId, "INFO", "Processed item " + (++execution.line));
+    }
+}
@@ -0,0 +1,61 @@
+package com.trkgrn.jobscheduler.modules.job.mapper;
+
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution entity to DTO mapping used by the execution list and detail endpoints.
+ * Log lines are mapped separately (see LogPageMappingBenchmark).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobExecutionMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int pageSize;
+
+    private JobExecutionMapper mapper;
+    private List<JobExecutionModel> executions;
+
+    @Setup
+    public void setUp() {
+        mapper = new JobExecutionMapperImpl();
+
+        CronJobModel cronJob = new CronJobModel();
+        cronJob.setId(1L);
+
+        OffsetDateTime start = OffsetDateTime.now().minusHours(1);
+        executions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            JobExecutionModel execution = new JobExecutionModel();
+            execution.setId((long) i + 1);
+            execution.setJobDefinition(cronJob);
+            execution.setStatus(i % 10 == 0 ? JobExecutionModel.Status.FAILED : JobExecutionModel.Status.SUCCESS);
+            execution.setStartedAt(start.plusSeconds(i));
+            execution.setEndedAt(start.plusSeconds(i + 30L));
+            execution.setCorrelationId("correlation-" + i);
+            execution.setNodeId("node-1");
+            execution.setParameters(Map.of("batchSize", 500, "indexType", "FULL"));
+            execution.setLogLevel("INFO");
+            executions.add(execution);
+        }
+    }
+
+    @Benchmark
+    public List<JobExecutionDto> toDto() {
+        List<JobExecutionDto> dtos = new ArrayList<>(executions.size());
+        for (JobExecutionModel execution : executions) {
+            dtos.add(mapper.toDto(execution));
+        }
+        return dtos;
+    }
+}
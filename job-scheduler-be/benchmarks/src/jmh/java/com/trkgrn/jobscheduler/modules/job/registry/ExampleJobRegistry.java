@@ -0,0 +1,28 @@
+package com.trkgrn.jobscheduler.modules.job.registry;
+
+import com.trkgrn.jobscheduler.modules.job.jobs.example.*;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Registry populated with the example jobs, the same way the application builds it
+ */
+public final class ExampleJobRegistry {
+
+    private ExampleJobRegistry() {
+    }
+
+    public static EnhancedJobRegistry create() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("dataCleanupJob", DataCleanupJob.class);
+        context.registerBean("emailNotificationJob", EmailNotificationJob.class);
+        context.registerBean("loggingTestJob", LoggingTestJob.class);
+        context.registerBean("productIndexingJob", ProductIndexingJob.class);
+        context.registerBean("reportGenerationJob", ReportGenerationJob.class);
+        context.registerBean("simpleTestJob", SimpleTestJob.class);
+        context.refresh();
+
+        EnhancedJobRegistry registry = new EnhancedJobRegistry(context);
+        registry.initializeJobRegistry();
+        return registry;
+    }
+}
@@ -0,0 +1,61 @@
+package com.trkgrn.jobscheduler.modules.job.registry;
+
+import com.trkgrn.jobscheduler.modules.job.api.Job;
+import com.trkgrn.jobscheduler.modules.job.dto.JobMetadataDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry lookups done on every execution and by the metadata endpoints
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JobRegistryLookupBenchmark {
+
+    private EnhancedJobRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = ExampleJobRegistry.create();
+    }
+
+    @Benchmark
+    public Optional<JobMetadataDto> getJobMetadata() {
+        return registry.getJobMetadata("productIndexingJob");
+    }
+
+    @Benchmark
+    public Optional<JobMetadataDto> getJobMetadataMissing() {
+        return registry.getJobMetadata("unknownJob");
+    }
+
+    @Benchmark
+    public Optional<Job<?>> getJobInstance() {
+        return registry.getJobInstance("productIndexingJob");
+    }
+
+    @Benchmark
+    public boolean hasJob() {
+        return registry.hasJob("productIndexingJob");
+    }
+
+    @Benchmark
+    public List<JobMetadataDto> getJobsByCategory() {
+        return registry.getJobsByCategory("TEST");
+    }
+
+    @Benchmark
+    public Set<String> getCategories() {
+        return registry.getCategories();
+    }
+
+    @Benchmark
+    public List<JobMetadataDto> getAvailableJobs() {
+        return registry.getAvailableJobs();
+    }
+}
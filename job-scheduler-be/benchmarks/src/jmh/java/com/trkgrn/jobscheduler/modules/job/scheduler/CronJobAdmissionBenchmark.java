@@ -0,0 +1,157 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution admission of a cron job: the former pessimistic row lock path against the lease UPDATE.
+ * Every operation admits one execution of a random cron job and releases it again, so threads hitting the same
+ * cron job contend like overlapping fires; a lower cronJobs value means more contention.
+ * Needs a running PostgreSQL (-Dbench.jdbc.url, -Dbench.jdbc.user, -Dbench.jdbc.password);
+ * it works on its own bench_cron_jobs / bench_job_executions tables.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class CronJobAdmissionBenchmark {
+
+    private static final String URL = System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/job_scheduler_db");
+    private static final String USER = System.getProperty("bench.jdbc.user", "postgres");
+    private static final String PASSWORD = System.getProperty("bench.jdbc.password", "password");
+
+    // Lock path: what runNow and scheduled fires did inside their admission transaction
+    private static final String LOCK_SQL = "SELECT id, status, enabled FROM bench_cron_jobs WHERE id = ? FOR UPDATE";
+    private static final String RUNNING_EXECUTIONS_SQL =
+            "SELECT COUNT(*) FROM bench_job_executions WHERE job_definition_id = ? AND status = 'RUNNING'";
+    private static final String MARK_RUNNING_SQL =
+            "UPDATE bench_cron_jobs SET status = 'RUNNING', last_start_time = now(), version = version + 1 WHERE id = ?";
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE bench_cron_jobs SET status = 'RUNNING', lease_owner = ?, " +
+            "lease_until = now() + interval '60 seconds', last_start_time = now(), version = version + 1 " +
+            "WHERE id = ? AND enabled = true AND (status <> 'RUNNING' OR lease_until IS NULL OR lease_until < now())";
+
+    private static final String RELEASE_SQL = "UPDATE bench_cron_jobs SET status = 'FINISHED', version = version + 1 WHERE id = ?";
+
+    @Param({"1", "16", "1024"})
+    public int cronJobs;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Admissions {
+        public long admitted;
+        public long rejected;
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+        Connection connection;
+        PreparedStatement lock;
+        PreparedStatement runningExecutions;
+        PreparedStatement markRunning;
+        PreparedStatement acquire;
+        PreparedStatement release;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection(URL, USER, PASSWORD);
+            connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            lock = connection.prepareStatement(LOCK_SQL);
+            runningExecutions = connection.prepareStatement(RUNNING_EXECUTIONS_SQL);
+            markRunning = connection.prepareStatement(MARK_RUNNING_SQL);
+            acquire = connection.prepareStatement(ACQUIRE_SQL);
+            acquire.setString(1, Thread.currentThread().getName());
+            release = connection.prepareStatement(RELEASE_SQL);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_job_executions");
+            statement.execute("DROP TABLE IF EXISTS bench_cron_jobs");
+            statement.execute("CREATE TABLE bench_cron_jobs (id bigint PRIMARY KEY, status varchar(32) NOT NULL, " +
+                    "enabled boolean NOT NULL, lease_owner varchar(255), lease_until timestamptz, " +
+                    "last_start_time timestamptz, version bigint NOT NULL)");
+            statement.execute("CREATE TABLE bench_job_executions (id bigserial PRIMARY KEY, " +
+                    "job_definition_id bigint NOT NULL, status varchar(32) NOT NULL)");
+            statement.execute("CREATE INDEX ON bench_job_executions (job_definition_id, status)");
+            statement.execute("INSERT INTO bench_cron_jobs (id, status, enabled, version) " +
+                    "SELECT g, 'FINISHED', true, 0 FROM generate_series(1, " + cronJobs + ") g");
+            // Some finished history per cron job, like a long-running installation
+            statement.execute("INSERT INTO bench_job_executions (job_definition_id, status) " +
+                    "SELECT 1 + (g % " + cronJobs + "), 'SUCCESS' FROM generate_series(1, 100000) g");
+            statement.execute("ANALYZE bench_cron_jobs");
+            statement.execute("ANALYZE bench_job_executions");
+        }
+    }
+
+    @Benchmark
+    public boolean rowLock(Session session, Admissions admissions) throws SQLException {
+        long id = nextId();
+        Connection connection = session.connection;
+        connection.setAutoCommit(false);
+        boolean admitted = false;
+        try {
+            session.lock.setLong(1, id);
+            try (ResultSet rs = session.lock.executeQuery()) {
+                admitted = rs.next() && rs.getBoolean("enabled") && !"RUNNING".equals(rs.getString("status"));
+            }
+            if (admitted) {
+                session.runningExecutions.setLong(1, id);
+                try (ResultSet rs = session.runningExecutions.executeQuery()) {
+                    admitted = rs.next() && rs.getLong(1) == 0;
+                }
+            }
+            if (admitted) {
+                session.markRunning.setLong(1, id);
+                session.markRunning.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return finish(session, admissions, id, admitted);
+    }
+
+    @Benchmark
+    public boolean lease(Session session, Admissions admissions) throws SQLException {
+        long id = nextId();
+        session.acquire.setLong(2, id);
+        boolean admitted = session.acquire.executeUpdate() == 1;
+        return finish(session, admissions, id, admitted);
+    }
+
+    private long nextId() {
+        return 1 + ThreadLocalRandom.current().nextInt(cronJobs);
+    }
+
+    private static boolean finish(Session session, Admissions admissions, long id, boolean admitted) throws SQLException {
+        if (admitted) {
+            admissions.admitted++;
+            session.release.setLong(1, id);
+            session.release.executeUpdate();
+        } else {
+            admissions.rejected++;
+        }
+        return admitted;
+    }
+}
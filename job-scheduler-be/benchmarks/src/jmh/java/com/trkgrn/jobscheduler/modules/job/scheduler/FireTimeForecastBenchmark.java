@@ -0,0 +1,119 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.ForecastTriggerView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 24h forecast in 1-minute buckets; the target is well under a second for 50k triggers.
+ * Most triggers share a few top-of-the-hour style schedules, the rest are spread over distinct minutes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FireTimeForecastBenchmark {
+
+    private static final String[] COMMON_SCHEDULES = {
+            "0 0 * * * ?", "0 */5 * * * ?", "0 0/15 * * * ?", "0 30 2 * * ?", "0 0 0 * * ?"
+    };
+    private static final String[] ZONES = {"UTC", "Europe/Istanbul", "America/New_York"};
+
+    @Param({"1000", "50000"})
+    public int triggerCount;
+
+    private FireTimeForecaster forecaster;
+    private List<ForecastTriggerView> triggers;
+    private Map<Long, Long> durations;
+    private Instant from;
+
+    @Setup
+    public void setUp() {
+        forecaster = new FireTimeForecaster(new NextFireTimeCalculator(10_000));
+        from = Instant.parse("2025-01-01T00:00:30Z");
+        Random random = new Random(42);
+
+        durations = new HashMap<>();
+        for (long jobId = 1; jobId <= 200; jobId++) {
+            durations.put(jobId, 500L + random.nextInt(600_000));
+        }
+
+        triggers = new ArrayList<>(triggerCount);
+        OffsetDateTime start = OffsetDateTime.ofInstant(from, ZoneOffset.UTC);
+        for (long id = 1; id <= triggerCount; id++) {
+            String expression = random.nextInt(10) < 8
+                    ? COMMON_SCHEDULES[random.nextInt(COMMON_SCHEDULES.length)]
+                    : "0 " + random.nextInt(60) + " */" + (1 + random.nextInt(6)) + " * * ?";
+            triggers.add(new Trigger(id, 1 + random.nextInt(250), expression, ZONES[random.nextInt(ZONES.length)],
+                    random.nextInt(20) == 0 ? start.plusHours(random.nextInt(24)) : null,
+                    random.nextInt(20) == 0 ? start.plusHours(random.nextInt(24)) : null,
+                    random.nextInt(10) == 0 ? 3L : null));
+        }
+    }
+
+    @Benchmark
+    public ScheduleForecastDto forecast24h() {
+        return forecaster.forecast(triggers, durations, 1000, from, Duration.ofHours(24), Duration.ofMinutes(1), 10, 3);
+    }
+
+    @Benchmark
+    public ScheduleForecastDto forecast7d() {
+        return forecaster.forecast(triggers, durations, 1000, from, Duration.ofDays(7), Duration.ofMinutes(1), 10, 3);
+    }
+
+    private record Trigger(Long id, long cronJobId, String cronExpression, String timeZoneId,
+                           OffsetDateTime startTime, OffsetDateTime endTime, Long maxFireCount)
+            implements ForecastTriggerView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getCronJobId() {
+            return cronJobId;
+        }
+
+        @Override
+        public String getCronExpression() {
+            return cronExpression;
+        }
+
+        @Override
+        public String getTimeZoneId() {
+            return timeZoneId;
+        }
+
+        @Override
+        public OffsetDateTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public OffsetDateTime getEndTime() {
+            return endTime;
+        }
+
+        @Override
+        public long getFireCount() {
+            return 0;
+        }
+
+        @Override
+        public Long getMaxFireCount() {
+            return maxFireCount;
+        }
+
+        @Override
+        public int getJitterSeconds() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.quartz.*;
+import org.quartz.core.ListenerManagerImpl;
+import org.quartz.spi.OperableTrigger;
+
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Job store calls of the trigger read paths, with and without the Quartz state cache.
+ * Each job store call takes the TRIGGER_ACCESS lock with the JDBC job store, so the
+ * jobStoreCalls / invocations ratio is the number of lock acquisitions per operation.
+ * The legacy methods replay the checkExists + getTrigger sequence used before the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class QuartzStateCacheBenchmark {
+
+    private static final Set<String> JOB_STORE_METHODS = Set.of(
+            "checkExists", "getTrigger", "getJobDetail", "getTriggersOfJob", "scheduleJob", "scheduleJobs",
+            "unscheduleJob", "unscheduleJobs", "deleteJob", "pauseTrigger", "resumeTrigger");
+
+    private final LongAdder jobStoreCalls = new LongAdder();
+
+    private Scheduler scheduler;
+    private QuartzStateCache cache;
+    private QuartzJobScheduler quartzJobScheduler;
+    private TriggerModel triggerModel;
+    private TriggerKey triggerKey;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Calls {
+        public long invocations;
+        public long jobStoreCalls;
+    }
+
+    @Setup
+    public void setUp() throws SchedulerException {
+        triggerModel = new TriggerModel();
+        triggerModel.setId(1L);
+        triggerModel.setName("benchmark-trigger");
+        triggerModel.setCronExpression("0 0 0 1 1 ? 2099");
+        triggerModel.setStartTime(OffsetDateTime.now());
+        triggerKey = QuartzJobScheduler.triggerKeyOf(triggerModel.getId());
+
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity(triggerKey)
+                .forJob(QuartzJobScheduler.jobKeyOf(1L))
+                .withSchedule(CronScheduleBuilder.cronSchedule(triggerModel.getCronExpression()))
+                .build();
+        trigger.computeFirstFireTime(null);
+
+        ListenerManager listenerManager = new ListenerManagerImpl();
+        scheduler = (Scheduler) Proxy.newProxyInstance(
+                Scheduler.class.getClassLoader(),
+                new Class<?>[]{Scheduler.class},
+                (proxy, method, args) -> {
+                    if (JOB_STORE_METHODS.contains(method.getName())) {
+                        jobStoreCalls.increment();
+                    }
+                    // Listener callbacks the real scheduler makes for these calls
+                    return switch (method.getName()) {
+                        case "getListenerManager" -> listenerManager;
+                        case "checkExists" -> true;
+                        case "getTrigger" -> trigger;
+                        case "pauseTrigger" -> {
+                            cache.triggerPaused((TriggerKey) args[0]);
+                            yield null;
+                        }
+                        case "resumeTrigger" -> {
+                            cache.triggerResumed((TriggerKey) args[0]);
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+
+        cache = new QuartzStateCache(scheduler, new JobMetricsService(new SimpleMeterRegistry()), 30_000);
+        cache.register();
+        quartzJobScheduler = new QuartzJobScheduler(scheduler, null, null, null, cache);
+    }
+
+    @Benchmark
+    public Object getNextFireTimeLegacy(Calls calls) throws SchedulerException {
+        return count(calls, () -> scheduler.checkExists(triggerKey) ? scheduler.getTrigger(triggerKey).getNextFireTime() : null);
+    }
+
+    @Benchmark
+    public Object getNextFireTimeCached(Calls calls) throws SchedulerException {
+        return count(calls, () -> quartzJobScheduler.getNextFireTime(triggerModel));
+    }
+
+    @Benchmark
+    public Object getNextFireTimeCold(Calls calls) throws SchedulerException {
+        return count(calls, () -> {
+            cache.invalidate(triggerKey);
+            return quartzJobScheduler.getNextFireTime(triggerModel);
+        });
+    }
+
+    @Benchmark
+    public Object pauseResumeLegacy(Calls calls) throws SchedulerException {
+        return count(calls, () -> {
+            if (scheduler.checkExists(triggerKey)) {
+                scheduler.pauseTrigger(triggerKey);
+            }
+            if (scheduler.checkExists(triggerKey)) {
+                scheduler.resumeTrigger(triggerKey);
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public Object pauseResume(Calls calls) throws SchedulerException {
+        return count(calls, () -> {
+            quartzJobScheduler.pauseTrigger(triggerModel);
+            quartzJobScheduler.resumeTrigger(triggerModel);
+            return null;
+        });
+    }
+
+    private Object count(Calls calls, SchedulerCall call) throws SchedulerException {
+        long before = jobStoreCalls.sum();
+        Object result = call.run();
+        calls.invocations++;
+        calls.jobStoreCalls += jobStoreCalls.sum() - before;
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface SchedulerCall {
+        Object run() throws SchedulerException;
+    }
+}
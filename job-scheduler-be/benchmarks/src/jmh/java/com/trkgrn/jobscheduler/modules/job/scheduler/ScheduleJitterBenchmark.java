@@ -0,0 +1,87 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock wait of one hour of hourly triggers with and without jitter.
+ * Fire times come from the jittered expressions through NextFireTimeCalculator; every fire then holds one of
+ * lockSlots (the cron job row lock plus a pooled connection) for holdMillis, and fires that find all slots busy wait.
+ * lockWaitMillis / invocations is the total wait per simulated hour, contendedFires / invocations the number of
+ * fires that had to wait.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScheduleJitterBenchmark {
+
+    @Param({"300"})
+    public int triggerCount;
+
+    @Param({"0", "30", "300"})
+    public int jitterSeconds;
+
+    @Param({"200"})
+    public int holdMillis;
+
+    @Param({"10"})
+    public int lockSlots;
+
+    private long[] fireMillis;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Waits {
+        public long invocations;
+        public long lockWaitMillis;
+        public long contendedFires;
+    }
+
+    @Setup
+    public void setUp() {
+        NextFireTimeCalculator calculator = new NextFireTimeCalculator(10_000);
+        Instant hour = Instant.parse("2025-01-01T11:59:59Z");
+
+        List<Long> fires = new ArrayList<>(triggerCount);
+        for (long id = 1; id <= triggerCount; id++) {
+            TriggerModel trigger = new TriggerModel();
+            trigger.setId(id);
+            trigger.setCronExpression("0 0 * * * ?");
+            trigger.setJitterSeconds(jitterSeconds);
+            OffsetDateTime next = calculator.nextFireTime(trigger, hour);
+            fires.add(next.toInstant().toEpochMilli());
+        }
+        fireMillis = fires.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    @Benchmark
+    public long simulateHour(Waits waits) {
+        // Earliest time each slot becomes free
+        PriorityQueue<Long> slots = new PriorityQueue<>(lockSlots);
+        for (int i = 0; i < lockSlots; i++) {
+            slots.add(Long.MIN_VALUE);
+        }
+        long totalWait = 0;
+        long contended = 0;
+        for (long fire : fireMillis) {
+            long free = slots.poll();
+            long acquired = Math.max(fire, free);
+            if (acquired > fire) {
+                totalWait += acquired - fire;
+                contended++;
+            }
+            slots.add(acquired + holdMillis);
+        }
+        waits.invocations++;
+        waits.lockWaitMillis += totalWait;
+        waits.contendedFires += contended;
+        return totalWait;
+    }
+}
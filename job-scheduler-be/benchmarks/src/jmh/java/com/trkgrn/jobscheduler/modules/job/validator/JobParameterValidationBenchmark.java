@@ -0,0 +1,55 @@
+package com.trkgrn.jobscheduler.modules.job.validator;
+
+import com.trkgrn.jobscheduler.modules.job.registry.ExampleJobRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parameter validation done when cron jobs are created, updated or run manually
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JobParameterValidationBenchmark {
+
+    private static final String BEAN_NAME = "productIndexingJob";
+
+    private JobParameterValidator validator;
+    private Map<String, Object> validParameters;
+    private Map<String, Object> invalidParameters;
+
+    @Setup
+    public void setUp() {
+        validator = new JobParameterValidator(ExampleJobRegistry.create());
+
+        validParameters = new HashMap<>();
+        validParameters.put("batchSize", 500);
+        validParameters.put("forceReindex", true);
+        validParameters.put("categoryFilter", "electronics");
+        validParameters.put("indexType", "INCREMENTAL");
+        validParameters.put("elasticsearchIndexName", "products");
+        validParameters.put("includeVariants", true);
+        validParameters.put("includeMedia", false);
+        validParameters.put("timeoutMinutes", 60);
+
+        // Out of range, unknown option, wrong type and a missing required parameter
+        invalidParameters = new HashMap<>();
+        invalidParameters.put("batchSize", 5000);
+        invalidParameters.put("forceReindex", "yes");
+        invalidParameters.put("indexType", "PARTIAL");
+        invalidParameters.put("timeoutMinutes", 0);
+    }
+
+    @Benchmark
+    public JobParameterValidator.ValidationResult validParameters() {
+        return validator.validateParameters(BEAN_NAME, validParameters);
+    }
+
+    @Benchmark
+    public JobParameterValidator.ValidationResult invalidParameters() {
+        return validator.validateParameters(BEAN_NAME, invalidParameters);
+    }
+}
@@ -27,6 +27,18 @@ public @interface JobComponent {
      * Category for grouping jobs (e.g., SEARCH, NOTIFICATION, CLEANUP)
      */
     String category() default "GENERAL";
+
+    /**
+     * Maximum executions of this job running at the same time across the cluster (0 = no limit)
+     * Overridden by job.execution.limits.cluster-per-job
+     */
+    int maxConcurrent() default 0;
+
+    /**
+     * Maximum executions of this job running at the same time on one node (0 = no limit)
+     * Overridden by job.execution.limits.node-per-job
+     */
+    int maxConcurrentPerNode() default 0;
     
     /**
      * Parameters that this job accepts
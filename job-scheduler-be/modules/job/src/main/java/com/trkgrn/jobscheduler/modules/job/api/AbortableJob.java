@@ -38,7 +38,7 @@ public abstract class AbortableJob<T extends CronJobModel> extends AbstractJob<T
     
     /**
      * Check if cancellation is requested (default implementation)
-     * Uses JobExecutionContext for fast in-memory checks + periodic DB sync
+     * Uses JobExecutionContext for in-memory checks (no DB access)
      * 
      * Override isCancellationRequested() for custom logic
      * 
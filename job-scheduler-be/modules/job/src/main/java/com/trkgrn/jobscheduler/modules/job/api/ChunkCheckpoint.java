@@ -0,0 +1,16 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import java.util.Map;
+
+/**
+ * Progress of a {@link ChunkedJob} execution after its last committed chunk
+ *
+ * @param chunkOffset Number of committed chunks
+ * @param readCount   Items read up to the last committed chunk
+ * @param writeCount  Items written up to the last committed chunk
+ * @param readerState State of the reader at the last committed chunk
+ */
+public record ChunkCheckpoint(long chunkOffset, long readCount, long writeCount, Map<String, Object> readerState) {
+
+    public static final ChunkCheckpoint START = new ChunkCheckpoint(0, 0, 0, Map.of());
+}
@@ -0,0 +1,200 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.service.JobCheckpointService;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract base class for chunk-oriented jobs: items are read, processed and written in chunks of
+ * {@link #getChunkSize(CronJobModel)} items, and every chunk commits its writes together with a checkpoint.
+ * When an execution fails, the next execution of the cron job resumes after the last committed chunk.
+ * Cancellation is checked between chunks.
+ *
+ * Usage:
+ * <pre>
+ * public class MyChunkedJob extends ChunkedJob&lt;CronJobModel, Row, Row&gt; {
+ *     {@literal @}Override
+ *     protected ItemReader&lt;Row&gt; createReader(CronJobModel cronJob) { ... }
+ *
+ *     {@literal @}Override
+ *     protected ItemWriter&lt;Row&gt; createWriter(CronJobModel cronJob) {
+ *         return rows -&gt; repository.deleteAll(rows);
+ *     }
+ * }
+ * </pre>
+ */
+public abstract class ChunkedJob<T extends CronJobModel, I, O> extends AbortableJob<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedJob.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private JobCheckpointService checkpointService;
+    private JobMetricsService jobMetricsService;
+
+    /**
+     * Set the services used for checkpoints and chunk metrics
+     * Called by JobRegistry before execution
+     */
+    public void setChunkServices(JobCheckpointService checkpointService, JobMetricsService jobMetricsService) {
+        this.checkpointService = checkpointService;
+        this.jobMetricsService = jobMetricsService;
+    }
+
+    /**
+     * Reader of this execution; called once per execution
+     */
+    protected abstract ItemReader<I> createReader(T cronJobModel);
+
+    /**
+     * Writer of this execution; called once per execution
+     */
+    protected abstract ItemWriter<O> createWriter(T cronJobModel);
+
+    /**
+     * Processor of this execution; the default passes items through unchanged
+     */
+    @SuppressWarnings("unchecked")
+    protected ItemProcessor<I, O> createProcessor(T cronJobModel) {
+        return item -> (O) item;
+    }
+
+    /**
+     * Items per chunk; override to read it from the cron job parameters
+     */
+    protected int getChunkSize(T cronJobModel) {
+        return DEFAULT_CHUNK_SIZE;
+    }
+
+    @NotNull
+    @Override
+    public final JobResult execute(@NotNull T cronJobModel) {
+        Long executionId = getCurrentExecutionId();
+        Long cronJobId = cronJobModel.getId();
+        boolean checkpointing = checkpointService != null && executionId != null && cronJobId != null;
+        int chunkSize = Math.max(1, getChunkSize(cronJobModel));
+
+        ChunkCheckpoint checkpoint = checkpointing
+                ? checkpointService.findResumable(cronJobId, executionId).orElse(ChunkCheckpoint.START)
+                : ChunkCheckpoint.START;
+        ItemReader<I> reader = createReader(cronJobModel);
+        try {
+            ItemProcessor<I, O> processor = createProcessor(cronJobModel);
+            ItemWriter<O> writer = createWriter(cronJobModel);
+            open(reader, checkpoint);
+            if (checkpointing && checkpoint.chunkOffset() > 0) {
+                // Carry the resume point over, so a failure before the next chunk does not lose it
+                checkpointService.commitChunk(executionId, cronJobId, checkpoint, () -> { });
+            }
+
+            boolean exhausted = false;
+            while (!exhausted) {
+                if (checkCancellation()) {
+                    LOG.info("Chunked job {} aborted after chunk {}", getJobName(), checkpoint.chunkOffset());
+                    return new JobResult(false, "Job aborted by user after chunk " + checkpoint.chunkOffset(),
+                            resultData(checkpoint));
+                }
+
+                long chunkStart = System.nanoTime();
+                List<O> outputs = new ArrayList<>(chunkSize);
+                int read = 0;
+                while (read < chunkSize) {
+                    I item = reader.read();
+                    if (item == null) {
+                        exhausted = true;
+                        break;
+                    }
+                    read++;
+                    O output = processor.process(item);
+                    if (output != null) {
+                        outputs.add(output);
+                    }
+                }
+                if (read == 0) {
+                    break;
+                }
+
+                ChunkCheckpoint next = new ChunkCheckpoint(checkpoint.chunkOffset() + 1, checkpoint.readCount() + read,
+                        checkpoint.writeCount() + outputs.size(), reader.saveState());
+                Runnable write = () -> write(writer, outputs);
+                if (checkpointing) {
+                    checkpointService.commitChunk(executionId, cronJobId, next, write);
+                } else {
+                    write.run();
+                }
+                checkpoint = next;
+
+                long chunkNanos = System.nanoTime() - chunkStart;
+                if (jobMetricsService != null) {
+                    jobMetricsService.recordChunk(getJobName(), read, chunkNanos);
+                }
+                LOG.info("Chunk {} committed: {} read, {} written in {} ms ({} items/s)", checkpoint.chunkOffset(),
+                        read, outputs.size(), TimeUnit.NANOSECONDS.toMillis(chunkNanos),
+                        String.format("%.1f", read * 1_000_000_000.0 / Math.max(1, chunkNanos)));
+            }
+
+            if (checkpointing) {
+                checkpointService.complete(executionId, cronJobId, checkpoint);
+            }
+            return new JobResult(true, String.format("Processed %d items in %d chunks (%d written)",
+                    checkpoint.readCount(), checkpoint.chunkOffset(), checkpoint.writeCount()), resultData(checkpoint));
+        } catch (Exception e) {
+            LOG.error("Chunked job {} failed in chunk {}", getJobName(), checkpoint.chunkOffset() + 1, e);
+            return new JobResult(false, "Chunk " + (checkpoint.chunkOffset() + 1) + " failed: " + e.getMessage(),
+                    resultData(checkpoint), e);
+        } finally {
+            try {
+                reader.close();
+            } catch (Exception e) {
+                LOG.warn("Failed to close reader of chunked job {}: {}", getJobName(), e.getMessage());
+            }
+            cleanup();
+        }
+    }
+
+    private void open(ItemReader<I> reader, ChunkCheckpoint checkpoint) throws Exception {
+        reader.open(checkpoint.readerState());
+        if (checkpoint.chunkOffset() == 0) {
+            return;
+        }
+        LOG.info("Resuming chunked job {} after chunk {} ({} items read, {} written)", getJobName(),
+                checkpoint.chunkOffset(), checkpoint.readCount(), checkpoint.writeCount());
+        if (checkpoint.readerState().isEmpty()) {
+            // Stateless reader: skip the items of the committed chunks
+            long skipped = 0;
+            while (skipped < checkpoint.readCount() && reader.read() != null) {
+                skipped++;
+            }
+        }
+    }
+
+    private void write(ItemWriter<O> writer, List<O> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        try {
+            writer.write(items);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Chunk write failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> resultData(ChunkCheckpoint checkpoint) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("chunks", checkpoint.chunkOffset());
+        data.put("readCount", checkpoint.readCount());
+        data.put("writeCount", checkpoint.writeCount());
+        return data;
+    }
+}
@@ -0,0 +1,13 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+/**
+ * Transforms an item read by a {@link ChunkedJob} before it is written
+ */
+@FunctionalInterface
+public interface ItemProcessor<I, O> {
+
+    /**
+     * @return Item to write, or null to filter the item out
+     */
+    O process(I item) throws Exception;
+}
@@ -0,0 +1,35 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import java.util.Map;
+
+/**
+ * Reads the items of a {@link ChunkedJob} one by one
+ */
+public interface ItemReader<I> {
+
+    /**
+     * Called before the first read
+     *
+     * @param state State returned by {@link #saveState()} at the last committed chunk of a failed execution,
+     *              or an empty map on a fresh start
+     */
+    default void open(Map<String, Object> state) throws Exception {
+    }
+
+    /**
+     * @return Next item, or null when there are no more items
+     */
+    I read() throws Exception;
+
+    /**
+     * Position of the reader after the items read so far (JSON serializable values, e.g. the last key read).
+     * Stored with every chunk checkpoint. Readers returning an empty map are resumed by skipping the items
+     * already read.
+     */
+    default Map<String, Object> saveState() {
+        return Map.of();
+    }
+
+    default void close() throws Exception {
+    }
+}
@@ -0,0 +1,13 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import java.util.List;
+
+/**
+ * Writes one chunk of a {@link ChunkedJob}.
+ * Runs in the transaction that stores the chunk checkpoint, so database writes and the checkpoint commit together.
+ */
+@FunctionalInterface
+public interface ItemWriter<O> {
+
+    void write(List<O> items) throws Exception;
+}
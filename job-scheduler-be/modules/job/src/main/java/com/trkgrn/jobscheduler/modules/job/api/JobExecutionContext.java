@@ -4,32 +4,28 @@ import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Execution context for job cancellation support
  * 
  * Provides:
- * - In-memory cancellation flag for fast checks (nanoseconds)
- * - Periodic database sync for multi-pod safety
- * - Thread-safe cancellation tracking
+ * - In-memory cancellation flag per execution; a check is a map lookup plus a volatile read
+ * - Flags are flipped by the cancellation channel (Postgres LISTEN/NOTIFY across pods)
+ * - Periodic batched reconciliation against the database as a safety net (never on the job thread)
  */
 @Component
 public class JobExecutionContext {
     
     private static final Logger LOG = LoggerFactory.getLogger(JobExecutionContext.class);
     
-    // In-memory cancellation flags (executionId -> cancelled)
-    private static final ConcurrentHashMap<Long, Boolean> cancellationFlags = new ConcurrentHashMap<>();
-    
-    // Check counters per execution (for periodic DB checks)
-    private static final ConcurrentHashMap<Long, AtomicInteger> checkCounters = new ConcurrentHashMap<>();
-    
-    // Default check interval: every 50 steps
-    private static final int DEFAULT_CHECK_INTERVAL = 50;
+    // In-memory cancellation flags of executions running on this node
+    private final ConcurrentHashMap<Long, CancellationFlag> cancellationFlags = new ConcurrentHashMap<>();
     
     private final JobExecutionRepository jobExecutionRepository;
     
@@ -42,80 +38,99 @@ public class JobExecutionContext {
      * Should be called at the start of job execution
      */
     public void initialize(Long executionId) {
-        // Load cancellation status from DB
-        boolean cancelled = jobExecutionRepository.findById(executionId)
-                .map(execution -> execution.getStatus() == JobExecutionModel.Status.CANCELLED)
-                .orElse(false);
-        
-        cancellationFlags.put(executionId, cancelled);
-        checkCounters.put(executionId, new AtomicInteger(0));
+        CancellationFlag flag = new CancellationFlag();
+        cancellationFlags.put(executionId, flag);
+
+        // Registered first, so a notification arriving now is not lost; then pick up an earlier cancel
+        if (checkCancellationFromDB(executionId)) {
+            flag.cancelled = true;
+        }
         
-        LOG.debug("Initialized execution context for execution ID: {} (cancelled: {})", executionId, cancelled);
+        LOG.debug("Initialized execution context for execution ID: {} (cancelled: {})", executionId, flag.cancelled);
     }
     
     /**
      * Check if execution is cancelled
-     * Uses hybrid approach: in-memory flag + periodic DB sync
      * 
      * @param executionId Execution ID
      * @return true if cancelled, false otherwise
      */
     public boolean isCancelled(Long executionId) {
-        // Fast path: check in-memory flag
-        Boolean cancelled = cancellationFlags.get(executionId);
-        if (cancelled == null) {
+        CancellationFlag flag = cancellationFlags.get(executionId);
+        if (flag == null) {
             // Execution context not initialized, check DB
             return checkCancellationFromDB(executionId);
         }
-        
-        // Periodic DB check (every N steps) for multi-pod safety
-        AtomicInteger counter = checkCounters.get(executionId);
-        if (counter != null && counter.incrementAndGet() % DEFAULT_CHECK_INTERVAL == 0) {
-            boolean dbCancelled = checkCancellationFromDB(executionId);
-            if (dbCancelled != cancelled) {
-                // Status changed, update in-memory flag
-                cancellationFlags.put(executionId, dbCancelled);
-                LOG.info("Cancellation status changed for execution ID: {} (now: {})", executionId, dbCancelled);
-                return dbCancelled;
-            }
-        }
-        
-        return cancelled;
+        return flag.cancelled;
     }
     
     /**
-     * Request cancellation for an execution
-     * Updates both DB and in-memory flag
+     * Request cancellation for an execution running on this node
      */
     public void requestCancellation(Long executionId) {
-        cancellationFlags.put(executionId, true);
+        markCancelled(executionId);
         LOG.info("Cancellation requested for execution ID: {}", executionId);
     }
+
+    /**
+     * Flip the in-memory flag if the execution runs on this node (called by the cancellation channel)
+     *
+     * @return true if the execution is tracked on this node
+     */
+    public boolean markCancelled(Long executionId) {
+        CancellationFlag flag = cancellationFlags.get(executionId);
+        if (flag == null) {
+            return false;
+        }
+        if (!flag.cancelled) {
+            flag.cancelled = true;
+            LOG.info("Cancellation flag set for execution ID: {}", executionId);
+        }
+        return true;
+    }
     
     /**
      * Clear execution context after job completion
      */
     public void clear(Long executionId) {
         cancellationFlags.remove(executionId);
-        checkCounters.remove(executionId);
         LOG.debug("Cleared execution context for execution ID: {}", executionId);
     }
+
+    /**
+     * Re-read the status of all tracked, not yet cancelled executions in one query.
+     * Covers notifications missed while the cancellation channel was disconnected.
+     */
+    @Scheduled(fixedDelayString = "${job.execution.cancellation.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        List<Long> executionIds = new ArrayList<>();
+        cancellationFlags.forEach((executionId, flag) -> {
+            if (!flag.cancelled) {
+                executionIds.add(executionId);
+            }
+        });
+        if (executionIds.isEmpty()) {
+            return;
+        }
+        try {
+            jobExecutionRepository.findIdsByIdInAndStatus(executionIds, JobExecutionModel.Status.CANCELLED)
+                    .forEach(this::markCancelled);
+        } catch (Exception e) {
+            LOG.warn("Failed to reconcile cancellation flags: {}", e.getMessage());
+        }
+    }
     
     /**
      * Check cancellation status from database
-     * Used for periodic sync and initialization
+     * Used for initialization and for executions not tracked on this node
      */
     private boolean checkCancellationFromDB(Long executionId) {
-        return jobExecutionRepository.findById(executionId)
-                .map(execution -> execution.getStatus() == JobExecutionModel.Status.CANCELLED)
+        return jobExecutionRepository.findStatusById(executionId)
+                .map(status -> status == JobExecutionModel.Status.CANCELLED)
                 .orElse(false);
     }
     
-    /**
-     * Get check interval (for custom implementations)
-     */
-    public int getCheckInterval() {
-        return DEFAULT_CHECK_INTERVAL;
+    private static final class CancellationFlag {
+        private volatile boolean cancelled;
     }
 }
-
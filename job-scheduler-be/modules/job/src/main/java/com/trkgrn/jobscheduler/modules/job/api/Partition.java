@@ -0,0 +1,12 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import java.util.Map;
+
+/**
+ * One slice of the work of a {@link PartitionedJob}, e.g. an ID range or a category
+ *
+ * @param key        Unique name of the partition within the execution, e.g. "ids-1-10000"
+ * @param parameters Partition parameters (JSON serializable values), stored with the partition execution
+ */
+public record Partition(String key, Map<String, Object> parameters) {
+}
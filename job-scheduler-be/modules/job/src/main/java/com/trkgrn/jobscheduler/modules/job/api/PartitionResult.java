@@ -0,0 +1,13 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+
+/**
+ * Outcome of one partition execution, handed to {@link PartitionedJob#aggregate}
+ */
+public record PartitionResult(String key, Long executionId, JobExecutionModel.Status status, String message) {
+
+    public boolean isSuccess() {
+        return status == JobExecutionModel.Status.SUCCESS;
+    }
+}
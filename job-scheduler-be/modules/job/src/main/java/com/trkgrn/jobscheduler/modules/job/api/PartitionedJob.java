@@ -0,0 +1,98 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import com.trkgrn.jobscheduler.modules.job.executor.PartitionCoordinator;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Abstract base class for jobs that split their work into partitions executed in parallel across the cluster.
+ * The execution of the cron job only partitions: every {@link Partition} becomes a child execution in the work
+ * queue, claimed by queue workers on any node, and the parent waits for all of them and aggregates their results.
+ * Cancelling the parent cancels its partitions.
+ *
+ * Usage:
+ * <pre>
+ * public class MyPartitionedJob extends PartitionedJob&lt;CronJobModel&gt; {
+ *     {@literal @}Override
+ *     public List&lt;Partition&gt; partition(CronJobModel cronJob, int gridSize) {
+ *         // e.g. split the ID range into gridSize ranges
+ *     }
+ *
+ *     {@literal @}Override
+ *     public JobResult executePartition(CronJobModel cronJob, Partition partition, Long partitionExecutionId) {
+ *         // process the range in partition.parameters(), check isPartitionCancelled(partitionExecutionId)
+ *     }
+ * }
+ * </pre>
+ */
+public abstract class PartitionedJob<T extends CronJobModel> extends AbortableJob<T> {
+
+    private PartitionCoordinator partitionCoordinator;
+
+    /**
+     * Set the coordinator that fans out partitions
+     * Called by JobRegistry before execution
+     */
+    public void setPartitionCoordinator(PartitionCoordinator partitionCoordinator) {
+        this.partitionCoordinator = partitionCoordinator;
+    }
+
+    /**
+     * Split the work of an execution
+     *
+     * @param gridSize Suggested number of partitions (live nodes x job.execution.partition.per-node)
+     */
+    public abstract List<Partition> partition(T cronJobModel, int gridSize);
+
+    /**
+     * Process one partition; runs on a queue worker thread of any node, possibly in parallel with other partitions
+     * of the same job on this node, so keep per-partition state local
+     */
+    public abstract JobResult executePartition(T cronJobModel, Partition partition, Long partitionExecutionId);
+
+    /**
+     * Combine the partition results into the result of the parent execution;
+     * the default succeeds only if every partition succeeded
+     */
+    public JobResult aggregate(T cronJobModel, List<PartitionResult> results) {
+        long succeeded = results.stream().filter(PartitionResult::isSuccess).count();
+        String message = String.format("%d of %d partitions succeeded", succeeded, results.size());
+        List<String> failed = results.stream().filter(result -> !result.isSuccess())
+                .map(result -> result.key() + " " + result.status()
+                        + (result.message() != null ? ": " + result.message() : ""))
+                .toList();
+        if (!failed.isEmpty()) {
+            message += " (" + String.join("; ", failed) + ")";
+        }
+        return new JobResult(failed.isEmpty(), message);
+    }
+
+    /**
+     * Suggested number of partitions; 0 uses the cluster default
+     */
+    public int getGridSize(T cronJobModel) {
+        return 0;
+    }
+
+    /**
+     * Check whether a partition execution was cancelled (directly or through its parent)
+     */
+    protected boolean isPartitionCancelled(Long partitionExecutionId) {
+        return isCancellationRequested(partitionExecutionId);
+    }
+
+    @NotNull
+    @Override
+    public final JobResult execute(@NotNull T cronJobModel) {
+        if (partitionCoordinator == null || getCurrentExecutionId() == null) {
+            return new JobResult(false, "Partitioned job " + getJobName() + " needs an execution to fan out from");
+        }
+        try {
+            return partitionCoordinator.run(this, cronJobModel, getCurrentExecutionId());
+        } finally {
+            cleanup();
+        }
+    }
+}
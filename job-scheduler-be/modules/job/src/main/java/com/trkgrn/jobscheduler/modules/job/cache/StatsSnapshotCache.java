@@ -0,0 +1,196 @@
+package com.trkgrn.jobscheduler.modules.job.cache;
+
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import com.trkgrn.jobscheduler.platform.common.dto.StatsOverviewDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot cache for the stats overview, keyed by (days, topJobsLimit).
+ * Concurrent requests for the same key share one computation. Snapshots younger than the TTL are served as is;
+ * older (or invalidated) snapshots are served while a single background refresh recomputes them.
+ * Finished executions invalidate all snapshots of this node.
+ */
+@Component
+public class StatsSnapshotCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatsSnapshotCache.class);
+
+    static final String HIT = "hit";
+    static final String STALE = "stale";
+    static final String MISS = "miss";
+
+    private final JobMetricsService jobMetricsService;
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final long minRefreshIntervalNanos;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    // Bumped on every finished execution; snapshots computed under an older generation are stale
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stats-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StatsSnapshotCache(JobMetricsService jobMetricsService,
+                              @Value("${job.stats.snapshot.ttl-ms:5000}") long ttlMs,
+                              @Value("${job.stats.snapshot.max-stale-ms:60000}") long maxStaleMs,
+                              @Value("${job.stats.snapshot.min-refresh-interval-ms:1000}") long minRefreshIntervalMs,
+                              @Value("${job.stats.snapshot.max-entries:32}") int maxEntries) {
+        this.jobMetricsService = jobMetricsService;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxStaleMs, ttlMs));
+        this.minRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minRefreshIntervalMs);
+        this.maxEntries = maxEntries;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Get the overview snapshot for the key, computing it with the loader when needed
+     */
+    public StatsOverviewDto get(int days, int topJobsLimit, Supplier<StatsOverviewDto> loader) {
+        SnapshotKey key = new SnapshotKey(days, topJobsLimit);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            if (snapshots.size() >= maxEntries) {
+                // Unusual parameter combinations are computed without being cached
+                jobMetricsService.recordStatsSnapshotLookup(MISS);
+                return join(load(new Snapshot(), loader, false));
+            }
+            snapshot = snapshots.computeIfAbsent(key, k -> new Snapshot());
+        }
+
+        SnapshotValue value = snapshot.value;
+        if (value != null) {
+            long age = System.nanoTime() - value.computedAtNanos();
+            boolean invalidated = value.generation() != generation.get();
+            if (!invalidated && age < ttlNanos) {
+                jobMetricsService.recordStatsSnapshotLookup(HIT);
+                return value.overview();
+            }
+            if (age < maxStaleNanos) {
+                if (age >= minRefreshIntervalNanos) {
+                    load(snapshot, loader, true);
+                }
+                jobMetricsService.recordStatsSnapshotLookup(STALE);
+                return value.overview();
+            }
+        }
+
+        jobMetricsService.recordStatsSnapshotLookup(MISS);
+        return join(load(snapshot, loader, false));
+    }
+
+    /**
+     * Mark all snapshots stale once an execution's terminal status is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExecutionFinished(JobExecutionFinishedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Mark all snapshots stale; they are refreshed on the next request
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Start a computation for the snapshot unless one is already running (single flight)
+     */
+    private CompletableFuture<StatsOverviewDto> load(Snapshot snapshot, Supplier<StatsOverviewDto> loader, boolean async) {
+        CompletableFuture<StatsOverviewDto> future;
+        synchronized (snapshot) {
+            if (snapshot.inFlight != null) {
+                return snapshot.inFlight;
+            }
+            future = new CompletableFuture<>();
+            snapshot.inFlight = future;
+        }
+
+        CompletableFuture<StatsOverviewDto> result = future;
+        Runnable computation = () -> {
+            // Read before computing, so an invalidation during the computation leaves the result stale
+            long computedGeneration = generation.get();
+            long start = System.nanoTime();
+            try {
+                StatsOverviewDto overview = loader.get();
+                snapshot.value = new SnapshotValue(overview, System.nanoTime(), computedGeneration);
+                result.complete(overview);
+            } catch (Throwable t) {
+                if (async) {
+                    LOG.warn("Background refresh of stats snapshot failed", t);
+                }
+                result.completeExceptionally(t);
+            } finally {
+                jobMetricsService.recordStatsSnapshotCompute(System.nanoTime() - start);
+                synchronized (snapshot) {
+                    snapshot.inFlight = null;
+                }
+            }
+        };
+
+        if (!async) {
+            computation.run();
+            return result;
+        }
+        try {
+            refresher.execute(computation);
+        } catch (RejectedExecutionException e) {
+            synchronized (snapshot) {
+                snapshot.inFlight = null;
+            }
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private static StatsOverviewDto join(CompletableFuture<StatsOverviewDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record SnapshotKey(int days, int topJobsLimit) {
+    }
+
+    private record SnapshotValue(StatsOverviewDto overview, long computedAtNanos, long generation) {
+    }
+
+    private static final class Snapshot {
+        private volatile SnapshotValue value;
+
+        // Running computation; guarded by this
+        private CompletableFuture<StatsOverviewDto> inFlight;
+    }
+}
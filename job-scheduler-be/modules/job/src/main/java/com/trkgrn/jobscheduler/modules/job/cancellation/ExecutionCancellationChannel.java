@@ -0,0 +1,12 @@
+package com.trkgrn.jobscheduler.modules.job.cancellation;
+
+/**
+ * Delivers cancel requests to the node running the execution
+ */
+public interface ExecutionCancellationChannel {
+
+    /**
+     * Announce a cancelled execution; when called inside a transaction it is delivered after commit
+     */
+    void publish(Long executionId);
+}
@@ -0,0 +1,25 @@
+package com.trkgrn.jobscheduler.modules.job.cancellation;
+
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-JVM channel for single node setups and databases without LISTEN/NOTIFY.
+ * Other nodes pick the cancel up through JobExecutionContext reconciliation.
+ */
+@Component
+@ConditionalOnProperty(name = "job.execution.cancellation.channel", havingValue = "local")
+public class LocalCancellationChannel implements ExecutionCancellationChannel {
+
+    private final JobExecutionContext jobExecutionContext;
+
+    public LocalCancellationChannel(JobExecutionContext jobExecutionContext) {
+        this.jobExecutionContext = jobExecutionContext;
+    }
+
+    @Override
+    public void publish(Long executionId) {
+        jobExecutionContext.markCancelled(executionId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.trkgrn.jobscheduler.modules.job.cancellation;
+
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Cluster-wide cancellation over Postgres LISTEN/NOTIFY.
+ * Cancels are sent with pg_notify (delivered on commit); every node keeps one connection listening
+ * and flips the in-memory flag of executions it runs. After every (re)connect the flags are reconciled
+ * against the database so notifications missed while disconnected are not lost.
+ */
+@Component
+@ConditionalOnProperty(name = "job.execution.cancellation.channel", havingValue = "postgres", matchIfMissing = true)
+public class PostgresCancellationChannel implements ExecutionCancellationChannel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresCancellationChannel.class);
+
+    static final String CHANNEL = "job_execution_cancel";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobExecutionContext jobExecutionContext;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresCancellationChannel(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                       JobExecutionContext jobExecutionContext,
+                                       @Value("${job.execution.cancellation.poll-timeout-ms:1000}") int pollTimeoutMs,
+                                       @Value("${job.execution.cancellation.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobExecutionContext = jobExecutionContext;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "job-cancel-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(Long executionId) {
+        // NOTIFY is transactional: listeners see it only once the CANCELLED status is committed
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, executionId.toString());
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                LOG.info("Listening for execution cancellations on channel: {}", CHANNEL);
+                jobExecutionContext.reconcile();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+
+                // Shutting down: do not hand a listening connection back to the pool
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + CHANNEL);
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    LOG.warn("Cancellation listener disconnected, reconnecting in {} ms: {}", reconnectDelayMs, e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            } catch (Exception e) {
+                if (running) {
+                    LOG.error("Cancellation listener failed, reconnecting in {} ms", reconnectDelayMs, e);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            Long executionId = Long.parseLong(payload);
+            if (jobExecutionContext.markCancelled(executionId)) {
+                LOG.info("Cancellation received for execution ID: {}", executionId);
+            }
+        } catch (NumberFormatException e) {
+            LOG.warn("Ignoring invalid cancellation payload: {}", payload);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
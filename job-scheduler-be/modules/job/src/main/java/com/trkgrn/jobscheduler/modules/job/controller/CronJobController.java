@@ -2,6 +2,7 @@ package com.trkgrn.jobscheduler.modules.job.controller;
 
 import com.trkgrn.jobscheduler.modules.job.facade.CronJobFacade;
 import com.trkgrn.jobscheduler.platform.common.dto.CronJobDto;
+import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
 import com.trkgrn.jobscheduler.platform.common.model.result.Result;
 import org.springframework.http.HttpStatus;
@@ -73,11 +74,11 @@ public class CronJobController {
 
     @PostMapping("/{id}/run-now")
     public ResponseEntity<Result> runNow(@PathVariable Long id) {
-        DataResult<CronJobDto> result = cronJobFacade.runNow(id);
+        DataResult<JobExecutionDto> result = cronJobFacade.runNow(id);
         if (!result.getSuccess() && result.getData() == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
         }
-        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.BAD_REQUEST)
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.ACCEPTED : HttpStatus.BAD_REQUEST)
                 .body(result);
     }
 
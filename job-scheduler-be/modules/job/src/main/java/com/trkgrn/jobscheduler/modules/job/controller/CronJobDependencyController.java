@@ -0,0 +1,50 @@
+package com.trkgrn.jobscheduler.modules.job.controller;
+
+import com.trkgrn.jobscheduler.modules.job.facade.CronJobDependencyFacade;
+import com.trkgrn.jobscheduler.platform.common.dto.CronJobDependencyDto;
+import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
+import com.trkgrn.jobscheduler.platform.common.model.result.Result;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/cron-job-dependencies")
+public class CronJobDependencyController {
+
+    private final CronJobDependencyFacade cronJobDependencyFacade;
+
+    public CronJobDependencyController(CronJobDependencyFacade cronJobDependencyFacade) {
+        this.cronJobDependencyFacade = cronJobDependencyFacade;
+    }
+
+    @GetMapping
+    public ResponseEntity<Result> list() {
+        DataResult<List<CronJobDependencyDto>> result = cronJobDependencyFacade.findAll();
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+
+    @GetMapping("/cron-job/{cronJobId}")
+    public ResponseEntity<Result> getByCronJobId(@PathVariable Long cronJobId) {
+        DataResult<List<CronJobDependencyDto>> result = cronJobDependencyFacade.findByCronJobId(cronJobId);
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+
+    @PostMapping
+    public ResponseEntity<Result> create(@RequestBody CronJobDependencyDto dependencyDto) {
+        DataResult<CronJobDependencyDto> result = cronJobDependencyFacade.create(dependencyDto);
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST)
+                .body(result);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Result> delete(@PathVariable Long id) {
+        Result result = cronJobDependencyFacade.deleteById(id);
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.NO_CONTENT : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+}
@@ -8,15 +8,22 @@ import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
 import com.trkgrn.jobscheduler.platform.common.model.result.Result;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/v1/executions")
 public class JobExecutionController {
 
+    private static final long WAIT_TIMEOUT_MARGIN_MS = 10_000;
+
     private final JobExecutionFacade jobExecutionFacade;
 
     public JobExecutionController(JobExecutionFacade jobExecutionFacade) {
@@ -78,9 +85,44 @@ public class JobExecutionController {
                 .body(result);
     }
 
+    /**
+     * Wait for an execution to finish; the request thread is released while waiting
+     */
+    @GetMapping("/{id}/wait")
+    public DeferredResult<ResponseEntity<Result>> waitForCompletion(@PathVariable Long id,
+                                                                    @RequestParam(defaultValue = "30") int timeoutSeconds) {
+        // The facade caps the wait and answers when it elapses; the async timeout is only a safety net
+        DeferredResult<ResponseEntity<Result>> response =
+                new DeferredResult<>(TimeUnit.SECONDS.toMillis(Math.max(0, timeoutSeconds)) + WAIT_TIMEOUT_MARGIN_MS);
+        jobExecutionFacade.awaitCompletion(id, timeoutSeconds).whenComplete((result, error) -> {
+            if (error != null) {
+                response.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                response.setResult(toWaitResponse(result));
+            }
+        });
+        return response;
+    }
+
+    private ResponseEntity<Result> toWaitResponse(DataResult<JobExecutionDto> result) {
+        if (!result.getSuccess() && result.getData() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        // Still in progress when the timeout elapsed
+        String status = result.getData() != null ? result.getData().getStatus() : null;
+        if (JobExecutionModel.Status.RUNNING.name().equals(status) || JobExecutionModel.Status.QUEUED.name().equals(status)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+        }
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+
     @GetMapping("/{id}/logs")
-    public ResponseEntity<Result> getLogs(@PathVariable Long id) {
-        DataResult<List<JobExecutionModel.LogEntry>> result = jobExecutionFacade.getLogs(id);
+    public ResponseEntity<Result> getLogs(@PathVariable Long id,
+                                          @RequestParam(required = false) Long afterSeq,
+                                          @RequestParam(defaultValue = "1000") int limit) {
+        DataResult<List<JobExecutionModel.LogEntry>> result = jobExecutionFacade.getLogs(id, afterSeq, limit);
         if (!result.getSuccess() && result.getData() == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
         }
@@ -88,6 +130,14 @@ public class JobExecutionController {
                 .body(result);
     }
 
+    @GetMapping(value = "/{id}/logs/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLogs(@PathVariable Long id,
+                                 @RequestParam(defaultValue = "0") long afterSeq,
+                                 @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        // Reconnecting clients resume from the last event they received
+        return jobExecutionFacade.streamLogs(id, lastEventId != null ? lastEventId : afterSeq);
+    }
+
     @GetMapping("/paginated")
     public ResponseEntity<Result> getAllPaginated(
             @RequestParam(defaultValue = "0") int page,
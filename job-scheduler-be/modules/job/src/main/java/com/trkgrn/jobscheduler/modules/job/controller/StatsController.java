@@ -7,6 +7,7 @@ import com.trkgrn.jobscheduler.platform.common.model.result.Result;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -73,4 +74,11 @@ public class StatsController {
         return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(result);
     }
+
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<Result> backfillRollups() {
+        DataResult<Integer> result = statsFacade.backfillRollups();
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
 }
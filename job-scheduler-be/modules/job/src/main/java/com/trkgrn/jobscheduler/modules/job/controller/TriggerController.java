@@ -1,5 +1,6 @@
 package com.trkgrn.jobscheduler.modules.job.controller;
 
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
 import com.trkgrn.jobscheduler.modules.job.facade.TriggerFacade;
 import com.trkgrn.jobscheduler.platform.common.dto.TriggerDto;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
@@ -8,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -99,6 +101,22 @@ public class TriggerController {
                 .body(result);
     }
 
+    @GetMapping("/next-fire-times")
+    public ResponseEntity<Result> getUpcomingFireTimes(@RequestParam(defaultValue = "1") int count) {
+        DataResult<Map<Long, List<OffsetDateTime>>> result = triggerFacade.getUpcomingFireTimes(count);
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+
+    @GetMapping("/forecast")
+    public ResponseEntity<Result> getForecast(@RequestParam(defaultValue = "24") int hours,
+                                              @RequestParam(defaultValue = "60") int bucketSeconds,
+                                              @RequestParam(required = false) Integer nodes) {
+        DataResult<ScheduleForecastDto> result = triggerFacade.getForecast(hours, bucketSeconds, nodes);
+        return ResponseEntity.status(result.getSuccess() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+
     @GetMapping("/ready-to-fire")
     public ResponseEntity<Result> getReadyToFire() {
         DataResult<List<TriggerDto>> result = triggerFacade.findReadyToFire();
@@ -0,0 +1,8 @@
+package com.trkgrn.jobscheduler.modules.job.event;
+
+/**
+ * Published when an execution is stored as QUEUED for the work queue.
+ * Published inside the enqueuing transaction; the queue worker reacts AFTER_COMMIT.
+ */
+public record ExecutionQueuedEvent(Long executionId, Long cronJobId) {
+}
@@ -0,0 +1,40 @@
+package com.trkgrn.jobscheduler.modules.job.event;
+
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Published when an execution reaches a terminal status (SUCCESS, FAILED, CANCELLED, TIMED_OUT).
+ * Published inside the finalizing transaction; listeners that write should use AFTER_COMMIT.
+ */
+public record JobExecutionFinishedEvent(Long executionId,
+                                        Long cronJobId,
+                                        String jobBeanName,
+                                        JobExecutionModel.Status status,
+                                        OffsetDateTime startedAt,
+                                        OffsetDateTime endedAt) {
+
+    public static JobExecutionFinishedEvent of(CronJobModel cronJobModel, JobExecutionModel execution) {
+        return new JobExecutionFinishedEvent(
+                execution.getId(),
+                cronJobModel != null ? cronJobModel.getId() : null,
+                cronJobModel != null ? cronJobModel.getJobBeanName() : null,
+                execution.getStatus(),
+                execution.getStartedAt(),
+                execution.getEndedAt()
+        );
+    }
+
+    /**
+     * Execution duration in milliseconds, or null if start or end time is unknown
+     */
+    public Long durationMillis() {
+        if (startedAt == null || endedAt == null) {
+            return null;
+        }
+        return Math.max(0, Duration.between(startedAt, endedAt).toMillis());
+    }
+}
@@ -0,0 +1,8 @@
+package com.trkgrn.jobscheduler.modules.job.event;
+
+/**
+ * Published when a partition execution of a PartitionedJob reaches a terminal status.
+ * Partitions do not publish JobExecutionFinishedEvent; their parent does once all partitions are done.
+ */
+public record PartitionFinishedEvent(Long parentExecutionId, Long executionId) {
+}
@@ -0,0 +1,179 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import com.trkgrn.jobscheduler.modules.job.dto.JobMetadataDto;
+import com.trkgrn.jobscheduler.modules.job.registry.EnhancedJobRegistry;
+import com.trkgrn.jobscheduler.modules.job.util.NodeIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Declarative concurrency limits per job bean and per job category, cluster-wide or per node.
+ * Limits come from @JobComponent(maxConcurrent, maxConcurrentPerNode) and job.execution.limits.*; these are the
+ * only per-job limits, so an execution over one waits as QUEUED instead of holding a RUNNING row;
+ * an execution counts against a limit while it is RUNNING, and QUEUED executions are admitted in id order.
+ * Admission must run inside the transaction that creates or promotes the execution: the limit is serialized
+ * by a transaction scoped advisory lock, so the count and the new RUNNING row are consistent across nodes.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EnhancedJobRegistry jobRegistry;
+    private final String nodeId;
+    private final Map<String, Integer> clusterPerJob;
+    private final Map<String, Integer> nodePerJob;
+    private final int defaultNodePerJob;
+    private final Map<String, Integer> clusterPerCategory;
+    private final Map<String, Integer> nodePerCategory;
+
+    // Registered jobs do not change after startup, so the limits of a job bean are resolved once
+    private final ConcurrentHashMap<String, List<Limit>> limitsByJob = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiter(JdbcTemplate jdbcTemplate,
+                              EnhancedJobRegistry jobRegistry,
+                              NodeIdentifier nodeIdentifier,
+                              @Value("${job.execution.limits.cluster-per-job:}") String clusterPerJob,
+                              @Value("${job.execution.limits.node-per-job:}") String nodePerJob,
+                              @Value("${job.execution.limits.node-per-job-default:0}") int defaultNodePerJob,
+                              @Value("${job.execution.limits.cluster-per-category:}") String clusterPerCategory,
+                              @Value("${job.execution.limits.node-per-category:}") String nodePerCategory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRegistry = jobRegistry;
+        this.nodeId = nodeIdentifier.getNodeId();
+        this.clusterPerJob = parseOverrides(clusterPerJob);
+        this.nodePerJob = parseOverrides(nodePerJob);
+        this.defaultNodePerJob = defaultNodePerJob;
+        this.clusterPerCategory = parseOverrides(clusterPerCategory);
+        this.nodePerCategory = parseOverrides(nodePerCategory);
+        LOG.info("Concurrency limits initialized (cluster per job: {}, node per job: {}, default node per job: {}, " +
+                        "cluster per category: {}, node per category: {})",
+                this.clusterPerJob, this.nodePerJob, defaultNodePerJob, this.clusterPerCategory, this.nodePerCategory);
+    }
+
+    public boolean isLimited(String jobBeanName) {
+        return !limitsFor(jobBeanName).isEmpty();
+    }
+
+    /**
+     * Check whether an execution of the job bean may start now (must be called inside a transaction)
+     *
+     * @param jobBeanName Job bean of the execution
+     * @param queuedExecutionId ID of the QUEUED execution being promoted, or null for a new execution;
+     *                          only QUEUED executions with a lower ID are ahead of it
+     * @return true if every limit of the job has a free slot for it
+     */
+    public boolean tryAdmit(String jobBeanName, Long queuedExecutionId) {
+        List<Limit> limits = limitsFor(jobBeanName);
+        if (limits.isEmpty()) {
+            return true;
+        }
+        long position = queuedExecutionId != null ? queuedExecutionId : Long.MAX_VALUE;
+        // Limits are locked in key order, so two admissions never wait on each other crosswise
+        for (Limit limit : limits) {
+            jdbcTemplate.query(LOCK_SQL, rs -> null, limit.key());
+        }
+        for (Limit limit : limits) {
+            long occupied = occupied(limit, position);
+            if (occupied >= limit.max()) {
+                LOG.debug("Concurrency limit {} reached for job {} ({} of {} running or queued ahead)",
+                        limit.key(), jobBeanName, occupied, limit.max());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Running executions plus QUEUED executions ahead of the given position within the limit's job beans
+     * (partitions run inside their parent's slot and are not counted)
+     */
+    private long occupied(Limit limit, long position) {
+        List<Object> args = new ArrayList<>();
+        args.add(position);
+        StringBuilder sql = new StringBuilder(
+                "SELECT COUNT(*) FILTER (WHERE je.status = 'RUNNING') " +
+                "+ COUNT(*) FILTER (WHERE je.status = 'QUEUED' AND je.id < ?) " +
+                "FROM public.job_executions je JOIN public.cron_jobs c ON c.id = je.job_definition_id " +
+                "WHERE je.status IN ('RUNNING', 'QUEUED') AND je.parent_execution_id IS NULL AND c.job_bean_name IN (");
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (String jobBean : limit.jobBeans()) {
+            placeholders.add("?");
+            args.add(jobBean);
+        }
+        sql.append(placeholders).append(")");
+        if (limit.perNode()) {
+            sql.append(" AND je.node_id = ?");
+            args.add(nodeId);
+        }
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    private List<Limit> limitsFor(String jobBeanName) {
+        return limitsByJob.computeIfAbsent(jobBeanName, this::resolveLimits);
+    }
+
+    private List<Limit> resolveLimits(String jobBeanName) {
+        Optional<JobMetadataDto> metadata = jobRegistry.getJobMetadata(jobBeanName);
+        int annotatedCluster = metadata.map(JobMetadataDto::getMaxConcurrent).orElse(0);
+        int annotatedNode = metadata.map(JobMetadataDto::getMaxConcurrentPerNode).filter(max -> max > 0).orElse(defaultNodePerJob);
+        String category = metadata.map(JobMetadataDto::getCategory).orElse(null);
+
+        List<Limit> limits = new ArrayList<>();
+        Set<String> self = Set.of(jobBeanName);
+        addLimit(limits, "job:" + jobBeanName, false, self, clusterPerJob.getOrDefault(jobBeanName, annotatedCluster));
+        addLimit(limits, "job:" + jobBeanName + "@" + nodeId, true, self, nodePerJob.getOrDefault(jobBeanName, annotatedNode));
+        if (category != null && (clusterPerCategory.containsKey(category) || nodePerCategory.containsKey(category))) {
+            Set<String> categoryJobs = new TreeSet<>();
+            jobRegistry.getJobsByCategory(category).forEach(job -> categoryJobs.add(job.getBeanName()));
+            categoryJobs.add(jobBeanName);
+            addLimit(limits, "category:" + category, false, categoryJobs, clusterPerCategory.getOrDefault(category, 0));
+            addLimit(limits, "category:" + category + "@" + nodeId, true, categoryJobs, nodePerCategory.getOrDefault(category, 0));
+        }
+        limits.sort(Comparator.comparing(Limit::key));
+        if (!limits.isEmpty()) {
+            LOG.info("Concurrency limits for job {}: {}", jobBeanName, limits);
+        }
+        return List.copyOf(limits);
+    }
+
+    static Map<String, Integer> parseOverrides(String value) {
+        Map<String, Integer> overrides = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return overrides;
+        }
+        // Format: name=limit,otherName=limit (job bean names or categories)
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                LOG.warn("Ignoring invalid concurrency override: {}", entry);
+                continue;
+            }
+            try {
+                overrides.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("Ignoring invalid concurrency override: {}", entry);
+            }
+        }
+        return overrides;
+    }
+
+    private static void addLimit(List<Limit> limits, String name, boolean perNode, Set<String> jobBeans, int max) {
+        if (max > 0) {
+            limits.add(new Limit("job-limit:" + name, perNode, jobBeans, max));
+        }
+    }
+
+    private record Limit(String key, boolean perNode, Set<String> jobBeans, int max) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces execution budgets of the job bodies running on this node.
+ * The budget of an execution is the one of its firing trigger, else the CronJob's, else
+ * job.execution.budget.default-timeout-seconds (0 = no budget); it counts from the start of the body.
+ * Once it is exceeded the execution's cancellation flag is set, so abortable jobs stop at their next check;
+ * a body still running after the grace period has its thread interrupted.
+ * The runner finalizes such an execution as TIMED_OUT (unless it succeeded after all).
+ */
+@Component
+public class ExecutionBudgetWatchdog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionBudgetWatchdog.class);
+
+    private final JobExecutionContext jobExecutionContext;
+    private final JobLogCollector jobLogCollector;
+    private final JobMetricsService jobMetricsService;
+    private final long defaultTimeoutSeconds;
+    private final long interruptGraceNanos;
+
+    // Watched bodies on this node (executionId -> watch)
+    private final ConcurrentHashMap<Long, Watch> watches = new ConcurrentHashMap<>();
+
+    public ExecutionBudgetWatchdog(JobExecutionContext jobExecutionContext,
+                                   JobLogCollector jobLogCollector,
+                                   JobMetricsService jobMetricsService,
+                                   @Value("${job.execution.budget.default-timeout-seconds:0}") long defaultTimeoutSeconds,
+                                   @Value("${job.execution.budget.interrupt-grace-ms:30000}") long interruptGraceMs) {
+        this.jobExecutionContext = jobExecutionContext;
+        this.jobLogCollector = jobLogCollector;
+        this.jobMetricsService = jobMetricsService;
+        this.defaultTimeoutSeconds = Math.max(0, defaultTimeoutSeconds);
+        this.interruptGraceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, interruptGraceMs));
+        LOG.info("Execution budget watchdog initialized (default timeout: {} s, interrupt grace: {} ms)",
+                this.defaultTimeoutSeconds, Math.max(0, interruptGraceMs));
+    }
+
+    /**
+     * Budget of an execution in seconds, or 0 if it has none
+     */
+    public long budgetSeconds(JobExecutionModel execution, CronJobModel cronJobModel) {
+        if (execution.getTimeoutSeconds() != null && execution.getTimeoutSeconds() > 0) {
+            return execution.getTimeoutSeconds();
+        }
+        if (cronJobModel.getTimeoutSeconds() != null && cronJobModel.getTimeoutSeconds() > 0) {
+            return cronJobModel.getTimeoutSeconds();
+        }
+        return defaultTimeoutSeconds;
+    }
+
+    /**
+     * Start watching the body of an execution (must be called on the thread running the body)
+     */
+    public void watch(JobExecutionModel execution, CronJobModel cronJobModel) {
+        long budgetSeconds = budgetSeconds(execution, cronJobModel);
+        if (budgetSeconds <= 0) {
+            return;
+        }
+        watches.put(execution.getId(), new Watch(execution.getId(), cronJobModel.getJobBeanName(), budgetSeconds,
+                Thread.currentThread(), System.nanoTime() + TimeUnit.SECONDS.toNanos(budgetSeconds)));
+    }
+
+    /**
+     * Stop watching once the body has returned; clears an interrupt the watchdog left on the calling thread
+     *
+     * @return true if the execution exceeded its budget
+     */
+    public boolean release(Long executionId) {
+        Watch watch = watches.remove(executionId);
+        if (watch == null) {
+            return false;
+        }
+        synchronized (watch) {
+            watch.released = true;
+            if (watch.interrupted && watch.thread == Thread.currentThread()) {
+                // Finalization and the next task of a pooled thread must not see the interrupt
+                Thread.interrupted();
+            }
+            return watch.exceeded;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${job.execution.budget.check-interval-ms:1000}")
+    public void check() {
+        long now = System.nanoTime();
+        for (Watch watch : watches.values()) {
+            if (now - watch.deadlineNanos < 0) {
+                continue;
+            }
+            try {
+                enforce(watch, now);
+            } catch (Exception e) {
+                LOG.error("Failed to enforce the budget of execution ID: {}", watch.executionId, e);
+            }
+        }
+    }
+
+    private void enforce(Watch watch, long now) {
+        boolean firstSignal;
+        synchronized (watch) {
+            if (watch.released) {
+                return;
+            }
+            firstSignal = !watch.exceeded;
+            watch.exceeded = true;
+        }
+        // Repeated on every check: the flag may only be registered once the job has set up its context
+        jobExecutionContext.markCancelled(watch.executionId);
+        if (firstSignal) {
+            LOG.warn("Execution ID: {} exceeded its budget of {} s, cancellation requested", watch.executionId,
+                    watch.budgetSeconds);
+            jobLogCollector.append(watch.executionId, "WARN",
+                    "Execution budget of " + watch.budgetSeconds + " s exceeded, cancellation requested");
+            jobMetricsService.recordBudgetExceeded(watch.jobName, "cancel");
+        }
+
+        if (now - watch.deadlineNanos < interruptGraceNanos) {
+            return;
+        }
+        synchronized (watch) {
+            if (watch.released || watch.interrupted) {
+                return;
+            }
+            watch.interrupted = true;
+            watch.thread.interrupt();
+        }
+        LOG.warn("Execution ID: {} still running {} ms after its budget, thread {} interrupted", watch.executionId,
+                TimeUnit.NANOSECONDS.toMillis(interruptGraceNanos), watch.thread.getName());
+        jobLogCollector.append(watch.executionId, "WARN",
+                "Execution did not stop within " + TimeUnit.NANOSECONDS.toMillis(interruptGraceNanos)
+                        + " ms after its budget, thread interrupted");
+        jobMetricsService.recordBudgetExceeded(watch.jobName, "interrupt");
+    }
+
+    private static final class Watch {
+        private final Long executionId;
+        private final String jobName;
+        private final long budgetSeconds;
+        private final Thread thread;
+        private final long deadlineNanos;
+        // Guarded by the watch itself
+        private boolean exceeded;
+        private boolean interrupted;
+        private boolean released;
+
+        private Watch(Long executionId, String jobName, long budgetSeconds, Thread thread, long deadlineNanos) {
+            this.executionId = executionId;
+            this.jobName = jobName;
+            this.budgetSeconds = budgetSeconds;
+            this.thread = thread;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.PartitionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking wait for executions to finish (no thread is parked per waiting client).
+ * A wait completes when the dispatcher handle of a local execution completes, when a finish event is
+ * published on this node, or when the periodic status check finds the execution finished on another node.
+ * Statuses are read with a projection query, so the check never sees a stale cached entity.
+ */
+@Component
+public class ExecutionCompletionWaiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionCompletionWaiter.class);
+
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobExecutionDispatcher jobExecutionDispatcher;
+
+    // Pending waits (executionId -> waits of all clients)
+    private final ConcurrentHashMap<Long, List<CompletableFuture<Void>>> waits = new ConcurrentHashMap<>();
+
+    // Runs the continuations of completed waits, off the event, dispatcher and timeout threads
+    private final ExecutorService completionExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("execution-wait-"));
+
+    public ExecutionCompletionWaiter(JobExecutionRepository jobExecutionRepository,
+                                     JobExecutionDispatcher jobExecutionDispatcher) {
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.jobExecutionDispatcher = jobExecutionDispatcher;
+    }
+
+    /**
+     * Wait for an execution to reach a terminal status, no longer exist or the timeout to elapse,
+     * then produce the result with the loader on the waiter's completion thread
+     */
+    public <T> CompletableFuture<T> await(Long executionId, long timeoutMillis, Supplier<T> resultLoader) {
+        CompletableFuture<Void> wait = new CompletableFuture<>();
+        waits.compute(executionId, (id, executionWaits) -> {
+            List<CompletableFuture<Void>> result = executionWaits != null ? executionWaits : new CopyOnWriteArrayList<>();
+            result.add(wait);
+            return result;
+        });
+        wait.whenComplete((ignored, error) -> remove(executionId, wait));
+
+        CompletableFuture<Void> handle = jobExecutionDispatcher.completionHandle(executionId);
+        if (handle != null) {
+            handle.whenComplete((ignored, error) -> wait.complete(null));
+        }
+        // Registered first, so a finish committed right now is seen either here or by the event
+        if (!isUnfinished(executionId)) {
+            wait.complete(null);
+        }
+        wait.completeOnTimeout(null, Math.max(0, timeoutMillis), TimeUnit.MILLISECONDS);
+        return wait.thenApplyAsync(ignored -> resultLoader.get(), completionExecutor);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExecutionFinished(JobExecutionFinishedEvent event) {
+        complete(event.executionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionFinished(PartitionFinishedEvent event) {
+        complete(event.executionId());
+    }
+
+    /**
+     * Completes waits of executions finished on other nodes (one query for all awaited executions)
+     */
+    @Scheduled(fixedDelayString = "${job.execution.wait.poll-interval-ms:500}")
+    public void checkFinished() {
+        if (waits.isEmpty()) {
+            return;
+        }
+        Set<Long> awaited = new HashSet<>(waits.keySet());
+        try {
+            awaited.removeAll(jobExecutionRepository.findUnfinishedIdsByIdIn(awaited));
+            awaited.forEach(this::complete);
+        } catch (Exception e) {
+            LOG.error("Failed to check {} awaited executions", awaited.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        waits.keySet().forEach(this::complete);
+        completionExecutor.shutdown();
+    }
+
+    private boolean isUnfinished(Long executionId) {
+        return jobExecutionRepository.findStatusById(executionId)
+                .map(status -> status == JobExecutionModel.Status.RUNNING || status == JobExecutionModel.Status.QUEUED)
+                .orElse(false);
+    }
+
+    private void complete(Long executionId) {
+        List<CompletableFuture<Void>> executionWaits = waits.remove(executionId);
+        if (executionWaits != null) {
+            executionWaits.forEach(wait -> wait.complete(null));
+        }
+    }
+
+    private void remove(Long executionId, CompletableFuture<Void> wait) {
+        waits.computeIfPresent(executionId, (id, executionWaits) -> {
+            executionWaits.remove(wait);
+            return executionWaits.isEmpty() ? null : executionWaits;
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+/**
+ * Thread model used to run scheduled job bodies
+ */
+public enum ExecutionMode {
+    /**
+     * Job body runs on the Quartz worker thread that fired the trigger
+     */
+    PLATFORM,
+
+    /**
+     * Quartz only fires; the job body runs on a virtual thread
+     */
+    VIRTUAL;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,235 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches job bodies to dedicated executors so that callers (HTTP / Quartz threads) are not blocked
+ * Keeps a completion handle per execution so clients can wait for the outcome
+ * Per-job limits are enforced by ConcurrencyLimiter before the execution is RUNNING; here a body only waits
+ * for the node-wide priority admission.
+ */
+@Component
+public class JobExecutionDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobExecutionDispatcher.class);
+
+    private final ThreadPoolExecutor runNowExecutor;
+    private final ExecutorService virtualExecutor;
+    private final ExecutionMode executionMode;
+    private final JobMetricsService jobMetricsService;
+    private final int manualPriority;
+
+    // Node-wide cap so that cheap virtual threads do not stampede the database
+    private final PriorityAdmissionController admissionController;
+
+    // In-flight executions dispatched by this node (executionId -> completion handle)
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> executionHandles = new ConcurrentHashMap<>();
+
+    public JobExecutionDispatcher(@Value("${job.execution.run-now.pool-size:4}") int runNowPoolSize,
+                                  @Value("${job.execution.run-now.queue-capacity:16}") int runNowQueueCapacity,
+                                  @Value("${job.execution.mode:PLATFORM}") ExecutionMode executionMode,
+                                  @Value("${job.execution.admission.manual-priority:10}") int manualPriority,
+                                  PriorityAdmissionController admissionController,
+                                  JobMetricsService jobMetricsService) {
+        // Bounded pool + bounded queue: saturation is reported to the caller instead of piling up work
+        this.runNowExecutor = new ThreadPoolExecutor(
+                runNowPoolSize,
+                runNowPoolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(runNowQueueCapacity),
+                new CustomizableThreadFactory("run-now-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        LOG.info("Run-now executor initialized (pool size: {}, queue capacity: {})", runNowPoolSize, runNowQueueCapacity);
+
+        this.executionMode = executionMode;
+        this.virtualExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-vt-", 0).factory());
+        this.jobMetricsService = jobMetricsService;
+        this.manualPriority = manualPriority;
+        this.admissionController = admissionController;
+        // The total is capped by the PriorityAdmissionController (job.execution.concurrency.max-total)
+        LOG.info("Scheduled execution mode: {}", executionMode);
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Dispatch a scheduled execution according to the configured execution mode.
+     * PLATFORM runs the body on the calling (Quartz) thread, VIRTUAL hands it to a virtual thread
+     * so the Quartz worker is released immediately.
+     *
+     * @param jobName Job bean name used for metrics
+     * @param priority Priority of the firing trigger, used for admission
+     * @param executionId Execution ID used as the completion handle key
+     * @param task Job body including finalization
+     * @param notAdmitted Finalizes the execution if the body never runs (interrupted while waiting for admission)
+     */
+    public void dispatchScheduled(String jobName, int priority, Long executionId, Runnable task,
+                                  Consumer<Exception> notAdmitted) {
+        dispatch(jobName, priority, executionId, task, notAdmitted, executionMode == ExecutionMode.VIRTUAL);
+    }
+
+    /**
+     * Dispatch an execution claimed from the QUEUED work queue.
+     * It always runs on a virtual thread (in both modes), so the claiming worker can go on with the batch.
+     */
+    public void dispatchQueued(String jobName, int priority, Long executionId, Runnable task,
+                               Consumer<Exception> notAdmitted) {
+        dispatch(jobName, priority, executionId, task, notAdmitted, true);
+    }
+
+    private void dispatch(String jobName, int priority, Long executionId, Runnable task,
+                          Consumer<Exception> notAdmitted, boolean onVirtualThread) {
+        CompletableFuture<Void> handle = new CompletableFuture<>();
+        executionHandles.put(executionId, handle);
+
+        Runnable limitedTask = () -> {
+            try {
+                runAdmitted(jobName, priority, task);
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting for admission of execution ID: {}", executionId);
+                finalizeNotAdmitted(executionId, notAdmitted, e);
+            } finally {
+                completeHandle(executionId);
+            }
+        };
+
+        if (onVirtualThread) {
+            try {
+                virtualExecutor.execute(limitedTask);
+            } catch (RejectedExecutionException e) {
+                completeHandle(executionId);
+                throw e;
+            }
+        } else {
+            limitedTask.run();
+        }
+    }
+
+    private void runAdmitted(String jobName, int priority, Runnable task) throws InterruptedException {
+        String mode = executionMode.tag();
+        long waitStart = System.nanoTime();
+        admissionController.acquire(priority);
+        try {
+            jobMetricsService.recordPermitWait(mode, jobName, System.nanoTime() - waitStart);
+            jobMetricsService.recordJobBodyStart(mode);
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                jobMetricsService.recordJobBodyComplete(mode, jobName, System.nanoTime() - start);
+            }
+        } finally {
+            admissionController.release();
+        }
+    }
+
+    /**
+     * Submit a manual (run-now) execution; it is admitted with job.execution.admission.manual-priority
+     *
+     * @param executionId Execution ID used as the completion handle key
+     * @param task Job body including finalization
+     * @param notAdmitted Finalizes the execution if the body never runs (interrupted while waiting for admission)
+     * @throws RejectedExecutionException if the run-now executor is saturated
+     */
+    public void submitRunNow(Long executionId, Runnable task, Consumer<Exception> notAdmitted) {
+        CompletableFuture<Void> handle = new CompletableFuture<>();
+        executionHandles.put(executionId, handle);
+        try {
+            runNowExecutor.execute(() -> {
+                try {
+                    admissionController.acquire(manualPriority);
+                    try {
+                        task.run();
+                    } finally {
+                        admissionController.release();
+                    }
+                } catch (InterruptedException e) {
+                    LOG.warn("Interrupted while waiting for admission of manual execution ID: {}", executionId);
+                    finalizeNotAdmitted(executionId, notAdmitted, e);
+                } finally {
+                    completeHandle(executionId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            completeHandle(executionId);
+            throw e;
+        }
+    }
+
+    /**
+     * Finalize an execution whose body never ran, so its row does not stay RUNNING until the heartbeat sweep.
+     * The interrupt is restored afterwards; with the flag set the finalizing transaction could not get a connection.
+     */
+    private void finalizeNotAdmitted(Long executionId, Consumer<Exception> notAdmitted, InterruptedException e) {
+        try {
+            notAdmitted.accept(e);
+        } catch (Exception finalizeException) {
+            LOG.error("Failed to finalize not admitted execution ID: {}", executionId, finalizeException);
+        } finally {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Completion handle of an execution dispatched by this node (a copy, so callers cannot complete it)
+     *
+     * @return the handle, or null if the execution is not tracked by this node
+     */
+    public CompletableFuture<Void> completionHandle(Long executionId) {
+        CompletableFuture<Void> handle = executionHandles.get(executionId);
+        return handle != null ? handle.copy() : null;
+    }
+
+    /**
+     * Check if an execution is currently tracked (running or queued) on this node
+     */
+    public boolean isTracked(Long executionId) {
+        return executionHandles.containsKey(executionId);
+    }
+
+    /**
+     * IDs of the executions currently tracked (running or queued) on this node
+     */
+    public Set<Long> trackedExecutionIds() {
+        return Set.copyOf(executionHandles.keySet());
+    }
+
+    private void completeHandle(Long executionId) {
+        CompletableFuture<Void> handle = executionHandles.remove(executionId);
+        if (handle != null) {
+            handle.complete(null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        LOG.info("Shutting down job executors ({} in-flight executions)", executionHandles.size());
+        shutdownExecutor(runNowExecutor);
+        shutdownExecutor(virtualExecutor);
+    }
+
+    private void shutdownExecutor(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import ch.qos.logback.classic.Level;
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import com.trkgrn.jobscheduler.modules.job.api.JobResult;
+import com.trkgrn.jobscheduler.modules.job.api.Partition;
+import com.trkgrn.jobscheduler.modules.job.api.PartitionResult;
+import com.trkgrn.jobscheduler.modules.job.api.PartitionedJob;
+import com.trkgrn.jobscheduler.modules.job.event.ExecutionQueuedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.PartitionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
+import com.trkgrn.jobscheduler.modules.job.util.NodeIdentifier;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs PartitionedJob executions: the parent execution stores one QUEUED child execution per partition,
+ * waits until all of them reached a terminal status and aggregates their results.
+ * Children are claimed from the work queue by ExecutionQueueWorker on any node; a node runs at most
+ * job.execution.partition.per-node partitions of one parent at a time, so a parent fans out across the cluster.
+ */
+@Component
+public class PartitionCoordinator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionCoordinator.class);
+
+    private static final String ACTIVE_NODES_SQL =
+            "SELECT COUNT(*) FROM %sscheduler_state WHERE sched_name = ? AND last_checkin_time + 2 * checkin_interval >= ?";
+
+    private static final String RUNNING_ON_NODE_SQL =
+            "SELECT COUNT(*) FROM public.job_executions WHERE parent_execution_id = ? AND status = 'RUNNING' AND node_id = ?";
+
+    // Partition bodies are reported under their own job name in the execution metrics
+    public static final String METRICS_SUFFIX = ":partitions";
+
+    private static final Set<JobExecutionModel.Status> ACTIVE_STATUSES =
+            EnumSet.of(JobExecutionModel.Status.QUEUED, JobExecutionModel.Status.RUNNING);
+
+    private final ApplicationContext applicationContext;
+    private final CronJobRepository cronJobRepository;
+    private final JobExecutionService jobExecutionService;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobExecutionContext jobExecutionContext;
+    private final JobExecutionDispatcher jobExecutionDispatcher;
+    private final JobLogCollector jobLogCollector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final Scheduler scheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final String activeNodesSql;
+    private final int perNode;
+    private final long pollIntervalMs;
+
+    // Parents waiting on this node, woken when one of their partitions finishes
+    private final ConcurrentHashMap<Long, Semaphore> waiters = new ConcurrentHashMap<>();
+
+    public PartitionCoordinator(ApplicationContext applicationContext,
+                                CronJobRepository cronJobRepository,
+                                JobExecutionService jobExecutionService,
+                                JobExecutionRepository jobExecutionRepository,
+                                JobExecutionContext jobExecutionContext,
+                                JobExecutionDispatcher jobExecutionDispatcher,
+                                JobLogCollector jobLogCollector,
+                                ApplicationEventPublisher eventPublisher,
+                                JdbcTemplate jdbcTemplate,
+                                Scheduler scheduler,
+                                PlatformTransactionManager transactionManager,
+                                NodeIdentifier nodeIdentifier,
+                                @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}") String tablePrefix,
+                                @Value("${job.execution.partition.per-node:4}") int perNode,
+                                @Value("${job.execution.partition.poll-interval-ms:500}") long pollIntervalMs) {
+        this.applicationContext = applicationContext;
+        this.cronJobRepository = cronJobRepository;
+        this.jobExecutionService = jobExecutionService;
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.jobExecutionContext = jobExecutionContext;
+        this.jobExecutionDispatcher = jobExecutionDispatcher;
+        this.jobLogCollector = jobLogCollector;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduler = scheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.nodeId = nodeIdentifier.getNodeId();
+        this.activeNodesSql = String.format(ACTIVE_NODES_SQL, tablePrefix);
+        this.perNode = Math.max(1, perNode);
+        this.pollIntervalMs = Math.max(10, pollIntervalMs);
+    }
+
+    /**
+     * Fan out the partitions of a parent execution and wait for them (runs on the parent's job thread)
+     */
+    public <T extends CronJobModel> JobResult run(PartitionedJob<T> job, T cronJobModel, Long parentExecutionId) {
+        int gridSize = job.getGridSize(cronJobModel) > 0 ? job.getGridSize(cronJobModel) : activeNodes() * perNode;
+        List<Partition> partitions = job.partition(cronJobModel, gridSize);
+        if (partitions == null || partitions.isEmpty()) {
+            return job.aggregate(cronJobModel, List.of());
+        }
+        Set<String> keys = new HashSet<>();
+        for (Partition partition : partitions) {
+            if (partition.key() == null || !keys.add(partition.key())) {
+                return new JobResult(false, "Partition keys must be unique and not null: " + partition.key());
+            }
+        }
+
+        Semaphore signal = waiters.computeIfAbsent(parentExecutionId, id -> new Semaphore(0));
+        boolean cancelled = false;
+        try {
+            createPartitions(parentExecutionId, partitions);
+            LOG.info("Execution ID: {} fanned out {} partitions (grid size {})", parentExecutionId,
+                    partitions.size(), gridSize);
+
+            long active;
+            while ((active = jobExecutionRepository.countByParentExecutionIdAndStatusIn(parentExecutionId,
+                    ACTIVE_STATUSES)) > 0) {
+                if (!cancelled && job.isCancellationRequested(parentExecutionId)) {
+                    cancelled = true;
+                    cancelPartitions(parentExecutionId);
+                }
+                LOG.debug("Execution ID: {} waiting for {} partitions", parentExecutionId, active);
+                signal.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelPartitions(parentExecutionId);
+            return new JobResult(false, "Interrupted while waiting for partitions");
+        } finally {
+            waiters.remove(parentExecutionId);
+        }
+
+        List<PartitionResult> results = jobExecutionRepository.findByParentExecutionIdOrderByIdAsc(parentExecutionId)
+                .stream()
+                .map(child -> new PartitionResult(child.getPartitionKey(), child.getId(), child.getStatus(),
+                        child.getResultMessage()))
+                .toList();
+        JobResult result = job.aggregate(cronJobModel, results);
+        if (cancelled || job.isCancellationRequested(parentExecutionId)) {
+            return new JobResult(false, "Job aborted by user: " + result.getMessage(), result.getData());
+        }
+        return result;
+    }
+
+    /**
+     * Whether this node may claim another partition of the parent (called in the claiming transaction)
+     */
+    public boolean tryAdmitPartition(Long parentExecutionId) {
+        Long running = jdbcTemplate.queryForObject(RUNNING_ON_NODE_SQL, Long.class, parentExecutionId, nodeId);
+        return running == null || running < perNode;
+    }
+
+    /**
+     * Run a partition claimed from the work queue by ExecutionQueueWorker (already RUNNING on this node)
+     */
+    public void runPartition(Long executionId) {
+        PartitionContext context = transactionTemplate.execute(new TransactionCallback<PartitionContext>() {
+            @Override
+            public PartitionContext doInTransaction(TransactionStatus status) {
+                JobExecutionModel execution = jobExecutionService.findById(executionId).orElse(null);
+                if (execution == null || execution.getStatus() != JobExecutionModel.Status.RUNNING
+                        || execution.getJobDefinition() == null) {
+                    LOG.warn("Claimed partition ID: {} is no longer runnable, skipping", executionId);
+                    return null;
+                }
+                JobExecutionModel.Status parentStatus = jobExecutionRepository.findStatusById(execution.getParentExecutionId())
+                        .orElse(null);
+                if (parentStatus != JobExecutionModel.Status.RUNNING) {
+                    // The parent finished or died in the meantime; nobody would aggregate the result
+                    finish(execution, JobExecutionModel.Status.CANCELLED, "Parent execution is " + parentStatus);
+                    return null;
+                }
+                CronJobModel cronJobModel = cronJobRepository.findById(execution.getJobDefinition().getId()).orElse(null);
+                if (cronJobModel == null) {
+                    LOG.error("CronJob not found for claimed partition ID: {}", executionId);
+                    return null;
+                }
+                Partition partition = new Partition(execution.getPartitionKey(),
+                        execution.getParameters() != null ? new HashMap<>(execution.getParameters()) : Map.of());
+                return new PartitionContext(cronJobModel, partition, execution.getCorrelationId(),
+                        execution.getPriority());
+            }
+        });
+
+        if (context == null) {
+            return;
+        }
+
+        try {
+            jobExecutionDispatcher.dispatchQueued(context.cronJobModel().getJobBeanName() + METRICS_SUFFIX,
+                    context.priority(), executionId, () -> executePartition(executionId, context),
+                    e -> finalizePartition(executionId, new JobResult(false, "Interrupted before admission", null, e)));
+        } catch (RejectedExecutionException e) {
+            LOG.error("Job executor rejected partition ID: {}", executionId, e);
+            finalizePartition(executionId, new JobResult(false, "Rejected by the job executor", null, e));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionFinished(PartitionFinishedEvent event) {
+        Semaphore signal = waiters.get(event.parentExecutionId());
+        if (signal != null) {
+            signal.release();
+        }
+    }
+
+    private void executePartition(Long executionId, PartitionContext context) {
+        CronJobModel cronJobModel = context.cronJobModel();
+        JobResult result;
+        try {
+            jobLogCollector.startLogCollection(executionId, context.correlationId(),
+                    Level.toLevel(cronJobModel.getLogLevel().name(), Level.INFO));
+            jobExecutionContext.initialize(executionId);
+            LOG.info("Starting partition {} of CronJob: {} (Execution ID: {})", context.partition().key(),
+                    cronJobModel.getCode(), executionId);
+
+            @SuppressWarnings("unchecked")
+            PartitionedJob<CronJobModel> job = applicationContext.getBean(cronJobModel.getJobBeanName(), PartitionedJob.class);
+            job.setExecutionContext(jobExecutionContext);
+            result = job.executePartition(cronJobModel, context.partition(), executionId);
+            if (result == null) {
+                result = new JobResult(false, "Partition returned no result");
+            }
+        } catch (Exception e) {
+            LOG.error("Partition {} failed (Execution ID: {})", context.partition().key(), executionId, e);
+            result = new JobResult(false, "Partition failed: " + e.getMessage(), null, e);
+        } finally {
+            jobExecutionContext.clear(executionId);
+        }
+
+        try {
+            finalizePartition(executionId, result);
+        } catch (Exception e) {
+            LOG.error("Failed to finalize partition ID: {}", executionId, e);
+        } finally {
+            jobLogCollector.stopLogCollectionAndPersist(executionId);
+            MDC.remove("correlationId");
+            MDC.remove("executionId");
+        }
+    }
+
+    private void finalizePartition(Long executionId, JobResult result) {
+        transactionTemplate.execute(new TransactionCallback<Void>() {
+            @Override
+            public Void doInTransaction(TransactionStatus status) {
+                JobExecutionModel execution = jobExecutionService.findById(executionId).orElse(null);
+                if (execution == null) {
+                    return null;
+                }
+                String message = result.getMessage();
+                boolean aborted = !result.getSuccess() && message != null
+                        && (message.toLowerCase().contains("aborted") || message.toLowerCase().contains("cancelled"));
+                JobExecutionModel.Status outcome;
+                if (execution.getStatus() == JobExecutionModel.Status.CANCELLED || aborted) {
+                    outcome = JobExecutionModel.Status.CANCELLED;
+                } else {
+                    outcome = result.getSuccess() ? JobExecutionModel.Status.SUCCESS : JobExecutionModel.Status.FAILED;
+                }
+                jobLogCollector.addLog(executionId, outcome == JobExecutionModel.Status.FAILED ? "ERROR" : "INFO",
+                        "Partition " + execution.getPartitionKey() + " " + outcome + ": " + message);
+                finish(execution, outcome, message);
+                return null;
+            }
+        });
+    }
+
+    private void finish(JobExecutionModel execution, JobExecutionModel.Status outcome, String message) {
+        execution.setStatus(outcome);
+        if (execution.getEndedAt() == null) {
+            execution.setEndedAt(OffsetDateTime.now());
+        }
+        execution.setResultMessage(message);
+        jobExecutionService.save(execution);
+        eventPublisher.publishEvent(new PartitionFinishedEvent(execution.getParentExecutionId(), execution.getId()));
+    }
+
+    private void createPartitions(Long parentExecutionId, List<Partition> partitions) {
+        transactionTemplate.execute(new TransactionCallback<Void>() {
+            @Override
+            public Void doInTransaction(TransactionStatus status) {
+                JobExecutionModel parent = jobExecutionService.findById(parentExecutionId)
+                        .orElseThrow(() -> new RuntimeException("Job execution not found with id: " + parentExecutionId));
+                for (Partition partition : partitions) {
+                    JobExecutionModel child = new JobExecutionModel();
+                    child.setJobDefinition(parent.getJobDefinition());
+                    // Not bound to a node; the claiming worker sets node and start time
+                    child.setStatus(JobExecutionModel.Status.QUEUED);
+                    child.setStartedAt(OffsetDateTime.now());
+                    child.setLogLevel(parent.getLogLevel());
+                    child.setPriority(parent.getPriority());
+                    child.setCorrelationId(parent.getCorrelationId());
+                    child.setParentExecutionId(parentExecutionId);
+                    child.setPartitionKey(partition.key());
+                    child.setParameters(partition.parameters() != null ? new HashMap<>(partition.parameters()) : null);
+                    child = jobExecutionService.save(child);
+                    eventPublisher.publishEvent(new ExecutionQueuedEvent(child.getId(), parent.getJobDefinition().getId()));
+                }
+                return null;
+            }
+        });
+    }
+
+    private void cancelPartitions(Long parentExecutionId) {
+        for (JobExecutionModel child : jobExecutionRepository.findByParentExecutionIdOrderByIdAsc(parentExecutionId)) {
+            if (!ACTIVE_STATUSES.contains(child.getStatus())) {
+                continue;
+            }
+            try {
+                jobExecutionService.cancel(child.getId());
+            } catch (Exception e) {
+                // Finished in the meantime
+                LOG.debug("Could not cancel partition ID: {}: {}", child.getId(), e.getMessage());
+            }
+        }
+        LOG.info("Cancelled the partitions of execution ID: {}", parentExecutionId);
+    }
+
+    private int activeNodes() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(activeNodesSql, Integer.class,
+                    scheduler.getSchedulerName(), System.currentTimeMillis());
+            return count != null && count > 0 ? count : 1;
+        } catch (SchedulerException e) {
+            LOG.warn("Could not read scheduler metadata, assuming one node: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private record PartitionContext(CronJobModel cronJobModel, Partition partition, String correlationId, int priority) {
+    }
+}
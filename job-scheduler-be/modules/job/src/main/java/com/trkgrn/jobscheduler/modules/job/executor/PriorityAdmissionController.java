@@ -0,0 +1,206 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission of job bodies on this node, bounded by job.execution.concurrency.max-total.
+ * When all permits are taken, waiters queue per priority class and freed permits are handed out by
+ * weighted fair queuing (stride scheduling): each class gets a share proportional to its weight, so
+ * low priority work still progresses but cannot crowd out high priority work.
+ * A number of permits is reserved for the HIGH class; other classes are only admitted below that mark.
+ */
+@Component
+public class PriorityAdmissionController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PriorityAdmissionController.class);
+
+    private final int capacity;
+    private final int reservedForHigh;
+    private final int highPriorityMin;
+    private final int lowPriorityMax;
+    private final JobMetricsService jobMetricsService;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<PriorityClass, ClassQueue> queues = new EnumMap<>(PriorityClass.class);
+    private int inUse;
+    // Global virtual time: pass of the last admitted waiter
+    private double virtualTime;
+
+    public PriorityAdmissionController(@Value("${job.execution.concurrency.max-total:100}") int capacity,
+                                       @Value("${job.execution.admission.reserved-for-high:10}") int reservedForHigh,
+                                       @Value("${job.execution.admission.high-priority-min:8}") int highPriorityMin,
+                                       @Value("${job.execution.admission.low-priority-max:3}") int lowPriorityMax,
+                                       @Value("${job.execution.admission.weight-high:8}") int weightHigh,
+                                       @Value("${job.execution.admission.weight-normal:4}") int weightNormal,
+                                       @Value("${job.execution.admission.weight-low:1}") int weightLow,
+                                       JobMetricsService jobMetricsService) {
+        this.capacity = Math.max(1, capacity);
+        this.reservedForHigh = Math.max(0, Math.min(reservedForHigh, this.capacity - 1));
+        this.highPriorityMin = highPriorityMin;
+        this.lowPriorityMax = lowPriorityMax;
+        this.jobMetricsService = jobMetricsService;
+        queues.put(PriorityClass.HIGH, new ClassQueue(weightHigh));
+        queues.put(PriorityClass.NORMAL, new ClassQueue(weightNormal));
+        queues.put(PriorityClass.LOW, new ClassQueue(weightLow));
+        queues.forEach((priorityClass, queue) ->
+                jobMetricsService.registerAdmissionQueue(priorityClass.tag(), this, controller -> controller.queued(priorityClass)));
+        LOG.info("Priority admission initialized (capacity: {}, reserved for high: {}, weights: {}/{}/{})",
+                this.capacity, this.reservedForHigh, weightHigh, weightNormal, weightLow);
+    }
+
+    public PriorityClass classify(int priority) {
+        if (priority >= highPriorityMin) {
+            return PriorityClass.HIGH;
+        }
+        return priority <= lowPriorityMax ? PriorityClass.LOW : PriorityClass.NORMAL;
+    }
+
+    /**
+     * Block until a permit is granted to the given trigger priority
+     *
+     * @throws InterruptedException if interrupted while queued (no permit is held then)
+     */
+    public void acquire(int priority) throws InterruptedException {
+        PriorityClass priorityClass = classify(priority);
+        long waitStart = System.nanoTime();
+        lock.lock();
+        try {
+            ClassQueue queue = queues.get(priorityClass);
+            // Queued waiters go first, so a newcomer never overtakes its own class
+            if (queue.waiters.isEmpty() && admissible(priorityClass)) {
+                inUse++;
+                queue.activate(virtualTime);
+                queue.advance();
+            } else {
+                await(priorityClass, queue);
+            }
+        } finally {
+            lock.unlock();
+        }
+        jobMetricsService.recordAdmissionWait(priorityClass.tag(), System.nanoTime() - waitStart);
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            inUse--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inUse() {
+        lock.lock();
+        try {
+            return inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queued(PriorityClass priorityClass) {
+        lock.lock();
+        try {
+            return queues.get(priorityClass).waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void await(PriorityClass priorityClass, ClassQueue queue) throws InterruptedException {
+        if (queue.waiters.isEmpty()) {
+            queue.activate(virtualTime);
+        }
+        Waiter waiter = new Waiter(lock.newCondition());
+        queue.waiters.addLast(waiter);
+        try {
+            while (!waiter.admitted) {
+                waiter.condition.await();
+            }
+        } catch (InterruptedException e) {
+            if (waiter.admitted) {
+                // Granted while being interrupted: hand the permit on
+                inUse--;
+                dispatch();
+            } else {
+                queue.waiters.remove(waiter);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Hand free permits to queued waiters, class with the lowest pass first
+     */
+    private void dispatch() {
+        while (inUse < capacity) {
+            PriorityClass next = null;
+            ClassQueue nextQueue = null;
+            for (Map.Entry<PriorityClass, ClassQueue> entry : queues.entrySet()) {
+                ClassQueue queue = entry.getValue();
+                if (queue.waiters.isEmpty() || !admissible(entry.getKey())) {
+                    continue;
+                }
+                if (nextQueue == null || queue.pass < nextQueue.pass) {
+                    next = entry.getKey();
+                    nextQueue = queue;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            Waiter waiter = nextQueue.waiters.pollFirst();
+            virtualTime = nextQueue.pass;
+            nextQueue.advance();
+            inUse++;
+            waiter.admitted = true;
+            waiter.condition.signal();
+        }
+    }
+
+    private boolean admissible(PriorityClass priorityClass) {
+        int limit = priorityClass == PriorityClass.HIGH ? capacity : capacity - reservedForHigh;
+        return inUse < limit;
+    }
+
+    private static final class ClassQueue {
+        private final double stride;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private double pass;
+
+        private ClassQueue(int weight) {
+            this.stride = 1.0 / Math.max(1, weight);
+        }
+
+        /**
+         * A class that was idle does not keep credit for the time it had nothing queued
+         */
+        private void activate(double virtualTime) {
+            pass = Math.max(pass, virtualTime);
+        }
+
+        private void advance() {
+            pass += stride;
+        }
+    }
+
+    private static final class Waiter {
+        private final Condition condition;
+        private boolean admitted;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
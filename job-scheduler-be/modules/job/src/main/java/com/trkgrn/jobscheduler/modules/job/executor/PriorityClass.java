@@ -0,0 +1,14 @@
+package com.trkgrn.jobscheduler.modules.job.executor;
+
+/**
+ * Admission class of an execution, derived from its trigger priority
+ */
+public enum PriorityClass {
+    HIGH,
+    NORMAL,
+    LOW;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
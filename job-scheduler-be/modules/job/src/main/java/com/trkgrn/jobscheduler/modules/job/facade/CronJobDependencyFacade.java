@@ -0,0 +1,14 @@
+package com.trkgrn.jobscheduler.modules.job.facade;
+
+import com.trkgrn.jobscheduler.platform.common.dto.CronJobDependencyDto;
+import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
+import com.trkgrn.jobscheduler.platform.common.model.result.Result;
+
+import java.util.List;
+
+public interface CronJobDependencyFacade {
+    DataResult<List<CronJobDependencyDto>> findAll();
+    DataResult<List<CronJobDependencyDto>> findByCronJobId(Long cronJobId);
+    DataResult<CronJobDependencyDto> create(CronJobDependencyDto dependencyDto);
+    Result deleteById(Long id);
+}
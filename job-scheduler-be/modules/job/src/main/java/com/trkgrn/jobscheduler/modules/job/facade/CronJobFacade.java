@@ -1,6 +1,7 @@
 package com.trkgrn.jobscheduler.modules.job.facade;
 
 import com.trkgrn.jobscheduler.platform.common.dto.CronJobDto;
+import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
 import com.trkgrn.jobscheduler.platform.common.model.result.Result;
 
@@ -13,7 +14,7 @@ public interface CronJobFacade {
     DataResult<CronJobDto> create(CronJobDto cronJobDto);
     DataResult<CronJobDto> update(Long id, CronJobDto cronJobDto);
     Result deleteById(Long id);
-    DataResult<CronJobDto> runNow(Long id);
+    DataResult<JobExecutionDto> runNow(Long id);
     DataResult<List<String>> getAvailableJobs();
 }
 
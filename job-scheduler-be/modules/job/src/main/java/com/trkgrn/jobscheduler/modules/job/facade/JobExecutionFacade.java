@@ -5,8 +5,10 @@ import com.trkgrn.jobscheduler.modules.job.dto.PaginatedResponse;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface JobExecutionFacade {
     DataResult<JobExecutionDto> findById(Long id);
@@ -16,7 +18,9 @@ public interface JobExecutionFacade {
     DataResult<List<JobExecutionDto>> findActive();
     DataResult<ExecutionStatsDto> getStats(Long cronJobId);
     DataResult<JobExecutionDto> cancel(Long id);
-    DataResult<List<JobExecutionModel.LogEntry>> getLogs(Long id);
+    CompletableFuture<DataResult<JobExecutionDto>> awaitCompletion(Long id, int timeoutSeconds);
+    DataResult<List<JobExecutionModel.LogEntry>> getLogs(Long id, Long afterSeq, int limit);
+    SseEmitter streamLogs(Long id, long afterSeq);
     DataResult<PaginatedResponse<JobExecutionDto>> findAllPaginated(int page, int size);
     DataResult<PaginatedResponse<JobExecutionDto>> findByCronJobIdPaginated(Long cronJobId, int page, int size, String status);
     DataResult<PaginatedResponse<JobExecutionDto>> findByStatusPaginated(String status, int page, int size);
@@ -13,5 +13,6 @@ public interface StatsFacade {
     DataResult<List<StatusDistributionDto>> getTriggerStatusDistribution();
     DataResult<List<ExecutionTrendDataDto>> getExecutionTrend(int days);
     DataResult<List<TopJobDto>> getTopJobsByExecution(int limit);
+    DataResult<Integer> backfillRollups();
 }
 
@@ -1,9 +1,11 @@
 package com.trkgrn.jobscheduler.modules.job.facade;
 
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
 import com.trkgrn.jobscheduler.platform.common.dto.TriggerDto;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
 import com.trkgrn.jobscheduler.platform.common.model.result.Result;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +19,8 @@ public interface TriggerFacade {
     DataResult<TriggerDto> pause(Long id);
     DataResult<TriggerDto> resume(Long id);
     DataResult<Map<String, Object>> getNextFireTime(Long id);
+    DataResult<Map<Long, List<OffsetDateTime>>> getUpcomingFireTimes(int count);
+    DataResult<ScheduleForecastDto> getForecast(int hours, int bucketSeconds, Integer nodes);
     DataResult<List<TriggerDto>> findReadyToFire();
     DataResult<Map<String, Object>> syncTriggers();
 }
@@ -0,0 +1,72 @@
+package com.trkgrn.jobscheduler.modules.job.facade.impl;
+
+import com.trkgrn.jobscheduler.modules.job.facade.CronJobDependencyFacade;
+import com.trkgrn.jobscheduler.modules.job.mapper.CronJobDependencyMapper;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobDependencyModel;
+import com.trkgrn.jobscheduler.modules.job.service.CronJobDependencyService;
+import com.trkgrn.jobscheduler.platform.common.dto.CronJobDependencyDto;
+import com.trkgrn.jobscheduler.platform.common.model.exception.NotFoundException;
+import com.trkgrn.jobscheduler.platform.common.model.exception.NotValidException;
+import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
+import com.trkgrn.jobscheduler.platform.common.model.result.Result;
+import com.trkgrn.jobscheduler.platform.common.model.result.SuccessDataResult;
+import com.trkgrn.jobscheduler.platform.common.model.result.SuccessResult;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class DefaultCronJobDependencyFacade implements CronJobDependencyFacade {
+
+    private final CronJobDependencyService cronJobDependencyService;
+    private final CronJobDependencyMapper cronJobDependencyMapper;
+
+    public DefaultCronJobDependencyFacade(CronJobDependencyService cronJobDependencyService,
+                                          CronJobDependencyMapper cronJobDependencyMapper) {
+        this.cronJobDependencyService = cronJobDependencyService;
+        this.cronJobDependencyMapper = cronJobDependencyMapper;
+    }
+
+    @Override
+    public DataResult<List<CronJobDependencyDto>> findAll() {
+        List<CronJobDependencyDto> dependencyDtos = cronJobDependencyService.findAll().stream()
+                .map(cronJobDependencyMapper::toDto)
+                .collect(Collectors.toList());
+        return new SuccessDataResult<>(dependencyDtos, "Dependencies fetched successfully");
+    }
+
+    @Override
+    public DataResult<List<CronJobDependencyDto>> findByCronJobId(Long cronJobId) {
+        List<CronJobDependencyDto> dependencyDtos = cronJobDependencyService.findByCronJobId(cronJobId).stream()
+                .map(cronJobDependencyMapper::toDto)
+                .collect(Collectors.toList());
+        return new SuccessDataResult<>(dependencyDtos, "Dependencies fetched successfully");
+    }
+
+    @Override
+    public DataResult<CronJobDependencyDto> create(CronJobDependencyDto dependencyDto) {
+        CronJobDependencyModel dependency = cronJobDependencyService.create(dependencyDto.getUpstreamCronJobId(),
+                dependencyDto.getDownstreamCronJobId(), parseCondition(dependencyDto.getCondition()));
+        return new SuccessDataResult<>(cronJobDependencyMapper.toDto(dependency), "Dependency created successfully");
+    }
+
+    @Override
+    public Result deleteById(Long id) {
+        cronJobDependencyService.findById(id)
+                .orElseThrow(() -> new NotFoundException("Dependency not found with id: " + id));
+        cronJobDependencyService.deleteById(id);
+        return new SuccessResult("Dependency deleted successfully");
+    }
+
+    private CronJobDependencyModel.Condition parseCondition(String condition) {
+        if (condition == null || condition.isBlank()) {
+            return CronJobDependencyModel.Condition.ON_SUCCESS;
+        }
+        try {
+            return CronJobDependencyModel.Condition.valueOf(condition.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new NotValidException("Invalid condition: " + condition + " (ON_SUCCESS, ON_FAILURE or ON_COMPLETE)");
+        }
+    }
+}
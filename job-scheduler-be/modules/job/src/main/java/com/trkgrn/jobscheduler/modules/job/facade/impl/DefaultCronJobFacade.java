@@ -1,10 +1,13 @@
 package com.trkgrn.jobscheduler.modules.job.facade.impl;
 
 import com.trkgrn.jobscheduler.modules.job.facade.CronJobFacade;
+import com.trkgrn.jobscheduler.modules.job.mapper.JobExecutionMapper;
 import com.trkgrn.jobscheduler.modules.job.mapper.helper.CronJobMappingHelper;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.modules.job.service.CronJobService;
 import com.trkgrn.jobscheduler.platform.common.dto.CronJobDto;
+import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
 import com.trkgrn.jobscheduler.platform.common.model.exception.NotCreatedException;
 import com.trkgrn.jobscheduler.platform.common.model.exception.NotFoundException;
 import com.trkgrn.jobscheduler.platform.common.model.exception.NotUpdatedException;
@@ -26,10 +29,13 @@ public class DefaultCronJobFacade implements CronJobFacade {
 
     private final CronJobService cronJobService;
     private final CronJobMappingHelper cronJobMappingHelper;
+    private final JobExecutionMapper jobExecutionMapper;
 
-    public DefaultCronJobFacade(CronJobService cronJobService, CronJobMappingHelper cronJobMappingHelper) {
+    public DefaultCronJobFacade(CronJobService cronJobService, CronJobMappingHelper cronJobMappingHelper,
+                                JobExecutionMapper jobExecutionMapper) {
         this.cronJobService = cronJobService;
         this.cronJobMappingHelper = cronJobMappingHelper;
+        this.jobExecutionMapper = jobExecutionMapper;
     }
 
     @Override
@@ -107,13 +113,13 @@ public class DefaultCronJobFacade implements CronJobFacade {
     }
 
     @Override
-    public DataResult<CronJobDto> runNow(Long id) {
+    public DataResult<JobExecutionDto> runNow(Long id) {
         CronJobModel cronJobModel = cronJobService.findById(id)
                 .orElseThrow(() -> new NotFoundException("CronJob not found with id: " + id));
         
-        CronJobModel updatedCronJob = cronJobService.runNow(id);
-        CronJobDto updatedCronJobDto = cronJobMappingHelper.toDto(updatedCronJob);
-        return new SuccessDataResult<>(updatedCronJobDto, "CronJob executed successfully");
+        JobExecutionModel execution = cronJobService.runNow(id);
+        JobExecutionDto executionDto = jobExecutionMapper.toDto(execution);
+        return new SuccessDataResult<>(executionDto, "CronJob execution accepted");
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.trkgrn.jobscheduler.modules.job.facade.impl;
 import com.trkgrn.jobscheduler.modules.job.dto.ExecutionStatsDto;
 import com.trkgrn.jobscheduler.modules.job.dto.PaginatedResponse;
 import com.trkgrn.jobscheduler.modules.job.facade.JobExecutionFacade;
+import com.trkgrn.jobscheduler.modules.job.logging.ExecutionLogStreamer;
 import com.trkgrn.jobscheduler.modules.job.mapper.JobExecutionMapper;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
@@ -14,21 +15,34 @@ import com.trkgrn.jobscheduler.platform.common.model.result.SuccessDataResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Component
 public class DefaultJobExecutionFacade implements JobExecutionFacade {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultJobExecutionFacade.class);
+    private static final int MAX_WAIT_SECONDS = 300;
+    private static final int MAX_LOG_PAGE_SIZE = 10000;
+    private static final Set<JobExecutionModel.Status> SUCCESSFUL_STATUSES = EnumSet.of(JobExecutionModel.Status.SUCCESS);
+    // An execution stopped at its budget counts as failed
+    private static final Set<JobExecutionModel.Status> FAILED_STATUSES =
+            EnumSet.of(JobExecutionModel.Status.FAILED, JobExecutionModel.Status.TIMED_OUT);
 
     private final JobExecutionService jobExecutionService;
     private final JobExecutionMapper jobExecutionMapper;
+    private final ExecutionLogStreamer executionLogStreamer;
 
-    public DefaultJobExecutionFacade(JobExecutionService jobExecutionService, JobExecutionMapper jobExecutionMapper) {
+    public DefaultJobExecutionFacade(JobExecutionService jobExecutionService, JobExecutionMapper jobExecutionMapper,
+                                     ExecutionLogStreamer executionLogStreamer) {
         this.jobExecutionService = jobExecutionService;
         this.jobExecutionMapper = jobExecutionMapper;
+        this.executionLogStreamer = executionLogStreamer;
     }
 
     @Override
@@ -89,13 +103,13 @@ public class DefaultJobExecutionFacade implements JobExecutionFacade {
         long totalCount;
 
         if (cronJobId != null) {
-            successCount = jobExecutionService.countByJobDefinitionIdAndStatus(cronJobId, JobExecutionModel.Status.SUCCESS);
-            failedCount = jobExecutionService.countByJobDefinitionIdAndStatus(cronJobId, JobExecutionModel.Status.FAILED);
-            totalCount = jobExecutionService.findByJobDefinitionId(cronJobId).size();
+            successCount = jobExecutionService.countByJobDefinitionIdAndStatusIn(cronJobId, SUCCESSFUL_STATUSES);
+            failedCount = jobExecutionService.countByJobDefinitionIdAndStatusIn(cronJobId, FAILED_STATUSES);
+            totalCount = jobExecutionService.countByJobDefinitionId(cronJobId);
         } else {
-            successCount = jobExecutionService.countByJobDefinitionIdAndStatus(null, JobExecutionModel.Status.SUCCESS);
-            failedCount = jobExecutionService.countByJobDefinitionIdAndStatus(null, JobExecutionModel.Status.FAILED);
-            totalCount = jobExecutionService.findAll().size();
+            successCount = jobExecutionService.countByJobDefinitionIdAndStatusIn(null, SUCCESSFUL_STATUSES);
+            failedCount = jobExecutionService.countByJobDefinitionIdAndStatusIn(null, FAILED_STATUSES);
+            totalCount = jobExecutionService.countByJobDefinitionId(null);
         }
 
         ExecutionStatsDto stats = new ExecutionStatsDto(successCount, failedCount, totalCount);
@@ -113,12 +127,42 @@ public class DefaultJobExecutionFacade implements JobExecutionFacade {
     }
 
     @Override
-    public DataResult<List<JobExecutionModel.LogEntry>> getLogs(Long id) {
+    public CompletableFuture<DataResult<JobExecutionDto>> awaitCompletion(Long id, int timeoutSeconds) {
+        if (timeoutSeconds < 0) {
+            throw new NotValidException("timeoutSeconds must not be negative");
+        }
+        int effectiveTimeout = Math.min(timeoutSeconds, MAX_WAIT_SECONDS);
+
+        return jobExecutionService.awaitCompletion(id, effectiveTimeout * 1000L)
+                .thenApply(found -> {
+                    JobExecutionModel execution = found
+                            .orElseThrow(() -> new NotFoundException("Job execution not found with id: " + id));
+                    JobExecutionDto executionDto = jobExecutionMapper.toDto(execution);
+                    return new SuccessDataResult<>(executionDto, "Job execution fetched successfully");
+                });
+    }
+
+    @Override
+    public DataResult<List<JobExecutionModel.LogEntry>> getLogs(Long id, Long afterSeq, int limit) {
         JobExecutionModel execution = jobExecutionService.findById(id)
                 .orElseThrow(() -> new NotFoundException("Job execution not found with id: " + id));
-        
-        List<JobExecutionModel.LogEntry> logs = execution.getLogs();
-        return new SuccessDataResult<>(logs != null ? logs : List.of(), "Logs fetched successfully");
+
+        if (afterSeq == null) {
+            List<JobExecutionModel.LogEntry> logs = jobExecutionService.getLogs(id);
+            return new SuccessDataResult<>(logs, "Logs fetched successfully");
+        }
+        if (afterSeq < 0 || limit < 1 || limit > MAX_LOG_PAGE_SIZE) {
+            throw new NotValidException("afterSeq must be >= 0 and limit must be between 1 and " + MAX_LOG_PAGE_SIZE);
+        }
+        List<JobExecutionModel.LogEntry> logs = jobExecutionService.getLogs(id, afterSeq, limit);
+        return new SuccessDataResult<>(logs, "Logs fetched successfully");
+    }
+
+    @Override
+    public SseEmitter streamLogs(Long id, long afterSeq) {
+        jobExecutionService.findById(id)
+                .orElseThrow(() -> new NotFoundException("Job execution not found with id: " + id));
+        return executionLogStreamer.stream(id, Math.max(afterSeq, 0));
     }
 
     @Override
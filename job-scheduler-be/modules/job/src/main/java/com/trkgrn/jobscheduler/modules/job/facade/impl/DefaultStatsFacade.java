@@ -1,6 +1,8 @@
 package com.trkgrn.jobscheduler.modules.job.facade.impl;
 
+import com.trkgrn.jobscheduler.modules.job.cache.StatsSnapshotCache;
 import com.trkgrn.jobscheduler.modules.job.facade.StatsFacade;
+import com.trkgrn.jobscheduler.modules.job.service.ExecutionRollupService;
 import com.trkgrn.jobscheduler.modules.job.service.StatsService;
 import com.trkgrn.jobscheduler.platform.common.dto.*;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
@@ -17,9 +19,14 @@ public class DefaultStatsFacade implements StatsFacade {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStatsFacade.class);
 
     private final StatsService statsService;
+    private final ExecutionRollupService executionRollupService;
+    private final StatsSnapshotCache statsSnapshotCache;
 
-    public DefaultStatsFacade(StatsService statsService) {
+    public DefaultStatsFacade(StatsService statsService, ExecutionRollupService executionRollupService,
+                              StatsSnapshotCache statsSnapshotCache) {
         this.statsService = statsService;
+        this.executionRollupService = executionRollupService;
+        this.statsSnapshotCache = statsSnapshotCache;
     }
 
     @Override
@@ -68,6 +75,11 @@ public class DefaultStatsFacade implements StatsFacade {
 
     @Override
     public DataResult<StatsOverviewDto> getOverviewStats(int days, int topJobsLimit) {
+        StatsOverviewDto overview = statsSnapshotCache.get(days, topJobsLimit, () -> computeOverviewStats(days, topJobsLimit));
+        return new SuccessDataResult<>(overview, "Overview stats fetched successfully");
+    }
+
+    private StatsOverviewDto computeOverviewStats(int days, int topJobsLimit) {
         JobStatsDto jobStats = getJobStats().getData();
         List<StatusDistributionDto> jobStatusDistribution = getJobStatusDistribution().getData();
         List<StatusDistributionDto> triggerStatusDistribution = getTriggerStatusDistribution().getData();
@@ -75,7 +87,7 @@ public class DefaultStatsFacade implements StatsFacade {
         List<TopJobDto> topJobs = getTopJobsByExecution(topJobsLimit).getData();
         List<MinimalCronJobDto> cronJobs = statsService.getAllCronJobsMinimal();
 
-        StatsOverviewDto overview = new StatsOverviewDto(
+        return new StatsOverviewDto(
                 jobStats,
                 jobStatusDistribution,
                 triggerStatusDistribution,
@@ -83,7 +95,6 @@ public class DefaultStatsFacade implements StatsFacade {
                 topJobs,
                 cronJobs
         );
-        return new SuccessDataResult<>(overview, "Overview stats fetched successfully");
     }
 
     @Override
@@ -109,5 +120,11 @@ public class DefaultStatsFacade implements StatsFacade {
         List<TopJobDto> topJobs = statsService.getTopJobsByExecutionCount(limit);
         return new SuccessDataResult<>(topJobs, "Top jobs by execution fetched successfully");
     }
-}
 
+    @Override
+    public DataResult<Integer> backfillRollups() {
+        int rows = executionRollupService.backfill();
+        statsSnapshotCache.invalidate();
+        return new SuccessDataResult<>(rows, "Execution rollups rebuilt successfully");
+    }
+}
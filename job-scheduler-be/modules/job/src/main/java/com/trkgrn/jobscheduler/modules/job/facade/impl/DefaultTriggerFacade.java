@@ -1,15 +1,20 @@
 package com.trkgrn.jobscheduler.modules.job.facade.impl;
 
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
 import com.trkgrn.jobscheduler.modules.job.facade.TriggerFacade;
 import com.trkgrn.jobscheduler.modules.job.mapper.TriggerMapper;
 import com.trkgrn.jobscheduler.modules.job.mapper.helper.TriggerMappingHelper;
 import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+import com.trkgrn.jobscheduler.modules.job.scheduler.ScheduleJitter;
+import com.trkgrn.jobscheduler.modules.job.scheduler.TriggerReconciliationResult;
+import com.trkgrn.jobscheduler.modules.job.service.ScheduleForecastService;
 import com.trkgrn.jobscheduler.modules.job.service.TriggerService;
 import com.trkgrn.jobscheduler.modules.job.service.TriggerSyncService;
 import com.trkgrn.jobscheduler.platform.common.dto.TriggerDto;
 import com.trkgrn.jobscheduler.platform.common.model.exception.NotCreatedException;
 import com.trkgrn.jobscheduler.platform.common.model.exception.NotFoundException;
 import com.trkgrn.jobscheduler.platform.common.model.exception.NotUpdatedException;
+import com.trkgrn.jobscheduler.platform.common.model.exception.NotValidException;
 import com.trkgrn.jobscheduler.platform.common.model.result.DataResult;
 import com.trkgrn.jobscheduler.platform.common.model.result.Result;
 import com.trkgrn.jobscheduler.platform.common.model.result.SuccessDataResult;
@@ -18,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -28,15 +34,21 @@ public class DefaultTriggerFacade implements TriggerFacade {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultTriggerFacade.class);
 
+    private static final int MAX_UPCOMING_FIRE_TIMES = 100;
+    private static final int MAX_FORECAST_HOURS = 168;
+
     private final TriggerService triggerService;
     private final TriggerSyncService triggerSyncService;
+    private final ScheduleForecastService scheduleForecastService;
     private final TriggerMapper triggerMapper;
     private final TriggerMappingHelper triggerMappingHelper;
 
     public DefaultTriggerFacade(TriggerService triggerService, TriggerSyncService triggerSyncService,
+                               ScheduleForecastService scheduleForecastService,
                                TriggerMapper triggerMapper, TriggerMappingHelper triggerMappingHelper) {
         this.triggerService = triggerService;
         this.triggerSyncService = triggerSyncService;
+        this.scheduleForecastService = scheduleForecastService;
         this.triggerMapper = triggerMapper;
         this.triggerMappingHelper = triggerMappingHelper;
     }
@@ -69,6 +81,8 @@ public class DefaultTriggerFacade implements TriggerFacade {
 
     @Override
     public DataResult<TriggerDto> create(TriggerDto triggerDto) {
+        validateJitter(triggerDto);
+        validateTimeout(triggerDto);
         TriggerModel triggerModel = triggerMappingHelper.toEntityWithCronJob(triggerDto);
         TriggerModel savedTrigger = triggerService.create(triggerModel);
         
@@ -84,6 +98,8 @@ public class DefaultTriggerFacade implements TriggerFacade {
     public DataResult<TriggerDto> update(Long id, TriggerDto triggerDto) {
         TriggerModel existingTrigger = triggerService.findById(id)
                 .orElseThrow(() -> new NotFoundException("Trigger not found with id: " + id));
+        validateJitter(triggerDto);
+        validateTimeout(triggerDto);
         
         triggerMappingHelper.updateEntityWithCronJob(triggerDto, existingTrigger);
         existingTrigger.setId(id);
@@ -140,6 +156,30 @@ public class DefaultTriggerFacade implements TriggerFacade {
         return new SuccessDataResult<>(response, "Next fire time fetched successfully");
     }
 
+    @Override
+    public DataResult<Map<Long, List<OffsetDateTime>>> getUpcomingFireTimes(int count) {
+        if (count < 1 || count > MAX_UPCOMING_FIRE_TIMES) {
+            throw new NotValidException("Count must be between 1 and " + MAX_UPCOMING_FIRE_TIMES);
+        }
+        return new SuccessDataResult<>(triggerService.getUpcomingFireTimes(count), "Upcoming fire times fetched successfully");
+    }
+
+    @Override
+    public DataResult<ScheduleForecastDto> getForecast(int hours, int bucketSeconds, Integer nodes) {
+        if (hours < 1 || hours > MAX_FORECAST_HOURS) {
+            throw new NotValidException("Hours must be between 1 and " + MAX_FORECAST_HOURS);
+        }
+        if (bucketSeconds < 1 || bucketSeconds > hours * 3600) {
+            throw new NotValidException("Bucket size must be between 1 second and the forecast window");
+        }
+        if (nodes != null && nodes < 1) {
+            throw new NotValidException("Nodes must be at least 1");
+        }
+        ScheduleForecastDto forecast = scheduleForecastService.forecast(
+                Duration.ofHours(hours), Duration.ofSeconds(bucketSeconds), nodes);
+        return new SuccessDataResult<>(forecast, "Schedule forecast fetched successfully");
+    }
+
     @Override
     public DataResult<List<TriggerDto>> findReadyToFire() {
         List<TriggerModel> triggers = triggerService.findReadyToFire(OffsetDateTime.now());
@@ -151,12 +191,33 @@ public class DefaultTriggerFacade implements TriggerFacade {
 
     @Override
     public DataResult<Map<String, Object>> syncTriggers() {
-        triggerSyncService.syncAllTriggers();
+        TriggerReconciliationResult result = triggerSyncService.syncAllTriggers();
         Map<String, Object> response = Map.of(
-            "success", true,
-            "message", "Triggers synchronized successfully"
+            "success", result.failed() == 0,
+            "message", result.failed() == 0
+                    ? "Triggers synchronized successfully"
+                    : "Triggers synchronized with " + result.failed() + " failures",
+            "added", result.added(),
+            "updated", result.updated(),
+            "removed", result.removed(),
+            "unchanged", result.unchanged(),
+            "failed", result.failed(),
+            "durationMs", result.durationMillis()
         );
         return new SuccessDataResult<>(response, "Triggers synchronized successfully");
     }
-}
 
+    private void validateJitter(TriggerDto triggerDto) {
+        Integer jitterSeconds = triggerDto.getJitterSeconds();
+        if (jitterSeconds != null && (jitterSeconds < 0 || jitterSeconds > ScheduleJitter.MAX_JITTER_SECONDS)) {
+            throw new NotValidException("Jitter must be between 0 and " + ScheduleJitter.MAX_JITTER_SECONDS + " seconds");
+        }
+    }
+
+    private void validateTimeout(TriggerDto triggerDto) {
+        Integer timeoutSeconds = triggerDto.getTimeoutSeconds();
+        if (timeoutSeconds != null && timeoutSeconds < 0) {
+            throw new NotValidException("Timeout must not be negative (0 uses the CronJob's timeout)");
+        }
+    }
+}
@@ -3,20 +3,21 @@ package com.trkgrn.jobscheduler.modules.job.jobs.example;
 import com.trkgrn.jobscheduler.modules.job.annotation.JobComponent;
 import com.trkgrn.jobscheduler.modules.job.annotation.JobParameter;
 import com.trkgrn.jobscheduler.modules.job.annotation.ParameterType;
-import com.trkgrn.jobscheduler.modules.job.api.AbstractJob;
-import com.trkgrn.jobscheduler.modules.job.api.JobResult;
+import com.trkgrn.jobscheduler.modules.job.api.ChunkedJob;
+import com.trkgrn.jobscheduler.modules.job.api.ItemReader;
+import com.trkgrn.jobscheduler.modules.job.api.ItemWriter;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Data cleanup job that removes old or unnecessary data
  * Demonstrates different parameter types and validation
+ * Runs as a chunked job (one chunk per batch), so a failed cleanup resumes after the last deleted batch
  */
 @JobComponent(
     displayName = "Data Cleanup Job",
@@ -96,7 +97,7 @@ import java.util.Map;
     }
 )
 @Component("dataCleanupJob")
-public class DataCleanupJob extends AbstractJob<CronJobModel> {
+public class DataCleanupJob extends ChunkedJob<CronJobModel, Long, Long> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DataCleanupJob.class);
 
@@ -143,152 +144,88 @@ public class DataCleanupJob extends AbstractJob<CronJobModel> {
         return true;
     }
 
-    @NotNull
     @Override
-    public JobResult execute(@NotNull CronJobModel cronJobModel) {
-        LOG.info("Starting DataCleanupJob execution for CronJob: {}", cronJobModel.getCode());
-        
-        // Extract parameters from parameters JSON
+    protected int getChunkSize(CronJobModel cronJobModel) {
+        return (Integer) cronJobModel.getParameters().getOrDefault("batchSize", 1000);
+    }
+
+    @Override
+    protected ItemReader<Long> createReader(CronJobModel cronJobModel) {
         Map<String, Object> params = cronJobModel.getParameters();
         String cleanupType = (String) params.get("cleanupType");
         Integer retentionDays = (Integer) params.get("retentionDays");
-        Boolean dryRun = (Boolean) params.getOrDefault("dryRun", true);
-        Integer batchSize = (Integer) params.getOrDefault("batchSize", 1000);
-        Boolean backupBeforeDelete = (Boolean) params.getOrDefault("backupBeforeDelete", false);
-        String backupLocation = (String) params.getOrDefault("backupLocation", "/backups/cleanup");
-        String notificationEmail = (String) params.get("notificationEmail");
-        String cleanupSchedule = (String) params.get("cleanupSchedule");
-        String excludeTables = (String) params.get("excludeTables");
-        
+
+        LOG.info("Starting DataCleanupJob execution for CronJob: {}", cronJobModel.getCode());
         LOG.info("Data cleanup parameters:");
         LOG.info("  - Cleanup Type: {}", cleanupType);
         LOG.info("  - Retention Days: {}", retentionDays);
-        LOG.info("  - Dry Run: {}", dryRun);
-        LOG.info("  - Batch Size: {}", batchSize);
-        LOG.info("  - Backup Before Delete: {}", backupBeforeDelete);
-        LOG.info("  - Backup Location: {}", backupLocation);
-        LOG.info("  - Notification Email: {}", notificationEmail);
-        LOG.info("  - Exclude Tables: {}", excludeTables);
+        LOG.info("  - Dry Run: {}", params.getOrDefault("dryRun", true));
+        LOG.info("  - Batch Size: {}", params.getOrDefault("batchSize", 1000));
+        LOG.info("  - Backup Before Delete: {}", params.getOrDefault("backupBeforeDelete", false));
+        LOG.info("  - Backup Location: {}", params.getOrDefault("backupLocation", "/backups/cleanup"));
+        LOG.info("  - Notification Email: {}", params.get("notificationEmail"));
+        LOG.info("  - Exclude Tables: {}", params.get("excludeTables"));
+        LOG.info("Cleaning up {} records older than {} days", cleanupType.toLowerCase(), retentionDays);
 
-        try {
-            int totalRecordsFound = 0;
-            int totalRecordsProcessed = 0;
-            int totalRecordsDeleted = 0;
-            int totalBatches = 0;
-            
-            // Simulate cleanup process based on type
-            switch (cleanupType) {
-                case "LOGS":
-                    totalRecordsFound = simulateLogCleanup(retentionDays, dryRun, batchSize);
-                    break;
-                case "ORDERS":
-                    totalRecordsFound = simulateOrderCleanup(retentionDays, dryRun, batchSize);
-                    break;
-                case "PRODUCTS":
-                    totalRecordsFound = simulateProductCleanup(retentionDays, dryRun, batchSize);
-                    break;
-                case "USERS":
-                    totalRecordsFound = simulateUserCleanup(retentionDays, dryRun, batchSize);
-                    break;
-                case "ALL":
-                    totalRecordsFound = simulateAllDataCleanup(retentionDays, dryRun, batchSize);
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unknown cleanup type: " + cleanupType);
-            }
-            
-            totalBatches = (int) Math.ceil((double) totalRecordsFound / batchSize);
-            totalRecordsProcessed = totalRecordsFound;
-            
-            if (!dryRun) {
-                totalRecordsDeleted = (int) (totalRecordsFound * 0.95); // Simulate 95% success rate
-            }
-            
-            String message = dryRun ? 
-                String.format("Data cleanup preview completed: %d records would be deleted", totalRecordsFound) :
-                String.format("Data cleanup completed: %d records processed, %d deleted", 
-                    totalRecordsProcessed, totalRecordsDeleted);
-            
-            LOG.info("DataCleanupJob completed successfully: {}", message);
-            
-            // Simulate sending notification email
-            if (notificationEmail != null && !notificationEmail.trim().isEmpty()) {
-                LOG.info("Sending cleanup report to: {}", notificationEmail);
-            }
-            
-            Map<String, Object> resultData = new HashMap<>();
-            resultData.put("cleanupType", cleanupType);
-            resultData.put("retentionDays", retentionDays);
-            resultData.put("dryRun", dryRun);
-            resultData.put("totalRecordsFound", totalRecordsFound);
-            resultData.put("totalRecordsProcessed", totalRecordsProcessed);
-            resultData.put("totalRecordsDeleted", totalRecordsDeleted);
-            resultData.put("totalBatches", totalBatches);
-            resultData.put("batchSize", batchSize);
-            resultData.put("backupBeforeDelete", backupBeforeDelete);
-            resultData.put("backupLocation", backupLocation);
-            resultData.put("notificationEmail", notificationEmail != null ? notificationEmail : "N/A");
-            
-            return new JobResult(true, message, resultData);
-
-        } catch (Exception e) {
-            String errorMessage = "Data cleanup failed: " + e.getMessage();
-            LOG.error("DataCleanupJob failed: {}", errorMessage, e);
-            return new JobResult(false, errorMessage, null, e);
-        }
-    }
-    
-    private int simulateLogCleanup(int retentionDays, boolean dryRun, int batchSize) throws InterruptedException {
-        LOG.info("Cleaning up log records older than {} days", retentionDays);
-        int totalRecords = 15000; // Simulate 15k log records
-        return simulateBatchProcessing("logs", totalRecords, dryRun, batchSize);
-    }
-    
-    private int simulateOrderCleanup(int retentionDays, boolean dryRun, int batchSize) throws InterruptedException {
-        LOG.info("Cleaning up order records older than {} days", retentionDays);
-        int totalRecords = 5000; // Simulate 5k order records
-        return simulateBatchProcessing("orders", totalRecords, dryRun, batchSize);
-    }
-    
-    private int simulateProductCleanup(int retentionDays, boolean dryRun, int batchSize) throws InterruptedException {
-        LOG.info("Cleaning up product records older than {} days", retentionDays);
-        int totalRecords = 2000; // Simulate 2k product records
-        return simulateBatchProcessing("products", totalRecords, dryRun, batchSize);
-    }
-    
-    private int simulateUserCleanup(int retentionDays, boolean dryRun, int batchSize) throws InterruptedException {
-        LOG.info("Cleaning up user records older than {} days", retentionDays);
-        int totalRecords = 1000; // Simulate 1k user records
-        return simulateBatchProcessing("users", totalRecords, dryRun, batchSize);
+        return new ExpiredRecordReader(simulatedRecordCount(cleanupType));
     }
-    
-    private int simulateAllDataCleanup(int retentionDays, boolean dryRun, int batchSize) throws InterruptedException {
-        LOG.info("Cleaning up all data older than {} days", retentionDays);
-        int totalRecords = 23000; // Simulate 23k total records
-        return simulateBatchProcessing("all", totalRecords, dryRun, batchSize);
-    }
-    
-    private int simulateBatchProcessing(String dataType, int totalRecords, boolean dryRun, int batchSize) throws InterruptedException {
-        int totalBatches = (int) Math.ceil((double) totalRecords / batchSize);
-        
-        for (int batch = 0; batch < totalBatches; batch++) {
-            int startIndex = batch * batchSize;
-            int endIndex = Math.min(startIndex + batchSize, totalRecords);
-            int batchSizeActual = endIndex - startIndex;
-            
-            LOG.info("Processing {} batch {}/{} (records {}-{})", 
-                    dataType, batch + 1, totalBatches, startIndex + 1, endIndex);
-            
+
+    @Override
+    protected ItemWriter<Long> createWriter(CronJobModel cronJobModel) {
+        Map<String, Object> params = cronJobModel.getParameters();
+        String dataType = ((String) params.get("cleanupType")).toLowerCase();
+        boolean dryRun = (Boolean) params.getOrDefault("dryRun", true);
+        return recordIds -> {
             // Simulate batch processing time
             Thread.sleep(500);
-            
+
             if (dryRun) {
-                LOG.info("DRY RUN: Would delete {} {} records", batchSizeActual, dataType);
+                LOG.info("DRY RUN: Would delete {} {} records (records {}-{})", recordIds.size(), dataType,
+                        recordIds.get(0), recordIds.get(recordIds.size() - 1));
             } else {
-                LOG.info("Deleted {} {} records", batchSizeActual, dataType);
+                LOG.info("Deleted {} {} records (records {}-{})", recordIds.size(), dataType,
+                        recordIds.get(0), recordIds.get(recordIds.size() - 1));
             }
+        };
+    }
+
+    private static int simulatedRecordCount(String cleanupType) {
+        return switch (cleanupType) {
+            case "LOGS" -> 15000; // Simulate 15k log records
+            case "ORDERS" -> 5000; // Simulate 5k order records
+            case "PRODUCTS" -> 2000; // Simulate 2k product records
+            case "USERS" -> 1000; // Simulate 1k user records
+            case "ALL" -> 23000; // Simulate 23k total records
+            default -> throw new IllegalArgumentException("Unknown cleanup type: " + cleanupType);
+        };
+    }
+
+    /**
+     * Reads the IDs of the expired records in key order; the last ID read is the resume position
+     */
+    private static final class ExpiredRecordReader implements ItemReader<Long> {
+
+        private final long totalRecords;
+        private long lastId;
+
+        private ExpiredRecordReader(long totalRecords) {
+            this.totalRecords = totalRecords;
+        }
+
+        @Override
+        public void open(Map<String, Object> state) {
+            Object resumeAfter = state.get("lastId");
+            lastId = resumeAfter instanceof Number number ? number.longValue() : 0;
+        }
+
+        @Override
+        public Long read() {
+            return lastId < totalRecords ? ++lastId : null;
+        }
+
+        @Override
+        public Map<String, Object> saveState() {
+            return Map.of("lastId", lastId);
         }
-        
-        return totalRecords;
     }
 }
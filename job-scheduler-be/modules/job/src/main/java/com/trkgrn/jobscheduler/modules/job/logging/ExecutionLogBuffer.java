@@ -0,0 +1,167 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import ch.qos.logback.classic.Level;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Log buffer of a single execution.
+ * Producers (job threads) only enqueue raw events; the drainer hands them out in batches.
+ * Timestamps are kept as epoch nanos and converted only when a batch is written.
+ */
+final class ExecutionLogBuffer {
+
+    private final long executionId;
+    private final Level requiredLevel;
+    private final int maxPending;
+
+    // Multi-producer queue, drained by the background drainer or on stop
+    private final ConcurrentLinkedQueue<LogEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+
+    // Sequence of the last drained event, starting after the lines already stored; guarded by this
+    private long lastSeq;
+    // Events drained by this buffer; guarded by this
+    private long drainedCount = 0;
+
+    private volatile boolean active = true;
+
+    ExecutionLogBuffer(long executionId, Level requiredLevel, int maxPending, long startSeq) {
+        this.executionId = executionId;
+        this.requiredLevel = requiredLevel;
+        this.maxPending = maxPending;
+        this.lastSeq = startSeq;
+    }
+
+    long getExecutionId() {
+        return executionId;
+    }
+
+    Level getRequiredLevel() {
+        return requiredLevel;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    void deactivate() {
+        active = false;
+    }
+
+    /**
+     * Check if log should be recorded based on log level
+     */
+    boolean accepts(int levelInt) {
+        // Log levels hierarchy: TRACE < DEBUG < INFO < WARN < ERROR
+        return requiredLevel == null || levelInt >= requiredLevel.levelInt;
+    }
+
+    /**
+     * Enqueue an event without blocking
+     *
+     * @return false if the buffer is full and the event was dropped
+     */
+    boolean offer(long epochNanos, Level level, String message) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            return false;
+        }
+        pending.offer(new LogEvent(epochNanos, level, message));
+        return true;
+    }
+
+    /**
+     * Drain pending events in batches of at most batchSize and hand each batch to the consumer.
+     * Sequence numbers are assigned here, so they follow the order in which batches are handed out.
+     *
+     * @return number of drained events
+     */
+    synchronized int drainTo(int batchSize, Consumer<List<LogEvent>> consumer) {
+        int total = 0;
+        while (true) {
+            List<LogEvent> batch = new ArrayList<>(Math.min(batchSize, Math.max(pendingCount.get(), 1)));
+            LogEvent event;
+            while (batch.size() < batchSize && (event = pending.poll()) != null) {
+                event.seq = ++lastSeq;
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                return total;
+            }
+            pendingCount.addAndGet(-batch.size());
+            drainedCount += batch.size();
+            total += batch.size();
+            consumer.accept(batch);
+            if (batch.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Give a drained batch the sequence numbers following afterSeq (a line was stored outside this buffer),
+     * skipping those already handed to lines still pending here; later batches continue after it
+     */
+    synchronized void renumber(List<LogEvent> batch, long afterSeq) {
+        long seq = Math.max(afterSeq, lastSeq);
+        for (LogEvent event : batch) {
+            event.seq = ++seq;
+        }
+        lastSeq = Math.max(lastSeq, seq);
+    }
+
+    synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    synchronized long getDrainedCount() {
+        return drainedCount;
+    }
+
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    static final class LogEvent {
+        private final long epochNanos;
+        private final Level level;
+        private final String message;
+        private long seq;
+
+        LogEvent(long epochNanos, Level level, String message) {
+            this.epochNanos = epochNanos;
+            this.level = level;
+            this.message = message;
+        }
+
+        long seq() {
+            return seq;
+        }
+
+        long epochNanos() {
+            return epochNanos;
+        }
+
+        Level level() {
+            return level;
+        }
+
+        String message() {
+            return message;
+        }
+    }
+
+    static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+}
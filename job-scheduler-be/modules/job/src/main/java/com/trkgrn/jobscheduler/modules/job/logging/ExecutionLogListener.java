@@ -0,0 +1,21 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+
+import java.util.List;
+
+/**
+ * Receives log lines of a running execution as soon as they are flushed to the log table
+ */
+public interface ExecutionLogListener {
+
+    /**
+     * Called on the log drainer thread with lines in sequence order; implementations must not block
+     */
+    void onLogs(List<JobExecutionModel.LogEntry> entries);
+
+    /**
+     * Called once when log collection of the execution has stopped
+     */
+    void onCompleted();
+}
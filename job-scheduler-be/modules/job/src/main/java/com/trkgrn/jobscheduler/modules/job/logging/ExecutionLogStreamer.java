@@ -0,0 +1,240 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Streams log lines of an execution as Server-Sent Events.
+ * Lines already in job_execution_logs are sent first. For an execution collecting logs on this node, lines are
+ * then pushed as the drainer flushes them; for one running on another node (or not started yet) the table is
+ * read after the last sent sequence until the execution reaches a terminal status.
+ * Every stream sends on its own virtual thread and buffers at most stream-max-pending pushed lines, so a slow
+ * or stalled client holds up only its own stream; a stream that falls behind reads the missed lines from the table.
+ */
+@Component
+public class ExecutionLogStreamer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionLogStreamer.class);
+
+    static final String LOG_EVENT = "log";
+    static final String END_EVENT = "end";
+
+    private final JobLogCollector jobLogCollector;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final long streamTimeoutMs;
+    private final int backlogPageSize;
+    private final int maxPendingPerStream;
+    private final long pollIntervalMs;
+
+    private final ThreadFactory senderFactory = Thread.ofVirtual().name("job-log-stream-", 0).factory();
+
+    // Open streams of this node
+    private final Set<LogStream> streams = ConcurrentHashMap.newKeySet();
+
+    public ExecutionLogStreamer(JobLogCollector jobLogCollector,
+                                JobExecutionRepository jobExecutionRepository,
+                                @Value("${job.execution.logs.stream-timeout-ms:1800000}") long streamTimeoutMs,
+                                @Value("${job.execution.logs.batch-size:1000}") int backlogPageSize,
+                                @Value("${job.execution.logs.stream-max-pending:10000}") int maxPendingPerStream,
+                                @Value("${job.execution.logs.stream-poll-interval-ms:1000}") long pollIntervalMs) {
+        this.jobLogCollector = jobLogCollector;
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.backlogPageSize = backlogPageSize;
+        this.maxPendingPerStream = Math.max(1, maxPendingPerStream);
+        this.pollIntervalMs = Math.max(1, pollIntervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streams.forEach(LogStream::close);
+    }
+
+    /**
+     * Open a stream for the execution starting after the given sequence
+     */
+    public SseEmitter stream(Long executionId, long afterSeq) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        LogStream stream = new LogStream(executionId, emitter, afterSeq);
+
+        emitter.onCompletion(stream::close);
+        emitter.onTimeout(stream::close);
+        emitter.onError(e -> stream.close());
+
+        // Register before reading the backlog so no line falls between the two; duplicates are skipped by seq
+        stream.live = jobLogCollector.addListener(executionId, stream);
+        streams.add(stream);
+        senderFactory.newThread(stream::run).start();
+        return emitter;
+    }
+
+    private boolean isFinished(Long executionId) {
+        return jobExecutionRepository.findStatusById(executionId)
+                .map(status -> status != JobExecutionModel.Status.RUNNING && status != JobExecutionModel.Status.QUEUED)
+                .orElse(true);
+    }
+
+    private final class LogStream implements ExecutionLogListener {
+
+        private final Long executionId;
+        private final SseEmitter emitter;
+
+        // Set before the sender starts; false: the execution is not collecting logs on this node
+        private boolean live;
+
+        // Accessed only on the sender thread
+        private long lastSentSeq;
+
+        // Pushed lines not sent yet; guarded by this
+        private final List<JobExecutionModel.LogEntry> pending = new ArrayList<>();
+        private boolean fellBehind;
+        private boolean completed;
+
+        private volatile boolean closed;
+
+        private LogStream(Long executionId, SseEmitter emitter, long afterSeq) {
+            this.executionId = executionId;
+            this.emitter = emitter;
+            this.lastSentSeq = afterSeq;
+        }
+
+        @Override
+        public synchronized void onLogs(List<JobExecutionModel.LogEntry> entries) {
+            if (closed) {
+                return;
+            }
+            if (fellBehind || pending.size() + entries.size() > maxPendingPerStream) {
+                // The lines are in the table already; the sender reads them from there
+                pending.clear();
+                fellBehind = true;
+            } else {
+                pending.addAll(entries);
+            }
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            completed = true;
+            notifyAll();
+        }
+
+        /**
+         * Sender loop of the stream (runs on its own virtual thread)
+         */
+        private void run() {
+            try {
+                sendStored();
+                while (!closed) {
+                    List<JobExecutionModel.LogEntry> batch;
+                    boolean catchUp;
+                    boolean done;
+                    synchronized (this) {
+                        if (pending.isEmpty() && !fellBehind && !completed && !closed) {
+                            wait(pollIntervalMs);
+                        }
+                        batch = new ArrayList<>(pending);
+                        pending.clear();
+                        catchUp = fellBehind;
+                        fellBehind = false;
+                        done = completed;
+                    }
+
+                    if (catchUp) {
+                        sendStored();
+                    }
+                    send(batch);
+                    if (!live) {
+                        // Status first: lines are committed with the terminal status, so the last read sees them all
+                        done = isFinished(executionId);
+                        sendStored();
+                    }
+                    if (done) {
+                        end();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                LOG.warn("Log stream of execution ID: {} failed", executionId, e);
+                emitter.completeWithError(e);
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Send the lines stored after the last sent sequence
+         */
+        private void sendStored() {
+            List<JobExecutionModel.LogEntry> page;
+            do {
+                page = jobLogCollector.getLogs(executionId, lastSentSeq, backlogPageSize);
+                send(page);
+            } while (page.size() == backlogPageSize && !closed);
+        }
+
+        private void send(List<JobExecutionModel.LogEntry> entries) {
+            for (JobExecutionModel.LogEntry entry : entries) {
+                if (closed) {
+                    return;
+                }
+                long seq = entry.getSeq() != null ? entry.getSeq() : 0;
+                if (seq <= lastSentSeq) {
+                    continue;
+                }
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(seq))
+                            .name(LOG_EVENT)
+                            .data(entry));
+                    lastSentSeq = seq;
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private void end() {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(END_EVENT).data(lastSentSeq));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+            close();
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            streams.remove(this);
+            jobLogCollector.removeListener(executionId, this);
+            synchronized (this) {
+                pending.clear();
+                notifyAll();
+            }
+        }
+    }
+}
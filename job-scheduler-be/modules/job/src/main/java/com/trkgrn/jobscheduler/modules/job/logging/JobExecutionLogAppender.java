@@ -6,7 +6,6 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -41,18 +40,9 @@ public class JobExecutionLogAppender extends AppenderBase<ILoggingEvent> {
     @Override
     protected void append(ILoggingEvent event) {
         // Only capture logs if we're in a job execution context
-        String executionId = MDC.get("executionId");
-        if (executionId != null && jobLogCollector != null) {
-            try {
-                Long execId = Long.parseLong(executionId);
-                String level = event.getLevel().levelStr;
-                String message = event.getFormattedMessage();
-                
-                // Add log to collector (JobLogCollector will handle level filtering)
-                jobLogCollector.addLog(execId, level, message);
-            } catch (NumberFormatException e) {
-                // Ignore if executionId is not a valid number
-            }
+        // JobLogCollector resolves the execution of the current thread and handles level filtering
+        if (jobLogCollector != null) {
+            jobLogCollector.capture(event);
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes execution log lines to job_execution_logs with plain JDBC (one multi-row INSERT per drained batch).
+ * Rows are append-only, so there is no entity state to track on the write path.
+ * Sequence numbers are unique per execution; callers outside the logging package append through
+ * {@link JobLogCollector#append}, which uses the execution's buffer while one is active.
+ */
+@Component
+public class JobExecutionLogWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobExecutionLogWriter.class);
+
+    // A taken sequence number skips the row instead of failing (and aborting the caller's transaction);
+    // RETURNING reports the rows actually inserted, which JDBC batch counts do not (rewritten batches report -2)
+    private static final String INSERT_SQL =
+            "INSERT INTO public.job_execution_logs (execution_id, seq, ts, level, message) " +
+            "SELECT ?, l.seq, l.ts::timestamptz, l.level, l.message " +
+            "FROM unnest(?::bigint[], ?::text[], ?::text[], ?::text[]) AS l(seq, ts, level, message) " +
+            "ON CONFLICT (execution_id, seq) DO NOTHING RETURNING seq";
+
+    private static final String APPEND_SQL =
+            "INSERT INTO public.job_execution_logs (execution_id, seq, ts, level, message) " +
+            "SELECT ?, COALESCE(MAX(seq), 0) + 1, ?, ?, ? FROM public.job_execution_logs WHERE execution_id = ? " +
+            "ON CONFLICT (execution_id, seq) DO NOTHING";
+
+    private static final int MAX_APPEND_ATTEMPTS = 3;
+
+    private static final String MAX_SEQ_SQL =
+            "SELECT COALESCE(MAX(seq), 0) FROM public.job_execution_logs WHERE execution_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobExecutionLogWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert a drained batch of log events (the caller handles failures)
+     *
+     * @return events not inserted because their sequence number was taken by a line stored meanwhile
+     */
+    List<ExecutionLogBuffer.LogEvent> writeBatch(long executionId, List<ExecutionLogBuffer.LogEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        Long[] seqs = new Long[events.size()];
+        String[] timestamps = new String[events.size()];
+        String[] levels = new String[events.size()];
+        String[] messages = new String[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            ExecutionLogBuffer.LogEvent event = events.get(i);
+            seqs[i] = event.seq();
+            timestamps[i] = toOffsetDateTime(event.epochNanos()).toString();
+            levels[i] = event.level().levelStr;
+            messages[i] = event.message();
+        }
+
+        Set<Long> inserted = new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            ps.setLong(1, executionId);
+            ps.setArray(2, connection.createArrayOf("bigint", seqs));
+            ps.setArray(3, connection.createArrayOf("text", timestamps));
+            ps.setArray(4, connection.createArrayOf("text", levels));
+            ps.setArray(5, connection.createArrayOf("text", messages));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1)));
+        if (inserted.size() == events.size()) {
+            return List.of();
+        }
+        return events.stream()
+                .filter(event -> !inserted.contains(event.seq()))
+                .toList();
+    }
+
+    /**
+     * Highest sequence number stored for an execution (0 if it has no lines)
+     */
+    long maxSeq(long executionId) {
+        Long maxSeq = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class, executionId);
+        return maxSeq != null ? maxSeq : 0;
+    }
+
+    /**
+     * Append a single line after the last stored one (no log collection is active for the execution on this node)
+     */
+    void append(Long executionId, String level, String message) {
+        try {
+            // Another writer may take the same sequence number; each attempt reads the new maximum
+            for (int attempt = 1; attempt <= MAX_APPEND_ATTEMPTS; attempt++) {
+                int inserted = jdbcTemplate.update(APPEND_SQL, (PreparedStatement ps) -> {
+                    ps.setLong(1, executionId);
+                    ps.setObject(2, OffsetDateTime.now());
+                    ps.setString(3, level);
+                    ps.setString(4, message);
+                    ps.setLong(5, executionId);
+                });
+                if (inserted > 0) {
+                    return;
+                }
+            }
+            LOG.error("Failed to append log line for execution ID: {} (sequence number taken {} times): {}",
+                    executionId, MAX_APPEND_ATTEMPTS, message);
+        } catch (Exception e) {
+            LOG.error("Failed to append log line for execution ID: {}", executionId, e);
+        }
+    }
+
+    private static OffsetDateTime toOffsetDateTime(long epochNanos) {
+        return OffsetDateTime.ofInstant(ExecutionLogBuffer.toInstant(epochNanos), ZoneId.systemDefault());
+    }
+}
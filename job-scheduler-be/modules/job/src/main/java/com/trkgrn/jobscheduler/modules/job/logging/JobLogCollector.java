@@ -1,118 +1,216 @@
 package com.trkgrn.jobscheduler.modules.job.logging;
 
 import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionLogModel;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
-import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 public class JobLogCollector {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(JobLogCollector.class);
-    
-    private final JobExecutionRepository jobExecutionRepository;
-    
-    // Thread-safe storage for logs during job execution
-    private final ConcurrentHashMap<String, List<JobExecutionModel.LogEntry>> executionLogs = new ConcurrentHashMap<>();
-    
+
     private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-    
-    // Track active executions for log collection
-    private final ConcurrentHashMap<String, Boolean> activeExecutions = new ConcurrentHashMap<>();
-    
-    // Track log level for each execution
-    private final ConcurrentHashMap<String, Level> executionLogLevels = new ConcurrentHashMap<>();
-    
+
+    private final JobExecutionLogWriter jobExecutionLogWriter;
+    private final JobExecutionLogRepository jobExecutionLogRepository;
+
+    // Log buffers of active executions
+    private final ConcurrentHashMap<Long, ExecutionLogBuffer> buffers = new ConcurrentHashMap<>();
+
+    // Live listeners (e.g. SSE streams) per execution
+    private final ConcurrentHashMap<Long, List<ExecutionLogListener>> listeners = new ConcurrentHashMap<>();
+
+    // Buffer of the execution running on the current thread (avoids MDC parsing and map lookups per event)
+    private static final ThreadLocal<ExecutionLogBuffer> CURRENT_BUFFER = new ThreadLocal<>();
+
     // Statistics
-    private final AtomicInteger totalLogsCollected = new AtomicInteger(0);
-    private final AtomicInteger filteredLogs = new AtomicInteger(0);
-    
-    public JobLogCollector(JobExecutionRepository jobExecutionRepository) {
-        this.jobExecutionRepository = jobExecutionRepository;
+    private final LongAdder totalLogsCollected = new LongAdder();
+    private final LongAdder filteredLogs = new LongAdder();
+    private final LongAdder droppedLogs = new LongAdder();
+    private final LongAdder lostLogs = new LongAdder();
+
+    // Attempts to place lines whose sequence number was taken by a line stored outside the buffer
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final long flushIntervalMs;
+    private final int batchSize;
+    private final int maxPendingPerExecution;
+
+    private ScheduledExecutorService drainer;
+
+    public JobLogCollector(JobExecutionLogWriter jobExecutionLogWriter,
+                           JobExecutionLogRepository jobExecutionLogRepository,
+                           @Value("${job.execution.logs.flush-interval-ms:200}") long flushIntervalMs,
+                           @Value("${job.execution.logs.batch-size:1000}") int batchSize,
+                           @Value("${job.execution.logs.max-pending-per-execution:100000}") int maxPendingPerExecution) {
+        this.jobExecutionLogWriter = jobExecutionLogWriter;
+        this.jobExecutionLogRepository = jobExecutionLogRepository;
+        this.flushIntervalMs = flushIntervalMs;
+        this.batchSize = batchSize;
+        this.maxPendingPerExecution = maxPendingPerExecution;
     }
-    
+
+    @PostConstruct
+    public void startDrainer() {
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-log-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drainAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopDrainer() {
+        if (drainer != null) {
+            drainer.shutdown();
+        }
+        drainAll();
+    }
+
     /**
      * Start collecting logs for a job execution
      */
     public void startLogCollection(Long executionId, String correlationId) {
         startLogCollection(executionId, correlationId, Level.INFO);
     }
-    
+
     /**
      * Start collecting logs for a job execution with specific log level
      */
     public void startLogCollection(Long executionId, String correlationId, Level logLevel) {
-        String key = executionId.toString();
-        executionLogs.put(key, new CopyOnWriteArrayList<>());
-        activeExecutions.put(key, true);
-        executionLogLevels.put(key, logLevel);
-        
+        // Lines may already be stored (e.g. by the retry scheduler or a dependency); the buffer continues after them
+        long startSeq;
+        try {
+            startSeq = jobExecutionLogWriter.maxSeq(executionId);
+        } catch (Exception e) {
+            logger.warn("Failed to read the last log sequence of execution ID: {}, starting at 0", executionId, e);
+            startSeq = 0;
+        }
+        ExecutionLogBuffer buffer = new ExecutionLogBuffer(executionId, logLevel, maxPendingPerExecution, startSeq);
+        buffers.put(executionId, buffer);
+        CURRENT_BUFFER.set(buffer);
+
         // Set correlation ID in MDC for this thread
         MDC.put("correlationId", correlationId);
         MDC.put("executionId", executionId.toString());
-        
-        logger.info("Started log collection for execution ID: {} with correlation ID: {} and log level: {}", 
+
+        logger.info("Started log collection for execution ID: {} with correlation ID: {} and log level: {}",
                 executionId, correlationId, logLevel);
     }
-    
+
+    /**
+     * Capture a logging event for the execution running on the current thread (called by the log appender)
+     */
+    void capture(ILoggingEvent event) {
+        ExecutionLogBuffer buffer = CURRENT_BUFFER.get();
+        if (buffer == null) {
+            // Slow path: thread was not started by the collector but carries the MDC (e.g. job-spawned threads)
+            String executionId = MDC.get("executionId");
+            if (executionId == null) {
+                return;
+            }
+            try {
+                buffer = buffers.get(Long.parseLong(executionId));
+            } catch (NumberFormatException e) {
+                // Ignore if executionId is not a valid number
+                return;
+            }
+            if (buffer == null) {
+                return;
+            }
+        } else if (!buffer.isActive()) {
+            CURRENT_BUFFER.remove();
+            return;
+        }
+        // Check the level before formatting so filtered events cost no message formatting
+        if (!buffer.accepts(event.getLevel().levelInt)) {
+            filteredLogs.increment();
+            return;
+        }
+        enqueue(buffer, ExecutionLogBuffer.epochNanos(event.getInstant()), event.getLevel(), event.getFormattedMessage());
+    }
+
     /**
      * Add a log entry for the current execution
      */
     public void addLog(Long executionId, String level, String message) {
-        String key = executionId.toString();
-        List<JobExecutionModel.LogEntry> logs = executionLogs.get(key);
-        Level requiredLevel = executionLogLevels.get(key);
-        
-        if (logs != null && activeExecutions.getOrDefault(key, false)) {
-            // Check if log level meets the requirement
-            Level logLevel = Level.toLevel(level, Level.INFO);
-            if (shouldLog(logLevel, requiredLevel)) {
-                JobExecutionModel.LogEntry logEntry = new JobExecutionModel.LogEntry(
-                    OffsetDateTime.now().format(TIMESTAMP_FORMATTER),
-                    level,
-                    message
-                );
-                
-                logs.add(logEntry);
-                totalLogsCollected.incrementAndGet();
-                
-                // Also log to console with correlation ID (only for important logs to avoid spam)
-                if (Level.ERROR.levelStr.equals(level) || Level.WARN.levelStr.equals(level)) {
-                    logger.info("[EXECUTION-{}] {}: {}", executionId, level, message);
-                }
-            } else {
-                filteredLogs.incrementAndGet();
+        ExecutionLogBuffer buffer = buffers.get(executionId);
+        if (buffer == null || !buffer.isActive()) {
+            return;
+        }
+
+        Level logLevel = Level.toLevel(level, Level.INFO);
+        if (enqueue(buffer, ExecutionLogBuffer.epochNanos(Instant.now()), logLevel, message)) {
+            // Also log to console with correlation ID (only for important logs to avoid spam)
+            if (Level.ERROR.levelStr.equals(level) || Level.WARN.levelStr.equals(level)) {
+                logger.info("[EXECUTION-{}] {}: {}", executionId, level, message);
             }
         }
     }
-    
+
+    private boolean enqueue(ExecutionLogBuffer buffer, long epochNanos, Level level, String message) {
+        // Check if log level meets the requirement
+        if (!buffer.accepts(level.levelInt)) {
+            filteredLogs.increment();
+            return false;
+        }
+        if (!buffer.offer(epochNanos, level, message)) {
+            droppedLogs.increment();
+            return false;
+        }
+        totalLogsCollected.increment();
+        return true;
+    }
+
     /**
-     * Check if log should be recorded based on log level
+     * Append a line to the log of any execution (e.g. from schedulers or cleanup).
+     * While log collection for the execution is active on this node the line goes through its buffer,
+     * so it shares the buffer's sequence numbers; otherwise it is stored directly after the last line.
+     * Unlike addLog, the execution's log level does not filter the line.
      */
-    private boolean shouldLog(Level logLevel, Level requiredLevel) {
-        if (requiredLevel == null) {
-            return true; // If no level specified, log everything
+    public void append(Long executionId, String level, String message) {
+        ExecutionLogBuffer buffer = buffers.get(executionId);
+        if (buffer != null && buffer.isActive()
+                && buffer.offer(ExecutionLogBuffer.epochNanos(Instant.now()), Level.toLevel(level, Level.INFO), message)) {
+            totalLogsCollected.increment();
+            return;
         }
-        
-        // Log levels hierarchy: TRACE < DEBUG < INFO < WARN < ERROR
-        return logLevel.levelInt >= requiredLevel.levelInt;
+        jobExecutionLogWriter.append(executionId, level, message);
     }
-    
+
     /**
      * Add a log entry for the current execution (overloaded for convenience)
      */
     public void addLog(String level, String message) {
+        ExecutionLogBuffer buffer = CURRENT_BUFFER.get();
+        if (buffer != null) {
+            addLog(buffer.getExecutionId(), level, message);
+            return;
+        }
         String executionId = MDC.get("executionId");
         if (executionId != null) {
             try {
@@ -122,127 +220,235 @@ public class JobLogCollector {
             }
         }
     }
-    
+
     /**
      * Add a log entry for the current execution with automatic level detection
      */
     public void addLog(String message) {
         addLog("INFO", message);
     }
-    
+
     /**
      * Add a debug log entry for the current execution
      */
     public void addDebugLog(String message) {
         addLog("DEBUG", message);
     }
-    
+
     /**
      * Add a warn log entry for the current execution
      */
     public void addWarnLog(String message) {
         addLog("WARN", message);
     }
-    
+
     /**
      * Add an error log entry for the current execution
      */
     public void addErrorLog(String message) {
         addLog("ERROR", message);
     }
-    
+
+    /**
+     * Drain pending events of all active executions in batches (runs on the drainer thread)
+     */
+    private void drainAll() {
+        for (ExecutionLogBuffer buffer : buffers.values()) {
+            try {
+                flush(buffer);
+            } catch (Exception e) {
+                logger.error("Failed to drain logs for execution ID: {}", buffer.getExecutionId(), e);
+            }
+        }
+    }
+
+    private int flush(ExecutionLogBuffer buffer) {
+        return buffer.drainTo(batchSize, batch -> {
+            if (write(buffer, batch)) {
+                notifyListeners(buffer.getExecutionId(), batch);
+            }
+        });
+    }
+
     /**
-     * Stop collecting logs and persist them to database
+     * Write a drained batch; lines whose sequence number was taken meanwhile (a line appended from another
+     * node) are renumbered after the last stored line. Never throws, so the job is not failed by log persistence.
+     *
+     * @return false if the batch could not be written
+     */
+    private boolean write(ExecutionLogBuffer buffer, List<ExecutionLogBuffer.LogEvent> batch) {
+        long executionId = buffer.getExecutionId();
+        List<ExecutionLogBuffer.LogEvent> remaining = batch;
+        try {
+            for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS && !remaining.isEmpty(); attempt++) {
+                remaining = jobExecutionLogWriter.writeBatch(executionId, remaining);
+                if (!remaining.isEmpty()) {
+                    buffer.renumber(remaining, jobExecutionLogWriter.maxSeq(executionId));
+                }
+            }
+            if (remaining.isEmpty()) {
+                return true;
+            }
+            reportLost(executionId, remaining.size(), null);
+        } catch (Exception e) {
+            // Part of the batch may be stored; the marker line records the gap
+            reportLost(executionId, remaining.size(), e);
+        }
+        return false;
+    }
+
+    private void reportLost(long executionId, int lineCount, Exception cause) {
+        lostLogs.add(lineCount);
+        logger.error("Failed to persist {} log lines for execution ID: {}", lineCount, executionId, cause);
+        jobExecutionLogWriter.append(executionId, "ERROR", "Up to " + lineCount + " log lines could not be persisted");
+    }
+
+    private void notifyListeners(long executionId, List<ExecutionLogBuffer.LogEvent> batch) {
+        List<ExecutionLogListener> executionListeners = listeners.get(executionId);
+        if (executionListeners == null || executionListeners.isEmpty()) {
+            return;
+        }
+        // Lines are formatted only when someone is listening
+        List<JobExecutionModel.LogEntry> entries = new ArrayList<>(batch.size());
+        for (ExecutionLogBuffer.LogEvent event : batch) {
+            entries.add(new JobExecutionModel.LogEntry(
+                    OffsetDateTime.ofInstant(ExecutionLogBuffer.toInstant(event.epochNanos()), ZoneId.systemDefault())
+                            .format(TIMESTAMP_FORMATTER),
+                    event.level().levelStr,
+                    event.message(),
+                    event.seq()
+            ));
+        }
+        for (ExecutionLogListener listener : executionListeners) {
+            try {
+                listener.onLogs(entries);
+            } catch (Exception e) {
+                logger.warn("Log listener failed for execution ID: {}", executionId, e);
+            }
+        }
+    }
+
+    /**
+     * Register a listener for lines of a running execution
+     *
+     * @return false if log collection for the execution is not active (listener is not registered)
+     */
+    public boolean addListener(Long executionId, ExecutionLogListener listener) {
+        listeners.compute(executionId, (id, executionListeners) -> {
+            List<ExecutionLogListener> result = executionListeners != null ? executionListeners : new CopyOnWriteArrayList<>();
+            result.add(listener);
+            return result;
+        });
+        if (!buffers.containsKey(executionId)) {
+            removeListener(executionId, listener);
+            return false;
+        }
+        return true;
+    }
+
+    public void removeListener(Long executionId, ExecutionLogListener listener) {
+        listeners.computeIfPresent(executionId, (id, executionListeners) -> {
+            executionListeners.remove(listener);
+            return executionListeners.isEmpty() ? null : executionListeners;
+        });
+    }
+
+    /**
+     * Stop collecting logs and flush the remaining lines to the log table
      * This method is idempotent - can be called multiple times safely
      */
-    public void stopLogCollectionAndPersist(Long executionId, JobExecutionModel execution) {
-        String key = executionId.toString();
-        
-        // Check if log collection is still active for this execution
-        boolean wasActive = activeExecutions.containsKey(key);
-        
-        // Get logs (remove from map only if collection was active)
-        List<JobExecutionModel.LogEntry> logs = wasActive ? executionLogs.remove(key) : null;
-        
-        // Only remove from active executions if it was active
-        if (wasActive) {
-            activeExecutions.remove(key);
-        }
-        
-        Level logLevel = executionLogLevels.remove(key);
-        
-        if (logs != null && !logs.isEmpty()) {
-            // Set logs to execution entity (don't save here to avoid version conflict)
-            // Only set if execution doesn't already have logs (to avoid overwriting)
-            if (execution.getLogs() == null || execution.getLogs().isEmpty()) {
-                execution.setLogs(new ArrayList<>(logs));
-                logger.info("Collected {} log entries for execution ID: {} (Log level: {}, Total collected: {}, Filtered: {})", 
-                        logs.size(), executionId, logLevel, totalLogsCollected.get(), filteredLogs.get());
+    public void stopLogCollectionAndPersist(Long executionId) {
+        ExecutionLogBuffer buffer = buffers.remove(executionId);
+
+        if (buffer != null) {
+            buffer.deactivate();
+            if (CURRENT_BUFFER.get() == buffer) {
+                CURRENT_BUFFER.remove();
+            }
+            // Flush whatever the drainer has not picked up yet
+            flush(buffer);
+
+            List<ExecutionLogListener> executionListeners = listeners.remove(executionId);
+            if (executionListeners != null) {
+                executionListeners.forEach(ExecutionLogListener::onCompleted);
+            }
+
+            long lineCount = buffer.getDrainedCount();
+            if (lineCount > 0) {
+                logger.info("Persisted {} log lines for execution ID: {} (Log level: {}, Total collected: {}, Filtered: {}, Dropped: {}, Lost: {})",
+                        lineCount, executionId, buffer.getRequiredLevel(), totalLogsCollected.sum(), filteredLogs.sum(), droppedLogs.sum(),
+                        lostLogs.sum());
             } else {
-                // Execution already has logs (from previous call), merge them
-                List<JobExecutionModel.LogEntry> existingLogs = execution.getLogs();
-                List<JobExecutionModel.LogEntry> mergedLogs = new ArrayList<>(existingLogs);
-                mergedLogs.addAll(logs);
-                execution.setLogs(mergedLogs);
-                logger.info("Merged {} new log entries with {} existing entries for execution ID: {} (Total: {})", 
-                        logs.size(), existingLogs.size(), executionId, mergedLogs.size());
+                // Log collection was active but no logs found
+                logger.warn("No logs found for execution ID: {} (Log level: {})", executionId, buffer.getRequiredLevel());
             }
-        } else if (wasActive) {
-            // Log collection was active but no logs found
-            logger.warn("No logs found for execution ID: {} (Log level: {})", executionId, logLevel);
         } else {
             // Log collection was already stopped (idempotent call)
-            if (execution.getLogs() == null || execution.getLogs().isEmpty()) {
-                logger.debug("Log collection already stopped for execution ID: {} (no logs found)", executionId);
-            } else {
-                logger.debug("Log collection already stopped for execution ID: {} (execution has {} log entries)", 
-                        executionId, execution.getLogs().size());
-            }
+            logger.debug("Log collection already stopped for execution ID: {}", executionId);
         }
-        
+
         // Clear MDC
         MDC.clear();
     }
-    
+
     /**
-     * Get logs for an execution (from memory if still collecting, from DB if persisted)
+     * Get logs for an execution (pending lines of a running execution are flushed first)
      */
     public List<JobExecutionModel.LogEntry> getLogs(Long executionId) {
-        String key = executionId.toString();
-        List<JobExecutionModel.LogEntry> logs = executionLogs.get(key);
-        
-        if (logs != null) {
-            return new ArrayList<>(logs);
+        ExecutionLogBuffer buffer = buffers.get(executionId);
+        if (buffer != null) {
+            flush(buffer);
         }
-        
-        // If not in memory, get from database
-        return jobExecutionRepository.findById(executionId)
-                .map(JobExecutionModel::getLogs)
-                .orElse(new ArrayList<>());
+
+        return jobExecutionLogRepository.findByExecutionIdOrderBySeqAsc(executionId).stream()
+                .map(JobLogCollector::toLogEntry)
+                .toList();
     }
-    
+
+    /**
+     * Get log lines with a sequence greater than afterSeq (incremental fetch)
+     */
+    public List<JobExecutionModel.LogEntry> getLogs(Long executionId, long afterSeq, int limit) {
+        ExecutionLogBuffer buffer = buffers.get(executionId);
+        if (buffer != null) {
+            flush(buffer);
+        }
+
+        return jobExecutionLogRepository.findByExecutionIdAndSeqGreaterThanOrderBySeqAsc(executionId, afterSeq, Limit.of(limit)).stream()
+                .map(JobLogCollector::toLogEntry)
+                .toList();
+    }
+
+    static JobExecutionModel.LogEntry toLogEntry(JobExecutionLogModel log) {
+        return new JobExecutionModel.LogEntry(
+                log.getTs() != null ? log.getTs().format(TIMESTAMP_FORMATTER) : null,
+                log.getLevel(),
+                log.getMessage(),
+                log.getSeq()
+        );
+    }
+
     /**
      * Get statistics about log collection
      */
     public String getStatistics() {
-        return String.format("Active executions: %d, Total logs collected: %d, Filtered logs: %d", 
-                activeExecutions.size(), totalLogsCollected.get(), filteredLogs.get());
+        return String.format("Active executions: %d, Total logs collected: %d, Filtered logs: %d, Dropped logs: %d, Lost logs: %d",
+                buffers.size(), totalLogsCollected.sum(), filteredLogs.sum(), droppedLogs.sum(), lostLogs.sum());
     }
-    
+
     /**
      * Check if log collection is active for an execution
      */
     public boolean isLogCollectionActive(Long executionId) {
-        return activeExecutions.getOrDefault(executionId.toString(), false);
+        ExecutionLogBuffer buffer = buffers.get(executionId);
+        return buffer != null && buffer.isActive();
     }
-    
+
     /**
      * Get current log count for an execution
      */
     public int getLogCount(Long executionId) {
-        String key = executionId.toString();
-        List<JobExecutionModel.LogEntry> logs = executionLogs.get(key);
-        return logs != null ? logs.size() : 0;
+        ExecutionLogBuffer buffer = buffers.get(executionId);
+        return buffer != null ? (int) buffer.getLastSeq() + buffer.getPendingCount() : 0;
     }
 }
-
@@ -0,0 +1,91 @@
+package com.trkgrn.jobscheduler.modules.job.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves logs stored in the legacy job_executions.logs jsonb column into job_execution_logs.
+ * Runs on startup and is a no-op once the column is empty (or does not exist).
+ * Copy and clear run in one transaction over the locked executions, so a line is cleared only once it is copied.
+ * Lines appended to such an execution before the migration (e.g. by the startup cleanup) are renumbered
+ * after the legacy ones, which keep their original order ahead of them.
+ */
+@Component
+public class LegacyExecutionLogMigration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LegacyExecutionLogMigration.class);
+
+    private static final String COLUMN_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = 'public' AND table_name = 'job_executions' AND column_name = 'logs'";
+
+    private static final String LOCK_SQL =
+            "SELECT COUNT(*) FROM (SELECT id FROM public.job_executions WHERE logs IS NOT NULL FOR UPDATE) legacy";
+
+    // Two steps, so no intermediate sequence number collides with one not moved yet
+    private static final String SHIFT_OUT_SQL =
+            "UPDATE public.job_execution_logs l SET seq = -l.seq FROM public.job_executions je " +
+            "WHERE l.execution_id = je.id AND je.logs IS NOT NULL AND jsonb_typeof(je.logs) = 'array'";
+
+    private static final String SHIFT_IN_SQL =
+            "UPDATE public.job_execution_logs l SET seq = jsonb_array_length(je.logs) - l.seq FROM public.job_executions je " +
+            "WHERE l.execution_id = je.id AND l.seq < 0 AND je.logs IS NOT NULL AND jsonb_typeof(je.logs) = 'array'";
+
+    private static final String COPY_SQL =
+            "INSERT INTO public.job_execution_logs (execution_id, seq, ts, level, message) " +
+            "SELECT je.id, e.ordinality, COALESCE((e.value ->> 'timestamp')::timestamptz, je.started_at, now()), " +
+            "       COALESCE(e.value ->> 'level', 'INFO'), e.value ->> 'message' " +
+            "FROM public.job_executions je " +
+            "CROSS JOIN LATERAL jsonb_array_elements(je.logs) WITH ORDINALITY AS e(value, ordinality) " +
+            "WHERE je.logs IS NOT NULL AND jsonb_typeof(je.logs) = 'array'";
+
+    private static final String CLEAR_SQL =
+            "UPDATE public.job_executions SET logs = NULL WHERE logs IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public LegacyExecutionLogMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Integer columnCount = jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Integer.class);
+            if (columnCount == null || columnCount == 0) {
+                return;
+            }
+
+            int[] result = transactionTemplate.execute(new TransactionCallback<int[]>() {
+                @Override
+                public int[] doInTransaction(TransactionStatus status) {
+                    Integer locked = jdbcTemplate.queryForObject(LOCK_SQL, Integer.class);
+                    if (locked == null || locked == 0) {
+                        return new int[] {0, 0};
+                    }
+                    jdbcTemplate.update(SHIFT_OUT_SQL);
+                    jdbcTemplate.update(SHIFT_IN_SQL);
+                    int copied = jdbcTemplate.update(COPY_SQL);
+                    int cleared = jdbcTemplate.update(CLEAR_SQL);
+                    return new int[] {copied, cleared};
+                }
+            });
+            if (result != null && (result[0] > 0 || result[1] > 0)) {
+                LOG.info("Migrated {} legacy log lines from {} executions into job_execution_logs", result[0], result[1]);
+            }
+        } catch (Exception e) {
+            // The transaction rolled back; legacy logs stay in place and are migrated on the next startup
+            LOG.error("Failed to migrate legacy execution logs", e);
+        }
+    }
+}
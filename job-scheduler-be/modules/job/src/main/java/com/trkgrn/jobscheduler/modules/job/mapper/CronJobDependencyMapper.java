@@ -0,0 +1,26 @@
+package com.trkgrn.jobscheduler.modules.job.mapper;
+
+import com.trkgrn.jobscheduler.modules.job.model.CronJobDependencyModel;
+import com.trkgrn.jobscheduler.platform.common.dto.CronJobDependencyDto;
+import org.mapstruct.*;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = MappingConstants.ComponentModel.SPRING)
+public interface CronJobDependencyMapper {
+
+    @Mapping(source = "upstream.id", target = "upstreamCronJobId")
+    @Mapping(source = "upstream.code", target = "upstreamCronJobCode")
+    @Mapping(source = "downstream.id", target = "downstreamCronJobId")
+    @Mapping(source = "downstream.code", target = "downstreamCronJobCode")
+    @Mapping(source = "createdAt", target = "createdAt", qualifiedByName = "localDateTimeToOffsetDateTime")
+    @Mapping(source = "updatedAt", target = "updatedAt", qualifiedByName = "localDateTimeToOffsetDateTime")
+    CronJobDependencyDto toDto(CronJobDependencyModel entity);
+
+    @Named("localDateTimeToOffsetDateTime")
+    default OffsetDateTime localDateTimeToOffsetDateTime(LocalDateTime localDateTime) {
+        return localDateTime != null ? localDateTime.atOffset(ZoneOffset.UTC) : null;
+    }
+}
@@ -2,13 +2,11 @@ package com.trkgrn.jobscheduler.modules.job.mapper;
 
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.platform.common.dto.JobExecutionDto;
-import com.trkgrn.jobscheduler.platform.common.dto.LogEntryDto;
 import org.mapstruct.*;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.List;
 
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = MappingConstants.ComponentModel.SPRING)
 public interface JobExecutionMapper {
@@ -18,12 +16,12 @@ public interface JobExecutionMapper {
     @Mapping(source = "startedAt", target = "startTime")
     @Mapping(source = "endedAt", target = "endTime")
     @Mapping(source = "attempt", target = "retryCount")
-    @Mapping(source = "logs", target = "logs", qualifiedByName = "logEntriesToDto")
+    @Mapping(target = "logs", ignore = true)
     @Mapping(source = "logLevel", target = "logLevel")
     @Mapping(source = "createdAt", target = "createdAt", qualifiedByName = "localDateTimeToOffsetDateTime")
     @Mapping(source = "updatedAt", target = "updatedAt", qualifiedByName = "localDateTimeToOffsetDateTime")
     @Mapping(target = "duration", ignore = true)
-    @Mapping(target = "result", ignore = true)
+    @Mapping(source = "resultMessage", target = "result")
     @Mapping(target = "errorMessage", ignore = true)
     JobExecutionDto toDto(JobExecutionModel entity);
 
@@ -75,20 +73,6 @@ public interface JobExecutionMapper {
         return offsetDateTime != null ? offsetDateTime.toLocalDateTime() : null;
     }
 
-    @Named("logEntriesToDto")
-    default List<LogEntryDto> logEntriesToDto(List<JobExecutionModel.LogEntry> logEntries) {
-        if (logEntries == null) {
-            return null;
-        }
-        return logEntries.stream()
-                .map(logEntry -> new LogEntryDto(
-                        logEntry.getTimestamp(),
-                        logEntry.getLevel(),
-                        logEntry.getMessage()
-                ))
-                .toList();
-    }
-
     @AfterMapping
     default void calculateDuration(JobExecutionModel entity, @MappingTarget JobExecutionDto dto) {
         if (entity == null || entity.getStartedAt() == null) {
@@ -2,7 +2,8 @@ package com.trkgrn.jobscheduler.modules.job.mapper;
 
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
 import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
-import com.trkgrn.jobscheduler.modules.job.scheduler.QuartzJobScheduler;
+import com.trkgrn.jobscheduler.modules.job.scheduler.NextFireTimeCalculator;
+import com.trkgrn.jobscheduler.modules.job.scheduler.ScheduleJitter;
 import com.trkgrn.jobscheduler.platform.common.dto.CronJobDto;
 import com.trkgrn.jobscheduler.platform.common.dto.TriggerDto;
 import org.mapstruct.*;
@@ -16,13 +17,14 @@ import java.time.ZoneOffset;
 public abstract class TriggerMapper {
 
     @Autowired
-    protected QuartzJobScheduler quartzJobScheduler;
+    protected NextFireTimeCalculator nextFireTimeCalculator;
 
     @Mapping(source = "cronJob.id", target = "cronJobId")
     @Mapping(source = "createdAt", target = "createdAt", qualifiedByName = "localDateTimeToOffsetDateTime")
     @Mapping(source = "updatedAt", target = "updatedAt", qualifiedByName = "localDateTimeToOffsetDateTime")
     @Mapping(source = "cronJob", target = "cronJob", qualifiedByName = "cronJobToDto")
     @Mapping(target = "nextFireTime", ignore = true)
+    @Mapping(target = "jitterOffsetSeconds", ignore = true)
     public abstract TriggerDto toDto(TriggerModel entity);
 
     @Mapping(target = "cronJob", ignore = true)
@@ -56,18 +58,14 @@ public abstract class TriggerMapper {
 
     @AfterMapping
     protected void calculateNextFireTime(TriggerModel entity, @MappingTarget TriggerDto dto) {
+        if (entity != null) {
+            dto.setJitterOffsetSeconds(ScheduleJitter.effectiveOffset(entity));
+        }
+        // Computed from the cron expression (no Quartz call per DTO)
         if (entity != null && entity.getEnabled()) {
-            try {
-                OffsetDateTime nextFireTime = quartzJobScheduler.getNextFireTime(entity);
-                dto.setNextFireTime(nextFireTime);
-            } catch (Exception e) {
-                // Log error but don't fail the mapping
-                System.err.println("Failed to calculate next fire time for trigger " + entity.getId() + ": " + e.getMessage());
-                dto.setNextFireTime(null);
-            }
+            dto.setNextFireTime(nextFireTimeCalculator.nextFireTime(entity));
         } else {
             dto.setNextFireTime(null);
         }
     }
 }
-
@@ -49,6 +49,7 @@ public class CronJobMappingHelper {
         entity.setLastResult(dto.getLastResult());
         entity.setRetryCount(dto.getRetryCount());
         entity.setMaxRetryCount(dto.getMaxRetries());
+        entity.setTimeoutSeconds(dto.getTimeoutSeconds());
         entity.setParameters(dto.getParameters());
 
         if (dto.getLogLevel() != null) {
@@ -80,6 +81,7 @@ public class CronJobMappingHelper {
         if (dto.getLastResult() != null) entity.setLastResult(dto.getLastResult());
         entity.setRetryCount(dto.getRetryCount());
         entity.setMaxRetryCount(dto.getMaxRetries());
+        entity.setTimeoutSeconds(dto.getTimeoutSeconds());
         // Always update parameters - if null, set empty map
         entity.setParameters(dto.getParameters() != null ? dto.getParameters() : new HashMap<>());
 
@@ -6,11 +6,15 @@ import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 @Service
 public class JobMetricsService {
@@ -22,6 +26,9 @@ public class JobMetricsService {
     // Gauges - Active executions
     private final AtomicInteger activeExecutionsCount = new AtomicInteger(0);
 
+    // Gauges - In-flight job bodies per execution mode (platform / virtual)
+    private final ConcurrentHashMap<String, AtomicInteger> inFlightByMode = new ConcurrentHashMap<>();
+
     public JobMetricsService(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
         
@@ -70,6 +77,143 @@ public class JobMetricsService {
         LOG.debug("Job status changed: {} -> {}", oldStatus, newStatus);
     }
 
+    /**
+     * Record that a job body started on the given execution mode
+     */
+    public void recordJobBodyStart(String mode) {
+        inFlightGauge(mode).incrementAndGet();
+    }
+
+    /**
+     * Record job body duration per execution mode; the timer count rate gives throughput per mode
+     */
+    public void recordJobBodyComplete(String mode, String jobName, long durationNanos) {
+        inFlightGauge(mode).decrementAndGet();
+        Timer.builder("job_execution_body_duration")
+                .description("Duration of job bodies by execution mode")
+                .tag("mode", mode)
+                .tag("job_name", jobName != null ? jobName : "unknown")
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record one committed chunk of a chunked job; items / duration gives the chunk throughput
+     */
+    public void recordChunk(String jobName, int items, long durationNanos) {
+        String name = jobName != null ? jobName : "unknown";
+        Timer.builder("job_chunk_duration")
+                .description("Duration of chunked job chunks (read, process, write and checkpoint)")
+                .tag("job_name", name)
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("job_chunk_items_total")
+                .description("Items read by chunked jobs in committed chunks")
+                .tag("job_name", name)
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .increment(items);
+    }
+
+    /**
+     * Record an enforcement step of an exceeded execution budget (action: cancel or interrupt)
+     */
+    public void recordBudgetExceeded(String jobName, String action) {
+        Counter.builder("job_execution_budget_exceeded_total")
+                .description("Executions over their execution budget, by enforcement step")
+                .tag("job_name", jobName != null ? jobName : "unknown")
+                .tag("action", action)
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Record time spent waiting for a concurrency permit before the job body could start
+     */
+    public void recordPermitWait(String mode, String jobName, long waitNanos) {
+        Timer.builder("job_execution_permit_wait")
+                .description("Time spent waiting for a job concurrency permit")
+                .tag("mode", mode)
+                .tag("job_name", jobName != null ? jobName : "unknown")
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record time an execution was queued for admission, per priority class (exported as a histogram)
+     */
+    public void recordAdmissionWait(String priorityClass, long waitNanos) {
+        Timer.builder("job_execution_admission_wait")
+                .description("Time spent queued for admission by priority class")
+                .tag("priority_class", priorityClass)
+                .tag("application", "job-scheduler")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Register the admission queue depth gauge of a priority class
+     */
+    public <T> void registerAdmissionQueue(String priorityClass, T source, ToDoubleFunction<T> queued) {
+        Gauge.builder("job_execution_admission_queued", source, queued)
+                .description("Executions waiting for admission by priority class")
+                .tag("priority_class", priorityClass)
+                .tag("application", "job-scheduler")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a stats snapshot lookup (hit, stale or miss)
+     */
+    public void recordStatsSnapshotLookup(String result) {
+        Counter.builder("stats_snapshot_requests")
+                .description("Stats overview snapshot lookups by result")
+                .tag("result", result)
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Record the time taken to compute a stats snapshot
+     */
+    public void recordStatsSnapshotCompute(long durationNanos) {
+        Timer.builder("stats_snapshot_compute")
+                .description("Time taken to compute a stats overview snapshot")
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a Quartz trigger state lookup (hit or miss of the node-local cache)
+     */
+    public void recordQuartzStateLookup(String result) {
+        Counter.builder("quartz_state_cache_requests")
+                .description("Quartz trigger state lookups by cache result")
+                .tag("result", result)
+                .tag("application", "job-scheduler")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private AtomicInteger inFlightGauge(String mode) {
+        return inFlightByMode.computeIfAbsent(mode, m -> {
+            AtomicInteger counter = new AtomicInteger(0);
+            Gauge.builder("job_execution_inflight", counter, AtomicInteger::get)
+                    .description("Number of job bodies currently running by execution mode")
+                    .tag("mode", m)
+                    .tag("application", "job-scheduler")
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
     public void cleanupExecution(Long executionId) {
         int current = activeExecutionsCount.get();
         if (current > 0) {
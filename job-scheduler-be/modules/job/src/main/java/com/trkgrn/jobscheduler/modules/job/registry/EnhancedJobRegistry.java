@@ -131,7 +131,9 @@ public class EnhancedJobRegistry {
                 annotation.description(),
                 annotation.category(),
                 parameters,
-                isAbortable
+                isAbortable,
+                annotation.maxConcurrent(),
+                annotation.maxConcurrentPerNode()
         );
     }
     
@@ -145,7 +147,9 @@ public class EnhancedJobRegistry {
                 job.getDescription(),
                 "GENERAL",
                 Collections.emptyList(),
-                isAbortable
+                isAbortable,
+                0,
+                0
         );
     }
     
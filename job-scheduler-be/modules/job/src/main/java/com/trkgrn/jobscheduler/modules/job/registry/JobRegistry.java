@@ -1,10 +1,15 @@
 package com.trkgrn.jobscheduler.modules.job.registry;
 
 import com.trkgrn.jobscheduler.modules.job.api.AbortableJob;
+import com.trkgrn.jobscheduler.modules.job.api.ChunkedJob;
 import com.trkgrn.jobscheduler.modules.job.api.Job;
 import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
 import com.trkgrn.jobscheduler.modules.job.api.JobResult;
+import com.trkgrn.jobscheduler.modules.job.api.PartitionedJob;
+import com.trkgrn.jobscheduler.modules.job.executor.PartitionCoordinator;
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.service.JobCheckpointService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -12,7 +17,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * Registry to find and execute job beans by name
- * Supports abortable jobs
+ * Supports abortable, chunked and partitioned jobs
  */
 @Service
 public class JobRegistry {
@@ -21,10 +26,18 @@ public class JobRegistry {
 
     private final ApplicationContext applicationContext;
     private final JobExecutionContext jobExecutionContext;
+    private final JobCheckpointService jobCheckpointService;
+    private final JobMetricsService jobMetricsService;
+    private final PartitionCoordinator partitionCoordinator;
 
-    public JobRegistry(ApplicationContext applicationContext, JobExecutionContext jobExecutionContext) {
+    public JobRegistry(ApplicationContext applicationContext, JobExecutionContext jobExecutionContext,
+                       JobCheckpointService jobCheckpointService, JobMetricsService jobMetricsService,
+                       PartitionCoordinator partitionCoordinator) {
         this.applicationContext = applicationContext;
         this.jobExecutionContext = jobExecutionContext;
+        this.jobCheckpointService = jobCheckpointService;
+        this.jobMetricsService = jobMetricsService;
+        this.partitionCoordinator = partitionCoordinator;
     }
 
     /**
@@ -57,6 +70,16 @@ public class JobRegistry {
                 }
             }
 
+            // Chunked jobs checkpoint every chunk and resume after a failed execution
+            if (job instanceof ChunkedJob) {
+                ((ChunkedJob<CronJobModel, ?, ?>) job).setChunkServices(jobCheckpointService, jobMetricsService);
+            }
+
+            // Partitioned jobs fan out child executions through the work queue
+            if (job instanceof PartitionedJob) {
+                ((PartitionedJob<CronJobModel>) job).setPartitionCoordinator(partitionCoordinator);
+            }
+
             return job.execute(cronJobModel);
         } catch (Exception e) {
             return new JobResult(false, "Failed to execute job: " + cronJobModel.getJobBeanName(), null, e);
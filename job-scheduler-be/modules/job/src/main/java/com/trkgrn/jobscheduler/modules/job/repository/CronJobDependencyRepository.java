@@ -0,0 +1,31 @@
+package com.trkgrn.jobscheduler.modules.job.repository;
+
+import com.trkgrn.jobscheduler.modules.job.model.CronJobDependencyModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CronJobDependencyRepository extends JpaRepository<CronJobDependencyModel, Long> {
+
+    @Query("SELECT d FROM CronJobDependencyModel d JOIN FETCH d.upstream JOIN FETCH d.downstream")
+    List<CronJobDependencyModel> findAllWithCronJobs();
+
+    @Query("SELECT d FROM CronJobDependencyModel d JOIN FETCH d.upstream JOIN FETCH d.downstream " +
+           "WHERE d.upstream.id = :cronJobId OR d.downstream.id = :cronJobId")
+    List<CronJobDependencyModel> findByCronJobId(@Param("cronJobId") Long cronJobId);
+
+    @Query("SELECT d FROM CronJobDependencyModel d JOIN FETCH d.downstream WHERE d.upstream.id = :upstreamId")
+    List<CronJobDependencyModel> findByUpstreamId(@Param("upstreamId") Long upstreamId);
+
+    @Query("SELECT d FROM CronJobDependencyModel d WHERE d.downstream.id = :downstreamId")
+    List<CronJobDependencyModel> findByDownstreamId(@Param("downstreamId") Long downstreamId);
+
+    boolean existsByUpstreamIdAndDownstreamId(Long upstreamId, Long downstreamId);
+
+    @Modifying
+    @Query("DELETE FROM CronJobDependencyModel d WHERE d.upstream.id = :cronJobId OR d.downstream.id = :cronJobId")
+    void deleteByCronJobId(@Param("cronJobId") Long cronJobId);
+}
@@ -2,9 +2,9 @@ package com.trkgrn.jobscheduler.modules.job.repository;
 
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobStatus;
-import jakarta.persistence.LockModeType;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.StatusCountView;
+import com.trkgrn.jobscheduler.platform.common.dto.MinimalCronJobDto;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -26,12 +26,9 @@ public interface CronJobRepository extends JpaRepository<CronJobModel, Long> {
 
     long countByStatus(CronJobStatus status);
 
-    /**
-     * Find CronJob by ID with pessimistic write lock to prevent concurrent execution
-     * This ensures only one execution (manual or scheduled) can run at a time
-     */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM CronJobModel c WHERE c.id = :id")
-    Optional<CronJobModel> findByIdWithLock(@Param("id") Long id);
-}
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM CronJobModel c GROUP BY c.status")
+    List<StatusCountView<CronJobStatus>> countGroupedByStatus();
 
+    @Query("SELECT new com.trkgrn.jobscheduler.platform.common.dto.MinimalCronJobDto(c.id, c.name) FROM CronJobModel c ORDER BY c.id")
+    List<MinimalCronJobDto> findAllMinimal();
+}
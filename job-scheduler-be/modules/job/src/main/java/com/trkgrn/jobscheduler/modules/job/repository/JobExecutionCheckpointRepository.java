@@ -0,0 +1,20 @@
+package com.trkgrn.jobscheduler.modules.job.repository;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionCheckpointModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JobExecutionCheckpointRepository extends JpaRepository<JobExecutionCheckpointModel, Long> {
+
+    Optional<JobExecutionCheckpointModel> findByExecutionId(Long executionId);
+
+    Optional<JobExecutionCheckpointModel> findFirstByJobDefinitionIdAndExecutionIdLessThanOrderByExecutionIdDesc(Long jobDefinitionId, Long executionId);
+
+    @Modifying
+    @Query("DELETE FROM JobExecutionCheckpointModel c WHERE c.executionId = :executionId")
+    void deleteByExecutionId(@Param("executionId") Long executionId);
+}
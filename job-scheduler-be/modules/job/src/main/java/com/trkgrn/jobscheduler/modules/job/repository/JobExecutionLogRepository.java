@@ -0,0 +1,21 @@
+package com.trkgrn.jobscheduler.modules.job.repository;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionLogModel;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobExecutionLogRepository extends JpaRepository<JobExecutionLogModel, Long> {
+
+    List<JobExecutionLogModel> findByExecutionIdOrderBySeqAsc(Long executionId);
+
+    List<JobExecutionLogModel> findByExecutionIdAndSeqGreaterThanOrderBySeqAsc(Long executionId, long afterSeq, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM JobExecutionLogModel l WHERE l.executionId = :executionId")
+    void deleteByExecutionId(@Param("executionId") Long executionId);
+}
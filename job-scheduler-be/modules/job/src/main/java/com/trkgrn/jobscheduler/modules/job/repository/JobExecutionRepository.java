@@ -1,13 +1,17 @@
 package com.trkgrn.jobscheduler.modules.job.repository;
 
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.JobDurationView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobExecutionRepository extends JpaRepository<JobExecutionModel, Long> {
     
@@ -16,18 +20,27 @@ public interface JobExecutionRepository extends JpaRepository<JobExecutionModel,
     List<JobExecutionModel> findByStatus(JobExecutionModel.Status status);
     
     List<JobExecutionModel> findByIsActiveTrue();
-    
+
+    long countByIsActiveTrue();
+
     @Query("SELECT COUNT(je) FROM JobExecutionModel je WHERE je.jobDefinition.id = :jobId AND je.status = :status")
     Long countByJobDefinitionIdAndStatus(@Param("jobId") Long jobId, @Param("status") JobExecutionModel.Status status);
     
     @Query("SELECT COUNT(je) FROM JobExecutionModel je WHERE je.status = :status")
     Long countByStatus(@Param("status") JobExecutionModel.Status status);
-    
-    @Query("SELECT je.jobDefinition.id, COUNT(je) FROM JobExecutionModel je WHERE je.jobDefinition.id IS NOT NULL GROUP BY je.jobDefinition.id ORDER BY COUNT(je) DESC")
-    List<Object[]> countExecutionsByJobId();
-    
-    @Query("SELECT je FROM JobExecutionModel je WHERE je.startedAt >= :startDate ORDER BY je.startedAt ASC")
-    List<JobExecutionModel> findByStartedAtAfter(@Param("startDate") java.time.OffsetDateTime startDate);
+
+    // Top-level counts leave partitions out; they share the job definition of their parent
+    long countByParentExecutionIdIsNull();
+
+    long countByJobDefinitionIdAndParentExecutionIdIsNull(Long jobDefinitionId);
+
+    @Query("SELECT COUNT(je) FROM JobExecutionModel je WHERE je.jobDefinition.id = :jobId AND je.status IN :statuses " +
+           "AND je.parentExecutionId IS NULL")
+    long countTopLevelByJobDefinitionIdAndStatusIn(@Param("jobId") Long jobId,
+                                                   @Param("statuses") Collection<JobExecutionModel.Status> statuses);
+
+    @Query("SELECT COUNT(je) FROM JobExecutionModel je WHERE je.status IN :statuses AND je.parentExecutionId IS NULL")
+    long countTopLevelByStatusIn(@Param("statuses") Collection<JobExecutionModel.Status> statuses);
     
     // Paginated queries
     Page<JobExecutionModel> findByJobDefinitionIdOrderByStartedAtDesc(Long jobDefinitionId, Pageable pageable);
@@ -42,7 +55,32 @@ public interface JobExecutionRepository extends JpaRepository<JobExecutionModel,
     @Query("SELECT je FROM JobExecutionModel je WHERE je.jobDefinition.id = :jobId AND je.status = :status ORDER BY je.startedAt DESC")
     Page<JobExecutionModel> findByJobDefinitionIdAndStatusWithPagination(@Param("jobId") Long jobId, @Param("status") JobExecutionModel.Status status, Pageable pageable);
     
-    @Query("SELECT je FROM JobExecutionModel je WHERE je.jobDefinition.id = :jobId AND je.status = 'RUNNING'")
+    @Query("SELECT je.status FROM JobExecutionModel je WHERE je.id = :id")
+    Optional<JobExecutionModel.Status> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT je.id FROM JobExecutionModel je WHERE je.id IN :ids AND je.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") JobExecutionModel.Status status);
+
+    @Query("SELECT je.id FROM JobExecutionModel je WHERE je.id IN :ids AND je.status IN ('RUNNING', 'QUEUED')")
+    List<Long> findUnfinishedIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Active executions of a job definition: RUNNING and QUEUED behind a concurrency limit (partitions excluded)
+     */
+    @Query("SELECT je FROM JobExecutionModel je WHERE je.jobDefinition.id = :jobId AND je.status IN ('RUNNING', 'QUEUED') " +
+           "AND je.parentExecutionId IS NULL")
     List<JobExecutionModel> findRunningByJobDefinitionId(@Param("jobId") Long jobId);
+
+    List<JobExecutionModel> findByParentExecutionIdOrderByIdAsc(Long parentExecutionId);
+
+    long countByParentExecutionIdAndStatusIn(Long parentExecutionId, Collection<JobExecutionModel.Status> statuses);
+
+    @Query(value = "SELECT job_definition_id AS \"jobId\", " +
+                   "percentile_cont(:percentile) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (ended_at - started_at)) * 1000) AS \"durationMs\" " +
+                   "FROM public.job_executions " +
+                   "WHERE started_at >= :since AND ended_at IS NOT NULL AND job_definition_id IS NOT NULL " +
+                   "AND parent_execution_id IS NULL AND status IN ('SUCCESS', 'FAILED', 'TIMED_OUT') " +
+                   "GROUP BY job_definition_id", nativeQuery = true)
+    List<JobDurationView> findDurationPercentiles(@Param("percentile") double percentile, @Param("since") OffsetDateTime since);
 }
 
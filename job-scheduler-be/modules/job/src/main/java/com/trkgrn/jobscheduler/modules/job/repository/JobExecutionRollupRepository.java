@@ -0,0 +1,36 @@
+package com.trkgrn.jobscheduler.modules.job.repository;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionRollupModel;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.DailyExecutionCountView;
+import com.trkgrn.jobscheduler.platform.common.dto.TopJobDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface JobExecutionRollupRepository extends JpaRepository<JobExecutionRollupModel, Long> {
+
+    @Query(value = "SELECT to_char(bucket_start, 'YYYY-MM-DD') AS day, " +
+                   "CAST(SUM(success_count) AS bigint) AS successful, CAST(SUM(failed_count) AS bigint) AS failed, " +
+                   "CAST(SUM(total_count) AS bigint) AS total " +
+                   "FROM public.job_execution_rollups WHERE granularity = 'DAY' AND bucket_start >= :startDate " +
+                   "GROUP BY bucket_start", nativeQuery = true)
+    List<DailyExecutionCountView> sumDailyCountsSince(@Param("startDate") OffsetDateTime startDate);
+
+    @Query("SELECT new com.trkgrn.jobscheduler.platform.common.dto.TopJobDto(c.id, c.name, SUM(r.totalCount)) " +
+           "FROM JobExecutionRollupModel r JOIN CronJobModel c ON c.id = r.jobDefinitionId " +
+           "WHERE r.granularity = :granularity " +
+           "GROUP BY c.id, c.name ORDER BY SUM(r.totalCount) DESC")
+    List<TopJobDto> findTopJobsByExecutionCount(@Param("granularity") JobExecutionRollupModel.Granularity granularity, Limit limit);
+
+    @Query(value = "SELECT CAST(SUM(success_duration_sum_ms) AS double precision) / NULLIF(SUM(success_duration_count), 0) " +
+                   "FROM public.job_execution_rollups WHERE granularity = 'DAY'", nativeQuery = true)
+    Double averageSuccessfulDurationMillis();
+
+    @Query(value = "SELECT CAST(SUM(success_duration_sum_ms) AS double precision) / NULLIF(SUM(success_duration_count), 0) " +
+                   "FROM public.job_execution_rollups WHERE granularity = 'DAY' AND job_definition_id = :jobId", nativeQuery = true)
+    Double averageSuccessfulDurationMillis(@Param("jobId") Long jobId);
+}
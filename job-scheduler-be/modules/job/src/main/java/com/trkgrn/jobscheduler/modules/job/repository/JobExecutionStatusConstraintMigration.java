@@ -0,0 +1,73 @@
+package com.trkgrn.jobscheduler.modules.job.repository;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Brings the CHECK constraint of job_executions.status in line with JobExecutionModel.Status.
+ * Hibernate creates the constraint with the table, but ddl-auto update never changes it, so statuses added
+ * later (e.g. TIMED_OUT) would be rejected on databases created before them.
+ * Runs once the schema update is done (the EntityManagerFactory exists) and before the scheduler starts;
+ * a no-op when the constraint already allows every status or does not exist.
+ */
+@Component
+public class JobExecutionStatusConstraintMigration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobExecutionStatusConstraintMigration.class);
+
+    private static final String CONSTRAINT_NAME = "job_executions_status_check";
+
+    private static final String CONSTRAINT_DEFINITION_SQL =
+            "SELECT pg_get_constraintdef(c.oid) FROM pg_constraint c " +
+            "JOIN pg_class t ON t.oid = c.conrelid JOIN pg_namespace n ON n.oid = t.relnamespace " +
+            "WHERE n.nspname = 'public' AND t.relname = 'job_executions' AND c.conname = ?";
+
+    // Drop and add in one statement, so the table is never without the constraint
+    private static final String REPLACE_SQL =
+            "ALTER TABLE public.job_executions DROP CONSTRAINT " + CONSTRAINT_NAME + ", " +
+            "ADD CONSTRAINT " + CONSTRAINT_NAME + " CHECK (status IN (%s))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobExecutionStatusConstraintMigration(JdbcTemplate jdbcTemplate,
+                                                 EntityManagerFactory entityManagerFactory) {
+        // The EntityManagerFactory is only a dependency so that Hibernate's schema update runs first
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            List<String> definitions = jdbcTemplate.queryForList(CONSTRAINT_DEFINITION_SQL, String.class, CONSTRAINT_NAME);
+            if (definitions.isEmpty()) {
+                return;
+            }
+            String definition = definitions.get(0);
+            List<String> missing = Arrays.stream(JobExecutionModel.Status.values())
+                    .map(Enum::name)
+                    .filter(status -> !definition.contains("'" + status + "'"))
+                    .toList();
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            String statuses = Arrays.stream(JobExecutionModel.Status.values())
+                    .map(status -> "'" + status.name() + "'")
+                    .collect(Collectors.joining(", "));
+            jdbcTemplate.execute(String.format(REPLACE_SQL, statuses));
+            LOG.info("Replaced {} to allow execution statuses {}", CONSTRAINT_NAME, missing);
+        } catch (Exception e) {
+            // Executions ending with a missing status cannot be stored until the constraint is replaced
+            LOG.error("Failed to update {}; statuses not allowed by it cannot be stored", CONSTRAINT_NAME, e);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.trkgrn.jobscheduler.modules.job.repository;
 
 import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.ForecastTriggerView;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.StatusCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,9 @@ public interface TriggerRepository extends JpaRepository<TriggerModel, Long> {
 
     List<TriggerModel> findByEnabledTrue();
 
+    @Query("SELECT t.enabled AS status, COUNT(t) AS total FROM TriggerModel t GROUP BY t.enabled")
+    List<StatusCountView<Boolean>> countGroupedByEnabled();
+
     List<TriggerModel> findByCronJobId(Long cronJobId);
 
     @Query("SELECT t FROM TriggerModel t WHERE t.enabled = true AND t.nextFireTime <= :now")
@@ -25,10 +31,28 @@ public interface TriggerRepository extends JpaRepository<TriggerModel, Long> {
     @Query("SELECT t FROM TriggerModel t LEFT JOIN FETCH t.cronJob WHERE t.enabled = true")
     List<TriggerModel> findByEnabledTrueWithCronJob();
 
+    @Query("SELECT t.id AS id, c.id AS cronJobId, t.cronExpression AS cronExpression, t.timezone AS timeZoneId, " +
+           "t.startTime AS startTime, t.endTime AS endTime, t.fireCount AS fireCount, t.maxFireCount AS maxFireCount, " +
+           "t.jitterSeconds AS jitterSeconds " +
+           "FROM TriggerModel t JOIN t.cronJob c WHERE t.enabled = true AND c.enabled = true")
+    List<ForecastTriggerView> findSchedulableForForecast();
+
     @Modifying
     @Query("DELETE FROM TriggerModel t WHERE t.cronJob.id = :cronJobId")
     void deleteByCronJobId(@Param("cronJobId") Long cronJobId);
 
     Optional<TriggerModel> findByQuartzTriggerKey(String quartzTriggerKey);
+
+    @Query("SELECT t.timeoutSeconds FROM TriggerModel t WHERE t.id = :id")
+    Optional<Integer> findTimeoutSecondsById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE public.triggers SET quartz_trigger_key = 'trigger-' || id " +
+            "WHERE id IN (:ids) AND quartz_trigger_key IS DISTINCT FROM 'trigger-' || id", nativeQuery = true)
+    int markScheduled(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE TriggerModel t SET t.quartzTriggerKey = NULL WHERE t.quartzTriggerKey IN :keys")
+    int clearQuartzTriggerKeys(@Param("keys") Collection<String> keys);
 }
 
@@ -0,0 +1,11 @@
+package com.trkgrn.jobscheduler.modules.job.repository.projection;
+
+/**
+ * Execution counts of a single day (day formatted as yyyy-MM-dd)
+ */
+public interface DailyExecutionCountView {
+    String getDay();
+    long getSuccessful();
+    long getFailed();
+    long getTotal();
+}
@@ -0,0 +1,18 @@
+package com.trkgrn.jobscheduler.modules.job.repository.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Trigger columns needed to project its fire times
+ */
+public interface ForecastTriggerView {
+    Long getId();
+    Long getCronJobId();
+    String getCronExpression();
+    String getTimeZoneId();
+    OffsetDateTime getStartTime();
+    OffsetDateTime getEndTime();
+    long getFireCount();
+    Long getMaxFireCount();
+    int getJitterSeconds();
+}
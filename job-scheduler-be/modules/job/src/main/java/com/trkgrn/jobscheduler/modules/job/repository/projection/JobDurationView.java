@@ -0,0 +1,9 @@
+package com.trkgrn.jobscheduler.modules.job.repository.projection;
+
+/**
+ * Duration percentile (ms) of the finished executions of a job
+ */
+public interface JobDurationView {
+    Long getJobId();
+    Double getDurationMs();
+}
@@ -0,0 +1,9 @@
+package com.trkgrn.jobscheduler.modules.job.repository.projection;
+
+/**
+ * Row of a GROUP BY status query
+ */
+public interface StatusCountView<S> {
+    S getStatus();
+    long getTotal();
+}
@@ -0,0 +1,101 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.util.NodeIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Execution admission by lease instead of a pessimistic cron_jobs row lock.
+ * A single conditional UPDATE marks the CronJob RUNNING for this node until lease_until, unless a valid lease is
+ * held already; lock waits are gone and admin edits of the row are not blocked by admission.
+ * The node renews the leases of its in-flight executions with the execution heartbeat (ExecutionHeartbeat);
+ * a lease of a crashed node simply expires.
+ * Times come from the database clock, so node clock skew does not matter.
+ */
+@Component
+public class CronJobLeaseManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CronJobLeaseManager.class);
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE public.cron_jobs c SET status = 'RUNNING', lease_owner = ?, " +
+            "lease_until = now() + CAST(? AS double precision) * interval '1 millisecond', " +
+            "last_start_time = now(), version = c.version + 1 " +
+            "WHERE c.id = ? AND c.enabled = true " +
+            "AND (c.status <> 'RUNNING' OR c.lease_until IS NULL OR c.lease_until < now())";
+
+    // Fires and manual runs do not overtake a queued execution of the same job
+    private static final String NOTHING_QUEUED_SQL =
+            " AND NOT EXISTS (SELECT 1 FROM public.job_executions je " +
+            "WHERE je.job_definition_id = c.id AND je.status = 'QUEUED' AND je.parent_execution_id IS NULL)";
+
+    private static final String RENEW_SQL =
+            "UPDATE public.cron_jobs SET lease_until = now() + CAST(? AS double precision) * interval '1 millisecond' " +
+            "WHERE lease_owner = ? AND status = 'RUNNING' AND id IN " +
+            "(SELECT je.job_definition_id FROM public.job_executions je WHERE je.status = 'RUNNING' AND je.id IN (%s))";
+
+    private static final String QUEUE_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('cron-job-queue:' || ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+    private final long leaseDurationMs;
+
+    public CronJobLeaseManager(JdbcTemplate jdbcTemplate,
+                               NodeIdentifier nodeIdentifier,
+                               @Value("${job.execution.lease.duration-ms:60000}") long leaseDurationMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = nodeIdentifier.getNodeId();
+        this.leaseDurationMs = leaseDurationMs;
+    }
+
+    /**
+     * Acquire the lease of a CronJob for a new (scheduled or manual) execution (must be called inside a transaction)
+     *
+     * @return false if the job is disabled, holds a valid lease or has a queued execution
+     */
+    public boolean acquire(Long cronJobId) {
+        return jdbcTemplate.update(ACQUIRE_SQL + NOTHING_QUEUED_SQL, nodeId, leaseDurationMs, cronJobId) == 1;
+    }
+
+    /**
+     * Acquire the lease of a CronJob for one of its queued executions claimed by this node
+     */
+    public boolean acquireForClaim(Long cronJobId) {
+        return jdbcTemplate.update(ACQUIRE_SQL, nodeId, leaseDurationMs, cronJobId) == 1;
+    }
+
+    /**
+     * Serialize enqueuing for one CronJob until the transaction ends, so it has at most one queued execution
+     */
+    public void lockQueue(Long cronJobId) {
+        jdbcTemplate.query(QUEUE_LOCK_SQL, rs -> null, cronJobId);
+    }
+
+    /**
+     * Extend the leases of CronJobs whose executions run on this node
+     *
+     * @param executionIds Executions in flight on this node
+     */
+    public void renew(Set<Long> executionIds) {
+        if (executionIds.isEmpty()) {
+            return;
+        }
+        StringJoiner placeholders = new StringJoiner(", ");
+        Object[] args = new Object[executionIds.size() + 2];
+        args[0] = leaseDurationMs;
+        args[1] = nodeId;
+        int i = 2;
+        for (Long executionId : executionIds) {
+            placeholders.add("?");
+            args[i++] = executionId;
+        }
+        int renewed = jdbcTemplate.update(String.format(RENEW_SQL, placeholders), args);
+        LOG.debug("Renewed {} CronJob leases for {} in-flight executions", renewed, executionIds.size());
+    }
+}
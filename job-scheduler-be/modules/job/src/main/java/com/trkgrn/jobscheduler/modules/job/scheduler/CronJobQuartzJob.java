@@ -2,6 +2,11 @@ package com.trkgrn.jobscheduler.modules.job.scheduler;
 
 import ch.qos.logback.classic.Level;
 import com.trkgrn.jobscheduler.modules.job.api.JobResult;
+import com.trkgrn.jobscheduler.modules.job.event.ExecutionQueuedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.executor.ConcurrencyLimiter;
+import com.trkgrn.jobscheduler.modules.job.executor.ExecutionBudgetWatchdog;
+import com.trkgrn.jobscheduler.modules.job.executor.JobExecutionDispatcher;
 import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
 import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
@@ -9,6 +14,7 @@ import com.trkgrn.jobscheduler.modules.job.model.CronJobStatus;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.modules.job.registry.JobRegistry;
 import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.TriggerRepository;
 import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
 import com.trkgrn.jobscheduler.modules.job.util.NodeIdentifier;
 import org.quartz.Job;
@@ -17,6 +23,8 @@ import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -29,6 +37,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Component
@@ -37,57 +46,82 @@ public class CronJobQuartzJob implements Job {
     private static final Logger LOG = LoggerFactory.getLogger(CronJobQuartzJob.class);
 
     private final CronJobRepository cronJobRepository;
+    private final TriggerRepository triggerRepository;
     private final JobRegistry jobRegistry;
     private final JobExecutionService jobExecutionService;
     private final JobLogCollector jobLogCollector;
     private final NodeIdentifier nodeIdentifier;
     private final JobMetricsService jobMetricsService;
+    private final JobExecutionDispatcher jobExecutionDispatcher;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CronJobLeaseManager cronJobLeaseManager;
+    private final ExecutionBudgetWatchdog executionBudgetWatchdog;
+    private final ApplicationEventPublisher eventPublisher;
     private final TransactionTemplate transactionTemplate;
+    private final boolean queueEnabled;
 
-    public CronJobQuartzJob(CronJobRepository cronJobRepository, JobRegistry jobRegistry,
+    public CronJobQuartzJob(CronJobRepository cronJobRepository, TriggerRepository triggerRepository, JobRegistry jobRegistry,
                             JobExecutionService jobExecutionService, JobLogCollector jobLogCollector,
                             NodeIdentifier nodeIdentifier, JobMetricsService jobMetricsService,
-                            PlatformTransactionManager transactionManager) {
+                            JobExecutionDispatcher jobExecutionDispatcher,
+                            ConcurrencyLimiter concurrencyLimiter,
+                            CronJobLeaseManager cronJobLeaseManager,
+                            ExecutionBudgetWatchdog executionBudgetWatchdog,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${job.execution.queue.enabled:false}") boolean queueEnabled) {
         this.cronJobRepository = cronJobRepository;
+        this.triggerRepository = triggerRepository;
         this.jobRegistry = jobRegistry;
         this.jobExecutionService = jobExecutionService;
         this.jobLogCollector = jobLogCollector;
         this.nodeIdentifier = nodeIdentifier;
         this.jobMetricsService = jobMetricsService;
+        this.jobExecutionDispatcher = jobExecutionDispatcher;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.cronJobLeaseManager = cronJobLeaseManager;
+        this.executionBudgetWatchdog = executionBudgetWatchdog;
+        this.eventPublisher = eventPublisher;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.queueEnabled = queueEnabled;
     }
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
         Long cronJobId = context.getJobDetail().getJobDataMap().getLong("cronJobId");
+        int priority = context.getTrigger().getPriority();
+        Long triggerId = QuartzJobScheduler.triggerIdOf(context.getTrigger().getKey());
         
-        LOG.info("Quartz executing CronJob with ID: {}", cronJobId);
+        LOG.info("Quartz executing CronJob with ID: {} (priority: {})", cronJobId, priority);
 
         try {
             // executeCronJobWithRetry() already handles transactions internally
             // No need for outer transaction wrapper
-            executeCronJobWithRetry(cronJobId);
+            executeCronJobWithRetry(cronJobId, priority, triggerId);
         } catch (Exception e) {
             LOG.error("Error executing CronJob with ID: {}", cronJobId, e);
-            
-            // Try to update status even if there was an error (in a separate transaction)
-            try {
-                transactionTemplate.execute(new TransactionCallback<Void>() {
-                    @Override
-                    public Void doInTransaction(TransactionStatus status) {
-                        try {
-                            updateCronJobStatus(cronJobId, CronJobStatus.FAILED, "EXCEPTION: " + e.getMessage());
-                        } catch (Exception updateException) {
-                            LOG.error("Failed to update CronJob status after error", updateException);
-                            status.setRollbackOnly();
-                        }
-                        return null;
+            markCronJobFailedAfterError(cronJobId, e);
+        }
+    }
+
+    private void markCronJobFailedAfterError(Long cronJobId, Exception e) {
+        // Try to update status even if there was an error (in a separate transaction)
+        try {
+            transactionTemplate.execute(new TransactionCallback<Void>() {
+                @Override
+                public Void doInTransaction(TransactionStatus status) {
+                    try {
+                        updateCronJobStatus(cronJobId, CronJobStatus.FAILED, "EXCEPTION: " + e.getMessage());
+                    } catch (Exception updateException) {
+                        LOG.error("Failed to update CronJob status after error", updateException);
+                        status.setRollbackOnly();
                     }
-                });
-            } catch (Exception updateException) {
-                LOG.error("Failed to update CronJob status after error", updateException);
-            }
+                    return null;
+                }
+            });
+        } catch (Exception updateException) {
+            LOG.error("Failed to update CronJob status after error", updateException);
         }
     }
 
@@ -96,21 +130,43 @@ public class CronJobQuartzJob implements Job {
         maxAttempts = 3,
         backoff = @Backoff(delay = 100, multiplier = 2)
     )
-    public void executeCronJobWithRetry(Long cronJobId) {
+    public void executeCronJobWithRetry(Long cronJobId, int priority, Long triggerId) {
         // This transaction should be short to avoid blocking other operations
         ExecutionContext executionContext = transactionTemplate.execute(new TransactionCallback<ExecutionContext>() {
             @Override
             public ExecutionContext doInTransaction(TransactionStatus status) {
-                CronJobModel cronJobModel = validateAndLoadCronJob(cronJobId);
+                CronJobModel cronJobModel = cronJobRepository.findById(cronJobId).orElse(null);
                 if (cronJobModel == null) {
+                    LOG.error("CronJob not found with ID: {}", cronJobId);
+                    return null;
+                }
+
+                if (!cronJobModel.getEnabled()) {
+                    LOG.warn("CronJob {} is disabled, skipping execution", cronJobModel.getCode());
+                    return null;
+                }
+
+                // Budget of the firing trigger; executions without one use the CronJob's
+                Integer timeoutSeconds = triggerId != null
+                        ? triggerRepository.findTimeoutSecondsById(triggerId).orElse(null) : null;
+
+                // Concurrency limits are checked before the record exists; with the work queue enabled
+                // every fire is queued and a worker claims it
+                boolean admitted = !queueEnabled && concurrencyLimiter.tryAdmit(cronJobModel.getJobBeanName(), null);
+                if (!admitted) {
+                    return enqueue(cronJobModel, priority, timeoutSeconds);
+                }
+
+                // One conditional UPDATE takes the lease; it fails while another execution holds a valid one
+                if (!cronJobLeaseManager.acquire(cronJobId)) {
+                    LOG.warn("CronJob {} is already running (possibly manual execution) or has a queued execution, " +
+                            "skipping scheduled execution", cronJobModel.getCode());
                     return null;
                 }
 
-                JobExecutionModel execution = createExecutionRecord(cronJobModel);
+                JobExecutionModel execution = createExecutionRecord(cronJobModel, true, priority, timeoutSeconds);
                 String correlationId = execution.getCorrelationId();
                 
-                startLogCollection(execution, correlationId, cronJobModel);
-                
                 // Record metrics: execution start
                 jobMetricsService.recordExecutionStart(execution.getId(), cronJobModel);
                 jobMetricsService.updateJobStatus(null, CronJobStatus.RUNNING);
@@ -123,9 +179,83 @@ public class CronJobQuartzJob implements Job {
             return;
         }
 
+        if (executionContext.execution.getStatus() == JobExecutionModel.Status.QUEUED) {
+            LOG.info("CronJob {} execution ID: {} is queued", executionContext.cronJobModel.getCode(),
+                    executionContext.execution.getId());
+            return;
+        }
+
+        // PLATFORM runs the body on this Quartz thread, VIRTUAL releases it right after admission
         try {
-            JobResult result = executeJob(executionContext.cronJobModel, executionContext.execution);
-            
+            jobExecutionDispatcher.dispatchScheduled(executionContext.cronJobModel.getJobBeanName(), priority,
+                    executionContext.execution.getId(), () -> runAndFinalize(executionContext),
+                    e -> finalizeWithException(executionContext, e));
+        } catch (RejectedExecutionException e) {
+            LOG.error("Job executor rejected execution ID: {}", executionContext.execution.getId(), e);
+            finalizeWithException(executionContext, e);
+        }
+    }
+
+    /**
+     * Run an execution claimed from the work queue by ExecutionQueueWorker (already RUNNING on this node)
+     */
+    public void runClaimed(Long executionId) {
+        ExecutionContext executionContext = transactionTemplate.execute(new TransactionCallback<ExecutionContext>() {
+            @Override
+            public ExecutionContext doInTransaction(TransactionStatus status) {
+                JobExecutionModel execution = jobExecutionService.findById(executionId).orElse(null);
+                if (execution == null || execution.getStatus() != JobExecutionModel.Status.RUNNING
+                        || execution.getJobDefinition() == null) {
+                    LOG.warn("Claimed execution ID: {} is no longer runnable, skipping", executionId);
+                    return null;
+                }
+                CronJobModel cronJobModel = cronJobRepository.findById(execution.getJobDefinition().getId()).orElse(null);
+                if (cronJobModel == null) {
+                    LOG.error("CronJob not found for claimed execution ID: {}", executionId);
+                    return null;
+                }
+
+                // The claiming worker already took the CronJob lease
+                jobMetricsService.recordExecutionStart(execution.getId(), cronJobModel);
+                jobMetricsService.updateJobStatus(null, CronJobStatus.RUNNING);
+
+                return new ExecutionContext(cronJobModel, execution, execution.getCorrelationId());
+            }
+        });
+
+        if (executionContext == null) {
+            return;
+        }
+
+        try {
+            jobExecutionDispatcher.dispatchQueued(executionContext.cronJobModel.getJobBeanName(),
+                    executionContext.execution.getPriority(), executionId, () -> runAndFinalize(executionContext),
+                    e -> finalizeWithException(executionContext, e));
+        } catch (RejectedExecutionException e) {
+            LOG.error("Job executor rejected execution ID: {}", executionId, e);
+            finalizeWithException(executionContext, e);
+        }
+    }
+
+    /**
+     * Run the job body and persist its outcome (called on the thread chosen by the execution mode)
+     */
+    private void runAndFinalize(ExecutionContext executionContext) {
+        try {
+            startLogCollection(executionContext.execution, executionContext.correlationId, executionContext.cronJobModel);
+
+            // The watchdog stops the body once it exceeds its execution budget
+            executionBudgetWatchdog.watch(executionContext.execution, executionContext.cronJobModel);
+            JobResult result;
+            boolean budgetExceeded;
+            try {
+                result = executeJob(executionContext.cronJobModel, executionContext.execution);
+            } finally {
+                budgetExceeded = executionBudgetWatchdog.release(executionContext.execution.getId());
+            }
+            // A body that succeeded right at its deadline keeps its result
+            boolean timedOut = budgetExceeded && (result == null || !result.getSuccess());
+
             transactionTemplate.execute(new TransactionCallback<Void>() {
                 @Override
                 public Void doInTransaction(TransactionStatus status) {
@@ -144,7 +274,13 @@ public class CronJobQuartzJob implements Job {
                     CronJobStatus oldStatus = cronJobModel.getStatus();
                     CronJobStatus newStatus = null;
                     
-                    if (isCancelled || isAbortedFromResult) {
+                    if (isCancelled) {
+                        handleCancelledExecution(cronJobModel, execution, result);
+                        newStatus = CronJobStatus.CANCELLED;
+                    } else if (timedOut) {
+                        handleTimedOutExecution(cronJobModel, execution, result);
+                        newStatus = CronJobStatus.FAILED;
+                    } else if (isAbortedFromResult) {
                         handleCancelledExecution(cronJobModel, execution, result);
                         newStatus = CronJobStatus.CANCELLED;
                     } else if (result.getSuccess()) {
@@ -158,37 +294,48 @@ public class CronJobQuartzJob implements Job {
                     // Record metrics: execution complete and status change
                     jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
                     jobMetricsService.updateJobStatus(oldStatus, newStatus);
+                    eventPublisher.publishEvent(JobExecutionFinishedEvent.of(cronJobModel, execution));
                     
                     finalizeCronJobExecution(cronJobModel);
                     return null;
                 }
             });
         } catch (Exception e) {
-            transactionTemplate.execute(new TransactionCallback<Void>() {
-                @Override
-                public Void doInTransaction(TransactionStatus status) {
-                    // Reload entities to ensure they are managed
-                    CronJobModel cronJobModel = cronJobRepository.findById(executionContext.cronJobModel.getId())
-                            .orElse(executionContext.cronJobModel);
-                    JobExecutionModel execution = jobExecutionService.findById(executionContext.execution.getId())
-                            .orElse(executionContext.execution);
-                    
-                    CronJobStatus oldStatus = cronJobModel.getStatus();
-                    handleExceptionExecution(cronJobModel, execution, e);
-                    
-                    // Record metrics: execution complete and status change
-                    jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
-                    jobMetricsService.updateJobStatus(oldStatus, CronJobStatus.FAILED);
-                    
-                    finalizeCronJobExecution(cronJobModel);
-                    return null;
-                }
-            });
+            try {
+                finalizeWithException(executionContext, e);
+            } catch (Exception finalizeException) {
+                LOG.error("Failed to finalize execution ID: {}", executionContext.execution.getId(), finalizeException);
+                markCronJobFailedAfterError(executionContext.cronJobModel.getId(), finalizeException);
+            }
         } finally {
             clearMDC();
         }
     }
 
+    private void finalizeWithException(ExecutionContext executionContext, Exception e) {
+        transactionTemplate.execute(new TransactionCallback<Void>() {
+            @Override
+            public Void doInTransaction(TransactionStatus status) {
+                // Reload entities to ensure they are managed
+                CronJobModel cronJobModel = cronJobRepository.findById(executionContext.cronJobModel.getId())
+                        .orElse(executionContext.cronJobModel);
+                JobExecutionModel execution = jobExecutionService.findById(executionContext.execution.getId())
+                        .orElse(executionContext.execution);
+                
+                CronJobStatus oldStatus = cronJobModel.getStatus();
+                handleExceptionExecution(cronJobModel, execution, e);
+                
+                // Record metrics: execution complete and status change
+                jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
+                jobMetricsService.updateJobStatus(oldStatus, CronJobStatus.FAILED);
+                eventPublisher.publishEvent(JobExecutionFinishedEvent.of(cronJobModel, execution));
+                
+                finalizeCronJobExecution(cronJobModel);
+                return null;
+            }
+        });
+    }
+
     private static class ExecutionContext {
         final CronJobModel cronJobModel;
         final JobExecutionModel execution;
@@ -201,79 +348,48 @@ public class CronJobQuartzJob implements Job {
         }
     }
 
-    private CronJobModel validateAndLoadCronJob(Long cronJobId) {
-        // This ensures only one execution (manual or scheduled) can run at a time
-        CronJobModel cronJobModel = cronJobRepository.findByIdWithLock(cronJobId).orElse(null);
-        if (cronJobModel == null) {
-            LOG.error("CronJob not found with ID: {}", cronJobId);
-            return null;
-        }
+    /**
+     * Store the fire as a QUEUED execution for the work queue; a CronJob has at most one queued execution
+     */
+    private ExecutionContext enqueue(CronJobModel cronJobModel, int priority, Integer timeoutSeconds) {
+        cronJobLeaseManager.lockQueue(cronJobModel.getId());
 
-        if (!cronJobModel.getEnabled()) {
-            LOG.warn("CronJob {} is disabled, skipping execution", cronJobModel.getCode());
+        List<JobExecutionModel> activeExecutions = jobExecutionService.findRunningByJobDefinitionId(cronJobModel.getId());
+        // A pending execution already covers this fire
+        if (activeExecutions.stream().anyMatch(e -> e.getStatus() == JobExecutionModel.Status.QUEUED)) {
+            LOG.info("CronJob {} already has a queued execution, skipping scheduled execution", cronJobModel.getCode());
             return null;
         }
 
-        if (cronJobModel.getStatus() == CronJobStatus.RUNNING) {
-            List<JobExecutionModel> runningExecutions = jobExecutionService.findRunningByJobDefinitionId(cronJobId);
-            if (runningExecutions.isEmpty()) {
-                // Stuck state: Status is RUNNING but no active executions found
-                // This can happen if job was interrupted or cleanup didn't run
-                LOG.warn("CronJob {} status is RUNNING but no active executions found. This indicates a stuck state. " +
-                        "Status: {}, LastStartTime: {}, LastEndTime: {}. " +
-                        "Resetting status to FAILED to allow future executions.",
-                        cronJobModel.getCode(),
-                        cronJobModel.getStatus(),
-                        cronJobModel.getLastStartTime(),
-                        cronJobModel.getLastEndTime());
-                
-                // Fix stuck state: Reset status to FAILED
-                cronJobModel.setStatus(CronJobStatus.FAILED);
-                cronJobModel.setLastResult("Stuck state detected: Status was RUNNING but no active executions found");
-                cronJobRepository.saveAndFlush(cronJobModel);
-                
-                // Continue with execution instead of returning null
-                LOG.info("Stuck state fixed for CronJob {}. Proceeding with scheduled execution.", cronJobModel.getCode());
-            } else {
-                LOG.warn("CronJob {} is already running (possibly manual execution), skipping scheduled execution. " +
-                        "Active executions: {}",
-                        cronJobModel.getCode(),
-                        runningExecutions.stream()
-                                .map(e -> String.format("ID=%d, Status=%s, StartedAt=%s, NodeId=%s",
-                                        e.getId(), e.getStatus(), e.getStartedAt(), e.getNodeId()))
-                                .collect(Collectors.joining(", ")));
-                return null;
-            }
-        }
-
-        List<JobExecutionModel> runningExecutions = jobExecutionService.findRunningByJobDefinitionId(cronJobId);
-        if (!runningExecutions.isEmpty()) {
+        // With the work queue the fire waits behind the running execution instead of being dropped
+        if (!activeExecutions.isEmpty() && !queueEnabled) {
             LOG.warn("CronJob {} has running executions (possibly manual execution), skipping scheduled execution. " +
                     "Active executions: {}",
                     cronJobModel.getCode(),
-                    runningExecutions.stream()
+                    activeExecutions.stream()
                             .map(e -> String.format("ID=%d, Status=%s, StartedAt=%s, NodeId=%s",
                                     e.getId(), e.getStatus(), e.getStartedAt(), e.getNodeId()))
                             .collect(Collectors.joining(", ")));
             return null;
         }
 
-        // Immediately set status to RUNNING to prevent other executions
-        // This is done while holding the pessimistic lock
-        cronJobModel.setStatus(CronJobStatus.RUNNING);
-        cronJobModel.setLastStartTime(OffsetDateTime.now());
-        cronJobModel = cronJobRepository.saveAndFlush(cronJobModel);
-
-        return cronJobModel;
+        JobExecutionModel execution = createExecutionRecord(cronJobModel, false, priority, timeoutSeconds);
+        eventPublisher.publishEvent(new ExecutionQueuedEvent(execution.getId(), cronJobModel.getId()));
+        return new ExecutionContext(cronJobModel, execution, execution.getCorrelationId());
     }
 
-    private JobExecutionModel createExecutionRecord(CronJobModel cronJobModel) {
+    private JobExecutionModel createExecutionRecord(CronJobModel cronJobModel, boolean admitted, int priority,
+                                                    Integer timeoutSeconds) {
         JobExecutionModel execution = new JobExecutionModel();
         execution.setJobDefinition(cronJobModel);
-        execution.setStatus(JobExecutionModel.Status.RUNNING);
+        // A QUEUED execution is not bound to a node; the claiming worker sets node and start time
+        execution.setStatus(admitted ? JobExecutionModel.Status.RUNNING : JobExecutionModel.Status.QUEUED);
         execution.setStartedAt(OffsetDateTime.now());
+        execution.setLastHeartbeatAt(admitted ? execution.getStartedAt() : null);
         execution.setLogLevel(cronJobModel.getLogLevel().name());
-        execution.setNodeId(nodeIdentifier.getNodeId());
+        execution.setNodeId(admitted ? nodeIdentifier.getNodeId() : null);
+        execution.setPriority(priority);
+        execution.setTimeoutSeconds(timeoutSeconds);
         
         String correlationId = "QUARTZ-" + System.currentTimeMillis();
         execution.setCorrelationId(correlationId);
@@ -303,9 +419,12 @@ public class CronJobQuartzJob implements Job {
     private void handleSuccessfulExecution(CronJobModel cronJobModel, JobExecutionModel execution, JobResult result) {
         execution.setStatus(JobExecutionModel.Status.SUCCESS);
         execution.setEndedAt(OffsetDateTime.now());
+        execution.setResultMessage(result.getMessage());
 
         cronJobModel.setStatus(CronJobStatus.FINISHED);
         cronJobModel.setLastResult("SUCCESS: " + result.getMessage());
+        // retryCount counts consecutive failures, see ExecutionRetryScheduler
+        cronJobModel.setRetryCount(0);
         
         LOG.info("CronJob {} completed successfully: {} (Execution ID: {})", 
                 cronJobModel.getCode(), result.getMessage(), execution.getId());
@@ -317,6 +436,7 @@ public class CronJobQuartzJob implements Job {
     private void handleFailedExecution(CronJobModel cronJobModel, JobExecutionModel execution, JobResult result) {
         execution.setStatus(JobExecutionModel.Status.FAILED);
         execution.setEndedAt(OffsetDateTime.now());
+        execution.setResultMessage(result.getMessage());
 
         cronJobModel.setStatus(CronJobStatus.FAILED);
         cronJobModel.setLastResult("FAILED: " + result.getMessage());
@@ -332,6 +452,7 @@ public class CronJobQuartzJob implements Job {
     private void handleCancelledExecution(CronJobModel cronJobModel, JobExecutionModel execution, JobResult result) {
         execution.setStatus(JobExecutionModel.Status.CANCELLED);
         execution.setEndedAt(OffsetDateTime.now());
+        execution.setResultMessage(result != null ? result.getMessage() : "Job aborted by user");
 
         cronJobModel.setStatus(CronJobStatus.CANCELLED);
         cronJobModel.setLastResult("CANCELLED: " + (result != null ? result.getMessage() : "Job aborted by user"));
@@ -343,9 +464,27 @@ public class CronJobQuartzJob implements Job {
         persistExecutionWithLogs(execution);
     }
 
+    private void handleTimedOutExecution(CronJobModel cronJobModel, JobExecutionModel execution, JobResult result) {
+        String message = "Execution budget of " + executionBudgetWatchdog.budgetSeconds(execution, cronJobModel)
+                + " s exceeded" + (result != null && result.getMessage() != null ? ": " + result.getMessage() : "");
+        execution.setStatus(JobExecutionModel.Status.TIMED_OUT);
+        execution.setEndedAt(OffsetDateTime.now());
+        execution.setResultMessage(message);
+
+        cronJobModel.setStatus(CronJobStatus.FAILED);
+        cronJobModel.setLastResult("TIMED_OUT: " + message);
+        cronJobModel.setRetryCount(cronJobModel.getRetryCount() + 1);
+
+        LOG.error("CronJob {} timed out: {} (Execution ID: {})", cronJobModel.getCode(), message, execution.getId());
+
+        addTimedOutLogs(execution, message);
+        persistExecutionWithLogs(execution);
+    }
+
     private void handleExceptionExecution(CronJobModel cronJobModel, JobExecutionModel execution, Exception e) {
         execution.setStatus(JobExecutionModel.Status.FAILED);
         execution.setEndedAt(OffsetDateTime.now());
+        execution.setResultMessage(e.getMessage());
 
         cronJobModel.setStatus(CronJobStatus.FAILED);
         cronJobModel.setLastResult("EXCEPTION: " + e.getMessage());
@@ -361,24 +500,30 @@ public class CronJobQuartzJob implements Job {
     private void addSuccessLogs(JobExecutionModel execution, JobResult result) {
         jobLogCollector.addLog(execution.getId(), "INFO", "Job completed successfully: " + result.getMessage());
         jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
-        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+        jobLogCollector.stopLogCollectionAndPersist(execution.getId());
     }
 
     private void addFailureLogs(JobExecutionModel execution, JobResult result) {
         jobLogCollector.addLog(execution.getId(), "ERROR", "Job failed: " + result.getMessage());
         jobLogCollector.addLog(execution.getId(), "ERROR", "Execution statistics: " + jobLogCollector.getStatistics());
-        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+        jobLogCollector.stopLogCollectionAndPersist(execution.getId());
     }
 
     private void addCancelledLogs(JobExecutionModel execution, JobResult result) {
         jobLogCollector.addLog(execution.getId(), "WARN", "Job was cancelled: " + (result != null ? result.getMessage() : "Job aborted by user"));
         jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
-        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+        jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+    }
+
+    private void addTimedOutLogs(JobExecutionModel execution, String message) {
+        jobLogCollector.addLog(execution.getId(), "ERROR", "Job timed out: " + message);
+        jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
+        jobLogCollector.stopLogCollectionAndPersist(execution.getId());
     }
 
     private void addExceptionLogs(JobExecutionModel execution, Exception e) {
         jobLogCollector.addLog(execution.getId(), "ERROR", "Job failed with exception: " + e.getMessage());
-        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+        jobLogCollector.stopLogCollectionAndPersist(execution.getId());
     }
 
     private void persistExecutionWithLogs(JobExecutionModel execution) {
@@ -0,0 +1,97 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.executor.JobExecutionDispatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Liveness signal of the executions running on this node.
+ * Every interval one UPDATE stamps last_heartbeat_at of the node's in-flight RUNNING executions (database clock),
+ * and their CronJob leases are renewed. Executions of a dead node stop beating and are failed by the stale
+ * heartbeat sweep on any live node, however long a healthy execution runs.
+ * Beats run on a dedicated thread, so slow @Scheduled tasks (sweeps, queue polls) cannot delay them
+ * past stale-after-ms and get a healthy execution failed.
+ */
+@Component
+public class ExecutionHeartbeat {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionHeartbeat.class);
+
+    private static final String HEARTBEAT_SQL =
+            "UPDATE public.job_executions SET last_heartbeat_at = now() WHERE status = 'RUNNING' AND id IN (%s)";
+
+    // stale-after-ms should span at least this many heartbeat intervals
+    private static final int MIN_STALE_INTERVALS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobExecutionDispatcher jobExecutionDispatcher;
+    private final CronJobLeaseManager cronJobLeaseManager;
+    private final long intervalMs;
+    private final long staleAfterMs;
+
+    private ScheduledExecutorService beater;
+
+    public ExecutionHeartbeat(JdbcTemplate jdbcTemplate,
+                              JobExecutionDispatcher jobExecutionDispatcher,
+                              CronJobLeaseManager cronJobLeaseManager,
+                              @Value("${job.execution.heartbeat.interval-ms:10000}") long intervalMs,
+                              @Value("${job.execution.heartbeat.stale-after-ms:60000}") long staleAfterMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobExecutionDispatcher = jobExecutionDispatcher;
+        this.cronJobLeaseManager = cronJobLeaseManager;
+        this.intervalMs = Math.max(1, intervalMs);
+        this.staleAfterMs = staleAfterMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (staleAfterMs < MIN_STALE_INTERVALS * intervalMs) {
+            LOG.warn("job.execution.heartbeat.stale-after-ms ({}) is less than {} heartbeat intervals ({} ms); " +
+                    "a single slow heartbeat may get healthy executions failed", staleAfterMs, MIN_STALE_INTERVALS, intervalMs);
+        }
+        beater = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "execution-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        beater.scheduleWithFixedDelay(this::beat, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (beater != null) {
+            beater.shutdownNow();
+        }
+    }
+
+    void beat() {
+        Set<Long> executionIds = jobExecutionDispatcher.trackedExecutionIds();
+        if (executionIds.isEmpty()) {
+            return;
+        }
+        try {
+            StringJoiner placeholders = new StringJoiner(", ");
+            executionIds.forEach(id -> placeholders.add("?"));
+            int beating = jdbcTemplate.update(String.format(HEARTBEAT_SQL, placeholders), executionIds.toArray());
+            LOG.debug("Heartbeat for {} of {} in-flight executions", beating, executionIds.size());
+        } catch (Exception e) {
+            LOG.error("Failed to write execution heartbeats", e);
+        }
+        try {
+            cronJobLeaseManager.renew(executionIds);
+        } catch (Exception e) {
+            LOG.error("Failed to renew CronJob leases", e);
+        }
+    }
+}
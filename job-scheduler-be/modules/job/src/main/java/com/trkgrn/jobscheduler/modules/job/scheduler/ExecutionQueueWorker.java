@@ -0,0 +1,319 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.event.ExecutionQueuedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.PartitionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.executor.ConcurrencyLimiter;
+import com.trkgrn.jobscheduler.modules.job.executor.JobExecutionDispatcher;
+import com.trkgrn.jobscheduler.modules.job.executor.PartitionCoordinator;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
+import com.trkgrn.jobscheduler.modules.job.util.NodeIdentifier;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the durable work queue: job_executions rows with status QUEUED.
+ * Every node claims batches with SELECT ... FOR UPDATE SKIP LOCKED, so concurrent workers never block on or claim
+ * the same row. A claimed row becomes RUNNING on this node in the claiming transaction and its body is dispatched
+ * after commit together with the CronJob lease. Executions of a cron job holding a lease and executions over a
+ * concurrency limit stay queued, retries until their backoff has passed (see ExecutionRetryScheduler).
+ * A drain scans the queue in batches behind such rejected candidates until this node's room is filled or the
+ * queue is exhausted, so a busy high-priority job never hides claimable rows further down.
+ * Partitions of a PartitionedJob run inside their parent's lease and are routed to the PartitionCoordinator.
+ * A drain runs after every local enqueue or finish and every poll interval (which also picks up other nodes' work).
+ */
+@Component
+public class ExecutionQueueWorker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionQueueWorker.class);
+
+    // Highest priority first, then oldest; rows locked by other workers, retries still backing off and jobs holding
+    // a lease are skipped (partitions run while their parent holds the lease)
+    private static final String CLAIM_SELECT =
+            "SELECT je.id, je.job_definition_id, je.parent_execution_id, je.priority, c.job_bean_name " +
+            "FROM public.job_executions je " +
+            "JOIN public.cron_jobs c ON c.id = je.job_definition_id " +
+            "WHERE je.status = 'QUEUED' AND (je.not_before IS NULL OR je.not_before <= now()) " +
+            "AND (je.parent_execution_id IS NOT NULL " +
+            "OR c.status <> 'RUNNING' OR c.lease_until IS NULL OR c.lease_until < now()) ";
+
+    private static final String CLAIM_ORDER =
+            "ORDER BY je.priority DESC, je.id " +
+            "LIMIT ? FOR UPDATE OF je SKIP LOCKED";
+
+    private static final String CLAIM_SQL = CLAIM_SELECT + CLAIM_ORDER;
+
+    // Continues behind the last examined row, so candidates left queued (over a limit) do not hide the rows after them
+    private static final String CLAIM_AFTER_SQL = CLAIM_SELECT +
+            "AND (je.priority < ? OR (je.priority = ? AND je.id > ?)) " + CLAIM_ORDER;
+
+    private static final String PROMOTE_SQL =
+            "UPDATE public.job_executions SET status = 'RUNNING', node_id = ?, started_at = ?, " +
+            "last_heartbeat_at = ?, updated_at = ?, version = version + 1 WHERE id = ? AND status = 'QUEUED'";
+
+    // A retry waits from the end of its backoff; partitions are throttled by their parent on purpose and are
+    // governed by the parent's budget and cancellation instead
+    private static final String EXPIRED_SQL =
+            "SELECT id FROM public.job_executions WHERE status = 'QUEUED' AND parent_execution_id IS NULL " +
+            "AND COALESCE(not_before, started_at) < ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CronJobLeaseManager cronJobLeaseManager;
+    private final JobExecutionDispatcher jobExecutionDispatcher;
+    private final JobExecutionService jobExecutionService;
+    private final JobLogCollector jobLogCollector;
+    private final CronJobQuartzJob cronJobQuartzJob;
+    private final PartitionCoordinator partitionCoordinator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final long timeoutMinutes;
+
+    private final ExecutorService drainExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("execution-queue-"));
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // Executions claimed by this node whose body has not finished yet
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ExecutionQueueWorker(JdbcTemplate jdbcTemplate,
+                                ConcurrencyLimiter concurrencyLimiter,
+                                CronJobLeaseManager cronJobLeaseManager,
+                                JobExecutionDispatcher jobExecutionDispatcher,
+                                JobExecutionService jobExecutionService,
+                                JobLogCollector jobLogCollector,
+                                CronJobQuartzJob cronJobQuartzJob,
+                                PartitionCoordinator partitionCoordinator,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                NodeIdentifier nodeIdentifier,
+                                @Value("${job.execution.queue.batch-size:50}") int batchSize,
+                                @Value("${job.execution.queue.max-in-flight:${job.execution.concurrency.max-total:100}}") int maxInFlight,
+                                @Value("${job.execution.queue.timeout-minutes:60}") long timeoutMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.cronJobLeaseManager = cronJobLeaseManager;
+        this.jobExecutionDispatcher = jobExecutionDispatcher;
+        this.jobExecutionService = jobExecutionService;
+        this.jobLogCollector = jobLogCollector;
+        this.cronJobQuartzJob = cronJobQuartzJob;
+        this.partitionCoordinator = partitionCoordinator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.nodeId = nodeIdentifier.getNodeId();
+        this.batchSize = Math.max(1, batchSize);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.timeoutMinutes = timeoutMinutes;
+        LOG.info("Execution queue worker initialized (batch size: {}, max in flight: {}, timeout: {} minutes)",
+                this.batchSize, this.maxInFlight, timeoutMinutes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExecutionQueued(ExecutionQueuedEvent event) {
+        requestDrain();
+    }
+
+    /**
+     * A finished execution frees a local slot and possibly its cron job or a concurrency limit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExecutionFinished(JobExecutionFinishedEvent event) {
+        requestDrain();
+    }
+
+    /**
+     * A finished partition frees a local slot of its parent
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionFinished(PartitionFinishedEvent event) {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${job.execution.queue.poll-interval-ms:1000}")
+    public void poll() {
+        requestDrain();
+        try {
+            expireQueued();
+        } catch (Exception e) {
+            LOG.error("Failed to expire queued executions", e);
+        }
+    }
+
+    /**
+     * Schedule a drain on the worker thread unless one is already pending
+     */
+    public void requestDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        // Requests arriving from now on schedule another pass
+        drainScheduled.set(false);
+        try {
+            Candidate cursor = null;
+            ClaimPage page;
+            do {
+                inFlight.removeIf(id -> !jobExecutionDispatcher.isTracked(id));
+                int room = Math.min(batchSize, maxInFlight - inFlight.size());
+                if (room <= 0) {
+                    return;
+                }
+                page = claimBatch(room, cursor);
+                cursor = page.lastExamined();
+                int claimed = page.claimed().size();
+                for (Candidate candidate : page.claimed()) {
+                    inFlight.add(candidate.id());
+                    try {
+                        if (candidate.parentExecutionId() != null) {
+                            partitionCoordinator.runPartition(candidate.id());
+                        } else {
+                            cronJobQuartzJob.runClaimed(candidate.id());
+                        }
+                    } catch (Exception e) {
+                        LOG.error("Failed to start claimed execution ID: {}", candidate.id(), e);
+                    }
+                }
+                if (claimed > 0) {
+                    LOG.debug("Claimed {} queued executions", claimed);
+                }
+                // Scan on behind the rejected candidates until the room is filled or the queue is exhausted
+            } while (!page.exhausted());
+        } catch (Exception e) {
+            LOG.error("Failed to drain execution queue", e);
+        }
+    }
+
+    /**
+     * Claim up to room executions, examining one batch of candidates after the cursor (null: from the queue head)
+     */
+    private ClaimPage claimBatch(int room, Candidate after) {
+        return transactionTemplate.execute(new TransactionCallback<ClaimPage>() {
+            @Override
+            public ClaimPage doInTransaction(TransactionStatus status) {
+                RowMapper<Candidate> candidateMapper = (rs, rowNum) -> new Candidate(rs.getLong("id"),
+                        rs.getLong("job_definition_id"), rs.getObject("parent_execution_id", Long.class),
+                        rs.getInt("priority"), rs.getString("job_bean_name"));
+                List<Candidate> candidates = after == null
+                        ? jdbcTemplate.query(CLAIM_SQL, candidateMapper, batchSize)
+                        : jdbcTemplate.query(CLAIM_AFTER_SQL, candidateMapper,
+                                after.priority(), after.priority(), after.id(), batchSize);
+                List<Candidate> claimed = new ArrayList<>(room);
+                OffsetDateTime now = OffsetDateTime.now();
+                LocalDateTime updatedAt = LocalDateTime.now();
+                Candidate lastExamined = after;
+                int examined = 0;
+                for (Candidate candidate : candidates) {
+                    if (claimed.size() == room) {
+                        break;
+                    }
+                    lastExamined = candidate;
+                    examined++;
+                    if (candidate.parentExecutionId() != null) {
+                        // Leave the rest of the parent's partitions to other nodes
+                        if (partitionCoordinator.tryAdmitPartition(candidate.parentExecutionId())
+                                && jdbcTemplate.update(PROMOTE_SQL, nodeId, now, now, updatedAt, candidate.id()) == 1) {
+                            claimed.add(candidate);
+                        }
+                        continue;
+                    }
+                    // Over a concurrency limit: leave it queued, the lock is released on commit
+                    if (!concurrencyLimiter.tryAdmit(candidate.jobBeanName(), candidate.id())) {
+                        continue;
+                    }
+                    // The CronJob may have been admitted elsewhere since the select
+                    if (!cronJobLeaseManager.acquireForClaim(candidate.cronJobId())) {
+                        continue;
+                    }
+                    if (jdbcTemplate.update(PROMOTE_SQL, nodeId, now, now, updatedAt, candidate.id()) == 1) {
+                        claimed.add(candidate);
+                    }
+                }
+                boolean exhausted = candidates.size() < batchSize && examined == candidates.size();
+                return new ClaimPage(claimed, lastExamined, exhausted);
+            }
+        });
+    }
+
+    /**
+     * Fail executions that stayed queued longer than job.execution.queue.timeout-minutes
+     */
+    private void expireQueued() {
+        transactionTemplate.execute(new TransactionCallback<Void>() {
+            @Override
+            public Void doInTransaction(TransactionStatus status) {
+                OffsetDateTime threshold = OffsetDateTime.now().minusMinutes(timeoutMinutes);
+                List<Long> expiredIds = jdbcTemplate.queryForList(EXPIRED_SQL, Long.class, threshold, batchSize);
+                for (Long executionId : expiredIds) {
+                    JobExecutionModel execution = jobExecutionService.findById(executionId).orElse(null);
+                    if (execution == null) {
+                        continue;
+                    }
+                    execution.setStatus(JobExecutionModel.Status.FAILED);
+                    execution.setEndedAt(OffsetDateTime.now());
+                    jobExecutionService.save(execution);
+                    jobLogCollector.append(executionId, "ERROR",
+                            "Execution marked as FAILED: queued for more than " + timeoutMinutes + " minutes");
+                    if (execution.getParentExecutionId() != null) {
+                        eventPublisher.publishEvent(new PartitionFinishedEvent(execution.getParentExecutionId(), executionId));
+                    } else {
+                        eventPublisher.publishEvent(JobExecutionFinishedEvent.of(execution.getJobDefinition(), execution));
+                    }
+                    LOG.warn("Queued execution ID: {} expired after {} minutes", executionId, timeoutMinutes);
+                }
+                return null;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdown();
+        try {
+            if (!drainExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                drainExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            drainExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Candidate(Long id, Long cronJobId, Long parentExecutionId, int priority, String jobBeanName) {
+    }
+
+    private record ClaimPage(List<Candidate> claimed, Candidate lastExamined, boolean exhausted) {
+    }
+}
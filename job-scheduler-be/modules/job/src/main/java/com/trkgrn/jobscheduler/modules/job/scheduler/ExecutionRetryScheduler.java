@@ -0,0 +1,176 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.event.ExecutionQueuedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
+import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Automatic retries of failed executions.
+ * When an execution fails or times out, the next attempt is stored as a QUEUED execution with not_before set to the
+ * end of its backoff; the work queue claims it once that time has passed, so no thread waits for it and a pending
+ * retry survives restarts. The backoff grows exponentially per attempt and is spread by a random jitter, so jobs failing
+ * together do not retry in lockstep. A CronJob is retried at most maxRetryCount times in a row.
+ * Executions that never started (expired in the queue), cancelled executions and partitions are not retried.
+ */
+@Component
+public class ExecutionRetryScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionRetryScheduler.class);
+
+    private final JobExecutionService jobExecutionService;
+    private final CronJobRepository cronJobRepository;
+    private final CronJobLeaseManager cronJobLeaseManager;
+    private final JobLogCollector jobLogCollector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTemplate;
+    private final boolean enabled;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final long maxDelayMs;
+    private final double jitter;
+
+    public ExecutionRetryScheduler(JobExecutionService jobExecutionService,
+                                   CronJobRepository cronJobRepository,
+                                   CronJobLeaseManager cronJobLeaseManager,
+                                   JobLogCollector jobLogCollector,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${job.execution.retry.enabled:true}") boolean enabled,
+                                   @Value("${job.execution.retry.initial-delay-ms:10000}") long initialDelayMs,
+                                   @Value("${job.execution.retry.multiplier:2.0}") double multiplier,
+                                   @Value("${job.execution.retry.max-delay-ms:600000}") long maxDelayMs,
+                                   @Value("${job.execution.retry.jitter:0.2}") double jitter) {
+        this.jobExecutionService = jobExecutionService;
+        this.cronJobRepository = cronJobRepository;
+        this.cronJobLeaseManager = cronJobLeaseManager;
+        this.jobLogCollector = jobLogCollector;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.requiresNewTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.enabled = enabled;
+        this.initialDelayMs = Math.max(0, initialDelayMs);
+        this.multiplier = Math.max(1.0, multiplier);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+        this.jitter = Math.min(1.0, Math.max(0.0, jitter));
+        LOG.info("Execution retry scheduler initialized (enabled: {}, initial delay: {} ms, multiplier: {}, " +
+                "max delay: {} ms, jitter: {})", enabled, this.initialDelayMs, this.multiplier, this.maxDelayMs, this.jitter);
+    }
+
+    /**
+     * Schedule the next attempt of a failed execution once its status is committed.
+     * Runs before the other finish listeners, so they already see the pending retry.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onExecutionFinished(JobExecutionFinishedEvent event) {
+        if (!enabled || event.cronJobId() == null || (event.status() != JobExecutionModel.Status.FAILED
+                && event.status() != JobExecutionModel.Status.TIMED_OUT)) {
+            return;
+        }
+        try {
+            requiresNewTemplate.execute(new TransactionCallback<Void>() {
+                @Override
+                public Void doInTransaction(TransactionStatus status) {
+                    scheduleRetry(event);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            LOG.error("Failed to schedule retry of execution ID: {}", event.executionId(), e);
+        }
+    }
+
+    /**
+     * Backoff before the given retry attempt (2 for the first retry): initialDelay * multiplier^(attempt - 2),
+     * capped at maxDelay and spread by +/- jitter
+     */
+    public long backoffMillis(int attempt) {
+        double delay = initialDelayMs * Math.pow(multiplier, Math.max(0, attempt - 2));
+        delay = Math.min(delay, maxDelayMs);
+        if (jitter > 0) {
+            delay *= 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        return Math.max(0, Math.round(delay));
+    }
+
+    private void scheduleRetry(JobExecutionFinishedEvent event) {
+        JobExecutionModel failed = jobExecutionService.findById(event.executionId()).orElse(null);
+        // Partitions are retried with their parent; an execution without a node never started
+        if (failed == null || failed.getParentExecutionId() != null || failed.getNodeId() == null) {
+            return;
+        }
+
+        cronJobLeaseManager.lockQueue(event.cronJobId());
+
+        CronJobModel cronJobModel = cronJobRepository.findById(event.cronJobId()).orElse(null);
+        if (cronJobModel == null || !cronJobModel.getEnabled()) {
+            return;
+        }
+        int retries = failed.getAttempt() - 1;
+        if (retries >= cronJobModel.getMaxRetryCount()) {
+            if (cronJobModel.getMaxRetryCount() > 0) {
+                jobLogCollector.append(failed.getId(), "ERROR",
+                        "No retry scheduled: all " + cronJobModel.getMaxRetryCount() + " retries failed");
+                LOG.warn("CronJob {} failed after {} retries (execution ID: {})", cronJobModel.getCode(), retries,
+                        failed.getId());
+            }
+            return;
+        }
+
+        // A pending execution (a fire or another retry) already runs the job again
+        if (jobExecutionService.findRunningByJobDefinitionId(cronJobModel.getId()).stream()
+                .anyMatch(execution -> execution.getStatus() == JobExecutionModel.Status.QUEUED)) {
+            LOG.info("CronJob {} already has a queued execution, no retry scheduled for execution ID: {}",
+                    cronJobModel.getCode(), failed.getId());
+            return;
+        }
+
+        int attempt = failed.getAttempt() + 1;
+        long backoffMs = backoffMillis(attempt);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        JobExecutionModel retry = new JobExecutionModel();
+        retry.setJobDefinition(cronJobModel);
+        retry.setStatus(JobExecutionModel.Status.QUEUED);
+        retry.setStartedAt(now);
+        retry.setNotBefore(now.plusNanos(backoffMs * 1_000_000L));
+        retry.setAttempt(attempt);
+        retry.setPriority(failed.getPriority());
+        retry.setParameters(failed.getParameters() != null ? new HashMap<>(failed.getParameters()) : null);
+        retry.setLogLevel(cronJobModel.getLogLevel().name());
+        retry.setCorrelationId("RETRY-" + System.currentTimeMillis());
+        retry = jobExecutionService.save(retry);
+
+        jobLogCollector.append(failed.getId(), "WARN", "Retry " + (attempt - 1) + " of "
+                + cronJobModel.getMaxRetryCount() + " scheduled as execution ID " + retry.getId() + " in " + backoffMs + " ms");
+        jobLogCollector.append(retry.getId(), "INFO", "Retry " + (attempt - 1) + " of "
+                + cronJobModel.getMaxRetryCount() + " of failed execution ID " + failed.getId()
+                + ", not before " + retry.getNotBefore());
+        eventPublisher.publishEvent(new ExecutionQueuedEvent(retry.getId(), cronJobModel.getId()));
+
+        LOG.info("Scheduled retry {} of {} for CronJob {} as execution ID: {} in {} ms", attempt - 1,
+                cronJobModel.getMaxRetryCount(), cronJobModel.getCode(), retry.getId(), backoffMs);
+    }
+}
@@ -0,0 +1,206 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.dto.ForecastBucketDto;
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.ForecastTriggerView;
+import org.quartz.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Projects the fires of all triggers over a window into a time-bucketed histogram of thread demand.
+ * Each fire occupies a thread for the expected duration of its job; buckets whose peak concurrency exceeds
+ * the cluster capacity (threadCount x nodes) are flagged as overloaded.
+ * Fire times are expanded once per distinct cron expression and time zone and shared by all triggers using it,
+ * and concurrency is accumulated in a per-second difference array, so the cost grows with distinct schedules
+ * and window length rather than with trigger count x fires.
+ */
+@Component
+public class FireTimeForecaster {
+
+    private final NextFireTimeCalculator nextFireTimeCalculator;
+
+    public FireTimeForecaster(NextFireTimeCalculator nextFireTimeCalculator) {
+        this.nextFireTimeCalculator = nextFireTimeCalculator;
+    }
+
+    /**
+     * @param durationMsByJob   expected execution duration per cron job id
+     * @param defaultDurationMs duration used for jobs without history
+     */
+    public ScheduleForecastDto forecast(Collection<? extends ForecastTriggerView> triggers,
+                                        Map<Long, Long> durationMsByJob,
+                                        long defaultDurationMs,
+                                        Instant from,
+                                        Duration window,
+                                        Duration bucket,
+                                        int threadCount,
+                                        int nodes) {
+        long started = System.nanoTime();
+        long fromSecond = from.getEpochSecond();
+        int windowSeconds = Math.toIntExact(window.getSeconds());
+        int bucketSeconds = Math.toIntExact(bucket.getSeconds());
+        int bucketCount = (windowSeconds + bucketSeconds - 1) / bucketSeconds;
+
+        // Triggers sharing a schedule, fire range and duration are added in one pass
+        Map<CronExpression, int[]> offsetsByExpression = new IdentityHashMap<>();
+        Map<FireSlice, Integer> slices = new HashMap<>();
+        for (ForecastTriggerView trigger : triggers) {
+            String expression = ScheduleJitter.shift(trigger.getCronExpression(), trigger.getId(), trigger.getJitterSeconds()).expression();
+            CronExpression cron = nextFireTimeCalculator.compile(expression, trigger.getTimeZoneId());
+            if (cron == null) {
+                continue;
+            }
+            int[] offsets = offsetsByExpression.computeIfAbsent(cron, c -> fireOffsets(c, fromSecond, windowSeconds));
+            FireSlice slice = slice(trigger, offsets, fromSecond * 1000,
+                    occupiedSeconds(durationMsByJob.getOrDefault(trigger.getCronJobId(), defaultDurationMs)));
+            if (slice != null) {
+                slices.merge(slice, 1, Integer::sum);
+            }
+        }
+
+        int[] delta = new int[windowSeconds + 1];
+        int[] fires = new int[bucketCount];
+        long fireCount = 0;
+        for (Map.Entry<FireSlice, Integer> entry : slices.entrySet()) {
+            FireSlice slice = entry.getKey();
+            int count = entry.getValue();
+            for (int i = slice.first(); i < slice.last(); i++) {
+                int offset = slice.offsets()[i];
+                delta[offset] += count;
+                delta[(int) Math.min((long) offset + slice.occupiedSeconds(), windowSeconds)] -= count;
+                fires[offset / bucketSeconds] += count;
+            }
+            fireCount += (long) count * (slice.last() - slice.first());
+        }
+
+        int capacity = threadCount * nodes;
+        List<ForecastBucketDto> buckets = new ArrayList<>(bucketCount);
+        int running = 0;
+        int peak = 0;
+        int peakSecond = -1;
+        int overloaded = 0;
+        for (int b = 0; b < bucketCount; b++) {
+            int bucketStart = b * bucketSeconds;
+            int bucketEnd = Math.min(bucketStart + bucketSeconds, windowSeconds);
+            int bucketPeak = 0;
+            long busySeconds = 0;
+            for (int second = bucketStart; second < bucketEnd; second++) {
+                running += delta[second];
+                busySeconds += running;
+                if (running > bucketPeak) {
+                    bucketPeak = running;
+                    if (running > peak) {
+                        peak = running;
+                        peakSecond = second;
+                    }
+                }
+            }
+            boolean overloadedBucket = bucketPeak > capacity;
+            if (overloadedBucket) {
+                overloaded++;
+            }
+            buckets.add(new ForecastBucketDto(toDateTime(fromSecond + bucketStart), fires[b], bucketPeak,
+                    (double) busySeconds / (bucketEnd - bucketStart), overloadedBucket));
+        }
+
+        return new ScheduleForecastDto(
+                toDateTime(fromSecond),
+                toDateTime(fromSecond + windowSeconds),
+                bucketSeconds,
+                threadCount,
+                nodes,
+                capacity,
+                triggers.size(),
+                fireCount,
+                peak,
+                peakSecond >= 0 ? toDateTime(fromSecond + peakSecond) : null,
+                overloaded,
+                buckets,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Fire times of an expression in [from, from + window), as second offsets from the window start
+     */
+    private static int[] fireOffsets(CronExpression cron, long fromSecond, int windowSeconds) {
+        int[] offsets = new int[16];
+        int size = 0;
+        long endMillis = (fromSecond + windowSeconds) * 1000;
+        // Start one second early so a fire exactly at the window start is included
+        Date cursor = new Date((fromSecond - 1) * 1000);
+        while (true) {
+            Date next = cron.getTimeAfter(cursor);
+            if (next == null || next.getTime() >= endMillis) {
+                break;
+            }
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = (int) (next.getTime() / 1000 - fromSecond);
+            cursor = next;
+        }
+        return Arrays.copyOf(offsets, size);
+    }
+
+    /**
+     * Range of the shared offsets a trigger actually fires at, using the same start/end/maxFireCount rules
+     * as NextFireTimeCalculator; null if it does not fire in the window
+     */
+    private static FireSlice slice(ForecastTriggerView trigger, int[] offsets, long fromMillis, int occupiedSeconds) {
+        int first = 0;
+        int last = offsets.length;
+        if (trigger.getStartTime() != null) {
+            // First fire after (start - 1s), like Quartz
+            long afterMillis = trigger.getStartTime().toInstant().toEpochMilli() - 1000 - fromMillis;
+            first = firstAbove(offsets, Math.floorDiv(afterMillis, 1000));
+        }
+        if (trigger.getEndTime() != null) {
+            long endMillis = trigger.getEndTime().toInstant().toEpochMilli() - fromMillis;
+            last = firstAbove(offsets, Math.floorDiv(endMillis, 1000));
+        }
+        Long maxFireCount = trigger.getMaxFireCount();
+        if (maxFireCount != null) {
+            long remaining = Math.max(0, maxFireCount - trigger.getFireCount());
+            last = (int) Math.min(last, first + remaining);
+        }
+        return first < last ? new FireSlice(offsets, first, last, occupiedSeconds) : null;
+    }
+
+    /**
+     * Index of the first offset greater than the given value
+     */
+    private static int firstAbove(int[] offsets, long value) {
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int occupiedSeconds(long durationMs) {
+        // Every fire takes a thread for at least a second
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (durationMs + 999) / 1000));
+    }
+
+    private static OffsetDateTime toDateTime(long epochSecond) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+    }
+
+    /**
+     * Fires [first, last) of a shared offset array with their thread occupancy (arrays compare by identity)
+     */
+    private record FireSlice(int[] offsets, int first, int last, int occupiedSeconds) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+import org.quartz.CronExpression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes trigger fire times in-process from the cron expression, without calling Quartz.
+ * Follows the rules of Quartz cron triggers (start/end time, time zone, jitter) and additionally stops at maxFireCount.
+ * Parsed cron expressions are cached per expression and time zone.
+ */
+@Component
+public class NextFireTimeCalculator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NextFireTimeCalculator.class);
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("UTC");
+
+    // Invalid expressions are cached as empty, so they are not parsed again
+    private final ConcurrentHashMap<String, Optional<CronExpression>> compiled = new ConcurrentHashMap<>();
+    private final int maxCachedExpressions;
+
+    public NextFireTimeCalculator(@Value("${job.triggers.next-fire-time.cache-size:10000}") int maxCachedExpressions) {
+        this.maxCachedExpressions = maxCachedExpressions;
+    }
+
+    /**
+     * Time zone a trigger is evaluated in (UTC if missing or unknown)
+     */
+    public static TimeZone timeZoneOf(TriggerModel trigger) {
+        return TimeZone.getTimeZone(zoneOf(trigger));
+    }
+
+    /**
+     * Next fire time after now
+     */
+    public OffsetDateTime nextFireTime(TriggerModel trigger) {
+        return nextFireTime(trigger, Instant.now());
+    }
+
+    /**
+     * Next fire time strictly after the given instant, or null if the trigger will not fire again
+     */
+    public OffsetDateTime nextFireTime(TriggerModel trigger, Instant after) {
+        List<OffsetDateTime> fireTimes = nextFireTimes(trigger, after, 1);
+        return fireTimes.isEmpty() ? null : fireTimes.get(0);
+    }
+
+    /**
+     * Up to count fire times strictly after the given instant
+     */
+    public List<OffsetDateTime> nextFireTimes(TriggerModel trigger, Instant after, int count) {
+        int remaining = remainingFires(trigger, count);
+        if (remaining <= 0) {
+            return List.of();
+        }
+        CronExpression cron = compile(trigger);
+        if (cron == null) {
+            return List.of();
+        }
+
+        ZoneId zone = zoneOf(trigger);
+        Date end = trigger.getEndTime() != null ? Date.from(trigger.getEndTime().toInstant()) : null;
+        Date cursor = effectiveAfter(trigger, after);
+
+        List<OffsetDateTime> fireTimes = new ArrayList<>(remaining);
+        while (fireTimes.size() < remaining) {
+            if (end != null && !cursor.before(end)) {
+                break;
+            }
+            Date next = cron.getTimeAfter(cursor);
+            if (next == null || (end != null && next.after(end))) {
+                break;
+            }
+            fireTimes.add(OffsetDateTime.ofInstant(next.toInstant(), zone));
+            cursor = next;
+        }
+        return fireTimes;
+    }
+
+    /**
+     * Bulk variant: up to count fire times per trigger, keyed by trigger id (triggers that never fire map to an empty list)
+     */
+    public Map<Long, List<OffsetDateTime>> nextFireTimes(Collection<TriggerModel> triggers, Instant after, int count) {
+        Map<Long, List<OffsetDateTime>> fireTimes = new LinkedHashMap<>(Math.max(16, triggers.size() * 4 / 3));
+        for (TriggerModel trigger : triggers) {
+            fireTimes.put(trigger.getId(), nextFireTimes(trigger, after, count));
+        }
+        return fireTimes;
+    }
+
+    /**
+     * Parsed cron expression of a trigger, or null if the expression is invalid
+     */
+    CronExpression compile(TriggerModel trigger) {
+        return compile(ScheduleJitter.effectiveExpression(trigger), trigger.getTimezone());
+    }
+
+    /**
+     * Parsed cron expression evaluated in the given time zone; instances are shared per expression and zone
+     */
+    CronExpression compile(String expression, String timezone) {
+        if (expression == null) {
+            return null;
+        }
+        ZoneId zone = zoneOf(timezone);
+        String key = zone.getId() + '|' + expression;
+
+        Optional<CronExpression> cron = compiled.get(key);
+        if (cron == null) {
+            if (compiled.size() >= maxCachedExpressions) {
+                // Distinct expressions are few in practice; a full cache means churn, start over
+                compiled.clear();
+            }
+            cron = compiled.computeIfAbsent(key, k -> Optional.ofNullable(parse(expression, zone)));
+        }
+        return cron.orElse(null);
+    }
+
+    private static CronExpression parse(String expression, ZoneId zone) {
+        try {
+            CronExpression cron = new CronExpression(expression);
+            // Set before the instance is shared; evaluation is read-only afterwards
+            cron.setTimeZone(TimeZone.getTimeZone(zone));
+            return cron;
+        } catch (ParseException e) {
+            LOG.warn("Invalid cron expression: {} - {}", expression, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Same lower bound as a Quartz cron trigger: never before its start time
+     */
+    private static Date effectiveAfter(TriggerModel trigger, Instant after) {
+        Instant effective = after;
+        if (trigger.getStartTime() != null) {
+            // Quartz looks for the first fire after (start - 1s), so a fire exactly at the start time counts
+            Instant beforeStart = trigger.getStartTime().toInstant().minusSeconds(1);
+            if (beforeStart.isAfter(effective)) {
+                effective = beforeStart;
+            }
+        }
+        return Date.from(effective);
+    }
+
+    private static int remainingFires(TriggerModel trigger, int count) {
+        Long maxFireCount = trigger.getMaxFireCount();
+        if (maxFireCount == null) {
+            return count;
+        }
+        long remaining = maxFireCount - trigger.getFireCount();
+        return (int) Math.max(0, Math.min(count, remaining));
+    }
+
+    private static ZoneId zoneOf(TriggerModel trigger) {
+        return zoneOf(trigger.getTimezone());
+    }
+
+    static ZoneId zoneOf(String timezone) {
+        if (timezone == null || timezone.isBlank()) {
+            return DEFAULT_ZONE;
+        }
+        try {
+            return ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            return DEFAULT_ZONE;
+        }
+    }
+}
@@ -25,20 +25,56 @@ public class QuartzJobScheduler {
 
     private static final Logger LOG = LoggerFactory.getLogger(QuartzJobScheduler.class);
 
+    public static final String JOB_KEY_PREFIX = "cronJob-";
+    public static final String TRIGGER_KEY_PREFIX = "trigger-";
+    public static final String TRIGGER_GROUP = "DEFAULT";
+
     private final Scheduler scheduler;
     private final CronJobRepository cronJobRepository;
     private final TriggerRepository triggerRepository;
     private final JobRegistry jobRegistry;
+    private final QuartzStateCache quartzStateCache;
 
-    public QuartzJobScheduler(Scheduler scheduler, CronJobRepository cronJobRepository, TriggerRepository triggerRepository, JobRegistry jobRegistry) {
+    public QuartzJobScheduler(Scheduler scheduler, CronJobRepository cronJobRepository, TriggerRepository triggerRepository,
+                              JobRegistry jobRegistry, QuartzStateCache quartzStateCache) {
         this.scheduler = scheduler;
         this.cronJobRepository = cronJobRepository;
         this.triggerRepository = triggerRepository;
         this.jobRegistry = jobRegistry;
+        this.quartzStateCache = quartzStateCache;
+    }
+
+    /**
+     * Quartz job key of a CronJob (all triggers of a CronJob share the job)
+     */
+    public static JobKey jobKeyOf(Long cronJobId) {
+        return JobKey.jobKey(JOB_KEY_PREFIX + cronJobId);
+    }
+
+    /**
+     * Quartz trigger key of a trigger
+     */
+    public static TriggerKey triggerKeyOf(Long triggerId) {
+        return TriggerKey.triggerKey(TRIGGER_KEY_PREFIX + triggerId, TRIGGER_GROUP);
+    }
+
+    /**
+     * Trigger id of a Quartz trigger key, or null if the key does not belong to a trigger of the triggers table
+     */
+    public static Long triggerIdOf(TriggerKey triggerKey) {
+        if (triggerKey == null || !triggerKey.getName().startsWith(TRIGGER_KEY_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(triggerKey.getName().substring(TRIGGER_KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     /**
      * Schedule a trigger for automatic execution
+     * Replaces the Quartz trigger if it already exists
      */
     public void scheduleTrigger(TriggerModel triggerModel) throws SchedulerException {
         CronJobModel cronJob = triggerModel.getCronJob();
@@ -47,30 +83,43 @@ public class QuartzJobScheduler {
             return;
         }
 
-        // Use same job key for same CronJob, but unique trigger key
-        String jobKey = "cronJob-" + cronJob.getId();
-        String triggerKey = "trigger-" + triggerModel.getId();
+        JobDetail jobDetail = buildJobDetail(cronJob);
+        CronTrigger trigger = buildTrigger(triggerModel, jobDetail.getKey());
 
-        // Check if job already exists for this CronJob
-        JobKey quartzJobKey = JobKey.jobKey(jobKey);
-        JobDetail jobDetail;
+        // Single call stores (or replaces) both the job and the trigger
+        scheduler.scheduleJob(jobDetail, Set.of(trigger), true);
         
-        if (scheduler.checkExists(quartzJobKey)) {
-            // Job exists, get it
-            jobDetail = scheduler.getJobDetail(quartzJobKey);
-        } else {
-            // Create new Quartz job detail
-            jobDetail = JobBuilder.newJob(CronJobQuartzJob.class)
-                    .withIdentity(jobKey)
-                    .usingJobData("cronJobId", cronJob.getId())
-                    .build();
-        }
+        // Update trigger with Quartz key
+        triggerModel.setQuartzTriggerKey(trigger.getKey().getName());
+        triggerRepository.save(triggerModel);
+
+        LOG.info("Scheduled trigger {} for CronJob {} with expression: {}", 
+                triggerModel.getName(), cronJob.getCode(), trigger.getCronExpression());
+    }
+
+    /**
+     * Build the Quartz job detail of a CronJob
+     */
+    public JobDetail buildJobDetail(CronJobModel cronJob) {
+        return JobBuilder.newJob(CronJobQuartzJob.class)
+                .withIdentity(jobKeyOf(cronJob.getId()))
+                .usingJobData("cronJobId", cronJob.getId())
+                .build();
+    }
 
-        // Create Quartz trigger
-        CronScheduleBuilder cronSchedule = CronScheduleBuilder.cronSchedule(triggerModel.getCronExpression());
+    /**
+     * Build the Quartz cron trigger of a trigger
+     *
+     * @throws RuntimeException if the cron expression is invalid
+     */
+    public CronTrigger buildTrigger(TriggerModel triggerModel, JobKey jobKey) {
+        // Jittered triggers are stored with their shifted expression
+        CronScheduleBuilder cronSchedule = CronScheduleBuilder.cronSchedule(ScheduleJitter.effectiveExpression(triggerModel))
+                .inTimeZone(NextFireTimeCalculator.timeZoneOf(triggerModel));
         
         // Apply misfire instruction to the cron schedule
-        switch (triggerModel.getMisfireInstruction()) {
+        String misfireInstruction = triggerModel.getMisfireInstruction() != null ? triggerModel.getMisfireInstruction() : "";
+        switch (misfireInstruction) {
             case "IGNORE_MISFIRE_POLICY":
                 cronSchedule.withMisfireHandlingInstructionIgnoreMisfires();
                 break;
@@ -85,9 +134,12 @@ public class QuartzJobScheduler {
                 break;
         }
         
-        CronTrigger trigger = TriggerBuilder.newTrigger()
-                .withIdentity(triggerKey, "DEFAULT")
+        return TriggerBuilder.newTrigger()
+                .withIdentity(triggerKeyOf(triggerModel.getId()))
+                .forJob(jobKey)
                 .withSchedule(cronSchedule)
+                // Quartz fires higher priority triggers first when several are due at once
+                .withPriority(triggerModel.getPriority())
                 .startAt(triggerModel.getStartTime() != null ? 
                         Date.from(triggerModel.getStartTime().atZoneSameInstant(ZoneId.systemDefault()).toInstant()) : 
                         new Date())
@@ -95,67 +147,30 @@ public class QuartzJobScheduler {
                         Date.from(triggerModel.getEndTime().atZoneSameInstant(ZoneId.systemDefault()).toInstant()) : 
                         null)
                 .build();
-
-        // Schedule the job and trigger
-        if (scheduler.checkExists(quartzJobKey)) {
-            // Job exists, just schedule the trigger
-            scheduler.scheduleJob(trigger);
-        } else {
-            // New job, schedule both job and trigger
-            scheduler.scheduleJob(jobDetail, trigger);
-        }
-        
-        // Update trigger with Quartz key
-        triggerModel.setQuartzTriggerKey(triggerKey);
-        triggerRepository.save(triggerModel);
-
-        LOG.info("Scheduled trigger {} for CronJob {} with expression: {}", 
-                triggerModel.getName(), cronJob.getCode(), triggerModel.getCronExpression());
     }
 
     /**
      * Unschedule a trigger
      */
     public void unscheduleTrigger(TriggerModel triggerModel) throws SchedulerException {
-        // Use trigger name instead of quartzTriggerKey since that's what's stored in Quartz
-        String triggerKey = "trigger-" + triggerModel.getId();
-        TriggerKey quartzTriggerKey = TriggerKey.triggerKey(triggerKey, "DEFAULT");
-        
-        if (scheduler.checkExists(quartzTriggerKey)) {
-            scheduler.unscheduleJob(quartzTriggerKey);
+        // unscheduleJob is a no-op for unknown keys, so no existence check is needed
+        if (scheduler.unscheduleJob(triggerKeyOf(triggerModel.getId()))) {
+            // Jobs are not durable, Quartz deletes the job together with its last trigger
             LOG.info("Unscheduled trigger: {}", triggerModel.getName());
         }
-            
-            // Check if there are other triggers for the same CronJob
-            CronJobModel cronJob = triggerModel.getCronJob();
-            if (cronJob != null) {
-                String jobKey = "cronJob-" + cronJob.getId();
-                JobKey quartzJobKey = JobKey.jobKey(jobKey);
-                
-                // Get all triggers for this job
-                List<? extends Trigger> triggers = scheduler.getTriggersOfJob(quartzJobKey);
-                
-                // If no more triggers, delete the job
-                if (triggers.isEmpty()) {
-                    scheduler.deleteJob(quartzJobKey);
-                    LOG.info("Deleted job for CronJob: {}", cronJob.getCode());
-                }
-            }
-            
-            triggerModel.setQuartzTriggerKey(null);
-            triggerRepository.save(triggerModel);
-        }
 
+        triggerModel.setQuartzTriggerKey(null);
+        triggerRepository.save(triggerModel);
+    }
 
     /**
      * Pause a trigger
      */
     public void pauseTrigger(TriggerModel triggerModel) throws SchedulerException {
-        // Use trigger name instead of quartzTriggerKey since that's what's stored in Quartz
-        String triggerKey = "trigger-" + triggerModel.getId();
-        TriggerKey quartzTriggerKey = TriggerKey.triggerKey(triggerKey, "DEFAULT");
+        TriggerKey quartzTriggerKey = triggerKeyOf(triggerModel.getId());
         
-        if (scheduler.checkExists(quartzTriggerKey)) {
+        // pauseTrigger is a no-op for unknown keys; skip only when the cache already knows it is missing
+        if (!quartzStateCache.isKnownAbsent(quartzTriggerKey)) {
             scheduler.pauseTrigger(quartzTriggerKey);
             LOG.info("Paused trigger: {}", triggerModel.getName());
         }
@@ -165,36 +180,38 @@ public class QuartzJobScheduler {
      * Resume a trigger
      */
     public void resumeTrigger(TriggerModel triggerModel) throws SchedulerException {
-        // Use trigger name instead of quartzTriggerKey since that's what's stored in Quartz
-        String triggerKey = "trigger-" + triggerModel.getId();
-        TriggerKey quartzTriggerKey = TriggerKey.triggerKey(triggerKey, "DEFAULT");
+        TriggerKey quartzTriggerKey = triggerKeyOf(triggerModel.getId());
         
-        if (scheduler.checkExists(quartzTriggerKey)) {
+        if (quartzStateCache.get(quartzTriggerKey).exists()) {
             scheduler.resumeTrigger(quartzTriggerKey);
             LOG.info("Resumed trigger: {}", triggerModel.getName());
+        } else {
+            // Paused triggers are disabled, so reconciliation may have removed them from Quartz
+            scheduleTrigger(triggerModel);
         }
     }
 
     /**
-     * Get next fire time for a trigger
+     * Get next fire time for a trigger (served from the node-local Quartz state cache)
      */
     public OffsetDateTime getNextFireTime(TriggerModel triggerModel) {
         try {
-            // Use trigger name instead of quartzTriggerKey since that's what's stored in Quartz
-            String triggerKey = "trigger-" + triggerModel.getId();
-            TriggerKey quartzTriggerKey = TriggerKey.triggerKey(triggerKey, "DEFAULT");
+            TriggerKey quartzTriggerKey = triggerKeyOf(triggerModel.getId());
             
-            LOG.debug("Looking for trigger with key: {} in group: DEFAULT", triggerKey);
+            LOG.debug("Looking for trigger with key: {} in group: {}", quartzTriggerKey.getName(), TRIGGER_GROUP);
             
-            if (scheduler.checkExists(quartzTriggerKey)) {
-                Date nextFireTime = scheduler.getTrigger(quartzTriggerKey).getNextFireTime();
+            QuartzStateCache.TriggerState state = quartzStateCache.get(quartzTriggerKey);
+            if (state.exists()) {
+                Date nextFireTime = state.nextFireTime();
                 if (nextFireTime != null) {
                     return nextFireTime.toInstant().atZone(ZoneId.systemDefault()).toOffsetDateTime();
                 }
             } else {
-                LOG.warn("Trigger not found in Quartz with key: {} in group: DEFAULT", triggerKey);
-                // Let's try to find all triggers to see what's actually there
-                debugAllTriggers();
+                LOG.warn("Trigger not found in Quartz with key: {} in group: {}", quartzTriggerKey.getName(), TRIGGER_GROUP);
+                if (LOG.isDebugEnabled()) {
+                    // Walks every job in the store, so only when debugging
+                    debugAllTriggers();
+                }
             }
         } catch (SchedulerException e) {
             LOG.error("Error getting next fire time for trigger: {}", triggerModel.getName(), e);
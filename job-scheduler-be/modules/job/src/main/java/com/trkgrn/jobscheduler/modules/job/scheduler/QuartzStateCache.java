@@ -0,0 +1,249 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import jakarta.annotation.PostConstruct;
+import org.quartz.*;
+import org.quartz.listeners.SchedulerListenerSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local cache of Quartz trigger existence and next fire times.
+ * Kept up to date by scheduler and trigger listeners, so reads on this node usually need no job store call;
+ * a miss costs a single getTrigger. Entries expire after a TTL and as soon as their next fire time has passed,
+ * which covers changes and fires made by other cluster nodes.
+ */
+@Component
+public class QuartzStateCache extends SchedulerListenerSupport implements TriggerListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QuartzStateCache.class);
+
+    static final String LISTENER_NAME = "quartz-state-cache";
+
+    private final Scheduler scheduler;
+    private final JobMetricsService jobMetricsService;
+    private final long ttlMs;
+
+    private final ConcurrentHashMap<TriggerKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public QuartzStateCache(Scheduler scheduler,
+                            JobMetricsService jobMetricsService,
+                            @Value("${job.quartz.state-cache.ttl-ms:30000}") long ttlMs) {
+        this.scheduler = scheduler;
+        this.jobMetricsService = jobMetricsService;
+        this.ttlMs = ttlMs;
+    }
+
+    @PostConstruct
+    public void register() throws SchedulerException {
+        scheduler.getListenerManager().addSchedulerListener(this);
+        scheduler.getListenerManager().addTriggerListener(this);
+        LOG.info("Quartz state cache registered (ttl: {} ms)", ttlMs);
+    }
+
+    /**
+     * Cached state of a trigger (loaded with one getTrigger call on a miss)
+     */
+    public TriggerState get(TriggerKey triggerKey) throws SchedulerException {
+        Entry cached = entries.get(triggerKey);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.isFresh(now)) {
+            jobMetricsService.recordQuartzStateLookup("hit");
+            return cached.state;
+        }
+        jobMetricsService.recordQuartzStateLookup("miss");
+
+        Entry loaded = Entry.of(scheduler.getTrigger(triggerKey), now + ttlMs);
+        // A listener update that raced with the load is newer, so it wins
+        entries.compute(triggerKey, (key, current) -> current == null || current == cached ? loaded : current);
+        evictOnRollback(triggerKey);
+        return loaded.state;
+    }
+
+    /**
+     * True only if the cache knows the trigger does not exist (never calls Quartz)
+     */
+    public boolean isKnownAbsent(TriggerKey triggerKey) {
+        Entry cached = entries.get(triggerKey);
+        return cached != null && cached.isFresh(System.currentTimeMillis()) && !cached.state.exists();
+    }
+
+    public void invalidate(TriggerKey triggerKey) {
+        entries.remove(triggerKey);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private void put(Trigger trigger) {
+        entries.put(trigger.getKey(), Entry.of(trigger, System.currentTimeMillis() + ttlMs));
+        evictOnRollback(trigger.getKey());
+    }
+
+    private void putAbsent(TriggerKey triggerKey) {
+        entries.put(triggerKey, Entry.of(null, System.currentTimeMillis() + ttlMs));
+        evictOnRollback(triggerKey);
+    }
+
+    /**
+     * Quartz joins the surrounding Spring transaction; state seen inside it is dropped if it rolls back
+     */
+    private void evictOnRollback(TriggerKey triggerKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    entries.remove(triggerKey);
+                }
+            }
+        });
+    }
+
+    // SchedulerListener
+
+    @Override
+    public void jobScheduled(Trigger trigger) {
+        put(trigger);
+    }
+
+    @Override
+    public void jobUnscheduled(TriggerKey triggerKey) {
+        putAbsent(triggerKey);
+    }
+
+    @Override
+    public void triggerFinalized(Trigger trigger) {
+        putAbsent(trigger.getKey());
+    }
+
+    @Override
+    public void triggerPaused(TriggerKey triggerKey) {
+        invalidate(triggerKey);
+    }
+
+    @Override
+    public void triggerResumed(TriggerKey triggerKey) {
+        // Misfire handling on resume may move the next fire time
+        invalidate(triggerKey);
+    }
+
+    @Override
+    public void triggersPaused(String triggerGroup) {
+        invalidateAll();
+    }
+
+    @Override
+    public void triggersResumed(String triggerGroup) {
+        invalidateAll();
+    }
+
+    @Override
+    public void jobDeleted(JobKey jobKey) {
+        entries.values().removeIf(entry -> jobKey.equals(entry.jobKey));
+    }
+
+    @Override
+    public void jobPaused(JobKey jobKey) {
+        entries.values().removeIf(entry -> jobKey.equals(entry.jobKey));
+    }
+
+    @Override
+    public void jobResumed(JobKey jobKey) {
+        entries.values().removeIf(entry -> jobKey.equals(entry.jobKey));
+    }
+
+    @Override
+    public void jobsPaused(String jobGroup) {
+        invalidateAll();
+    }
+
+    @Override
+    public void jobsResumed(String jobGroup) {
+        invalidateAll();
+    }
+
+    @Override
+    public void schedulingDataCleared() {
+        invalidateAll();
+    }
+
+    @Override
+    public void schedulerShutdown() {
+        invalidateAll();
+    }
+
+    // TriggerListener
+
+    @Override
+    public String getName() {
+        return LISTENER_NAME;
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        // The fired trigger already carries its following fire time
+        put(trigger);
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        invalidate(trigger.getKey());
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+        // Nothing to update; the next fire time was recorded when the trigger fired
+    }
+
+    /**
+     * Trigger existence and next fire time as seen by this node
+     */
+    public record TriggerState(boolean exists, Date nextFireTime) {
+    }
+
+    private static final class Entry {
+        private final TriggerState state;
+        private final JobKey jobKey;
+        private final long expiresAt;
+
+        private Entry(TriggerState state, JobKey jobKey, long expiresAt) {
+            this.state = state;
+            this.jobKey = jobKey;
+            this.expiresAt = expiresAt;
+        }
+
+        static Entry of(Trigger trigger, long expiresAt) {
+            if (trigger == null) {
+                return new Entry(new TriggerState(false, null), null, expiresAt);
+            }
+            Date nextFireTime = trigger.getNextFireTime();
+            return new Entry(new TriggerState(true, nextFireTime != null ? new Date(nextFireTime.getTime()) : null),
+                    trigger.getJobKey(), expiresAt);
+        }
+
+        boolean isFresh(long now) {
+            if (now >= expiresAt) {
+                return false;
+            }
+            // Once the cached fire time has passed the trigger fired somewhere; reload to get the next one
+            return state.nextFireTime() == null || state.nextFireTime().getTime() > now;
+        }
+    }
+}
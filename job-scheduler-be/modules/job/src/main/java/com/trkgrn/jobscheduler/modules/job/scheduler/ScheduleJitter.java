@@ -0,0 +1,139 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+
+/**
+ * Deterministic spread of cron fire times.
+ * A trigger with jitterSeconds > 0 fires a fixed offset in [0, jitterSeconds] after its cron times. The offset is
+ * hashed from the trigger id, so it is the same on every node and across restarts.
+ * It is applied by rewriting the seconds (and, where the schedule allows, minutes) field of the cron expression,
+ * so Quartz stores and fires the shifted schedule like any other cron trigger.
+ * Offsets that would cross an hour boundary are reduced to a spread within the minute.
+ */
+public final class ScheduleJitter {
+
+    public static final int MAX_JITTER_SECONDS = 3599;
+
+    private ScheduleJitter() {
+    }
+
+    /**
+     * Cron expression a trigger is actually scheduled with
+     */
+    public static String effectiveExpression(TriggerModel trigger) {
+        return shift(trigger.getCronExpression(), trigger.getId(), trigger.getJitterSeconds()).expression();
+    }
+
+    /**
+     * Offset in seconds a trigger's fires are shifted by (0 without jitter)
+     */
+    public static int effectiveOffset(TriggerModel trigger) {
+        return shift(trigger.getCronExpression(), trigger.getId(), trigger.getJitterSeconds()).offsetSeconds();
+    }
+
+    /**
+     * Shift an expression by the id-derived offset; unchanged if jitter is off or the expression has no fixed second
+     */
+    public static Shift shift(String expression, Long triggerId, int jitterSeconds) {
+        if (expression == null || triggerId == null || jitterSeconds <= 0) {
+            return new Shift(expression, 0);
+        }
+        return shift(expression, offsetSeconds(triggerId, jitterSeconds));
+    }
+
+    /**
+     * Offset in [0, jitterSeconds] derived from the trigger id only
+     */
+    public static int offsetSeconds(long triggerId, int jitterSeconds) {
+        int window = Math.min(jitterSeconds, MAX_JITTER_SECONDS) + 1;
+        return (int) Math.floorMod(mix(triggerId), (long) window);
+    }
+
+    static Shift shift(String expression, int offsetSeconds) {
+        String[] fields = expression.trim().split("\\s+");
+        Integer second = fields.length >= 6 ? parseValue(fields[0]) : null;
+        if (offsetSeconds <= 0 || second == null) {
+            // Schedules firing on several seconds of a minute are left as they are
+            return new Shift(expression, 0);
+        }
+
+        int total = second + offsetSeconds;
+        int carry = total / 60;
+        if (carry == 0) {
+            fields[0] = String.valueOf(total);
+            return new Shift(String.join(" ", fields), offsetSeconds);
+        }
+        String minutes = shiftMinutes(fields[1], carry);
+        if (minutes != null) {
+            fields[0] = String.valueOf(total % 60);
+            fields[1] = minutes;
+            return new Shift(String.join(" ", fields), offsetSeconds);
+        }
+
+        // Minutes cannot move without crossing the hour; keep the spread within the minute
+        int withinMinute = offsetSeconds % (60 - second);
+        if (withinMinute == 0) {
+            return new Shift(expression, 0);
+        }
+        fields[0] = String.valueOf(second + withinMinute);
+        return new Shift(String.join(" ", fields), withinMinute);
+    }
+
+    /**
+     * Minutes field moved by the given number of minutes within the hour, or null if not expressible
+     */
+    static String shiftMinutes(String field, int minutes) {
+        Integer value = parseValue(field);
+        if (value != null) {
+            return value + minutes < 60 ? String.valueOf(value + minutes) : null;
+        }
+
+        if (field.matches("\\d{1,2}(,\\d{1,2})+")) {
+            StringBuilder shifted = new StringBuilder();
+            for (String part : field.split(",")) {
+                int minute = Integer.parseInt(part) + minutes;
+                if (minute >= 60) {
+                    return null;
+                }
+                shifted.append(shifted.isEmpty() ? "" : ",").append(minute);
+            }
+            return shifted.toString();
+        }
+
+        // "*/15" or "5/15": the same set of minutes every hour only if the step divides the hour
+        int slash = field.indexOf('/');
+        if (slash > 0 && field.indexOf('/', slash + 1) < 0) {
+            String start = field.substring(0, slash);
+            Integer first = "*".equals(start) ? Integer.valueOf(0) : parseValue(start);
+            Integer step = parseValue(field.substring(slash + 1));
+            if (first != null && step != null && step > 0 && 60 % step == 0 && first + minutes < step) {
+                return (first + minutes) + "/" + step;
+            }
+        }
+        return null;
+    }
+
+    private static Integer parseValue(String field) {
+        if (!field.matches("\\d{1,2}")) {
+            return null;
+        }
+        int value = Integer.parseInt(field);
+        return value < 60 ? value : null;
+    }
+
+    /**
+     * SplitMix64 finalizer, so consecutive ids land far apart in the window
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Shifted expression and the offset it actually applies
+     */
+    public record Shift(String expression, int offsetSeconds) {
+    }
+}
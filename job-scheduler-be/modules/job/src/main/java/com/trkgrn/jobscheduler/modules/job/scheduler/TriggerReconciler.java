@@ -0,0 +1,293 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
+import com.trkgrn.jobscheduler.modules.job.repository.TriggerRepository;
+import org.quartz.CronTrigger;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reconciles Quartz triggers with the triggers table.
+ * Both sides are read in bulk and compared by job, cron expression, time zone, priority and misfire instruction;
+ * only the difference is applied, in batches through Quartz's bulk API on a bounded pool.
+ */
+@Component
+public class TriggerReconciler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TriggerReconciler.class);
+
+    private static final String QUARTZ_TRIGGERS_SQL =
+            "SELECT t.trigger_name, t.job_name, t.misfire_instr, t.priority, t.start_time, t.end_time, " +
+            "  c.cron_expression, c.time_zone_id " +
+            "FROM %1$striggers t " +
+            "LEFT JOIN %1$scron_triggers c " +
+            "  ON c.sched_name = t.sched_name AND c.trigger_name = t.trigger_name AND c.trigger_group = t.trigger_group " +
+            "WHERE t.sched_name = ? AND t.trigger_group = ?";
+
+    private final Scheduler scheduler;
+    private final QuartzJobScheduler quartzJobScheduler;
+    private final TriggerRepository triggerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String quartzTriggersSql;
+    private final int batchSize;
+    private final int parallelism;
+
+    public TriggerReconciler(Scheduler scheduler,
+                             QuartzJobScheduler quartzJobScheduler,
+                             TriggerRepository triggerRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}") String tablePrefix,
+                             @Value("${job.triggers.sync.batch-size:500}") int batchSize,
+                             @Value("${job.triggers.sync.parallelism:4}") int parallelism) {
+        this.scheduler = scheduler;
+        this.quartzJobScheduler = quartzJobScheduler;
+        this.triggerRepository = triggerRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.quartzTriggersSql = String.format(QUARTZ_TRIGGERS_SQL, tablePrefix);
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Bring Quartz in line with the triggers table
+     */
+    public TriggerReconciliationResult reconcile() throws SchedulerException {
+        long start = System.nanoTime();
+
+        Map<String, QuartzTriggerState> current = readQuartzTriggers();
+        List<TriggerModel> triggers = triggerRepository.findByEnabledTrueWithCronJob();
+
+        // Triggers of a job are kept together so each job detail is stored by a single batch
+        Map<JobKey, JobTriggers> pending = new LinkedHashMap<>();
+        Set<String> desiredKeys = new HashSet<>();
+        List<Long> unchangedIds = new ArrayList<>();
+        int added = 0;
+        int updated = 0;
+        int failed = 0;
+
+        for (TriggerModel triggerModel : triggers) {
+            CronJobModel cronJob = triggerModel.getCronJob();
+            if (cronJob == null || !cronJob.getEnabled()) {
+                // Not schedulable; removed from Quartz below if present
+                continue;
+            }
+            String triggerName = QuartzJobScheduler.triggerKeyOf(triggerModel.getId()).getName();
+            // Kept even if invalid, so a bad edit never unschedules a trigger that is running fine
+            desiredKeys.add(triggerName);
+
+            JobDetail jobDetail;
+            CronTrigger trigger;
+            try {
+                jobDetail = quartzJobScheduler.buildJobDetail(cronJob);
+                trigger = quartzJobScheduler.buildTrigger(triggerModel, jobDetail.getKey());
+            } catch (Exception e) {
+                LOG.error("Failed to build trigger: {} - {}", triggerModel.getName(), e.getMessage());
+                failed++;
+                continue;
+            }
+
+            QuartzTriggerState state = current.get(triggerName);
+            if (state != null && state.matches(trigger, triggerModel.getStartTime() == null)) {
+                unchangedIds.add(triggerModel.getId());
+                continue;
+            }
+            if (state == null) {
+                added++;
+            } else {
+                updated++;
+            }
+            pending.computeIfAbsent(jobDetail.getKey(), key -> new JobTriggers(jobDetail)).add(triggerModel.getId(), trigger);
+        }
+
+        List<TriggerKey> obsolete = current.keySet().stream()
+                .filter(name -> name.startsWith(QuartzJobScheduler.TRIGGER_KEY_PREFIX) && !desiredKeys.contains(name))
+                .map(name -> TriggerKey.triggerKey(name, QuartzJobScheduler.TRIGGER_GROUP))
+                .toList();
+
+        AtomicInteger failedInBatches = new AtomicInteger();
+        apply(partition(pending.values()), failedInBatches);
+        int removed = remove(obsolete);
+        markScheduled(unchangedIds);
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        TriggerReconciliationResult result = new TriggerReconciliationResult(
+                added, updated, removed, unchangedIds.size(), failed + failedInBatches.get(), durationMillis);
+        LOG.info("Trigger reconciliation completed in {} ms. Added: {}, Updated: {}, Removed: {}, Unchanged: {}, Failed: {}",
+                durationMillis, result.added(), result.updated(), result.removed(), result.unchanged(), result.failed());
+        return result;
+    }
+
+    /**
+     * Bulk read of the cron triggers stored by Quartz, keyed by trigger name
+     */
+    private Map<String, QuartzTriggerState> readQuartzTriggers() throws SchedulerException {
+        Map<String, QuartzTriggerState> states = new HashMap<>();
+        jdbcTemplate.query(quartzTriggersSql, rs -> {
+            states.put(rs.getString("trigger_name"), new QuartzTriggerState(
+                    rs.getString("job_name"),
+                    rs.getInt("misfire_instr"),
+                    rs.getInt("priority"),
+                    rs.getLong("start_time"),
+                    rs.getLong("end_time"),
+                    rs.getString("cron_expression"),
+                    rs.getString("time_zone_id")));
+        }, scheduler.getSchedulerName(), QuartzJobScheduler.TRIGGER_GROUP);
+        return states;
+    }
+
+    private List<List<JobTriggers>> partition(Collection<JobTriggers> jobs) {
+        List<List<JobTriggers>> batches = new ArrayList<>();
+        List<JobTriggers> batch = new ArrayList<>();
+        int triggerCount = 0;
+        for (JobTriggers job : jobs) {
+            if (triggerCount > 0 && triggerCount + job.size() > batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                triggerCount = 0;
+            }
+            batch.add(job);
+            triggerCount += job.size();
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void apply(List<List<JobTriggers>> batches, AtomicInteger failed) {
+        if (batches.isEmpty()) {
+            return;
+        }
+        int threads = Math.min(parallelism, batches.size());
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "trigger-sync-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture.allOf(batches.stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> failed.addAndGet(applyBatch(batch)), executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Store a batch of jobs and triggers in one Quartz call
+     *
+     * @return number of triggers that could not be scheduled
+     */
+    private int applyBatch(List<JobTriggers> batch) {
+        Map<JobDetail, Set<? extends Trigger>> triggersAndJobs = new HashMap<>();
+        for (JobTriggers job : batch) {
+            triggersAndJobs.put(job.jobDetail, job.triggers);
+        }
+        try {
+            scheduler.scheduleJobs(triggersAndJobs, true);
+            markScheduled(batch.stream().flatMap(job -> job.triggerIds.stream()).toList());
+            return 0;
+        } catch (Exception e) {
+            LOG.warn("Failed to schedule batch of {} jobs, retrying job by job - {}", batch.size(), e.getMessage());
+        }
+
+        // Isolate the failing job so the rest of the batch is still scheduled
+        int failed = 0;
+        for (JobTriggers job : batch) {
+            try {
+                scheduler.scheduleJob(job.jobDetail, job.triggers, true);
+                markScheduled(job.triggerIds);
+            } catch (Exception e) {
+                LOG.error("Failed to schedule job: {} - {}", job.jobDetail.getKey().getName(), e.getMessage());
+                failed += job.size();
+            }
+        }
+        return failed;
+    }
+
+    private int remove(List<TriggerKey> obsolete) throws SchedulerException {
+        for (int from = 0; from < obsolete.size(); from += batchSize) {
+            List<TriggerKey> chunk = obsolete.subList(from, Math.min(from + batchSize, obsolete.size()));
+            // Jobs are not durable, so Quartz deletes a job together with its last trigger
+            scheduler.unscheduleJobs(chunk);
+            List<String> names = chunk.stream().map(TriggerKey::getName).toList();
+            transactionTemplate.executeWithoutResult(status -> triggerRepository.clearQuartzTriggerKeys(names));
+        }
+        if (!obsolete.isEmpty()) {
+            LOG.info("Removed {} Quartz triggers without an enabled trigger", obsolete.size());
+        }
+        return obsolete.size();
+    }
+
+    private void markScheduled(List<Long> triggerIds) {
+        for (int from = 0; from < triggerIds.size(); from += batchSize) {
+            List<Long> chunk = triggerIds.subList(from, Math.min(from + batchSize, triggerIds.size()));
+            transactionTemplate.executeWithoutResult(status -> triggerRepository.markScheduled(chunk));
+        }
+    }
+
+    /**
+     * Stored state of a Quartz trigger; start_time and end_time are epoch millis, end_time 0 meaning none
+     */
+    private record QuartzTriggerState(String jobName, int misfireInstruction, int priority,
+                                      long startTime, long endTime, String cronExpression, String timeZoneId) {
+
+        /**
+         * @param startsNow the trigger has no start time of its own, so it was built to start now; any start
+         *                  not after that is equivalent
+         */
+        boolean matches(CronTrigger trigger, boolean startsNow) {
+            long desiredStart = trigger.getStartTime().getTime();
+            long desiredEnd = trigger.getEndTime() != null ? trigger.getEndTime().getTime() : 0;
+            return Objects.equals(jobName, trigger.getJobKey().getName())
+                    && misfireInstruction == trigger.getMisfireInstruction()
+                    && priority == trigger.getPriority()
+                    && (startsNow ? startTime <= desiredStart : startTime == desiredStart)
+                    && endTime == desiredEnd
+                    && Objects.equals(cronExpression, trigger.getCronExpression())
+                    && Objects.equals(timeZoneId, trigger.getTimeZone().getID());
+        }
+    }
+
+    private static final class JobTriggers {
+        private final JobDetail jobDetail;
+        private final Set<Trigger> triggers = new HashSet<>();
+        private final List<Long> triggerIds = new ArrayList<>();
+
+        private JobTriggers(JobDetail jobDetail) {
+            this.jobDetail = jobDetail;
+        }
+
+        private void add(Long triggerId, Trigger trigger) {
+            triggerIds.add(triggerId);
+            triggers.add(trigger);
+        }
+
+        private int size() {
+            return triggerIds.size();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+/**
+ * Outcome of a trigger reconciliation run
+ */
+public record TriggerReconciliationResult(
+        int added,
+        int updated,
+        int removed,
+        int unchanged,
+        int failed,
+        long durationMillis
+) {
+}
@@ -0,0 +1,22 @@
+package com.trkgrn.jobscheduler.modules.job.service;
+
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobDependencyModel;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CronJobDependencyService {
+    List<CronJobDependencyModel> findAll();
+    Optional<CronJobDependencyModel> findById(Long id);
+    List<CronJobDependencyModel> findByCronJobId(Long cronJobId);
+    CronJobDependencyModel create(Long upstreamCronJobId, Long downstreamCronJobId, CronJobDependencyModel.Condition condition);
+    void deleteById(Long id);
+
+    /**
+     * Queue the downstream jobs whose dependencies are satisfied by a finished execution
+     *
+     * @return number of queued downstream executions
+     */
+    int triggerDownstream(JobExecutionFinishedEvent event);
+}
@@ -1,6 +1,7 @@
 package com.trkgrn.jobscheduler.modules.job.service;
 
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +13,6 @@ public interface CronJobService {
     CronJobModel save(CronJobModel cronJobModel);
     void deleteById(Long id);
     boolean existsById(Long id);
-    CronJobModel runNow(Long id);
+    JobExecutionModel runNow(Long id);
     List<String> getAvailableJobs();
 }
@@ -0,0 +1,8 @@
+package com.trkgrn.jobscheduler.modules.job.service;
+
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+
+public interface ExecutionRollupService {
+    void record(JobExecutionFinishedEvent event);
+    int backfill();
+}
@@ -0,0 +1,11 @@
+package com.trkgrn.jobscheduler.modules.job.service;
+
+import com.trkgrn.jobscheduler.modules.job.api.ChunkCheckpoint;
+
+import java.util.Optional;
+
+public interface JobCheckpointService {
+    Optional<ChunkCheckpoint> findResumable(Long cronJobId, Long executionId);
+    void commitChunk(Long executionId, Long cronJobId, ChunkCheckpoint checkpoint, Runnable write);
+    void complete(Long executionId, Long cronJobId, ChunkCheckpoint checkpoint);
+}
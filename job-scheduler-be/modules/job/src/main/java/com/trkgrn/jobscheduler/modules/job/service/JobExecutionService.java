@@ -3,8 +3,10 @@ package com.trkgrn.jobscheduler.modules.job.service;
 import com.trkgrn.jobscheduler.modules.job.dto.PaginatedResponse;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface JobExecutionService {
     Optional<JobExecutionModel> findById(Long id);
@@ -15,11 +17,15 @@ public interface JobExecutionService {
     List<JobExecutionModel> findAll();
     List<JobExecutionModel> findByStatus(JobExecutionModel.Status status);
     List<JobExecutionModel> findActiveExecutions();
-    Long countByJobDefinitionIdAndStatus(Long jobId, JobExecutionModel.Status status);
+    Long countByJobDefinitionIdAndStatusIn(Long jobId, Collection<JobExecutionModel.Status> statuses);
+    long countByJobDefinitionId(Long jobDefinitionId);
     PaginatedResponse<JobExecutionModel> findAllPaginated(int page, int size);
     PaginatedResponse<JobExecutionModel> findByJobDefinitionIdPaginated(Long jobDefinitionId, int page, int size);
     PaginatedResponse<JobExecutionModel> findByStatusPaginated(JobExecutionModel.Status status, int page, int size);
     PaginatedResponse<JobExecutionModel> findByJobDefinitionIdAndStatusPaginated(Long jobDefinitionId, JobExecutionModel.Status status, int page, int size);
     boolean hasRunningExecution(Long jobDefinitionId);
     List<JobExecutionModel> findRunningByJobDefinitionId(Long jobDefinitionId);
+    CompletableFuture<Optional<JobExecutionModel>> awaitCompletion(Long id, long timeoutMillis);
+    List<JobExecutionModel.LogEntry> getLogs(Long id);
+    List<JobExecutionModel.LogEntry> getLogs(Long id, long afterSeq, int limit);
 }
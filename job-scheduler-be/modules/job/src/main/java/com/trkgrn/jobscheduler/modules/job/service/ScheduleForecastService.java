@@ -0,0 +1,9 @@
+package com.trkgrn.jobscheduler.modules.job.service;
+
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
+
+import java.time.Duration;
+
+public interface ScheduleForecastService {
+    ScheduleForecastDto forecast(Duration window, Duration bucket, Integer nodes);
+}
@@ -4,6 +4,7 @@ import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TriggerService {
@@ -17,5 +18,6 @@ public interface TriggerService {
     TriggerModel pause(Long id);
     TriggerModel resume(Long id);
     OffsetDateTime getNextFireTime(Long id);
+    Map<Long, List<OffsetDateTime>> getUpcomingFireTimes(int count);
     void updateAllNextFireTimes();
 }
@@ -1,9 +1,10 @@
 package com.trkgrn.jobscheduler.modules.job.service;
 
+import com.trkgrn.jobscheduler.modules.job.scheduler.TriggerReconciliationResult;
 import org.quartz.SchedulerException;
 
 public interface TriggerSyncService {
     void syncTriggersOnStartup();
     void syncTrigger(com.trkgrn.jobscheduler.modules.job.model.TriggerModel trigger) throws SchedulerException;
-    void syncAllTriggers();
+    TriggerReconciliationResult syncAllTriggers();
 }
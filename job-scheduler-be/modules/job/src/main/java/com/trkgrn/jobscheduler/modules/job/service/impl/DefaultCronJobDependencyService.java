@@ -0,0 +1,265 @@
+package com.trkgrn.jobscheduler.modules.job.service.impl;
+
+import com.trkgrn.jobscheduler.modules.job.event.ExecutionQueuedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobDependencyModel;
+import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.CronJobDependencyRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
+import com.trkgrn.jobscheduler.modules.job.scheduler.CronJobLeaseManager;
+import com.trkgrn.jobscheduler.modules.job.service.CronJobDependencyService;
+import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
+import com.trkgrn.jobscheduler.platform.common.model.exception.AlreadyExistsException;
+import com.trkgrn.jobscheduler.platform.common.model.exception.NotFoundException;
+import com.trkgrn.jobscheduler.platform.common.model.exception.NotValidException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Dependency edges between CronJobs (a DAG) and their evaluation.
+ * When an execution reaches a terminal status, every downstream job whose upstream edges are all satisfied since
+ * its own last start is stored as a QUEUED execution; the work queue starts it right away, without a cron fire.
+ * A failed execution with a pending retry does not count as an outcome; the retry's outcome does.
+ * Cycles are rejected when an edge is defined.
+ */
+@Service
+@Transactional
+public class DefaultCronJobDependencyService implements CronJobDependencyService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultCronJobDependencyService.class);
+
+    // Serializes edge definitions, so two concurrent edges cannot close a cycle together
+    private static final String DEFINITION_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('cron-job-dependencies'))";
+
+    private static final String EDGES_SQL = "SELECT upstream_cron_job_id, downstream_cron_job_id FROM public.cron_job_dependencies";
+
+    // Per upstream edge of the downstream job: status of the upstream's latest execution that ended after
+    // the downstream job last started (null if there is none yet)
+    private static final String FAN_IN_SQL =
+            "SELECT d.trigger_condition, (SELECT je.status FROM public.job_executions je " +
+            "WHERE je.job_definition_id = d.upstream_cron_job_id AND je.parent_execution_id IS NULL " +
+            "AND je.status IN ('SUCCESS', 'FAILED', 'CANCELLED', 'TIMED_OUT') " +
+            "AND je.ended_at > COALESCE(c.last_start_time, '-infinity'::timestamptz) " +
+            "ORDER BY je.ended_at DESC LIMIT 1) AS upstream_status " +
+            "FROM public.cron_job_dependencies d JOIN public.cron_jobs c ON c.id = d.downstream_cron_job_id " +
+            "WHERE d.downstream_cron_job_id = ?";
+
+    private final CronJobDependencyRepository cronJobDependencyRepository;
+    private final CronJobRepository cronJobRepository;
+    private final JobExecutionService jobExecutionService;
+    private final JobLogCollector jobLogCollector;
+    private final CronJobLeaseManager cronJobLeaseManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public DefaultCronJobDependencyService(CronJobDependencyRepository cronJobDependencyRepository,
+                                           CronJobRepository cronJobRepository,
+                                           JobExecutionService jobExecutionService,
+                                           JobLogCollector jobLogCollector,
+                                           CronJobLeaseManager cronJobLeaseManager,
+                                           ApplicationEventPublisher eventPublisher,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager) {
+        this.cronJobDependencyRepository = cronJobDependencyRepository;
+        this.cronJobRepository = cronJobRepository;
+        this.jobExecutionService = jobExecutionService;
+        this.jobLogCollector = jobLogCollector;
+        this.cronJobLeaseManager = cronJobLeaseManager;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.requiresNewTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @Override
+    public List<CronJobDependencyModel> findAll() {
+        return cronJobDependencyRepository.findAllWithCronJobs();
+    }
+
+    @Override
+    public Optional<CronJobDependencyModel> findById(Long id) {
+        return cronJobDependencyRepository.findById(id);
+    }
+
+    @Override
+    public List<CronJobDependencyModel> findByCronJobId(Long cronJobId) {
+        return cronJobDependencyRepository.findByCronJobId(cronJobId);
+    }
+
+    @Override
+    @Transactional
+    public CronJobDependencyModel create(Long upstreamCronJobId, Long downstreamCronJobId,
+                                         CronJobDependencyModel.Condition condition) {
+        if (upstreamCronJobId == null || downstreamCronJobId == null) {
+            throw new NotValidException("Upstream and downstream CronJob are required");
+        }
+        if (upstreamCronJobId.equals(downstreamCronJobId)) {
+            throw new NotValidException("A CronJob cannot depend on itself");
+        }
+        CronJobModel upstream = cronJobRepository.findById(upstreamCronJobId)
+                .orElseThrow(() -> new NotFoundException("CronJob not found with id: " + upstreamCronJobId));
+        CronJobModel downstream = cronJobRepository.findById(downstreamCronJobId)
+                .orElseThrow(() -> new NotFoundException("CronJob not found with id: " + downstreamCronJobId));
+
+        jdbcTemplate.query(DEFINITION_LOCK_SQL, rs -> null);
+        if (cronJobDependencyRepository.existsByUpstreamIdAndDownstreamId(upstreamCronJobId, downstreamCronJobId)) {
+            throw new AlreadyExistsException("CronJob " + downstream.getCode() + " already depends on " + upstream.getCode());
+        }
+        // The new edge upstream -> downstream closes a cycle if upstream is reachable from downstream
+        if (reachable(downstreamCronJobId, upstreamCronJobId)) {
+            throw new NotValidException("Dependency " + upstream.getCode() + " -> " + downstream.getCode()
+                    + " would create a cycle");
+        }
+
+        CronJobDependencyModel dependency = new CronJobDependencyModel();
+        dependency.setUpstream(upstream);
+        dependency.setDownstream(downstream);
+        dependency.setCondition(condition != null ? condition : CronJobDependencyModel.Condition.ON_SUCCESS);
+        dependency = cronJobDependencyRepository.save(dependency);
+        LOG.info("Added dependency {} -> {} ({})", upstream.getCode(), downstream.getCode(), dependency.getCondition());
+        return dependency;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        cronJobDependencyRepository.deleteById(id);
+    }
+
+    /**
+     * Evaluate the dependencies of a finished execution once its terminal status is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onExecutionFinished(JobExecutionFinishedEvent event) {
+        if (event.cronJobId() == null || event.status() == null) {
+            return;
+        }
+        try {
+            int queued = requiresNewTemplate.execute(new TransactionCallback<Integer>() {
+                @Override
+                public Integer doInTransaction(TransactionStatus status) {
+                    return triggerDownstream(event);
+                }
+            });
+            if (queued > 0) {
+                LOG.info("Execution ID: {} queued {} downstream executions", event.executionId(), queued);
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to trigger downstream jobs of execution ID: {}", event.executionId(), e);
+        }
+    }
+
+    @Override
+    public int triggerDownstream(JobExecutionFinishedEvent event) {
+        // A failure followed by a pending retry is not the upstream's outcome yet
+        if (CronJobDependencyModel.Condition.ON_FAILURE.matches(event.status()) && jobExecutionService
+                .findRunningByJobDefinitionId(event.cronJobId()).stream()
+                .anyMatch(execution -> execution.getStatus() == JobExecutionModel.Status.QUEUED && execution.getAttempt() > 1)) {
+            LOG.debug("Execution ID: {} failed with a retry pending, downstream jobs are not evaluated", event.executionId());
+            return 0;
+        }
+        int queued = 0;
+        for (CronJobDependencyModel dependency : cronJobDependencyRepository.findByUpstreamId(event.cronJobId())) {
+            if (!dependency.getCondition().matches(event.status())) {
+                continue;
+            }
+            if (enqueueIfReady(dependency.getDownstream().getId(), event)) {
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    private boolean enqueueIfReady(Long downstreamId, JobExecutionFinishedEvent event) {
+        // Same lock as scheduled fires, so upstreams finishing together queue the downstream job once
+        cronJobLeaseManager.lockQueue(downstreamId);
+
+        CronJobModel downstream = cronJobRepository.findById(downstreamId).orElse(null);
+        if (downstream == null || !downstream.getEnabled()) {
+            return false;
+        }
+
+        List<Map<String, Object>> edges = jdbcTemplate.queryForList(FAN_IN_SQL, downstreamId);
+        for (Map<String, Object> edge : edges) {
+            CronJobDependencyModel.Condition condition =
+                    CronJobDependencyModel.Condition.valueOf((String) edge.get("trigger_condition"));
+            String upstreamStatus = (String) edge.get("upstream_status");
+            if (upstreamStatus == null || !condition.matches(JobExecutionModel.Status.valueOf(upstreamStatus))) {
+                LOG.debug("CronJob {} is still waiting for {} of its {} upstream jobs", downstream.getCode(),
+                        condition, edges.size());
+                return false;
+            }
+        }
+
+        // A pending execution already covers this trigger
+        if (jobExecutionService.findRunningByJobDefinitionId(downstreamId).stream()
+                .anyMatch(execution -> execution.getStatus() == JobExecutionModel.Status.QUEUED)) {
+            return false;
+        }
+
+        JobExecutionModel execution = new JobExecutionModel();
+        execution.setJobDefinition(downstream);
+        // Claimed by the work queue like any queued execution; it waits there while the job holds a lease
+        execution.setStatus(JobExecutionModel.Status.QUEUED);
+        execution.setStartedAt(OffsetDateTime.now());
+        execution.setLogLevel(downstream.getLogLevel().name());
+        execution.setCorrelationId("DEPENDENCY-" + System.currentTimeMillis());
+        execution = jobExecutionService.save(execution);
+        jobLogCollector.append(execution.getId(), "INFO", "Queued by dependency: upstream CronJob ID "
+                + event.cronJobId() + " finished with " + event.status() + " (execution ID: " + event.executionId() + ")");
+        eventPublisher.publishEvent(new ExecutionQueuedEvent(execution.getId(), downstreamId));
+
+        LOG.info("Queued CronJob {} (execution ID: {}) after upstream execution ID: {} finished with {}",
+                downstream.getCode(), execution.getId(), event.executionId(), event.status());
+        return true;
+    }
+
+    private boolean reachable(Long from, Long to) {
+        Map<Long, List<Long>> downstreamsByUpstream = new HashMap<>();
+        jdbcTemplate.query(EDGES_SQL, (RowCallbackHandler) rs ->
+                downstreamsByUpstream.computeIfAbsent(rs.getLong("upstream_cron_job_id"), id -> new ArrayList<>())
+                        .add(rs.getLong("downstream_cron_job_id")));
+
+        Set<Long> visited = new HashSet<>();
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.push(from);
+        while (!pending.isEmpty()) {
+            Long current = pending.pop();
+            if (current.equals(to)) {
+                return true;
+            }
+            if (visited.add(current)) {
+                downstreamsByUpstream.getOrDefault(current, List.of()).forEach(pending::push);
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,11 @@
 package com.trkgrn.jobscheduler.modules.job.service.impl;
 
 import ch.qos.logback.classic.Level;
+import com.trkgrn.jobscheduler.modules.job.api.JobResult;
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.executor.ConcurrencyLimiter;
+import com.trkgrn.jobscheduler.modules.job.executor.ExecutionBudgetWatchdog;
+import com.trkgrn.jobscheduler.modules.job.executor.JobExecutionDispatcher;
 import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
 import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
@@ -8,17 +13,22 @@ import com.trkgrn.jobscheduler.modules.job.model.CronJobStatus;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
 import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
 import com.trkgrn.jobscheduler.modules.job.registry.JobRegistry;
+import com.trkgrn.jobscheduler.modules.job.repository.CronJobDependencyRepository;
 import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
 import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
 import com.trkgrn.jobscheduler.modules.job.repository.TriggerRepository;
+import com.trkgrn.jobscheduler.modules.job.scheduler.CronJobLeaseManager;
 import com.trkgrn.jobscheduler.modules.job.scheduler.QuartzJobScheduler;
 import com.trkgrn.jobscheduler.modules.job.service.CronJobService;
 import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
 import com.trkgrn.jobscheduler.modules.job.util.NodeIdentifier;
+import com.trkgrn.jobscheduler.platform.common.model.exception.ExecutionRejectedException;
 import com.trkgrn.jobscheduler.platform.common.model.exception.JobAlreadyRunningException;
 import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -29,9 +39,9 @@ import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 public class DefaultCronJobService implements CronJobService {
@@ -40,6 +50,7 @@ public class DefaultCronJobService implements CronJobService {
 
     private final CronJobRepository cronJobRepository;
     private final TriggerRepository triggerRepository;
+    private final CronJobDependencyRepository cronJobDependencyRepository;
     private final JobExecutionService jobExecutionService;
     private final JobExecutionRepository jobExecutionRepository;
     private final JobRegistry jobRegistry;
@@ -48,16 +59,28 @@ public class DefaultCronJobService implements CronJobService {
     private final EntityManager entityManager;
     private final NodeIdentifier nodeIdentifier;
     private final JobMetricsService jobMetricsService;
+    private final JobExecutionDispatcher jobExecutionDispatcher;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CronJobLeaseManager cronJobLeaseManager;
+    private final ExecutionBudgetWatchdog executionBudgetWatchdog;
+    private final ApplicationEventPublisher eventPublisher;
     private final TransactionTemplate transactionTemplate;
 
     public DefaultCronJobService(CronJobRepository cronJobRepository, TriggerRepository triggerRepository,
+                                 CronJobDependencyRepository cronJobDependencyRepository,
                                  JobExecutionService jobExecutionService, JobExecutionRepository jobExecutionRepository,
                                  JobRegistry jobRegistry, JobLogCollector jobLogCollector,
                                  QuartzJobScheduler quartzJobScheduler, EntityManager entityManager,
                                  NodeIdentifier nodeIdentifier, JobMetricsService jobMetricsService,
+                                 JobExecutionDispatcher jobExecutionDispatcher,
+                                 ConcurrencyLimiter concurrencyLimiter,
+                                 CronJobLeaseManager cronJobLeaseManager,
+                                 ExecutionBudgetWatchdog executionBudgetWatchdog,
+                                 ApplicationEventPublisher eventPublisher,
                                  PlatformTransactionManager transactionManager) {
         this.cronJobRepository = cronJobRepository;
         this.triggerRepository = triggerRepository;
+        this.cronJobDependencyRepository = cronJobDependencyRepository;
         this.jobExecutionService = jobExecutionService;
         this.jobExecutionRepository = jobExecutionRepository;
         this.jobRegistry = jobRegistry;
@@ -66,6 +89,11 @@ public class DefaultCronJobService implements CronJobService {
         this.entityManager = entityManager;
         this.nodeIdentifier = nodeIdentifier;
         this.jobMetricsService = jobMetricsService;
+        this.jobExecutionDispatcher = jobExecutionDispatcher;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.cronJobLeaseManager = cronJobLeaseManager;
+        this.executionBudgetWatchdog = executionBudgetWatchdog;
+        this.eventPublisher = eventPublisher;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
     }
@@ -121,7 +149,10 @@ public class DefaultCronJobService implements CronJobService {
             }
             LOG.info("Deleted {} triggers from database for CronJob ID: {}", triggers.size(), id);
 
-            // 3. Delete all executions (this should be handled by cascade, but let's be explicit)
+            // 3. Delete the dependency edges from and to this CronJob
+            cronJobDependencyRepository.deleteByCronJobId(id);
+
+            // 4. Delete all executions (this should be handled by cascade, but let's be explicit)
             List<JobExecutionModel> executions = jobExecutionService.findByJobDefinitionId(id);
             LOG.info("Found {} executions for CronJob ID: {}", executions.size(), id);
 
@@ -130,7 +161,7 @@ public class DefaultCronJobService implements CronJobService {
             }
             LOG.info("Deleted {} executions for CronJob ID: {}", executions.size(), id);
 
-            // 4. Finally, delete the CronJob itself
+            // 5. Finally, delete the CronJob itself
             cronJobRepository.deleteById(id);
             LOG.info("Successfully deleted CronJob with ID: {}", id);
 
@@ -146,15 +177,15 @@ public class DefaultCronJobService implements CronJobService {
     }
 
     @Override
-    public CronJobModel runNow(Long id) {
+    public JobExecutionModel runNow(Long id) {
         LOG.info("Manual execution requested for CronJob ID: {}", id);
 
+        // Admission stays on the caller thread so conflicts are reported immediately
         // This transaction should be short to avoid blocking other operations
         ManualExecutionContext executionContext = transactionTemplate.execute(new TransactionCallback<ManualExecutionContext>() {
             @Override
             public ManualExecutionContext doInTransaction(TransactionStatus status) {
-                // This ensures only one execution (manual or scheduled) can run at a time
-                CronJobModel cronJobModel = cronJobRepository.findByIdWithLock(id)
+                CronJobModel cronJobModel = cronJobRepository.findById(id)
                         .orElseThrow(() -> new RuntimeException("CronJob not found with id: " + id));
 
                 if (!cronJobModel.getEnabled()) {
@@ -162,24 +193,19 @@ public class DefaultCronJobService implements CronJobService {
                     throw new RuntimeException("CronJob is disabled");
                 }
 
-                // With pessimistic lock, this check is atomic and prevents race conditions
-                if (cronJobModel.getStatus() == CronJobStatus.RUNNING) {
-                    LOG.warn("CronJob {} is already running, cannot start another execution", cronJobModel.getCode());
-                    throw new JobAlreadyRunningException("CronJob is already running. Please wait for the current execution to complete.");
+                // Manual runs count against the same limits but are rejected instead of queued
+                if (!concurrencyLimiter.tryAdmit(cronJobModel.getJobBeanName(), null)) {
+                    LOG.warn("CronJob {} reached a concurrency limit, rejecting manual execution", cronJobModel.getCode());
+                    throw new ExecutionRejectedException("Concurrency limit reached for job " + cronJobModel.getJobBeanName() + ". Please try again later.");
                 }
 
-                // Also check for running executions in database
-                if (jobExecutionService.hasRunningExecution(id)) {
-                    LOG.warn("CronJob {} has running executions, cannot start another execution", cronJobModel.getCode());
-                    throw new JobAlreadyRunningException("CronJob has running executions. Please wait for the current execution to complete.");
+                // This ensures only one execution (manual or scheduled) can run at a time;
+                // the row is updated directly, so the loaded entity must not be saved in this transaction
+                if (!cronJobLeaseManager.acquire(id)) {
+                    LOG.warn("CronJob {} is already running or queued, cannot start another execution", cronJobModel.getCode());
+                    throw new JobAlreadyRunningException("CronJob is already running. Please wait for the current execution to complete.");
                 }
 
-                // Immediately set status to RUNNING to prevent other executions
-                // This is done while holding the pessimistic lock
-                cronJobModel.setStatus(CronJobStatus.RUNNING);
-                cronJobModel.setLastStartTime(OffsetDateTime.now());
-                cronJobModel = cronJobRepository.saveAndFlush(cronJobModel);
-
                 LOG.info("Starting manual execution of CronJob: {} (ID: {})", cronJobModel.getCode(), id);
 
                 // Create execution record
@@ -187,6 +213,7 @@ public class DefaultCronJobService implements CronJobService {
                 execution.setJobDefinition(cronJobModel);
                 execution.setStatus(JobExecutionModel.Status.RUNNING);
                 execution.setStartedAt(OffsetDateTime.now());
+                execution.setLastHeartbeatAt(execution.getStartedAt());
                 execution.setLogLevel(cronJobModel.getLogLevel().name());
                 execution.setNodeId(nodeIdentifier.getNodeId());
                 String correlationId = "MANUAL-" + System.currentTimeMillis();
@@ -200,184 +227,234 @@ public class DefaultCronJobService implements CronJobService {
                 jobMetricsService.recordExecutionStart(execution.getId(), cronJobModel);
                 jobMetricsService.updateJobStatus(null, CronJobStatus.RUNNING);
 
-                // Start log collection with correlation ID
-                Level jobLogLevel = ch.qos.logback.classic.Level.toLevel(cronJobModel.getLogLevel().name(), ch.qos.logback.classic.Level.INFO);
-                jobLogCollector.startLogCollection(execution.getId(), correlationId, jobLogLevel);
-
                 return new ManualExecutionContext(cronJobModel, execution, correlationId);
             }
         });
 
+        // Job body runs on the run-now executor; the caller gets the execution handle right away
         try {
-            var result = jobRegistry.executeJob(executionContext.cronJobModel, executionContext.execution.getId());
-
-            return transactionTemplate.execute(new TransactionCallback<CronJobModel>() {
-                @Override
-                public CronJobModel doInTransaction(TransactionStatus status) {
-                    jobLogCollector.stopLogCollectionAndPersist(executionContext.execution.getId(), executionContext.execution);
-
-                    CronJobModel cronJobModel = cronJobRepository.findById(executionContext.cronJobModel.getId())
-                            .orElseThrow(() -> new RuntimeException("CronJob not found: " + executionContext.cronJobModel.getId()));
-                    JobExecutionModel execution = jobExecutionService.findById(executionContext.execution.getId())
-                            .orElseThrow(() -> new RuntimeException("Execution not found: " + executionContext.execution.getId()));
-
-                    if (executionContext.execution.getLogs() != null && !executionContext.execution.getLogs().isEmpty()) {
-                        if (execution.getLogs() == null || execution.getLogs().isEmpty()) {
-                            execution.setLogs(new ArrayList<>(executionContext.execution.getLogs()));
-                        }
-                    }
-
-                    boolean isCancelled = execution.getStatus() == JobExecutionModel.Status.CANCELLED;
-                    boolean isAbortedFromResult = result != null && !result.getSuccess() &&
-                            result.getMessage() != null &&
-                            (result.getMessage().toLowerCase().contains("aborted") ||
-                                    result.getMessage().toLowerCase().contains("cancelled"));
-
-                    CronJobStatus oldStatus = cronJobModel.getStatus();
-                    CronJobStatus newStatus = null;
-
-                    if (isCancelled || isAbortedFromResult) {
-                        execution.setStatus(JobExecutionModel.Status.CANCELLED);
-                        execution.setEndedAt(OffsetDateTime.now());
-
-                        cronJobModel.setStatus(CronJobStatus.CANCELLED);
-                        cronJobModel.setLastEndTime(OffsetDateTime.now());
-                        cronJobModel.setLastResult("CANCELLED: " + (result != null ? result.getMessage() : "Job aborted by user"));
-
-                        jobLogCollector.addLog(execution.getId(), "WARN", "Job was cancelled: " + (result != null ? result.getMessage() : "Job aborted by user"));
-                        jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
-                        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
-
-                        jobExecutionService.save(execution);
-                        newStatus = CronJobStatus.CANCELLED;
-                    } else if (result.getSuccess()) {
-                        execution.setStatus(JobExecutionModel.Status.SUCCESS);
-                        execution.setEndedAt(OffsetDateTime.now());
-
-                        cronJobModel.setStatus(CronJobStatus.FINISHED);
-                        cronJobModel.setLastEndTime(OffsetDateTime.now());
-                        cronJobModel.setLastResult("SUCCESS: " + result.getMessage());
-
-                        jobLogCollector.addLog(execution.getId(), "INFO", "Job completed successfully: " + result.getMessage());
-                        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+            jobExecutionDispatcher.submitRunNow(executionContext.execution().getId(),
+                    () -> executeManualRun(executionContext),
+                    e -> finalizeManualRunWithException(executionContext, e));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Run-now executor is saturated, rejecting manual execution of CronJob: {} (Execution ID: {})",
+                    executionContext.cronJobModel().getCode(), executionContext.execution().getId());
+            finalizeManualRunWithException(executionContext,
+                    new RuntimeException("Run-now executor is saturated", e));
+            throw new ExecutionRejectedException("Too many manual executions in progress. Please try again later.");
+        }
 
-                        jobExecutionService.save(execution);
-                        newStatus = CronJobStatus.FINISHED;
-                    } else {
-                        execution.setStatus(JobExecutionModel.Status.FAILED);
-                        execution.setEndedAt(OffsetDateTime.now());
+        return executionContext.execution();
+    }
 
-                        cronJobModel.setStatus(CronJobStatus.FAILED);
-                        cronJobModel.setLastEndTime(OffsetDateTime.now());
-                        cronJobModel.setLastResult("FAILED: " + result.getMessage());
-                        cronJobModel.setRetryCount(cronJobModel.getRetryCount() + 1);
+    /**
+     * Execute the job body of a manual run (called on a run-now executor thread)
+     */
+    private void executeManualRun(ManualExecutionContext executionContext) {
+        Long executionId = executionContext.execution().getId();
+        try {
+            // Start log collection with correlation ID on the worker thread (sets MDC for this thread)
+            Level jobLogLevel = Level.toLevel(executionContext.cronJobModel().getLogLevel().name(), Level.INFO);
+            jobLogCollector.startLogCollection(executionId, executionContext.correlationId(), jobLogLevel);
+
+            executionBudgetWatchdog.watch(executionContext.execution(), executionContext.cronJobModel());
+            JobResult result;
+            boolean budgetExceeded;
+            try {
+                result = jobRegistry.executeJob(executionContext.cronJobModel(), executionId);
+            } finally {
+                budgetExceeded = executionBudgetWatchdog.release(executionId);
+            }
+            finalizeManualRun(executionContext, result, budgetExceeded && (result == null || !result.getSuccess()));
+        } catch (Exception e) {
+            try {
+                finalizeManualRunWithException(executionContext, e);
+            } catch (Exception finalizeException) {
+                LOG.error("Failed to finalize manual execution ID: {}", executionId, finalizeException);
+            }
+        } finally {
+            MDC.remove("correlationId");
+            MDC.remove("executionId");
+        }
+    }
 
-                        jobLogCollector.addLog(execution.getId(), "ERROR", "Job failed: " + result.getMessage());
-                        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+    private CronJobModel finalizeManualRun(ManualExecutionContext executionContext, JobResult result, boolean timedOut) {
+        return transactionTemplate.execute(new TransactionCallback<CronJobModel>() {
+            @Override
+            public CronJobModel doInTransaction(TransactionStatus status) {
+                CronJobModel cronJobModel = cronJobRepository.findById(executionContext.cronJobModel().getId())
+                        .orElseThrow(() -> new RuntimeException("CronJob not found: " + executionContext.cronJobModel().getId()));
+                JobExecutionModel execution = jobExecutionService.findById(executionContext.execution().getId())
+                        .orElseThrow(() -> new RuntimeException("Execution not found: " + executionContext.execution().getId()));
+
+                boolean isCancelled = execution.getStatus() == JobExecutionModel.Status.CANCELLED;
+                boolean isAbortedFromResult = result != null && !result.getSuccess() &&
+                        result.getMessage() != null &&
+                        (result.getMessage().toLowerCase().contains("aborted") ||
+                                result.getMessage().toLowerCase().contains("cancelled"));
+
+                CronJobStatus oldStatus = cronJobModel.getStatus();
+                CronJobStatus newStatus = null;
+
+                if (!isCancelled && timedOut) {
+                    String message = "Execution budget of " + executionBudgetWatchdog.budgetSeconds(execution, cronJobModel)
+                            + " s exceeded" + (result != null && result.getMessage() != null ? ": " + result.getMessage() : "");
+                    execution.setStatus(JobExecutionModel.Status.TIMED_OUT);
+                    execution.setEndedAt(OffsetDateTime.now());
+                    execution.setResultMessage(message);
+
+                    cronJobModel.setStatus(CronJobStatus.FAILED);
+                    cronJobModel.setLastEndTime(OffsetDateTime.now());
+                    cronJobModel.setLastResult("TIMED_OUT: " + message);
+                    cronJobModel.setRetryCount(cronJobModel.getRetryCount() + 1);
+
+                    jobLogCollector.addLog(execution.getId(), "ERROR", "Job timed out: " + message);
+                    jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+
+                    jobExecutionService.save(execution);
+                    newStatus = CronJobStatus.FAILED;
+                } else if (isCancelled || isAbortedFromResult) {
+                    execution.setStatus(JobExecutionModel.Status.CANCELLED);
+                    execution.setEndedAt(OffsetDateTime.now());
+                    execution.setResultMessage(result != null ? result.getMessage() : "Job aborted by user");
+
+                    cronJobModel.setStatus(CronJobStatus.CANCELLED);
+                    cronJobModel.setLastEndTime(OffsetDateTime.now());
+                    cronJobModel.setLastResult("CANCELLED: " + (result != null ? result.getMessage() : "Job aborted by user"));
+
+                    jobLogCollector.addLog(execution.getId(), "WARN", "Job was cancelled: " + (result != null ? result.getMessage() : "Job aborted by user"));
+                    jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
+                    jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+
+                    jobExecutionService.save(execution);
+                    newStatus = CronJobStatus.CANCELLED;
+                } else if (result.getSuccess()) {
+                    execution.setStatus(JobExecutionModel.Status.SUCCESS);
+                    execution.setEndedAt(OffsetDateTime.now());
+                    execution.setResultMessage(result.getMessage());
+
+                    cronJobModel.setStatus(CronJobStatus.FINISHED);
+                    cronJobModel.setLastEndTime(OffsetDateTime.now());
+                    cronJobModel.setLastResult("SUCCESS: " + result.getMessage());
+                    cronJobModel.setRetryCount(0);
+
+                    jobLogCollector.addLog(execution.getId(), "INFO", "Job completed successfully: " + result.getMessage());
+                    jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+
+                    jobExecutionService.save(execution);
+                    newStatus = CronJobStatus.FINISHED;
+                } else {
+                    execution.setStatus(JobExecutionModel.Status.FAILED);
+                    execution.setEndedAt(OffsetDateTime.now());
+                    execution.setResultMessage(result.getMessage());
+
+                    cronJobModel.setStatus(CronJobStatus.FAILED);
+                    cronJobModel.setLastEndTime(OffsetDateTime.now());
+                    cronJobModel.setLastResult("FAILED: " + result.getMessage());
+                    cronJobModel.setRetryCount(cronJobModel.getRetryCount() + 1);
+
+                    jobLogCollector.addLog(execution.getId(), "ERROR", "Job failed: " + result.getMessage());
+                    jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+
+                    jobExecutionService.save(execution);
+                    newStatus = CronJobStatus.FAILED;
+                }
 
-                        jobExecutionService.save(execution);
-                        newStatus = CronJobStatus.FAILED;
-                    }
+                // Record metrics: execution complete and status change
+                jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
+                jobMetricsService.updateJobStatus(oldStatus, newStatus);
+                eventPublisher.publishEvent(JobExecutionFinishedEvent.of(cronJobModel, execution));
 
-                    // Record metrics: execution complete and status change
-                    jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
-                    jobMetricsService.updateJobStatus(oldStatus, newStatus);
-
-                    try {
-                        return cronJobRepository.saveAndFlush(cronJobModel);
-                    } catch (OptimisticLockingFailureException e) {
-                        // If optimistic locking fails, reload and retry
-                        CronJobModel freshCronJob = cronJobRepository.findById(cronJobModel.getId()).orElse(null);
-                        if (freshCronJob != null) {
-                            freshCronJob.setStatus(cronJobModel.getStatus());
-                            freshCronJob.setLastResult(cronJobModel.getLastResult());
-                            freshCronJob.setRetryCount(cronJobModel.getRetryCount());
-                            freshCronJob.setLastStartTime(cronJobModel.getLastStartTime());
-                            freshCronJob.setLastEndTime(cronJobModel.getLastEndTime());
-                            return cronJobRepository.saveAndFlush(freshCronJob);
-                        }
-                        return cronJobModel;
+                try {
+                    return cronJobRepository.saveAndFlush(cronJobModel);
+                } catch (OptimisticLockingFailureException e) {
+                    // If optimistic locking fails, reload and retry
+                    CronJobModel freshCronJob = cronJobRepository.findById(cronJobModel.getId()).orElse(null);
+                    if (freshCronJob != null) {
+                        freshCronJob.setStatus(cronJobModel.getStatus());
+                        freshCronJob.setLastResult(cronJobModel.getLastResult());
+                        freshCronJob.setRetryCount(cronJobModel.getRetryCount());
+                        freshCronJob.setLastStartTime(cronJobModel.getLastStartTime());
+                        freshCronJob.setLastEndTime(cronJobModel.getLastEndTime());
+                        return cronJobRepository.saveAndFlush(freshCronJob);
                     }
+                    return cronJobModel;
                 }
-            });
-        } catch (Exception e) {
-            return transactionTemplate.execute(new TransactionCallback<CronJobModel>() {
-                @Override
-                public CronJobModel doInTransaction(TransactionStatus status) {
-                    jobLogCollector.stopLogCollectionAndPersist(executionContext.execution.getId(), executionContext.execution);
-
-                    CronJobModel cronJobModel = cronJobRepository.findById(executionContext.cronJobModel.getId())
-                            .orElseThrow(() -> new RuntimeException("CronJob not found: " + executionContext.cronJobModel.getId()));
-                    JobExecutionModel execution = jobExecutionService.findById(executionContext.execution.getId())
-                            .orElseThrow(() -> new RuntimeException("Execution not found: " + executionContext.execution.getId()));
-
-                    if (executionContext.execution.getLogs() != null && !executionContext.execution.getLogs().isEmpty()) {
-                        if (execution.getLogs() == null || execution.getLogs().isEmpty()) {
-                            execution.setLogs(new ArrayList<>(executionContext.execution.getLogs()));
-                        }
-                    }
-
-                    CronJobStatus oldStatus = cronJobModel.getStatus();
-                    CronJobStatus newStatus = null;
-
-                    // Check if execution was cancelled/aborted before handling exception
-                    boolean isCancelled = execution.getStatus() == JobExecutionModel.Status.CANCELLED;
-
-                    if (isCancelled) {
-                        // Execution was already cancelled (aborted), keep it as CANCELLED
-                        execution.setEndedAt(OffsetDateTime.now());
-
-                        cronJobModel.setStatus(CronJobStatus.CANCELLED);
-                        cronJobModel.setLastEndTime(OffsetDateTime.now());
-                        cronJobModel.setLastResult("CANCELLED: Job aborted by user");
-
-                        jobLogCollector.addLog(execution.getId(), "WARN", "Job was cancelled: Job aborted by user");
-                        jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
-                        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
-
-                        jobExecutionService.save(execution);
-                        newStatus = CronJobStatus.CANCELLED;
-                    } else {
-                        // Real exception occurred, mark as FAILED
-                        execution.setStatus(JobExecutionModel.Status.FAILED);
-                        execution.setEndedAt(OffsetDateTime.now());
-
-                        cronJobModel.setStatus(CronJobStatus.FAILED);
-                        cronJobModel.setLastEndTime(OffsetDateTime.now());
-                        cronJobModel.setLastResult("EXCEPTION: " + e.getMessage());
-                        cronJobModel.setRetryCount(cronJobModel.getRetryCount() + 1);
+            }
+        });
+    }
 
-                        jobLogCollector.addLog(execution.getId(), "ERROR", "Job failed with exception: " + e.getMessage());
-                        // stopLogCollectionAndPersist already called above, but call again to ensure final logs are included
-                        jobLogCollector.stopLogCollectionAndPersist(execution.getId(), execution);
+    private CronJobModel finalizeManualRunWithException(ManualExecutionContext executionContext, Exception e) {
+        return transactionTemplate.execute(new TransactionCallback<CronJobModel>() {
+            @Override
+            public CronJobModel doInTransaction(TransactionStatus status) {
+                CronJobModel cronJobModel = cronJobRepository.findById(executionContext.cronJobModel().getId())
+                        .orElseThrow(() -> new RuntimeException("CronJob not found: " + executionContext.cronJobModel().getId()));
+                JobExecutionModel execution = jobExecutionService.findById(executionContext.execution().getId())
+                        .orElseThrow(() -> new RuntimeException("Execution not found: " + executionContext.execution().getId()));
+
+                CronJobStatus oldStatus = cronJobModel.getStatus();
+                CronJobStatus newStatus = null;
+
+                // Check if execution was cancelled/aborted before handling exception
+                boolean isCancelled = execution.getStatus() == JobExecutionModel.Status.CANCELLED;
+
+                if (isCancelled) {
+                    // Execution was already cancelled (aborted), keep it as CANCELLED
+                    execution.setEndedAt(OffsetDateTime.now());
+                    execution.setResultMessage("Job aborted by user");
+
+                    cronJobModel.setStatus(CronJobStatus.CANCELLED);
+                    cronJobModel.setLastEndTime(OffsetDateTime.now());
+                    cronJobModel.setLastResult("CANCELLED: Job aborted by user");
+
+                    jobLogCollector.addLog(execution.getId(), "WARN", "Job was cancelled: Job aborted by user");
+                    jobLogCollector.addLog(execution.getId(), "INFO", "Execution statistics: " + jobLogCollector.getStatistics());
+                    jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+
+                    jobExecutionService.save(execution);
+                    newStatus = CronJobStatus.CANCELLED;
+                } else {
+                    // Real exception occurred, mark as FAILED
+                    execution.setStatus(JobExecutionModel.Status.FAILED);
+                    execution.setEndedAt(OffsetDateTime.now());
+                    execution.setResultMessage(e.getMessage());
+
+                    cronJobModel.setStatus(CronJobStatus.FAILED);
+                    cronJobModel.setLastEndTime(OffsetDateTime.now());
+                    cronJobModel.setLastResult("EXCEPTION: " + e.getMessage());
+                    cronJobModel.setRetryCount(cronJobModel.getRetryCount() + 1);
+
+                    jobLogCollector.addLog(execution.getId(), "ERROR", "Job failed with exception: " + e.getMessage());
+                    jobLogCollector.stopLogCollectionAndPersist(execution.getId());
+
+                    jobExecutionService.save(execution);
+                    newStatus = CronJobStatus.FAILED;
+                }
 
-                        jobExecutionService.save(execution);
-                        newStatus = CronJobStatus.FAILED;
-                    }
+                // Record metrics: execution complete and status change
+                jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
+                jobMetricsService.updateJobStatus(oldStatus, newStatus);
+                eventPublisher.publishEvent(JobExecutionFinishedEvent.of(cronJobModel, execution));
 
-                    // Record metrics: execution complete and status change
-                    jobMetricsService.recordExecutionComplete(execution.getId(), cronJobModel, execution);
-                    jobMetricsService.updateJobStatus(oldStatus, newStatus);
-
-                    try {
-                        return cronJobRepository.saveAndFlush(cronJobModel);
-                    } catch (OptimisticLockingFailureException ex) {
-                        // If optimistic locking fails, reload and retry
-                        CronJobModel freshCronJob = cronJobRepository.findById(cronJobModel.getId()).orElse(null);
-                        if (freshCronJob != null) {
-                            freshCronJob.setStatus(newStatus);
-                            freshCronJob.setLastEndTime(OffsetDateTime.now());
-                            freshCronJob.setLastResult(isCancelled ? "CANCELLED: Job aborted by user" : "EXCEPTION: " + e.getMessage());
-                            if (!isCancelled) {
-                                freshCronJob.setRetryCount(freshCronJob.getRetryCount() + 1);
-                            }
-                            return cronJobRepository.saveAndFlush(freshCronJob);
+                try {
+                    return cronJobRepository.saveAndFlush(cronJobModel);
+                } catch (OptimisticLockingFailureException ex) {
+                    // If optimistic locking fails, reload and retry
+                    CronJobModel freshCronJob = cronJobRepository.findById(cronJobModel.getId()).orElse(null);
+                    if (freshCronJob != null) {
+                        freshCronJob.setStatus(newStatus);
+                        freshCronJob.setLastEndTime(OffsetDateTime.now());
+                        freshCronJob.setLastResult(isCancelled ? "CANCELLED: Job aborted by user" : "EXCEPTION: " + e.getMessage());
+                        if (!isCancelled) {
+                            freshCronJob.setRetryCount(freshCronJob.getRetryCount() + 1);
                         }
-                        return cronJobModel;
+                        return cronJobRepository.saveAndFlush(freshCronJob);
                     }
+                    return cronJobModel;
                 }
-            });
-        }
+            }
+        });
     }
 
     private record ManualExecutionContext(CronJobModel cronJobModel, JobExecutionModel execution,
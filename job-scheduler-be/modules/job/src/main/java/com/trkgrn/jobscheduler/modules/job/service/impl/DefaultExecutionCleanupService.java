@@ -1,5 +1,8 @@
 package com.trkgrn.jobscheduler.modules.job.service.impl;
 
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.PartitionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobModel;
 import com.trkgrn.jobscheduler.modules.job.model.CronJobStatus;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
@@ -13,13 +16,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -28,28 +33,54 @@ import java.util.stream.Collectors;
 /**
  * Service to clean up stuck/zombie executions on application startup
  * Handles cases where application was stopped while jobs were running
+ * While running, executions whose heartbeat went stale (their node died) are failed within seconds
  */
 @Service
 public class DefaultExecutionCleanupService implements ExecutionCleanupService {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionCleanupService.class);
     
-    @Value("${job.execution.timeout-minutes:60}")
-    private long executionTimeoutMinutes;
-    
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    // Stale rows are claimed with SKIP LOCKED so concurrent sweeps on other nodes never block or double-fail
+    private static final String FAIL_STALE_SQL =
+            "UPDATE public.job_executions SET status = 'FAILED', ended_at = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id IN (SELECT id FROM public.job_executions WHERE status = 'RUNNING' " +
+            "AND (last_heartbeat_at < now() - CAST(? AS double precision) * interval '1 millisecond' " +
+            "OR (last_heartbeat_at IS NULL AND started_at < now() - CAST(? AS double precision) * interval '1 millisecond')) " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING id";
+
+    // The CronJob keeps RUNNING if another execution of it is alive
+    private static final String RELEASE_CRON_JOB_SQL =
+            "UPDATE public.cron_jobs c SET status = 'FAILED', last_end_time = ?, last_result = ?, version = c.version + 1 " +
+            "WHERE c.id = ? AND c.status = 'RUNNING' AND NOT EXISTS (SELECT 1 FROM public.job_executions je " +
+            "WHERE je.job_definition_id = c.id AND je.status = 'RUNNING')";
+
     private final JobExecutionRepository jobExecutionRepository;
     private final CronJobRepository cronJobRepository;
     private final NodeIdentifier nodeIdentifier;
     private final EntityManager entityManager;
+    private final JobLogCollector jobLogCollector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final long staleAfterMs;
 
     public DefaultExecutionCleanupService(JobExecutionRepository jobExecutionRepository,
                                          CronJobRepository cronJobRepository,
                                          NodeIdentifier nodeIdentifier,
-                                         EntityManager entityManager) {
+                                         EntityManager entityManager,
+                                         JobLogCollector jobLogCollector,
+                                         ApplicationEventPublisher eventPublisher,
+                                         JdbcTemplate jdbcTemplate,
+                                         @Value("${job.execution.heartbeat.stale-after-ms:60000}") long staleAfterMs) {
         this.jobExecutionRepository = jobExecutionRepository;
         this.cronJobRepository = cronJobRepository;
         this.nodeIdentifier = nodeIdentifier;
         this.entityManager = entityManager;
+        this.jobLogCollector = jobLogCollector;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.staleAfterMs = staleAfterMs;
     }
 
     @Override
@@ -190,64 +221,38 @@ public class DefaultExecutionCleanupService implements ExecutionCleanupService {
     }
 
     /**
-     * Periodic cleanup of stuck executions (runs every 30 minutes)
-     * Checks for executions that have been running longer than the configured timeout
-     * Only cleans up executions belonging to this node (or legacy executions without nodeId)
+     * Fail RUNNING executions whose heartbeat is older than job.execution.heartbeat.stale-after-ms (runs on every node)
+     * One UPDATE on (status, last_heartbeat_at) claims the zombies; executions from before heartbeats existed
+     * fall back to their start time
      */
-    @Scheduled(fixedRate = 1800000) // 30 minutes
+    @Scheduled(fixedDelayString = "${job.execution.heartbeat.sweep-interval-ms:15000}")
     @Transactional
-    public void cleanupStuckExecutionsPeriodically() {
-        String currentNodeId = nodeIdentifier.getNodeId();
-        LOG.debug("Starting periodic cleanup of stuck executions for node: {}", currentNodeId);
-        
+    public void failStaleExecutions() {
         try {
-            // Find all running executions
-            List<JobExecutionModel> runningExecutions = jobExecutionRepository.findByStatus(JobExecutionModel.Status.RUNNING);
-            
-            if (runningExecutions.isEmpty()) {
-                return;
-            }
-            
-            OffsetDateTime timeoutThreshold = OffsetDateTime.now().minusMinutes(executionTimeoutMinutes);
-            
-            // Filter executions that belong to this node (or have no nodeId set - legacy executions)
-            List<JobExecutionModel> executionsToCheck = runningExecutions.stream()
-                    .filter(execution -> {
-                        String executionNodeId = execution.getNodeId();
-                        return currentNodeId.equals(executionNodeId) || executionNodeId == null;
-                    })
-                    .collect(Collectors.toList());
-            
-            if (executionsToCheck.isEmpty()) {
+            List<Long> staleIds = jdbcTemplate.queryForList(FAIL_STALE_SQL, Long.class,
+                    OffsetDateTime.now(), LocalDateTime.now(), staleAfterMs, staleAfterMs, SWEEP_BATCH_SIZE);
+            if (staleIds.isEmpty()) {
                 return;
             }
-            
-            int cleanedCount = 0;
-            
-            for (JobExecutionModel execution : executionsToCheck) {
-                try {
-                    // Check if execution has exceeded timeout
-                    if (execution.getStartedAt() != null && execution.getStartedAt().isBefore(timeoutThreshold)) {
-                        LOG.warn("Found stuck execution exceeding timeout ({} minutes): ID={}, NodeId={}, StartedAt={}, JobDefinition={}", 
-                                executionTimeoutMinutes, execution.getId(), 
-                                execution.getNodeId() != null ? execution.getNodeId() : "legacy",
-                                execution.getStartedAt(),
-                                execution.getJobDefinition() != null ? execution.getJobDefinition().getCode() : "N/A");
-                        
-                        cleanupStuckExecution(execution, "Execution timeout exceeded (" + executionTimeoutMinutes + " minutes) on node: " + currentNodeId);
-                        cleanedCount++;
-                    }
-                } catch (Exception e) {
-                    LOG.error("Error cleaning up execution ID={}: {}", execution.getId(), e.getMessage(), e);
+
+            String reason = "No heartbeat for more than " + staleAfterMs + " ms (node stopped or lost its database connection)";
+            for (JobExecutionModel execution : jobExecutionRepository.findAllById(staleIds)) {
+                LOG.warn("Found zombie execution: ID={}, NodeId={}, LastHeartbeatAt={}, JobDefinition={}",
+                        execution.getId(), execution.getNodeId() != null ? execution.getNodeId() : "legacy",
+                        execution.getLastHeartbeatAt(),
+                        execution.getJobDefinition() != null ? execution.getJobDefinition().getCode() : "N/A");
+
+                publishFinished(execution);
+                jobLogCollector.append(execution.getId(), "ERROR", "Execution marked as FAILED: " + reason);
+                if (execution.getJobDefinition() != null) {
+                    jdbcTemplate.update(RELEASE_CRON_JOB_SQL, OffsetDateTime.now(), "FAILED: " + reason,
+                            execution.getJobDefinition().getId());
                 }
             }
-            
-            if (cleanedCount > 0) {
-                LOG.info("Periodic cleanup completed. Cleaned {} stuck executions for node: {}", cleanedCount, currentNodeId);
-            }
-            
+
+            LOG.info("Heartbeat sweep failed {} zombie executions", staleIds.size());
         } catch (Exception e) {
-            LOG.error("Error during periodic execution cleanup", e);
+            LOG.error("Error during stale heartbeat sweep", e);
         }
     }
 
@@ -258,19 +263,11 @@ public class DefaultExecutionCleanupService implements ExecutionCleanupService {
         execution.setStatus(JobExecutionModel.Status.FAILED);
         execution.setEndedAt(now);
         
-        // Add log entry explaining why it was marked as failed
-        List<JobExecutionModel.LogEntry> logs = execution.getLogs();
-        if (logs == null) {
-            logs = new ArrayList<>();
-        }
-        logs.add(new JobExecutionModel.LogEntry(
-                now.toString(),
-                "ERROR",
-                "Execution marked as FAILED: " + reason
-        ));
-        execution.setLogs(logs);
-        
         jobExecutionRepository.save(execution);
+        publishFinished(execution);
+
+        // Add log entry explaining why it was marked as failed
+        jobLogCollector.append(execution.getId(), "ERROR", "Execution marked as FAILED: " + reason);
         
         // Update associated CronJob status if exists
         if (execution.getJobDefinition() != null) {
@@ -289,5 +286,15 @@ public class DefaultExecutionCleanupService implements ExecutionCleanupService {
         
         LOG.info("Cleaned up stuck execution: ID={}", execution.getId());
     }
-}
 
+    /**
+     * Partitions are reported to their parent; the parent execution reports itself
+     */
+    private void publishFinished(JobExecutionModel execution) {
+        if (execution.getParentExecutionId() != null) {
+            eventPublisher.publishEvent(new PartitionFinishedEvent(execution.getParentExecutionId(), execution.getId()));
+        } else {
+            eventPublisher.publishEvent(JobExecutionFinishedEvent.of(execution.getJobDefinition(), execution));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.trkgrn.jobscheduler.modules.job.service.impl;
+
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionRollupModel;
+import com.trkgrn.jobscheduler.modules.job.service.ExecutionRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Maintains job_execution_rollups (per job, per day and per hour counters).
+ * Finished executions are added with an upsert after the finalizing transaction commits;
+ * backfill rebuilds all rows from job_executions.
+ */
+@Service
+public class DefaultExecutionRollupService implements ExecutionRollupService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionRollupService.class);
+
+    // Upper bounds (ms) of the histogram buckets; anything above the last one goes to hist_gt_1h
+    private static final long[] HISTOGRAM_BOUNDS_MS = {1_000L, 10_000L, 60_000L, 600_000L, 3_600_000L};
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO public.job_execution_rollups AS r (job_definition_id, granularity, bucket_start, " +
+            "  total_count, success_count, failed_count, cancelled_count, " +
+            "  duration_count, duration_sum_ms, duration_min_ms, duration_max_ms, success_duration_count, success_duration_sum_ms, " +
+            "  hist_le_1s, hist_le_10s, hist_le_1m, hist_le_10m, hist_le_1h, hist_gt_1h) " +
+            "VALUES (?, ?, date_trunc(?, CAST(? AS timestamptz)), 1, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (job_definition_id, granularity, bucket_start) DO UPDATE SET " +
+            "  total_count = r.total_count + 1, " +
+            "  success_count = r.success_count + EXCLUDED.success_count, " +
+            "  failed_count = r.failed_count + EXCLUDED.failed_count, " +
+            "  cancelled_count = r.cancelled_count + EXCLUDED.cancelled_count, " +
+            "  duration_count = r.duration_count + EXCLUDED.duration_count, " +
+            "  duration_sum_ms = r.duration_sum_ms + EXCLUDED.duration_sum_ms, " +
+            "  duration_min_ms = LEAST(r.duration_min_ms, EXCLUDED.duration_min_ms), " +
+            "  duration_max_ms = GREATEST(r.duration_max_ms, EXCLUDED.duration_max_ms), " +
+            "  success_duration_count = r.success_duration_count + EXCLUDED.success_duration_count, " +
+            "  success_duration_sum_ms = r.success_duration_sum_ms + EXCLUDED.success_duration_sum_ms, " +
+            "  hist_le_1s = r.hist_le_1s + EXCLUDED.hist_le_1s, " +
+            "  hist_le_10s = r.hist_le_10s + EXCLUDED.hist_le_10s, " +
+            "  hist_le_1m = r.hist_le_1m + EXCLUDED.hist_le_1m, " +
+            "  hist_le_10m = r.hist_le_10m + EXCLUDED.hist_le_10m, " +
+            "  hist_le_1h = r.hist_le_1h + EXCLUDED.hist_le_1h, " +
+            "  hist_gt_1h = r.hist_gt_1h + EXCLUDED.hist_gt_1h";
+
+    private static final String BACKFILL_SQL =
+            "INSERT INTO public.job_execution_rollups (job_definition_id, granularity, bucket_start, " +
+            "  total_count, success_count, failed_count, cancelled_count, " +
+            "  duration_count, duration_sum_ms, duration_min_ms, duration_max_ms, success_duration_count, success_duration_sum_ms, " +
+            "  hist_le_1s, hist_le_10s, hist_le_1m, hist_le_10m, hist_le_1h, hist_gt_1h) " +
+            "SELECT e.job_definition_id, ?, e.bucket_start, " +
+            "  COUNT(*), " +
+            "  COUNT(*) FILTER (WHERE e.status = 'SUCCESS'), " +
+            "  COUNT(*) FILTER (WHERE e.status IN ('FAILED', 'TIMED_OUT')), " +
+            "  COUNT(*) FILTER (WHERE e.status = 'CANCELLED'), " +
+            "  COUNT(e.duration_ms), COALESCE(SUM(e.duration_ms), 0), MIN(e.duration_ms), MAX(e.duration_ms), " +
+            "  COUNT(e.duration_ms) FILTER (WHERE e.status = 'SUCCESS'), " +
+            "  COALESCE(SUM(e.duration_ms) FILTER (WHERE e.status = 'SUCCESS'), 0), " +
+            "  COUNT(*) FILTER (WHERE e.duration_ms <= 1000), " +
+            "  COUNT(*) FILTER (WHERE e.duration_ms > 1000 AND e.duration_ms <= 10000), " +
+            "  COUNT(*) FILTER (WHERE e.duration_ms > 10000 AND e.duration_ms <= 60000), " +
+            "  COUNT(*) FILTER (WHERE e.duration_ms > 60000 AND e.duration_ms <= 600000), " +
+            "  COUNT(*) FILTER (WHERE e.duration_ms > 600000 AND e.duration_ms <= 3600000), " +
+            "  COUNT(*) FILTER (WHERE e.duration_ms > 3600000) " +
+            "FROM (SELECT job_definition_id, status, date_trunc(?, COALESCE(started_at, ended_at)) AS bucket_start, " +
+            "             CASE WHEN started_at IS NOT NULL AND ended_at IS NOT NULL " +
+            "                  THEN GREATEST(CAST(EXTRACT(EPOCH FROM (ended_at - started_at)) * 1000 AS bigint), 0) END AS duration_ms " +
+            "      FROM public.job_executions " +
+            "      WHERE job_definition_id IS NOT NULL AND parent_execution_id IS NULL " +
+            "        AND status IN ('SUCCESS', 'FAILED', 'CANCELLED', 'TIMED_OUT') " +
+            "        AND COALESCE(started_at, ended_at) IS NOT NULL) e " +
+            "GROUP BY e.job_definition_id, e.bucket_start";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DefaultExecutionRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Add a finished execution once its terminal status is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExecutionFinished(JobExecutionFinishedEvent event) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> record(event));
+        } catch (Exception e) {
+            // Rollups are derived data; a missed increment is repaired by the next backfill
+            LOG.error("Failed to update execution rollups for execution ID: {}", event.executionId(), e);
+        }
+    }
+
+    @Override
+    public void record(JobExecutionFinishedEvent event) {
+        if (event.cronJobId() == null || event.status() == null) {
+            return;
+        }
+        OffsetDateTime bucketTime = event.startedAt() != null ? event.startedAt()
+                : event.endedAt() != null ? event.endedAt() : OffsetDateTime.now();
+        Long durationMs = event.durationMillis();
+        long[] histogram = new long[HISTOGRAM_BOUNDS_MS.length + 1];
+        if (durationMs != null) {
+            histogram[histogramBucket(durationMs)] = 1;
+        }
+        boolean success = event.status() == JobExecutionModel.Status.SUCCESS;
+
+        for (JobExecutionRollupModel.Granularity granularity : JobExecutionRollupModel.Granularity.values()) {
+            jdbcTemplate.update(UPSERT_SQL,
+                    event.cronJobId(),
+                    granularity.name(),
+                    granularity.name().toLowerCase(),
+                    bucketTime,
+                    success ? 1 : 0,
+                    // Timeouts count as failures
+                    event.status() == JobExecutionModel.Status.FAILED
+                            || event.status() == JobExecutionModel.Status.TIMED_OUT ? 1 : 0,
+                    event.status() == JobExecutionModel.Status.CANCELLED ? 1 : 0,
+                    durationMs != null ? 1 : 0,
+                    durationMs != null ? durationMs : 0L,
+                    durationMs,
+                    durationMs,
+                    success && durationMs != null ? 1 : 0,
+                    success && durationMs != null ? durationMs : 0L,
+                    histogram[0], histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]);
+        }
+    }
+
+    /**
+     * Rebuild all rollup rows from job_executions
+     *
+     * @return number of rollup rows written
+     */
+    @Override
+    public int backfill() {
+        Integer rows = transactionTemplate.execute(status -> {
+            // Concurrent increments wait until the rebuilt rows are committed
+            jdbcTemplate.execute("LOCK TABLE public.job_execution_rollups IN EXCLUSIVE MODE");
+            jdbcTemplate.update("DELETE FROM public.job_execution_rollups");
+            int written = 0;
+            for (JobExecutionRollupModel.Granularity granularity : JobExecutionRollupModel.Granularity.values()) {
+                written += jdbcTemplate.update(BACKFILL_SQL, granularity.name(), granularity.name().toLowerCase());
+            }
+            return written;
+        });
+        LOG.info("Execution rollups rebuilt: {} rows", rows);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Build rollups on first startup after upgrade (table empty but executions exist)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            Boolean rollupsEmpty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM public.job_execution_rollups)", Boolean.class);
+            Boolean executionsExist = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM public.job_executions WHERE status IN ('SUCCESS', 'FAILED', 'CANCELLED', 'TIMED_OUT'))", Boolean.class);
+            if (Boolean.TRUE.equals(rollupsEmpty) && Boolean.TRUE.equals(executionsExist)) {
+                backfill();
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to backfill execution rollups on startup", e);
+        }
+    }
+
+    private static int histogramBucket(long durationMs) {
+        for (int i = 0; i < HISTOGRAM_BOUNDS_MS.length; i++) {
+            if (durationMs <= HISTOGRAM_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return HISTOGRAM_BOUNDS_MS.length;
+    }
+}
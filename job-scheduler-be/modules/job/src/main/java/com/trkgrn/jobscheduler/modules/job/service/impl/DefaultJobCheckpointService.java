@@ -0,0 +1,92 @@
+package com.trkgrn.jobscheduler.modules.job.service.impl;
+
+import com.trkgrn.jobscheduler.modules.job.api.ChunkCheckpoint;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionCheckpointModel;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionCheckpointRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import com.trkgrn.jobscheduler.modules.job.service.JobCheckpointService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Chunk checkpoints of ChunkedJob executions (job_execution_checkpoints, one row per execution).
+ * A new execution resumes from the latest checkpoint of its cron job if that execution FAILED or TIMED_OUT before completing.
+ */
+@Service
+public class DefaultJobCheckpointService implements JobCheckpointService {
+
+    private final JobExecutionCheckpointRepository checkpointRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public DefaultJobCheckpointService(JobExecutionCheckpointRepository checkpointRepository,
+                                       JobExecutionRepository jobExecutionRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.checkpointRepository = checkpointRepository;
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @Override
+    public Optional<ChunkCheckpoint> findResumable(Long cronJobId, Long executionId) {
+        return checkpointRepository.findFirstByJobDefinitionIdAndExecutionIdLessThanOrderByExecutionIdDesc(cronJobId, executionId)
+                .filter(checkpoint -> !checkpoint.getCompleted())
+                .filter(checkpoint -> jobExecutionRepository.findStatusById(checkpoint.getExecutionId())
+                        .map(status -> status == JobExecutionModel.Status.FAILED
+                                || status == JobExecutionModel.Status.TIMED_OUT)
+                        .orElse(false))
+                .map(checkpoint -> new ChunkCheckpoint(checkpoint.getChunkOffset(), checkpoint.getReadCount(),
+                        checkpoint.getWriteCount(),
+                        checkpoint.getReaderState() != null ? checkpoint.getReaderState() : Map.of()));
+    }
+
+    /**
+     * Run the chunk's write and store the checkpoint in one transaction
+     */
+    @Override
+    public void commitChunk(Long executionId, Long cronJobId, ChunkCheckpoint checkpoint, Runnable write) {
+        transactionTemplate.execute(new TransactionCallback<Void>() {
+            @Override
+            public Void doInTransaction(TransactionStatus status) {
+                write.run();
+                store(executionId, cronJobId, checkpoint, false);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void complete(Long executionId, Long cronJobId, ChunkCheckpoint checkpoint) {
+        transactionTemplate.execute(new TransactionCallback<Void>() {
+            @Override
+            public Void doInTransaction(TransactionStatus status) {
+                store(executionId, cronJobId, checkpoint, true);
+                return null;
+            }
+        });
+    }
+
+    private void store(Long executionId, Long cronJobId, ChunkCheckpoint checkpoint, boolean completed) {
+        // Only the execution's own job thread writes its row
+        JobExecutionCheckpointModel model = checkpointRepository.findByExecutionId(executionId)
+                .orElseGet(JobExecutionCheckpointModel::new);
+        model.setExecutionId(executionId);
+        model.setJobDefinitionId(cronJobId);
+        model.setChunkOffset(checkpoint.chunkOffset());
+        model.setReadCount(checkpoint.readCount());
+        model.setWriteCount(checkpoint.writeCount());
+        model.setReaderState(new HashMap<>(checkpoint.readerState()));
+        model.setCompleted(completed);
+        checkpointRepository.save(model);
+    }
+}
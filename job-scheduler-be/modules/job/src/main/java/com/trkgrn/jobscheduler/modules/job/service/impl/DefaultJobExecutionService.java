@@ -1,19 +1,30 @@
 package com.trkgrn.jobscheduler.modules.job.service.impl;
 
 import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import com.trkgrn.jobscheduler.modules.job.cancellation.ExecutionCancellationChannel;
 import com.trkgrn.jobscheduler.modules.job.dto.PaginatedResponse;
+import com.trkgrn.jobscheduler.modules.job.event.JobExecutionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.event.PartitionFinishedEvent;
+import com.trkgrn.jobscheduler.modules.job.executor.ExecutionCompletionWaiter;
+import com.trkgrn.jobscheduler.modules.job.logging.JobLogCollector;
 import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionCheckpointRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionLogRepository;
 import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
 import com.trkgrn.jobscheduler.modules.job.service.JobExecutionService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Transactional
@@ -21,10 +32,27 @@ public class DefaultJobExecutionService implements JobExecutionService {
 
     private final JobExecutionRepository jobExecutionRepository;
     private final JobExecutionContext jobExecutionContext;
-
-    public DefaultJobExecutionService(JobExecutionRepository jobExecutionRepository, JobExecutionContext jobExecutionContext) {
+    private final ExecutionCompletionWaiter executionCompletionWaiter;
+    private final JobLogCollector jobLogCollector;
+    private final JobExecutionLogRepository jobExecutionLogRepository;
+    private final JobExecutionCheckpointRepository jobExecutionCheckpointRepository;
+    private final ExecutionCancellationChannel executionCancellationChannel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DefaultJobExecutionService(JobExecutionRepository jobExecutionRepository, JobExecutionContext jobExecutionContext,
+                                      ExecutionCompletionWaiter executionCompletionWaiter, JobLogCollector jobLogCollector,
+                                      JobExecutionLogRepository jobExecutionLogRepository,
+                                      JobExecutionCheckpointRepository jobExecutionCheckpointRepository,
+                                      ExecutionCancellationChannel executionCancellationChannel,
+                                      ApplicationEventPublisher eventPublisher) {
         this.jobExecutionRepository = jobExecutionRepository;
         this.jobExecutionContext = jobExecutionContext;
+        this.executionCompletionWaiter = executionCompletionWaiter;
+        this.jobLogCollector = jobLogCollector;
+        this.jobExecutionLogRepository = jobExecutionLogRepository;
+        this.jobExecutionCheckpointRepository = jobExecutionCheckpointRepository;
+        this.executionCancellationChannel = executionCancellationChannel;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -43,17 +71,31 @@ public class DefaultJobExecutionService implements JobExecutionService {
         JobExecutionModel execution = jobExecutionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job execution not found with id: " + id));
 
-        // Only cancel if job is currently running
-        if (execution.getStatus() != JobExecutionModel.Status.RUNNING) {
+        // Only cancel if job is currently running or still queued
+        if (execution.getStatus() != JobExecutionModel.Status.RUNNING
+                && execution.getStatus() != JobExecutionModel.Status.QUEUED) {
             throw new RuntimeException("Cannot cancel job execution. Status is: " + execution.getStatus());
         }
 
+        boolean queued = execution.getStatus() == JobExecutionModel.Status.QUEUED;
         execution.setStatus(JobExecutionModel.Status.CANCELLED);
         execution.setEndedAt(java.time.OffsetDateTime.now());
         execution = jobExecutionRepository.save(execution);
+
+        if (queued) {
+            // Never claimed by a worker: nothing runs, so the execution is final right away
+            if (execution.getParentExecutionId() != null) {
+                eventPublisher.publishEvent(new PartitionFinishedEvent(execution.getParentExecutionId(), execution.getId()));
+            } else {
+                eventPublisher.publishEvent(JobExecutionFinishedEvent.of(execution.getJobDefinition(), execution));
+            }
+            return execution;
+        }
         
         // Update in-memory cancellation flag for fast job response
         jobExecutionContext.requestCancellation(id);
+        // Let the node running the execution know (delivered on commit)
+        executionCancellationChannel.publish(id);
         
         return execution;
     }
@@ -68,6 +110,8 @@ public class DefaultJobExecutionService implements JobExecutionService {
     @Override
     @Transactional
     public void deleteById(Long id) {
+        jobExecutionLogRepository.deleteByExecutionId(id);
+        jobExecutionCheckpointRepository.deleteByExecutionId(id);
         jobExecutionRepository.deleteById(id);
     }
 
@@ -87,17 +131,22 @@ public class DefaultJobExecutionService implements JobExecutionService {
     }
 
     @Override
-    public Long countByJobDefinitionIdAndStatus(Long jobId, JobExecutionModel.Status status) {
+    public Long countByJobDefinitionIdAndStatusIn(Long jobId, Collection<JobExecutionModel.Status> statuses) {
         if (jobId != null) {
-            return jobExecutionRepository.countByJobDefinitionIdAndStatus(jobId, status);
+            return jobExecutionRepository.countTopLevelByJobDefinitionIdAndStatusIn(jobId, statuses);
         } else {
-            // Count all executions with this status
-            return jobExecutionRepository.findAll().stream()
-                    .filter(execution -> execution.getStatus() == status)
-                    .count();
+            // Count all executions with these statuses
+            return jobExecutionRepository.countTopLevelByStatusIn(statuses);
         }
     }
 
+    @Override
+    public long countByJobDefinitionId(Long jobDefinitionId) {
+        return jobDefinitionId != null
+                ? jobExecutionRepository.countByJobDefinitionIdAndParentExecutionIdIsNull(jobDefinitionId)
+                : jobExecutionRepository.countByParentExecutionIdIsNull();
+    }
+
     // Paginated methods
     @Override
     @Transactional(readOnly = true)
@@ -167,5 +216,26 @@ public class DefaultJobExecutionService implements JobExecutionService {
     public List<JobExecutionModel> findRunningByJobDefinitionId(Long jobDefinitionId) {
         return jobExecutionRepository.findRunningByJobDefinitionId(jobDefinitionId);
     }
-}
 
+    /**
+     * Wait until the execution reaches a terminal status or the timeout elapses, without blocking the caller.
+     * The execution is loaded once the wait is over, on the waiter's thread (a fresh persistence context),
+     * so a status committed by another node is never hidden by the caller's cached entity.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Optional<JobExecutionModel>> awaitCompletion(Long id, long timeoutMillis) {
+        return executionCompletionWaiter.await(id, timeoutMillis, () -> jobExecutionRepository.findById(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobExecutionModel.LogEntry> getLogs(Long id) {
+        return jobLogCollector.getLogs(id);
+    }
+
+    @Override
+    public List<JobExecutionModel.LogEntry> getLogs(Long id, long afterSeq, int limit) {
+        return jobLogCollector.getLogs(id, afterSeq, limit);
+    }
+}
@@ -0,0 +1,109 @@
+package com.trkgrn.jobscheduler.modules.job.service.impl;
+
+import com.trkgrn.jobscheduler.modules.job.dto.ScheduleForecastDto;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.TriggerRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.ForecastTriggerView;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.JobDurationView;
+import com.trkgrn.jobscheduler.modules.job.scheduler.FireTimeForecaster;
+import com.trkgrn.jobscheduler.modules.job.service.ScheduleForecastService;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class DefaultScheduleForecastService implements ScheduleForecastService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultScheduleForecastService.class);
+
+    // A node counts as alive while its last check-in is within two check-in intervals (as Quartz does)
+    private static final String ACTIVE_NODES_SQL =
+            "SELECT COUNT(*) FROM %sscheduler_state WHERE sched_name = ? AND last_checkin_time + 2 * checkin_interval >= ?";
+
+    private final TriggerRepository triggerRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final FireTimeForecaster fireTimeForecaster;
+    private final Scheduler scheduler;
+    private final JdbcTemplate jdbcTemplate;
+    private final String activeNodesSql;
+    private final double durationPercentile;
+    private final int durationLookbackDays;
+    private final long defaultDurationMs;
+
+    public DefaultScheduleForecastService(TriggerRepository triggerRepository,
+                                          JobExecutionRepository jobExecutionRepository,
+                                          FireTimeForecaster fireTimeForecaster,
+                                          Scheduler scheduler,
+                                          JdbcTemplate jdbcTemplate,
+                                          @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}") String tablePrefix,
+                                          @Value("${job.forecast.duration-percentile:0.95}") double durationPercentile,
+                                          @Value("${job.forecast.duration-lookback-days:14}") int durationLookbackDays,
+                                          @Value("${job.forecast.default-duration-ms:1000}") long defaultDurationMs) {
+        this.triggerRepository = triggerRepository;
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.fireTimeForecaster = fireTimeForecaster;
+        this.scheduler = scheduler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.activeNodesSql = String.format(ACTIVE_NODES_SQL, tablePrefix);
+        this.durationPercentile = durationPercentile;
+        this.durationLookbackDays = durationLookbackDays;
+        this.defaultDurationMs = defaultDurationMs;
+    }
+
+    /**
+     * Forecast of all enabled triggers from now on
+     *
+     * @param nodes cluster size to plan for; the number of live scheduler nodes if null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ScheduleForecastDto forecast(Duration window, Duration bucket, Integer nodes) {
+        List<ForecastTriggerView> triggers = triggerRepository.findSchedulableForForecast();
+        Map<Long, Long> durations = expectedDurations();
+
+        try {
+            int threadCount = scheduler.getMetaData().getThreadPoolSize();
+            int nodeCount = nodes != null ? nodes : activeNodes();
+            ScheduleForecastDto forecast = fireTimeForecaster.forecast(triggers, durations, defaultDurationMs,
+                    Instant.now(), window, bucket, threadCount, nodeCount);
+            LOG.debug("Forecasted {} fires of {} triggers in {} ms ({} overloaded buckets)",
+                    forecast.getFireCount(), forecast.getTriggerCount(), forecast.getComputeMillis(),
+                    forecast.getOverloadedBucketCount());
+            return forecast;
+        } catch (SchedulerException e) {
+            throw new RuntimeException("Failed to read scheduler metadata: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Duration percentile of each job's recent executions
+     */
+    private Map<Long, Long> expectedDurations() {
+        OffsetDateTime since = OffsetDateTime.now().minusDays(durationLookbackDays);
+        Map<Long, Long> durations = new HashMap<>();
+        for (JobDurationView view : jobExecutionRepository.findDurationPercentiles(durationPercentile, since)) {
+            if (view.getDurationMs() != null) {
+                durations.put(view.getJobId(), Math.round(view.getDurationMs()));
+            }
+        }
+        return durations;
+    }
+
+    private int activeNodes() throws SchedulerException {
+        Integer count = jdbcTemplate.queryForObject(activeNodesSql, Integer.class,
+                scheduler.getSchedulerName(), System.currentTimeMillis());
+        return count != null && count > 0 ? count : 1;
+    }
+}
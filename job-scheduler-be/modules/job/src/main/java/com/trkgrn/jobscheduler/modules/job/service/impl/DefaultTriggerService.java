@@ -3,15 +3,21 @@ package com.trkgrn.jobscheduler.modules.job.service.impl;
 import com.trkgrn.jobscheduler.modules.job.model.TriggerModel;
 import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
 import com.trkgrn.jobscheduler.modules.job.repository.TriggerRepository;
+import com.trkgrn.jobscheduler.modules.job.scheduler.NextFireTimeCalculator;
 import com.trkgrn.jobscheduler.modules.job.scheduler.QuartzJobScheduler;
 import com.trkgrn.jobscheduler.modules.job.service.TriggerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -20,16 +26,27 @@ public class DefaultTriggerService implements TriggerService {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultTriggerService.class);
 
+    private static final String UPDATE_NEXT_FIRE_TIMES_SQL =
+            "UPDATE public.triggers t SET next_fire_time = v.next_fire_time " +
+            "FROM (SELECT unnest(?::bigint[]) AS id, unnest(?::text[])::timestamptz AS next_fire_time) v " +
+            "WHERE t.id = v.id AND t.next_fire_time IS DISTINCT FROM v.next_fire_time";
+
     private final TriggerRepository triggerRepository;
     private final CronJobRepository cronJobRepository;
     private final QuartzJobScheduler quartzJobScheduler;
+    private final NextFireTimeCalculator nextFireTimeCalculator;
+    private final JdbcTemplate jdbcTemplate;
 
     public DefaultTriggerService(TriggerRepository triggerRepository, 
                          CronJobRepository cronJobRepository,
-                         QuartzJobScheduler quartzJobScheduler) {
+                         QuartzJobScheduler quartzJobScheduler,
+                         NextFireTimeCalculator nextFireTimeCalculator,
+                         JdbcTemplate jdbcTemplate) {
         this.triggerRepository = triggerRepository;
         this.cronJobRepository = cronJobRepository;
         this.quartzJobScheduler = quartzJobScheduler;
+        this.nextFireTimeCalculator = nextFireTimeCalculator;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -79,7 +96,7 @@ public class DefaultTriggerService implements TriggerService {
             try {
                 quartzJobScheduler.scheduleTrigger(savedTrigger);
                 // Get next fire time after scheduling
-                OffsetDateTime nextFireTime = quartzJobScheduler.getNextFireTime(savedTrigger);
+                OffsetDateTime nextFireTime = nextFireTimeCalculator.nextFireTime(savedTrigger);
                 if (nextFireTime != null) {
                     savedTrigger.setNextFireTime(nextFireTime);
                     savedTrigger = triggerRepository.save(savedTrigger);
@@ -108,7 +125,7 @@ public class DefaultTriggerService implements TriggerService {
             if (savedTrigger.getEnabled()) {
                 quartzJobScheduler.scheduleTrigger(savedTrigger);
                 // Get next fire time after rescheduling
-                OffsetDateTime nextFireTime = quartzJobScheduler.getNextFireTime(savedTrigger);
+                OffsetDateTime nextFireTime = nextFireTimeCalculator.nextFireTime(savedTrigger);
                 if (nextFireTime != null) {
                     savedTrigger.setNextFireTime(nextFireTime);
                     savedTrigger = triggerRepository.save(savedTrigger);
@@ -172,7 +189,7 @@ public class DefaultTriggerService implements TriggerService {
         try {
             quartzJobScheduler.resumeTrigger(trigger);
             // Get next fire time after resuming
-            OffsetDateTime nextFireTime = quartzJobScheduler.getNextFireTime(trigger);
+            OffsetDateTime nextFireTime = nextFireTimeCalculator.nextFireTime(trigger);
             if (nextFireTime != null) {
                 trigger.setNextFireTime(nextFireTime);
                 trigger = triggerRepository.save(trigger);
@@ -189,31 +206,45 @@ public class DefaultTriggerService implements TriggerService {
         TriggerModel trigger = triggerRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Trigger not found with id: " + id));
 
-        try {
-            return quartzJobScheduler.getNextFireTime(trigger);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to get next fire time: " + e.getMessage());
-        }
+        // Computed from the cron expression; paused (disabled) triggers do not fire
+        return trigger.getEnabled() ? nextFireTimeCalculator.nextFireTime(trigger) : null;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<OffsetDateTime>> getUpcomingFireTimes(int count) {
+        return nextFireTimeCalculator.nextFireTimes(triggerRepository.findByEnabledTrue(), Instant.now(), count);
     }
 
     /**
      * Update next fire time for all enabled triggers
+     * Times are computed in-process and written with a single UPDATE; unchanged rows are not touched
      */
     @Override
     @Transactional
     public void updateAllNextFireTimes() {
-        List<TriggerModel> enabledTriggers = triggerRepository.findByEnabledTrueWithCronJob();
-        for (TriggerModel trigger : enabledTriggers) {
-            try {
-                OffsetDateTime nextFireTime = quartzJobScheduler.getNextFireTime(trigger);
-                if (nextFireTime != null) {
-                    trigger.setNextFireTime(nextFireTime);
-                    triggerRepository.save(trigger);
-                }
-            } catch (Exception e) {
-                LOG.error("Failed to update next fire time for trigger: {}", trigger.getName(), e);
-            }
+        List<TriggerModel> enabledTriggers = triggerRepository.findByEnabledTrue();
+        if (enabledTriggers.isEmpty()) {
+            return;
         }
+
+        Instant now = Instant.now();
+        Long[] ids = new Long[enabledTriggers.size()];
+        String[] nextFireTimes = new String[enabledTriggers.size()];
+        for (int i = 0; i < enabledTriggers.size(); i++) {
+            TriggerModel trigger = enabledTriggers.get(i);
+            OffsetDateTime nextFireTime = nextFireTimeCalculator.nextFireTime(trigger, now);
+            ids[i] = trigger.getId();
+            nextFireTimes[i] = nextFireTime != null ? nextFireTime.toString() : null;
+        }
+
+        int updated = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPDATE_NEXT_FIRE_TIMES_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("text", nextFireTimes));
+            return ps;
+        });
+        LOG.info("Updated next fire time of {} triggers ({} enabled) in {} ms",
+                updated, enabledTriggers.size(), Duration.between(now, Instant.now()).toMillis());
     }
 }
-
@@ -8,6 +8,8 @@ data class JobMetadataDto(
     var description: String? = null,
     var category: String? = null,
     var parameters: List<JobParameterDto>? = null,
-    var abortable: Boolean = false
+    var abortable: Boolean = false,
+    var maxConcurrent: Int = 0,
+    var maxConcurrentPerNode: Int = 0
 ) : Serializable
 
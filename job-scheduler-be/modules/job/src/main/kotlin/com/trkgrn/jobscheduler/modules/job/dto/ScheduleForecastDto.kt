@@ -0,0 +1,34 @@
+package com.trkgrn.jobscheduler.modules.job.dto
+
+import java.io.Serializable
+import java.time.OffsetDateTime
+
+/**
+ * Projected trigger fires and thread demand over a time window
+ */
+data class ScheduleForecastDto(
+    val from: OffsetDateTime,
+    val to: OffsetDateTime,
+    val bucketSeconds: Long,
+    val threadCount: Int,
+    val nodes: Int,
+    val capacity: Int,
+    val triggerCount: Int,
+    val fireCount: Long,
+    val peakConcurrency: Int,
+    val peakAt: OffsetDateTime?,
+    val overloadedBucketCount: Int,
+    val buckets: List<ForecastBucketDto>,
+    val computeMillis: Long
+) : Serializable
+
+/**
+ * A single histogram bucket; concurrency is the number of projected running executions
+ */
+data class ForecastBucketDto(
+    val start: OffsetDateTime,
+    val fires: Int,
+    val peakConcurrency: Int,
+    val averageConcurrency: Double,
+    val overloaded: Boolean
+) : Serializable
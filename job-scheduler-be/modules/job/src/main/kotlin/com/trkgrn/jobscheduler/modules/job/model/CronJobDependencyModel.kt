@@ -0,0 +1,55 @@
+package com.trkgrn.jobscheduler.modules.job.model
+
+import com.trkgrn.jobscheduler.platform.common.entity.BaseEntity
+import jakarta.persistence.*
+
+/**
+ * Dependency edge between two CronJobs: the downstream job is queued as soon as its upstream job finishes
+ * with a matching status. A downstream job with several upstream edges waits for all of them (fan-in).
+ */
+@Entity
+@Table(
+    schema = "public",
+    name = "cron_job_dependencies",
+    indexes = [
+        Index(name = "ux_cron_job_dependencies_edge", columnList = "upstream_cron_job_id, downstream_cron_job_id", unique = true),
+        Index(name = "ix_cron_job_dependencies_downstream", columnList = "downstream_cron_job_id")
+    ]
+)
+class CronJobDependencyModel @JvmOverloads constructor(
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    override var id: Long? = null,
+
+    @ManyToOne(fetch = FetchType.LAZY, targetEntity = CronJobModel::class)
+    @JoinColumn(name = "upstream_cron_job_id", referencedColumnName = "id", nullable = false)
+    var upstream: CronJobModel? = null,
+
+    @ManyToOne(fetch = FetchType.LAZY, targetEntity = CronJobModel::class)
+    @JoinColumn(name = "downstream_cron_job_id", referencedColumnName = "id", nullable = false)
+    var downstream: CronJobModel? = null,
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_condition", nullable = false)
+    var condition: Condition = Condition.ON_SUCCESS
+) : BaseEntity() {
+
+    enum class Condition {
+        ON_SUCCESS,
+        // FAILED or TIMED_OUT
+        ON_FAILURE,
+        // Any terminal status (SUCCESS, FAILED, CANCELLED, TIMED_OUT)
+        ON_COMPLETE;
+
+        fun matches(status: JobExecutionModel.Status?): Boolean = when (this) {
+            ON_SUCCESS -> status == JobExecutionModel.Status.SUCCESS
+            ON_FAILURE -> status == JobExecutionModel.Status.FAILED
+                    || status == JobExecutionModel.Status.TIMED_OUT
+            ON_COMPLETE -> status == JobExecutionModel.Status.SUCCESS
+                    || status == JobExecutionModel.Status.FAILED
+                    || status == JobExecutionModel.Status.CANCELLED
+                    || status == JobExecutionModel.Status.TIMED_OUT
+        }
+    }
+}
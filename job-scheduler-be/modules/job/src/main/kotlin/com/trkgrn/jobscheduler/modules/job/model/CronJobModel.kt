@@ -54,12 +54,23 @@ open class CronJobModel @JvmOverloads constructor(
     @Column(name = "max_retry_count", nullable = false)
     open var maxRetryCount: Int = 3,
 
+    // Execution budget in seconds (null = job.execution.budget.default-timeout-seconds); triggers may override it
+    @Column(name = "timeout_seconds")
+    open var timeoutSeconds: Int? = null,
+
     @Column(name = "node_id")
     open var nodeId: String? = null,
 
     @Column(name = "correlation_id")
     open var correlationId: String? = null,
 
+    // Admission lease: only counts while status is RUNNING; renewed by the owning node while the body runs
+    @Column(name = "lease_owner")
+    open var leaseOwner: String? = null,
+
+    @Column(name = "lease_until")
+    open var leaseUntil: OffsetDateTime? = null,
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "parameters", columnDefinition = "jsonb")
     open var parameters: Map<String, Any>? = null,
@@ -0,0 +1,50 @@
+package com.trkgrn.jobscheduler.modules.job.model
+
+import com.trkgrn.jobscheduler.platform.common.entity.BaseEntity
+import jakarta.persistence.*
+import org.hibernate.annotations.JdbcTypeCode
+import org.hibernate.type.SqlTypes
+
+/**
+ * Last committed chunk of a ChunkedJob execution.
+ * Written in the same transaction as the chunk's writer; a retried execution of the cron job resumes from it.
+ */
+@Entity
+@Table(
+    schema = "public",
+    name = "job_execution_checkpoints",
+    indexes = [
+        Index(name = "ux_job_execution_checkpoints_execution", columnList = "execution_id", unique = true),
+        Index(name = "ix_job_execution_checkpoints_job_execution", columnList = "job_definition_id, execution_id")
+    ]
+)
+class JobExecutionCheckpointModel @JvmOverloads constructor(
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    override var id: Long? = null,
+
+    @Column(name = "execution_id", nullable = false)
+    var executionId: Long? = null,
+
+    @Column(name = "job_definition_id", nullable = false)
+    var jobDefinitionId: Long? = null,
+
+    // Number of committed chunks
+    @Column(name = "chunk_offset", nullable = false)
+    var chunkOffset: Long = 0,
+
+    @Column(name = "read_count", nullable = false)
+    var readCount: Long = 0,
+
+    @Column(name = "write_count", nullable = false)
+    var writeCount: Long = 0,
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "reader_state", columnDefinition = "jsonb")
+    var readerState: Map<String, Any>? = null,
+
+    // All items were processed; the next execution starts from the beginning
+    @Column(name = "completed", nullable = false)
+    var completed: Boolean = false
+) : BaseEntity()
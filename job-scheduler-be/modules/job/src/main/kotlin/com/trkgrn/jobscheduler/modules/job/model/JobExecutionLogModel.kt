@@ -0,0 +1,36 @@
+package com.trkgrn.jobscheduler.modules.job.model
+
+import jakarta.persistence.*
+import java.time.OffsetDateTime
+
+/**
+ * Append-only log line of a job execution.
+ * Rows are written with plain JDBC by JobExecutionLogWriter; this mapping is used for reads and schema.
+ */
+@Entity
+@Table(
+    schema = "public",
+    name = "job_execution_logs",
+    indexes = [Index(name = "ux_job_execution_logs_execution_seq", columnList = "execution_id, seq", unique = true)]
+)
+class JobExecutionLogModel @JvmOverloads constructor(
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    var id: Long? = null,
+
+    @Column(name = "execution_id", nullable = false)
+    var executionId: Long? = null,
+
+    @Column(name = "seq", nullable = false)
+    var seq: Long = 0,
+
+    @Column(name = "ts", nullable = false)
+    var ts: OffsetDateTime? = null,
+
+    @Column(name = "level", nullable = false, length = 10)
+    var level: String? = null,
+
+    @Column(name = "message", columnDefinition = "text")
+    var message: String? = null
+)
@@ -7,7 +7,17 @@ import org.hibernate.type.SqlTypes
 import java.time.OffsetDateTime
 
 @Entity
-@Table(schema = "public", name = "job_executions")
+@Table(
+    schema = "public",
+    name = "job_executions",
+    indexes = [
+        Index(name = "ix_job_executions_status", columnList = "status"),
+        Index(name = "ix_job_executions_started_at", columnList = "started_at"),
+        Index(name = "ix_job_executions_job_status", columnList = "job_definition_id, status"),
+        Index(name = "ix_job_executions_status_heartbeat", columnList = "status, last_heartbeat_at"),
+        Index(name = "ix_job_executions_parent_status", columnList = "parent_execution_id, status")
+    ]
+)
 class JobExecutionModel @JvmOverloads constructor(
     @Id
     @Column(name = "id")
@@ -29,33 +39,62 @@ class JobExecutionModel @JvmOverloads constructor(
     @Column(name = "ended_at")
     var endedAt: OffsetDateTime? = null,
 
+    // 1 for the first run; retries of a failed execution count up to CronJobModel.maxRetryCount + 1
     @Column(name = "attempt", nullable = false)
     var attempt: Int = 1,
 
+    // A QUEUED retry is not claimed before this time (backoff); null means claimable right away
+    @Column(name = "not_before")
+    var notBefore: OffsetDateTime? = null,
+
+    // Budget of the firing trigger; null falls back to the CronJob's budget when the body starts
+    @Column(name = "timeout_seconds")
+    var timeoutSeconds: Int? = null,
+
     @Column(name = "correlation_id")
     var correlationId: String? = null,
 
     @Column(name = "node_id")
     var nodeId: String? = null,
 
+    // Stamped periodically by the node running the body; a stale heartbeat marks a zombie execution
+    @Column(name = "last_heartbeat_at")
+    var lastHeartbeatAt: OffsetDateTime? = null,
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "parameters", columnDefinition = "jsonb")
     var parameters: Map<String, Any>? = null,
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "logs", columnDefinition = "jsonb")
-    var logs: List<LogEntry>? = null,
-
     @Column(name = "log_level")
-    var logLevel: String? = null
+    var logLevel: String? = null,
+
+    // Priority of the firing trigger; QUEUED executions are claimed highest priority first
+    @Column(name = "priority", nullable = false, columnDefinition = "integer default 5")
+    var priority: Int = 5,
+
+    // Partition executions of a PartitionedJob point to the execution that fanned them out
+    @Column(name = "parent_execution_id")
+    var parentExecutionId: Long? = null,
+
+    @Column(name = "partition_key")
+    var partitionKey: String? = null,
+
+    // Result message of the job body; used to aggregate partition results into the parent
+    @Column(name = "result_message", columnDefinition = "text")
+    var resultMessage: String? = null
 ) : BaseEntity() {
 
-    enum class Status { QUEUED, RUNNING, SUCCESS, FAILED, CANCELLED }
-    
+    // TIMED_OUT: the body exceeded its execution budget and was stopped by the ExecutionBudgetWatchdog
+    enum class Status { QUEUED, RUNNING, SUCCESS, FAILED, CANCELLED, TIMED_OUT }
+
+    /**
+     * Log line view; lines are stored in job_execution_logs (see JobExecutionLogModel)
+     */
     data class LogEntry(
         val timestamp: String,
         val level: String,
-        val message: String
+        val message: String,
+        val seq: Long? = null
     )
 }
 
@@ -0,0 +1,86 @@
+package com.trkgrn.jobscheduler.modules.job.model
+
+import jakarta.persistence.*
+import java.time.OffsetDateTime
+
+/**
+ * Pre-aggregated execution counters of a job per day / hour.
+ * Rows are incremented with upserts when an execution finishes (see DefaultExecutionRollupService).
+ */
+@Entity
+@Table(
+    schema = "public",
+    name = "job_execution_rollups",
+    indexes = [
+        Index(name = "ux_job_execution_rollups_bucket", columnList = "job_definition_id, granularity, bucket_start", unique = true),
+        Index(name = "ix_job_execution_rollups_granularity_bucket", columnList = "granularity, bucket_start")
+    ]
+)
+class JobExecutionRollupModel @JvmOverloads constructor(
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    var id: Long? = null,
+
+    @Column(name = "job_definition_id", nullable = false)
+    var jobDefinitionId: Long? = null,
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    var granularity: Granularity = Granularity.DAY,
+
+    @Column(name = "bucket_start", nullable = false)
+    var bucketStart: OffsetDateTime? = null,
+
+    @Column(name = "total_count", nullable = false)
+    var totalCount: Long = 0,
+
+    @Column(name = "success_count", nullable = false)
+    var successCount: Long = 0,
+
+    @Column(name = "failed_count", nullable = false)
+    var failedCount: Long = 0,
+
+    @Column(name = "cancelled_count", nullable = false)
+    var cancelledCount: Long = 0,
+
+    @Column(name = "duration_count", nullable = false)
+    var durationCount: Long = 0,
+
+    @Column(name = "duration_sum_ms", nullable = false)
+    var durationSumMs: Long = 0,
+
+    @Column(name = "duration_min_ms")
+    var durationMinMs: Long? = null,
+
+    @Column(name = "duration_max_ms")
+    var durationMaxMs: Long? = null,
+
+    @Column(name = "success_duration_count", nullable = false)
+    var successDurationCount: Long = 0,
+
+    @Column(name = "success_duration_sum_ms", nullable = false)
+    var successDurationSumMs: Long = 0,
+
+    // Duration histogram: <= 1s, <= 10s, <= 1m, <= 10m, <= 1h, > 1h
+    @Column(name = "hist_le_1s", nullable = false)
+    var histLe1s: Long = 0,
+
+    @Column(name = "hist_le_10s", nullable = false)
+    var histLe10s: Long = 0,
+
+    @Column(name = "hist_le_1m", nullable = false)
+    var histLe1m: Long = 0,
+
+    @Column(name = "hist_le_10m", nullable = false)
+    var histLe10m: Long = 0,
+
+    @Column(name = "hist_le_1h", nullable = false)
+    var histLe1h: Long = 0,
+
+    @Column(name = "hist_gt_1h", nullable = false)
+    var histGt1h: Long = 0
+) {
+
+    enum class Granularity { DAY, HOUR }
+}
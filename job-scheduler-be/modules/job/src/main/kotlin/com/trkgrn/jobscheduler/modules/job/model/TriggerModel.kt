@@ -60,7 +60,19 @@ class TriggerModel @JvmOverloads constructor(
     var fireCount: Long = 0,
 
     @Column(name = "max_fire_count")
-    var maxFireCount: Long? = null
+    var maxFireCount: Long? = null,
+
+    /**
+     * Fires are spread by a fixed, id-derived offset of up to this many seconds (0 = exact cron times)
+     */
+    @Column(name = "jitter_seconds", nullable = false, columnDefinition = "integer default 0")
+    var jitterSeconds: Int = 0,
+
+    /**
+     * Execution budget in seconds of this trigger's fires; overrides the CronJob's (null = the CronJob's)
+     */
+    @Column(name = "timeout_seconds")
+    var timeoutSeconds: Int? = null
 ) : BaseEntity() {
 
     enum class MisfireInstruction {
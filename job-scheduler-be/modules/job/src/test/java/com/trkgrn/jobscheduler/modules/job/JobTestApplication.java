@@ -0,0 +1,10 @@
+package com.trkgrn.jobscheduler.modules.job;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Boot configuration of the module's slice tests (the application class lives in the app module)
+ */
+@SpringBootApplication
+public class JobTestApplication {
+}
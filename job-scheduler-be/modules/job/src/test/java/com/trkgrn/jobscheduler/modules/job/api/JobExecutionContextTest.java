@@ -0,0 +1,118 @@
+package com.trkgrn.jobscheduler.modules.job.api;
+
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobExecutionContextTest {
+
+    private JobExecutionRepository jobExecutionRepository;
+    private JobExecutionContext context;
+
+    @BeforeEach
+    void setUp() {
+        jobExecutionRepository = mock(JobExecutionRepository.class);
+        when(jobExecutionRepository.findStatusById(anyLong())).thenReturn(Optional.of(JobExecutionModel.Status.RUNNING));
+        context = new JobExecutionContext(jobExecutionRepository);
+    }
+
+    @Test
+    void checksDoNotHitTheDatabaseOnceInitialized() {
+        context.initialize(1L);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(context.isCancelled(1L)).isFalse();
+        }
+        verify(jobExecutionRepository, times(1)).findStatusById(1L);
+    }
+
+    @Test
+    void picksUpACancellationStoredBeforeInitialization() {
+        when(jobExecutionRepository.findStatusById(1L)).thenReturn(Optional.of(JobExecutionModel.Status.CANCELLED));
+
+        context.initialize(1L);
+
+        assertThat(context.isCancelled(1L)).isTrue();
+    }
+
+    @Test
+    void markCancelledFlipsTheFlagOfTrackedExecutionsOnly() {
+        context.initialize(1L);
+
+        assertThat(context.markCancelled(1L)).isTrue();
+        assertThat(context.isCancelled(1L)).isTrue();
+        assertThat(context.markCancelled(2L)).isFalse();
+    }
+
+    @Test
+    void untrackedExecutionsAreCheckedInTheDatabase() {
+        when(jobExecutionRepository.findStatusById(2L)).thenReturn(Optional.of(JobExecutionModel.Status.CANCELLED));
+        when(jobExecutionRepository.findStatusById(3L)).thenReturn(Optional.empty());
+
+        assertThat(context.isCancelled(2L)).isTrue();
+        assertThat(context.isCancelled(3L)).isFalse();
+    }
+
+    @Test
+    void clearStopsTrackingTheExecution() {
+        context.initialize(1L);
+        context.clear(1L);
+
+        assertThat(context.markCancelled(1L)).isFalse();
+    }
+
+    @Test
+    void reconcileMarksExecutionsCancelledInTheDatabase() {
+        context.initialize(1L);
+        context.initialize(2L);
+        context.initialize(3L);
+        context.markCancelled(3L);
+        when(jobExecutionRepository.findIdsByIdInAndStatus(anyCollection(), eq(JobExecutionModel.Status.CANCELLED)))
+                .thenReturn(List.of(2L));
+
+        context.reconcile();
+
+        assertThat(context.isCancelled(1L)).isFalse();
+        assertThat(context.isCancelled(2L)).isTrue();
+        verify(jobExecutionRepository).findIdsByIdInAndStatus(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))),
+                eq(JobExecutionModel.Status.CANCELLED));
+    }
+
+    @Test
+    void reconcileSkipsTheQueryWithoutUncancelledExecutions() {
+        context.initialize(1L);
+        context.markCancelled(1L);
+
+        context.reconcile();
+
+        verify(jobExecutionRepository, never()).findIdsByIdInAndStatus(any(), any());
+    }
+
+    @Test
+    void reconcileFailureKeepsTheFlags() {
+        context.initialize(1L);
+        when(jobExecutionRepository.findIdsByIdInAndStatus(anyCollection(), any()))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        context.reconcile();
+
+        assertThat(context.isCancelled(1L)).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+package com.trkgrn.jobscheduler.modules.job.cancellation;
+
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Behaviour every ExecutionCancellationChannel must provide; delivery may be asynchronous
+ */
+abstract class ExecutionCancellationChannelContractTest {
+
+    protected static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
+
+    protected JobExecutionRepository jobExecutionRepository;
+    protected JobExecutionContext context;
+    protected ExecutionCancellationChannel channel;
+
+    protected abstract ExecutionCancellationChannel createChannel(JobExecutionContext context);
+
+    protected void closeChannel(ExecutionCancellationChannel channel) {
+    }
+
+    @BeforeEach
+    void setUpChannel() {
+        jobExecutionRepository = mock(JobExecutionRepository.class);
+        when(jobExecutionRepository.findStatusById(anyLong())).thenReturn(Optional.of(JobExecutionModel.Status.RUNNING));
+        context = new JobExecutionContext(jobExecutionRepository);
+        channel = createChannel(context);
+    }
+
+    @AfterEach
+    void tearDownChannel() {
+        closeChannel(channel);
+    }
+
+    @Test
+    void publishedCancelReachesTheRunningExecution() {
+        context.initialize(1L);
+
+        channel.publish(1L);
+
+        awaitCancelled(1L);
+    }
+
+    @Test
+    void publishLeavesOtherExecutionsRunning() {
+        context.initialize(1L);
+        context.initialize(2L);
+
+        channel.publish(1L);
+
+        awaitCancelled(1L);
+        assertThat(context.isCancelled(2L)).isFalse();
+    }
+
+    @Test
+    void publishForAnExecutionRunningElsewhereIsIgnored() {
+        channel.publish(99L);
+        context.initialize(1L);
+        channel.publish(1L);
+
+        awaitCancelled(1L);
+        // Still untracked: the next check goes to the database
+        assertThat(context.markCancelled(99L)).isFalse();
+    }
+
+    @Test
+    void publishingTwiceKeepsTheExecutionCancelled() {
+        context.initialize(1L);
+
+        channel.publish(1L);
+        channel.publish(1L);
+
+        awaitCancelled(1L);
+        assertThat(context.isCancelled(1L)).isTrue();
+    }
+
+    protected void awaitCancelled(Long executionId) {
+        await().atMost(DELIVERY_TIMEOUT).until(() -> context.isCancelled(executionId));
+    }
+}
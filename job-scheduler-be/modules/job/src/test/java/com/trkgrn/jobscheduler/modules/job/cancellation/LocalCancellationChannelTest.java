@@ -0,0 +1,23 @@
+package com.trkgrn.jobscheduler.modules.job.cancellation;
+
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCancellationChannelTest extends ExecutionCancellationChannelContractTest {
+
+    @Override
+    protected ExecutionCancellationChannel createChannel(JobExecutionContext context) {
+        return new LocalCancellationChannel(context);
+    }
+
+    @Test
+    void deliversInTheCallingThread() {
+        context.initialize(1L);
+
+        channel.publish(1L);
+
+        assertThat(context.isCancelled(1L)).isTrue();
+    }
+}
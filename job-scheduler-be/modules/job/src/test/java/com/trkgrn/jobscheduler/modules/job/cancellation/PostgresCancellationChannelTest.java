@@ -0,0 +1,141 @@
+package com.trkgrn.jobscheduler.modules.job.cancellation;
+
+import com.trkgrn.jobscheduler.modules.job.api.JobExecutionContext;
+import com.trkgrn.jobscheduler.modules.job.model.JobExecutionModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresCancellationChannelTest extends ExecutionCancellationChannelContractTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String LISTENER_PIDS_SQL =
+            "SELECT pid FROM pg_stat_activity WHERE query = 'LISTEN " + PostgresCancellationChannel.CHANNEL + "' " +
+            "AND pid <> pg_backend_pid()";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected ExecutionCancellationChannel createChannel(JobExecutionContext context) {
+        // Unpooled: every getConnection is a new backend, so terminating the listener leaves the others alone
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        PostgresCancellationChannel postgresChannel = new PostgresCancellationChannel(dataSource, jdbcTemplate, context, 100, 200);
+        postgresChannel.start();
+        awaitListener();
+        return postgresChannel;
+    }
+
+    @Override
+    protected void closeChannel(ExecutionCancellationChannel channel) {
+        ((PostgresCancellationChannel) channel).stop();
+        await().atMost(DELIVERY_TIMEOUT).until(() -> listenerPids().isEmpty());
+    }
+
+    @Test
+    void ignoresInvalidPayloadsAndKeepsListening() {
+        int listenerPid = awaitListener();
+        context.initialize(1L);
+
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, PostgresCancellationChannel.CHANNEL, "not-an-id");
+        channel.publish(1L);
+
+        awaitCancelled(1L);
+        assertThat(listenerPids()).containsExactly(listenerPid);
+    }
+
+    @Test
+    void deliversOnlyAfterTheTransactionCommits() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        context.initialize(1L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            channel.publish(1L);
+            sleep(500);
+            assertThat(context.isCancelled(1L)).isFalse();
+        });
+
+        awaitCancelled(1L);
+    }
+
+    @Test
+    void dropsTheCancelWhenTheTransactionRollsBack() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        context.initialize(1L);
+        context.initialize(2L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            channel.publish(1L);
+            status.setRollbackOnly();
+        });
+        channel.publish(2L);
+
+        // Notifications arrive in commit order: once 2 is in, 1 would have been too
+        awaitCancelled(2L);
+        assertThat(context.isCancelled(1L)).isFalse();
+    }
+
+    @Test
+    void reconnectsAndReconcilesCancelsMissedWhileDisconnected() {
+        int listenerPid = awaitListener();
+        context.initialize(1L);
+        // Cancelled in the database while the listener is gone; its notification is never seen
+        when(jobExecutionRepository.findIdsByIdInAndStatus(anyCollection(), eq(JobExecutionModel.Status.CANCELLED)))
+                .thenReturn(List.of(1L));
+
+        jdbcTemplate.query("SELECT pg_terminate_backend(?)", rs -> null, listenerPid);
+
+        awaitCancelled(1L);
+        assertThat(awaitListener()).isNotEqualTo(listenerPid);
+    }
+
+    @Test
+    void deliversAgainAfterReconnecting() {
+        int listenerPid = awaitListener();
+        context.initialize(1L);
+
+        jdbcTemplate.query("SELECT pg_terminate_backend(?)", rs -> null, listenerPid);
+        await().atMost(DELIVERY_TIMEOUT).until(() -> {
+            List<Integer> pids = listenerPids();
+            return pids.size() == 1 && pids.get(0) != listenerPid;
+        });
+        channel.publish(1L);
+
+        awaitCancelled(1L);
+    }
+
+    private int awaitListener() {
+        await().atMost(DELIVERY_TIMEOUT).until(() -> listenerPids().size() == 1);
+        return listenerPids().get(0);
+    }
+
+    private List<Integer> listenerPids() {
+        return jdbcTemplate.queryForList(LISTENER_PIDS_SQL, Integer.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
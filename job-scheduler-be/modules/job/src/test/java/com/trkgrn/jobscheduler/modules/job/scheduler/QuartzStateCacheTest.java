@@ -0,0 +1,169 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import com.trkgrn.jobscheduler.modules.job.metrics.JobMetricsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuartzStateCacheTest {
+
+    private static final TriggerKey TRIGGER_KEY = TriggerKey.triggerKey("trigger-1", "jobs");
+    private static final JobKey JOB_KEY = JobKey.jobKey("job-1", "jobs");
+
+    private Scheduler scheduler;
+    private JobMetricsService jobMetricsService;
+    private QuartzStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(Scheduler.class);
+        jobMetricsService = mock(JobMetricsService.class);
+        cache = new QuartzStateCache(scheduler, jobMetricsService, 60_000);
+    }
+
+    @Test
+    void jobScheduledIsServedWithoutAStoreCall() throws SchedulerException {
+        Date nextFireTime = inMinutes(5);
+        cache.jobScheduled(trigger(TRIGGER_KEY, JOB_KEY, nextFireTime));
+
+        QuartzStateCache.TriggerState state = cache.get(TRIGGER_KEY);
+
+        assertThat(state.exists()).isTrue();
+        assertThat(state.nextFireTime()).isEqualTo(nextFireTime);
+        verify(scheduler, never()).getTrigger(any());
+        verify(jobMetricsService).recordQuartzStateLookup("hit");
+    }
+
+    @Test
+    void missIsLoadedOnceAndThenCached() throws SchedulerException {
+        Trigger trigger = trigger(TRIGGER_KEY, JOB_KEY, inMinutes(5));
+        when(scheduler.getTrigger(TRIGGER_KEY)).thenReturn(trigger);
+
+        cache.get(TRIGGER_KEY);
+        cache.get(TRIGGER_KEY);
+
+        verify(scheduler, times(1)).getTrigger(TRIGGER_KEY);
+        verify(jobMetricsService).recordQuartzStateLookup("miss");
+        verify(jobMetricsService).recordQuartzStateLookup("hit");
+    }
+
+    @Test
+    void unscheduledTriggerIsKnownAbsent() throws SchedulerException {
+        cache.jobScheduled(trigger(TRIGGER_KEY, JOB_KEY, inMinutes(5)));
+
+        cache.jobUnscheduled(TRIGGER_KEY);
+
+        assertThat(cache.isKnownAbsent(TRIGGER_KEY)).isTrue();
+        assertThat(cache.get(TRIGGER_KEY).exists()).isFalse();
+        verify(scheduler, never()).getTrigger(any());
+    }
+
+    @Test
+    void finalizedTriggerIsKnownAbsent() {
+        Trigger trigger = trigger(TRIGGER_KEY, JOB_KEY, null);
+
+        cache.triggerFinalized(trigger);
+
+        assertThat(cache.isKnownAbsent(TRIGGER_KEY)).isTrue();
+    }
+
+    @Test
+    void uncachedTriggerIsNotKnownAbsent() {
+        assertThat(cache.isKnownAbsent(TRIGGER_KEY)).isFalse();
+    }
+
+    @Test
+    void firedTriggerUpdatesTheNextFireTime() throws SchedulerException {
+        cache.jobScheduled(trigger(TRIGGER_KEY, JOB_KEY, inMinutes(5)));
+        Date following = inMinutes(10);
+
+        cache.triggerFired(trigger(TRIGGER_KEY, JOB_KEY, following), null);
+
+        assertThat(cache.get(TRIGGER_KEY).nextFireTime()).isEqualTo(following);
+        verify(scheduler, never()).getTrigger(any());
+    }
+
+    @Test
+    void pausedTriggerIsReloaded() throws SchedulerException {
+        Trigger trigger = trigger(TRIGGER_KEY, JOB_KEY, inMinutes(5));
+        cache.jobScheduled(trigger);
+        when(scheduler.getTrigger(TRIGGER_KEY)).thenReturn(trigger);
+
+        cache.triggerPaused(TRIGGER_KEY);
+        cache.get(TRIGGER_KEY);
+
+        verify(scheduler).getTrigger(TRIGGER_KEY);
+    }
+
+    @Test
+    void jobDeletedDropsOnlyTheTriggersOfThatJob() throws SchedulerException {
+        TriggerKey deletedJobTriggerKey = TriggerKey.triggerKey("trigger-2", "jobs");
+        TriggerKey otherJobTriggerKey = TriggerKey.triggerKey("trigger-3", "jobs");
+        cache.jobScheduled(trigger(deletedJobTriggerKey, JOB_KEY, inMinutes(5)));
+        cache.jobScheduled(trigger(otherJobTriggerKey, JobKey.jobKey("job-2", "jobs"), inMinutes(5)));
+
+        cache.jobDeleted(JOB_KEY);
+        cache.get(deletedJobTriggerKey);
+        cache.get(otherJobTriggerKey);
+
+        verify(scheduler).getTrigger(deletedJobTriggerKey);
+        verify(scheduler, never()).getTrigger(otherJobTriggerKey);
+    }
+
+    @Test
+    void passedFireTimeIsReloaded() throws SchedulerException {
+        cache.jobScheduled(trigger(TRIGGER_KEY, JOB_KEY, new Date(System.currentTimeMillis() - 1000)));
+        Date following = inMinutes(5);
+        when(scheduler.getTrigger(TRIGGER_KEY)).thenReturn(trigger(TRIGGER_KEY, JOB_KEY, following));
+
+        assertThat(cache.get(TRIGGER_KEY).nextFireTime()).isEqualTo(following);
+        verify(scheduler).getTrigger(TRIGGER_KEY);
+    }
+
+    @Test
+    void expiredEntryIsReloaded() throws SchedulerException {
+        QuartzStateCache expiring = new QuartzStateCache(scheduler, jobMetricsService, 0);
+        Trigger trigger = trigger(TRIGGER_KEY, JOB_KEY, inMinutes(5));
+        expiring.jobScheduled(trigger);
+        when(scheduler.getTrigger(TRIGGER_KEY)).thenReturn(trigger);
+
+        expiring.get(TRIGGER_KEY);
+
+        verify(scheduler).getTrigger(TRIGGER_KEY);
+    }
+
+    @Test
+    void schedulingDataClearedDropsAllEntries() {
+        cache.jobUnscheduled(TRIGGER_KEY);
+
+        cache.schedulingDataCleared();
+
+        assertThat(cache.isKnownAbsent(TRIGGER_KEY)).isFalse();
+    }
+
+    private static Trigger trigger(TriggerKey triggerKey, JobKey jobKey, Date nextFireTime) {
+        Trigger trigger = mock(Trigger.class);
+        when(trigger.getKey()).thenReturn(triggerKey);
+        when(trigger.getJobKey()).thenReturn(jobKey);
+        when(trigger.getNextFireTime()).thenReturn(nextFireTime);
+        return trigger;
+    }
+
+    private static Date inMinutes(int minutes) {
+        return new Date(System.currentTimeMillis() + minutes * 60_000L);
+    }
+}
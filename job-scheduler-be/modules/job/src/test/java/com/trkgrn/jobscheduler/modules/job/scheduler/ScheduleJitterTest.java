@@ -0,0 +1,143 @@
+package com.trkgrn.jobscheduler.modules.job.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleJitterTest {
+
+    @Test
+    void shiftsSecondsWithinTheMinute() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("10 0 * * * ?", 30);
+
+        assertThat(shift.expression()).isEqualTo("40 0 * * * ?");
+        assertThat(shift.offsetSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    void carriesIntoTheNextMinute() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("50 10 * * * ?", 20);
+
+        assertThat(shift.expression()).isEqualTo("10 11 * * * ?");
+        assertThat(shift.offsetSeconds()).isEqualTo(20);
+    }
+
+    @Test
+    void carriesSeveralMinutesUpToTheEndOfTheHour() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("0 0 * * * ?", ScheduleJitter.MAX_JITTER_SECONDS);
+
+        assertThat(shift.expression()).isEqualTo("59 59 * * * ?");
+        assertThat(shift.offsetSeconds()).isEqualTo(ScheduleJitter.MAX_JITTER_SECONDS);
+    }
+
+    @Test
+    void fallsBackToASpreadWithinTheMinuteAtTheHourBoundary() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("50 59 * * * ?", 25);
+
+        // 25 % (60 - 50)
+        assertThat(shift.expression()).isEqualTo("55 59 * * * ?");
+        assertThat(shift.offsetSeconds()).isEqualTo(5);
+    }
+
+    @Test
+    void leavesTheExpressionWhenTheFallbackSpreadIsZero() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("50 59 * * * ?", 20);
+
+        assertThat(shift.expression()).isEqualTo("50 59 * * * ?");
+        assertThat(shift.offsetSeconds()).isZero();
+    }
+
+    @Test
+    void carriesIntoCommaSeparatedMinutes() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("30 0,15,30,45 * * * ?", 45);
+
+        assertThat(shift.expression()).isEqualTo("15 1,16,31,46 * * * ?");
+        assertThat(shift.offsetSeconds()).isEqualTo(45);
+    }
+
+    @Test
+    void carriesIntoStepMinutes() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("40 */15 * * * ?", 30);
+
+        assertThat(shift.expression()).isEqualTo("10 1/15 * * * ?");
+        assertThat(shift.offsetSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    void leavesSchedulesWithoutAFixedSecond() {
+        assertThat(ScheduleJitter.shift("0,30 * * * * ?", 10).expression()).isEqualTo("0,30 * * * * ?");
+        assertThat(ScheduleJitter.shift("* * * * * ?", 10).offsetSeconds()).isZero();
+        assertThat(ScheduleJitter.shift("0 * * * *", 10).expression()).isEqualTo("0 * * * *");
+    }
+
+    @Test
+    void leavesTheExpressionWithoutJitter() {
+        assertThat(ScheduleJitter.shift("0 0 * * * ?", 7L, 0)).isEqualTo(new ScheduleJitter.Shift("0 0 * * * ?", 0));
+        assertThat(ScheduleJitter.shift("0 0 * * * ?", null, 60)).isEqualTo(new ScheduleJitter.Shift("0 0 * * * ?", 0));
+        assertThat(ScheduleJitter.shift(null, 7L, 60).expression()).isNull();
+    }
+
+    @Test
+    void shiftsByTheIdDerivedOffset() {
+        ScheduleJitter.Shift shift = ScheduleJitter.shift("0 0 * * * ?", 42L, 600);
+
+        assertThat(shift.offsetSeconds()).isEqualTo(ScheduleJitter.offsetSeconds(42L, 600));
+    }
+
+    @Test
+    void shiftsSingleMinutes() {
+        assertThat(ScheduleJitter.shiftMinutes("10", 5)).isEqualTo("15");
+        assertThat(ScheduleJitter.shiftMinutes("55", 5)).isNull();
+    }
+
+    @Test
+    void shiftsCommaListsOnlyWithinTheHour() {
+        assertThat(ScheduleJitter.shiftMinutes("0,20,40", 3)).isEqualTo("3,23,43");
+        assertThat(ScheduleJitter.shiftMinutes("0,58", 2)).isNull();
+    }
+
+    @Test
+    void shiftsStepsOnlyWhenTheStepDividesTheHour() {
+        assertThat(ScheduleJitter.shiftMinutes("*/15", 2)).isEqualTo("2/15");
+        assertThat(ScheduleJitter.shiftMinutes("5/15", 3)).isEqualTo("8/15");
+        assertThat(ScheduleJitter.shiftMinutes("14/15", 1)).isNull();
+        assertThat(ScheduleJitter.shiftMinutes("*/7", 1)).isNull();
+    }
+
+    @Test
+    void doesNotShiftOtherMinuteFields() {
+        assertThat(ScheduleJitter.shiftMinutes("*", 1)).isNull();
+        assertThat(ScheduleJitter.shiftMinutes("10-20", 1)).isNull();
+        assertThat(ScheduleJitter.shiftMinutes("1/2/3", 1)).isNull();
+    }
+
+    @Test
+    void offsetIsStableForTheSameTrigger() {
+        for (long triggerId = 1; triggerId <= 100; triggerId++) {
+            assertThat(ScheduleJitter.offsetSeconds(triggerId, 300))
+                    .isEqualTo(ScheduleJitter.offsetSeconds(triggerId, 300));
+        }
+    }
+
+    @Test
+    void offsetStaysWithinTheWindow() {
+        Set<Integer> offsets = new HashSet<>();
+        for (long triggerId = 1; triggerId <= 1000; triggerId++) {
+            int offset = ScheduleJitter.offsetSeconds(triggerId, 60);
+            assertThat(offset).isBetween(0, 60);
+            offsets.add(offset);
+        }
+        // Consecutive ids are spread over the window
+        assertThat(offsets).hasSizeGreaterThan(50);
+    }
+
+    @Test
+    void offsetIsCappedAtTheMaximumJitter() {
+        for (long triggerId = 1; triggerId <= 1000; triggerId++) {
+            assertThat(ScheduleJitter.offsetSeconds(triggerId, 100_000)).isBetween(0, ScheduleJitter.MAX_JITTER_SECONDS);
+        }
+    }
+}
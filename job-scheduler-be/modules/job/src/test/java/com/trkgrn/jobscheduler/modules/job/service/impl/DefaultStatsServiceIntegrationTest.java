@@ -0,0 +1,221 @@
+package com.trkgrn.jobscheduler.modules.job.service.impl;
+
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.JobDurationView;
+import com.trkgrn.jobscheduler.platform.common.dto.ExecutionTrendDataDto;
+import com.trkgrn.jobscheduler.platform.common.dto.MinimalCronJobDto;
+import com.trkgrn.jobscheduler.platform.common.dto.StatusDistributionDto;
+import com.trkgrn.jobscheduler.platform.common.dto.TopJobDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the dashboard aggregates against a real schema whose job_executions grows between rounds.
+ * Every number must come from an aggregate query: no entity is hydrated, the legacy logs column
+ * is never read and the statement count does not grow with the row count.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.trkgrn.jobscheduler.modules.job.service.impl.DefaultStatsServiceIntegrationTest$RecordingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(DefaultStatsService.class)
+class DefaultStatsServiceIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    private static final Pattern LOGS_COLUMN = Pattern.compile("\\blogs\\b");
+
+    // Top-level execution i belongs to job 1 + i % 3; its status cycles SUCCESS, FAILED, TIMED_OUT, CANCELLED
+    private static final String TOP_LEVEL_SQL =
+            "INSERT INTO public.job_executions (id, job_definition_id, status, started_at, ended_at, attempt, priority, " +
+            "created_at, updated_at, is_active, version, logs) " +
+            "SELECT nextval('public.job_execution_id_seq'), 1 + i % 3, " +
+            "(ARRAY['SUCCESS', 'FAILED', 'TIMED_OUT', 'CANCELLED'])[1 + i % 4], " +
+            "now() - interval '1 hour', " +
+            "now() - interval '1 hour' + CASE WHEN i % 4 = 3 THEN interval '100 seconds' ELSE interval '1 second' END, " +
+            "1, 5, now(), now(), true, 0, " +
+            "jsonb_build_array(jsonb_build_object('timestamp', now(), 'level', 'INFO', 'message', repeat('x', 2000))) " +
+            "FROM generate_series(?, ?) AS i";
+
+    // Failed partitions of the first execution: they would inflate every count, duration and status total
+    private static final String PARTITION_SQL =
+            "INSERT INTO public.job_executions (id, job_definition_id, status, started_at, ended_at, attempt, priority, " +
+            "parent_execution_id, partition_key, created_at, updated_at, is_active, version, logs) " +
+            "SELECT nextval('public.job_execution_id_seq'), 1 + i % 3, 'FAILED', " +
+            "now() - interval '1 hour', now(), 1, 5, " +
+            "(SELECT min(id) FROM public.job_executions), 'p-' || i, now(), now(), true, 0, " +
+            "jsonb_build_array(jsonb_build_object('timestamp', now(), 'level', 'INFO', 'message', repeat('x', 2000))) " +
+            "FROM generate_series(?, ?) AS i";
+
+    @Autowired
+    private DefaultStatsService statsService;
+
+    @Autowired
+    private JobExecutionRepository jobExecutionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        // Pre-migration column; the model no longer maps it but upgraded databases still carry it
+        jdbcTemplate.execute("ALTER TABLE public.job_executions ADD COLUMN IF NOT EXISTS logs jsonb");
+
+        jdbcTemplate.update(
+                "INSERT INTO public.cron_jobs (id, code, name, enabled, job_bean_name, status, retry_count, max_retry_count, " +
+                "log_level, created_at, updated_at, is_active, version) " +
+                "SELECT j, 'job-' || j, 'Job ' || j, j <> 3, 'sampleJob', " +
+                "(ARRAY['RUNNING', 'FAILED', 'FINISHED'])[j], 0, 3, 'INFO', now(), now(), true, 0 " +
+                "FROM generate_series(1, 3) AS j");
+        jdbcTemplate.update(
+                "INSERT INTO public.triggers (id, name, cron_job_id, cron_expression, enabled, timezone, priority, " +
+                "fire_count, jitter_seconds, created_at, updated_at, is_active, version) " +
+                "SELECT t, 'trigger-' || t, 1 + t % 3, '0 0 * * * ?', t % 2 = 0, 'UTC', 5, 0, 0, now(), now(), true, 0 " +
+                "FROM generate_series(1, 5) AS t");
+
+        OffsetDateTime today = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+        for (long jobId = 1; jobId <= 3; jobId++) {
+            jdbcTemplate.update(
+                    "INSERT INTO public.job_execution_rollups (job_definition_id, granularity, bucket_start, total_count, " +
+                    "success_count, failed_count, cancelled_count, duration_count, duration_sum_ms, " +
+                    "success_duration_count, success_duration_sum_ms, hist_le_1s, hist_le_10s, hist_le_1m, hist_le_10m, " +
+                    "hist_le_1h, hist_gt_1h) VALUES (?, 'DAY', ?, ?, ?, ?, 0, 0, 0, ?, ?, 0, 0, 0, 0, 0, 0)",
+                    jobId, today, 10 * jobId, 6 * jobId, 4 * jobId, 2 * jobId, 2 * jobId * 1000);
+        }
+    }
+
+    @Test
+    void aggregatesWithoutHydratingExecutionsAsTheTableGrows() {
+        List<Integer> statementCounts = new ArrayList<>();
+        int seeded = 0;
+        for (int rows : new int[]{1_000, 10_000}) {
+            jdbcTemplate.update(TOP_LEVEL_SQL, seeded + 1, rows);
+            jdbcTemplate.update(PARTITION_SQL, seeded + 1, seeded + rows / 10);
+            seeded = rows;
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            RecordingStatementInspector.STATEMENTS.clear();
+
+            assertAggregates(rows);
+
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityFetchCount()).isZero();
+            assertThat(statistics.getCollectionLoadCount()).isZero();
+            assertThat(RecordingStatementInspector.STATEMENTS)
+                    .noneMatch(sql -> LOGS_COLUMN.matcher(sql.toLowerCase(Locale.ROOT)).find());
+            statementCounts.add(RecordingStatementInspector.STATEMENTS.size());
+        }
+
+        // One statement per aggregate, whatever the row count
+        assertThat(statementCounts.get(1)).isEqualTo(statementCounts.get(0));
+    }
+
+    private void assertAggregates(int rows) {
+        long successful = count(rows, i -> i % 4 == 0);
+        long failed = count(rows, i -> i % 4 == 1 || i % 4 == 2);
+
+        assertThat(statsService.getTotalJobs()).isEqualTo(3);
+        assertThat(statsService.getActiveJobs()).isEqualTo(2);
+        assertThat(statsService.getRunningJobs()).isEqualTo(1);
+        assertThat(statsService.getFailedJobs()).isEqualTo(1);
+
+        assertThat(statsService.getTotalExecutions()).isEqualTo(rows);
+        assertThat(statsService.getSuccessfulExecutions(null)).isEqualTo(successful);
+        assertThat(statsService.getFailedExecutions(null)).isEqualTo(failed);
+        assertThat(statsService.getSuccessfulExecutions(1L)).isEqualTo(count(rows, i -> i % 3 == 0 && i % 4 == 0));
+        assertThat(statsService.getFailedExecutions(1L)).isEqualTo(count(rows, i -> i % 3 == 0 && (i % 4 == 1 || i % 4 == 2)));
+        assertThat(statsService.getRunningExecutions()).isZero();
+        assertThat(statsService.getActiveExecutions()).isEqualTo(rows + rows / 10);
+
+        assertThat(statsService.getAverageExecutionTime(null)).isEqualTo(1000.0);
+        assertThat(statsService.getAverageExecutionTime(2L)).isEqualTo(1000.0);
+
+        assertThat(statsService.getJobStatusDistribution()).containsExactlyInAnyOrder(
+                new StatusDistributionDto("RUNNING", 1),
+                new StatusDistributionDto("FAILED", 1),
+                new StatusDistributionDto("FINISHED", 1));
+        assertThat(statsService.getTriggerStatusDistribution()).containsExactlyInAnyOrder(
+                new StatusDistributionDto("ACTIVE", 2),
+                new StatusDistributionDto("PAUSED", 3));
+
+        List<ExecutionTrendDataDto> trend = statsService.getExecutionTrendData(7);
+        assertThat(trend).hasSize(7);
+        assertThat(trend.get(6).getTotal()).isEqualTo(60);
+        assertThat(trend.get(6).getSuccessful()).isEqualTo(36);
+        assertThat(trend.get(6).getFailed()).isEqualTo(24);
+
+        assertThat(statsService.getTopJobsByExecutionCount(2))
+                .extracting(TopJobDto::getJobId)
+                .containsExactly(3L, 2L);
+        assertThat(statsService.getAllCronJobsMinimal())
+                .extracting(MinimalCronJobDto::getId)
+                .containsExactly(1L, 2L, 3L);
+
+        // Cancelled runs (100s) and partitions (1h) stay out of the forecast durations
+        assertThat(jobExecutionRepository.findDurationPercentiles(0.95, OffsetDateTime.now().minusDays(1)))
+                .hasSize(3)
+                .extracting(JobDurationView::getDurationMs)
+                .allSatisfy(durationMs -> assertThat(durationMs).isEqualTo(1000.0));
+    }
+
+    private static long count(int rows, IntPredicate predicate) {
+        return IntStream.rangeClosed(1, rows).filter(predicate).count();
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares, native queries included
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.trkgrn.jobscheduler.modules.job.service.impl;
+
+import com.trkgrn.jobscheduler.modules.job.model.CronJobStatus;
+import com.trkgrn.jobscheduler.modules.job.repository.CronJobRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.JobExecutionRollupRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.TriggerRepository;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.DailyExecutionCountView;
+import com.trkgrn.jobscheduler.modules.job.repository.projection.StatusCountView;
+import com.trkgrn.jobscheduler.platform.common.dto.ExecutionTrendDataDto;
+import com.trkgrn.jobscheduler.platform.common.dto.StatusDistributionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultStatsServiceTest {
+
+    private CronJobRepository cronJobRepository;
+    private TriggerRepository triggerRepository;
+    private JobExecutionRollupRepository jobExecutionRollupRepository;
+    private DefaultStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        cronJobRepository = mock(CronJobRepository.class);
+        triggerRepository = mock(TriggerRepository.class);
+        jobExecutionRollupRepository = mock(JobExecutionRollupRepository.class);
+        statsService = new DefaultStatsService(cronJobRepository, mock(JobExecutionRepository.class),
+                triggerRepository, jobExecutionRollupRepository);
+    }
+
+    @Test
+    void mapsJobStatusCounts() {
+        when(cronJobRepository.countGroupedByStatus()).thenReturn(List.of(
+                new StatusCount<>(CronJobStatus.RUNNING, 3),
+                new StatusCount<>(CronJobStatus.FAILED, 2),
+                new StatusCount<>(null, 1)));
+
+        assertThat(statsService.getJobStatusDistribution()).containsExactly(
+                new StatusDistributionDto("RUNNING", 3),
+                new StatusDistributionDto("FAILED", 2),
+                new StatusDistributionDto("UNKNOWN", 1));
+    }
+
+    @Test
+    void mapsTriggerEnabledCounts() {
+        when(triggerRepository.countGroupedByEnabled()).thenReturn(List.of(
+                new StatusCount<>(true, 5),
+                new StatusCount<>(false, 4)));
+
+        assertThat(statsService.getTriggerStatusDistribution()).containsExactly(
+                new StatusDistributionDto("ACTIVE", 5),
+                new StatusDistributionDto("PAUSED", 4));
+    }
+
+    @Test
+    void fillsDaysWithoutExecutionsWithZeros() {
+        String today = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        String twoDaysAgo = LocalDate.now().minusDays(2).format(DateTimeFormatter.ISO_LOCAL_DATE);
+        when(jobExecutionRollupRepository.sumDailyCountsSince(any())).thenReturn(List.of(
+                new DailyCount(today, 7, 1, 9),
+                new DailyCount(twoDaysAgo, 2, 0, 2)));
+
+        List<ExecutionTrendDataDto> trend = statsService.getExecutionTrendData(3);
+
+        assertThat(trend).containsExactly(
+                new ExecutionTrendDataDto(twoDaysAgo, 2, 0, 2),
+                new ExecutionTrendDataDto(LocalDate.now().minusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE), 0, 0, 0),
+                new ExecutionTrendDataDto(today, 7, 1, 9));
+    }
+
+    @Test
+    void defaultsAverageToZeroWithoutSuccessfulExecutions() {
+        when(jobExecutionRollupRepository.averageSuccessfulDurationMillis()).thenReturn(null);
+        when(jobExecutionRollupRepository.averageSuccessfulDurationMillis(42L)).thenReturn(1500.0);
+
+        assertThat(statsService.getAverageExecutionTime(null)).isZero();
+        assertThat(statsService.getAverageExecutionTime(42L)).isEqualTo(1500.0);
+    }
+
+    private record StatusCount<S>(S status, long total) implements StatusCountView<S> {
+        @Override
+        public S getStatus() {
+            return status;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    private record DailyCount(String day, long successful, long failed, long total) implements DailyExecutionCountView {
+        @Override
+        public String getDay() {
+            return day;
+        }
+
+        @Override
+        public long getSuccessful() {
+            return successful;
+        }
+
+        @Override
+        public long getFailed() {
+            return failed;
+        }
+
+        @Override
+        public long getTotal() {
+            return total;
+        }
+    }
+}
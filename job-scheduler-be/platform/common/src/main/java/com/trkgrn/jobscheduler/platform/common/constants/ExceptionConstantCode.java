@@ -8,5 +8,6 @@ public class ExceptionConstantCode {
     public static final long ILLEGAL_ARGUMENT = 1005;
     public static final long ALREADY_EXISTS_EXCEPTION = 1007;
     public static final long NOT_VALID_EXCEPTION = 1008;
+    public static final long EXECUTION_REJECTED_EXCEPTION = 1009;
 }
 
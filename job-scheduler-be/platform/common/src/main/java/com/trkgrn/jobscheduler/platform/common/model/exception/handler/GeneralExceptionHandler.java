@@ -108,6 +108,15 @@ public class GeneralExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ExecutionRejectedException.class)
+    public ResponseEntity<ErrorResult> handle(ExecutionRejectedException exception) {
+        LOG.warn("Execution rejected exception: {}", exception.getMessage());
+        return new ResponseEntity<>(
+                new ErrorResult(ExceptionConstantCode.EXECUTION_REJECTED_EXCEPTION, exception.getMessage()),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResult> handle(Exception exception) {
         LOG.error("Unexpected exception occurred", exception);
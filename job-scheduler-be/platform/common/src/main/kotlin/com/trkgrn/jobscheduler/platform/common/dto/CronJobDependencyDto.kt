@@ -0,0 +1,15 @@
+package com.trkgrn.jobscheduler.platform.common.dto
+
+import java.io.Serializable
+import java.time.OffsetDateTime
+
+data class CronJobDependencyDto(
+    var id: Long? = null,
+    var upstreamCronJobId: Long? = null,
+    var upstreamCronJobCode: String? = null,
+    var downstreamCronJobId: Long? = null,
+    var downstreamCronJobCode: String? = null,
+    var condition: String? = "ON_SUCCESS",
+    var createdAt: OffsetDateTime? = null,
+    var updatedAt: OffsetDateTime? = null
+) : Serializable
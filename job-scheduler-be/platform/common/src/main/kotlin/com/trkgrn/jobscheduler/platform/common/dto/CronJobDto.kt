@@ -16,6 +16,7 @@ data class CronJobDto(
     var lastResult: String? = null,
     var retryCount: Int = 0,
     var maxRetries: Int = 3,
+    var timeoutSeconds: Int? = null,
     var parameters: Map<String, Any?>? = null,
     var logLevel: String? = "INFO",
     var createdAt: OffsetDateTime? = null,
@@ -13,10 +13,14 @@ data class JobExecutionDto(
     var result: String? = null,
     var errorMessage: String? = null,
     var retryCount: Int = 0,
+    var notBefore: OffsetDateTime? = null,
+    var timeoutSeconds: Int? = null,
     var correlationId: String? = null,
     var parameters: Map<String, Any?>? = null,
     var logs: List<LogEntryDto>? = null,
     var logLevel: String? = null,
+    var parentExecutionId: Long? = null,
+    var partitionKey: String? = null,
     var createdAt: OffsetDateTime? = null,
     var updatedAt: OffsetDateTime? = null
 ) : Serializable
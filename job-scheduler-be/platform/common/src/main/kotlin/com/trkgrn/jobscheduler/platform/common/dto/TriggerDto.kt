@@ -16,6 +16,9 @@ data class TriggerDto(
     var cronJobId: Long? = null,
     var cronJob: CronJobDto? = null,
     var nextFireTime: OffsetDateTime? = null,
+    var jitterSeconds: Int? = null,
+    var jitterOffsetSeconds: Int? = null,
+    var timeoutSeconds: Int? = null,
     var createdAt: OffsetDateTime? = null,
     var updatedAt: OffsetDateTime? = null
 ) : Serializable
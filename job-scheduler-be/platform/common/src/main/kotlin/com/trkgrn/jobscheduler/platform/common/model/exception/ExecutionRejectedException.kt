@@ -0,0 +1,3 @@
+package com.trkgrn.jobscheduler.platform.common.model.exception
+
+class ExecutionRejectedException(message: String) : RuntimeException(message)
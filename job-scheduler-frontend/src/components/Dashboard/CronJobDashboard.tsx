@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import {
   Box,
   Paper,
@@ -55,6 +55,8 @@ const CronJobDashboard: React.FC = () => {
   const [selectedExecution, setSelectedExecution] = useState<JobExecution | null>(null);
   const [tabValue, setTabValue] = useState(0);
   const [logs, setLogs] = useState<LogEntry[]>([]);
+  // Cursor of the last fetched log line, used for incremental refreshes
+  const lastLogSeqRef = useRef<number | null>(null);
   const [isAutoRefresh, setIsAutoRefresh] = useState(false);
   const [executionPage, setExecutionPage] = useState(0);
   const [executionRowsPerPage, setExecutionRowsPerPage] = useState(10);
@@ -161,7 +163,7 @@ const CronJobDashboard: React.FC = () => {
     let interval: NodeJS.Timeout;
     if (isAutoRefresh && selectedExecution) {
       interval = setInterval(() => {
-        fetchLogs(selectedExecution.id!);
+        fetchLogs(selectedExecution.id!, true);
       }, 2000);
     }
     return () => {
@@ -170,10 +172,18 @@ const CronJobDashboard: React.FC = () => {
   }, [isAutoRefresh, selectedExecution]);
 
   // Fetch logs when execution is selected
-  const fetchLogs = async (executionId: number) => {
+  const fetchLogs = async (executionId: number, incremental: boolean = false) => {
     try {
-      const logsData = await jobExecutionApi.getLogs(executionId);
-      setLogs(logsData.data || []);
+      // Incremental refreshes only ask for lines after the last seen sequence
+      const afterSeq = incremental && lastLogSeqRef.current !== null ? lastLogSeqRef.current : undefined;
+      const logsData = await jobExecutionApi.getLogs(executionId, afterSeq);
+      const newLogs = logsData.data || [];
+      if (newLogs.length > 0) {
+        lastLogSeqRef.current = newLogs[newLogs.length - 1].seq ?? lastLogSeqRef.current;
+      } else if (afterSeq === undefined) {
+        lastLogSeqRef.current = null;
+      }
+      setLogs(prevLogs => (afterSeq !== undefined ? [...prevLogs, ...newLogs] : newLogs));
     } catch (error) {
       console.error('Failed to fetch logs:', error);
     }
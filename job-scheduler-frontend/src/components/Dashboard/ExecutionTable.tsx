@@ -99,6 +99,7 @@ const ExecutionTable: React.FC<ExecutionTableProps> = ({
       case 'SUCCESS':
         return 'success';
       case 'FAILED':
+      case 'TIMED_OUT':
         return 'error';
       case 'RUNNING':
         return 'info';
@@ -48,7 +48,7 @@ export const cronJobApi = {
   create: (cronJob: Partial<CronJobModel>) => api.post<DataResult<CronJobModel>>('/v1/cron-jobs', cronJob).then(res => res.data),
   update: (id: number, cronJob: Partial<CronJobModel>) => api.put<DataResult<CronJobModel>>(`/v1/cron-jobs/${id}`, cronJob).then(res => res.data),
   delete: (id: number) => api.delete<Result>(`/v1/cron-jobs/${id}`).then(res => res.data),
-  runNow: (id: number) => api.post<DataResult<CronJobModel>>(`/v1/cron-jobs/${id}/run-now`).then(res => res.data),
+  runNow: (id: number) => api.post<DataResult<JobExecution>>(`/v1/cron-jobs/${id}/run-now`).then(res => res.data),
   getAvailableJobs: () => api.get<DataResult<string[]>>('/v1/cron-jobs/available-jobs').then(res => res.data),
 };
 
@@ -73,7 +73,9 @@ export const jobExecutionApi = {
   getByStatus: (status: string) => api.get<DataResult<JobExecution[]>>(`/v1/executions/status/${status}`).then(res => res.data),
   getActive: () => api.get<DataResult<JobExecution[]>>('/v1/executions/active').then(res => res.data),
   cancel: (id: number) => api.post<DataResult<JobExecution>>(`/v1/executions/${id}/cancel`).then(res => res.data),
-  getLogs: (id: number) => api.get<DataResult<LogEntry[]>>(`/v1/executions/${id}/logs`).then(res => res.data),
+  waitForCompletion: (id: number, timeoutSeconds: number = 30) => api.get<DataResult<JobExecution>>(`/v1/executions/${id}/wait?timeoutSeconds=${timeoutSeconds}`).then(res => res.data),
+  getLogs: (id: number, afterSeq?: number) => api.get<DataResult<LogEntry[]>>(`/v1/executions/${id}/logs`, { params: afterSeq !== undefined ? { afterSeq } : undefined }).then(res => res.data),
+  getLogStreamUrl: (id: number, afterSeq: number = 0) => `${API_BASE_URL}/v1/executions/${id}/logs/stream?afterSeq=${afterSeq}`,
   getStats: (cronJobId?: number) => api.get<DataResult<{successCount: number, failedCount: number, totalCount: number}>>(`/v1/executions/stats${cronJobId ? `?cronJobId=${cronJobId}` : ''}`).then(res => res.data),
   
   getAllPaginated: (page: number = 0, size: number = 10) => api.get<DataResult<PaginatedResponse<JobExecution>>>(`/v1/executions/paginated?page=${page}&size=${size}`).then(res => res.data),
@@ -83,6 +83,7 @@ export interface LogEntry {
   timestamp: string;
   level: string;
   message: string;
+  seq?: number;
 }
 
 export interface PaginatedResponse<T> {
@@ -102,7 +103,8 @@ export enum JobExecutionStatus {
   RUNNING = 'RUNNING',
   SUCCESS = 'SUCCESS',
   FAILED = 'FAILED',
-  CANCELLED = 'CANCELLED'
+  CANCELLED = 'CANCELLED',
+  TIMED_OUT = 'TIMED_OUT'
 }
 
 export interface JobExecutionLog {